@@ -613,6 +613,16 @@ public final class NessieConfigConstants {
   @ConfigItem(section = "Network / HTTP")
   public static final String CONF_NESSIE_HTTP_2 = "nessie.http2-upgrade";
 
+  /**
+   * Optional, request streaming (newline delimited JSON) responses when streaming entries, commit
+   * log entries or diffs with Nessie REST API v2, if set to {@code true}. Streaming responses let
+   * the server send all results in a single response instead of multiple pages. Servers that do not
+   * support streaming responses respond with regular pages. Default is {@code false}.
+   */
+  @ConfigItem(section = "Network / HTTP")
+  public static final String CONF_NESSIE_HTTP_STREAMING_RESPONSES =
+      "nessie.http-streaming-responses";
+
   /**
    * Optional, specify how redirects are handled.
    *
@@ -46,6 +46,11 @@ public interface PagingBuilder<R extends PagingBuilder<R, RESP, ENTRY>, RESP, EN
    */
   RESP get() throws NessieNotFoundException;
 
-  /** Retrieve entries/results as a Java {@link Stream}, uses automatic paging. */
+  /**
+   * Retrieve entries/results as a Java {@link Stream}, uses automatic paging.
+   *
+   * <p>The returned stream may hold an open HTTP response, callers must {@linkplain Stream#close()
+   * close} it, preferably using try-with-resources, if they do not consume all elements.
+   */
   Stream<ENTRY> stream() throws NessieNotFoundException;
 }
@@ -53,6 +53,43 @@ public class HttpResponse {
     }
   }
 
+  /**
+   * Read the entities of a newline delimited JSON response lazily, one by one. The response must be
+   * {@linkplain #close() closed}, if not all entities have been read.
+   *
+   * @return iterator over the entities, empty if the response has no content
+   * @throws HttpClientException if the response cannot be read
+   */
+  public <V> MappingIterator<V> readEntities(Class<V> clazz) {
+    ObjectReader reader = mapper.readerFor(clazz);
+    try {
+      InputStream is = responseContext.getInputStream();
+      if (is == null) {
+        return MappingIterator.emptyIterator();
+      }
+      return reader.readValues(is);
+    } catch (IOException e) {
+      throw new HttpClientException("Failed to read entities", e);
+    }
+  }
+
+  /**
+   * Releases the underlying HTTP response. Must be called, if not all entities of an iterator
+   * returned by {@link #readEntities(Class)} have been read.
+   *
+   * @throws HttpClientException if the response cannot be closed
+   */
+  public void close() {
+    try {
+      InputStream is = responseContext.getInputStream();
+      if (is != null) {
+        is.close();
+      }
+    } catch (IOException e) {
+      throw new HttpClientException("Failed to close response", e);
+    }
+  }
+
   private <V> V decodeEntity(ObjectReader reader, InputStream is) throws IOException {
     if (is != null) {
       CapturingInputStream capturing = new CapturingInputStream(is);
@@ -110,6 +147,10 @@ public class HttpResponse {
     return exception;
   }
 
+  public String getContentType() {
+    return responseContext.getContentType();
+  }
+
   public URI getRequestUri() {
     return responseContext.getRequestedUri();
   }
@@ -18,6 +18,7 @@ package org.projectnessie.client.http;
 import static org.projectnessie.client.NessieConfigConstants.CONF_NESSIE_CLIENT_NAME;
 import static org.projectnessie.client.NessieConfigConstants.CONF_NESSIE_HTTP_2;
 import static org.projectnessie.client.NessieConfigConstants.CONF_NESSIE_HTTP_REDIRECT;
+import static org.projectnessie.client.NessieConfigConstants.CONF_NESSIE_HTTP_STREAMING_RESPONSES;
 
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
 import java.net.URI;
@@ -62,6 +63,18 @@ public interface NessieHttpClientBuilder extends NessieClientBuilder {
   @CanIgnoreReturnValue
   NessieHttpClientBuilder withClientName(String clientName);
 
+  /**
+   * Whether to request streaming (newline delimited JSON) responses in the {@code stream()}
+   * functions of the entries, commit log and diff builders of Nessie REST API v2, default is {@code
+   * false}. Falls back to regular paged responses, if the server does not support streaming
+   * responses.
+   *
+   * <p>Streams returned by these functions hold an open HTTP response until all elements have been
+   * consumed, callers must close those streams, if they do not consume all elements.
+   */
+  @CanIgnoreReturnValue
+  NessieHttpClientBuilder withStreamingResponses(boolean streamingResponses);
+
   @CanIgnoreReturnValue
   NessieHttpClientBuilder withResponseFactory(HttpResponseFactory responseFactory);
 
@@ -168,6 +181,10 @@ public interface NessieHttpClientBuilder extends NessieClientBuilder {
       if (s != null) {
         withClientName(s.trim());
       }
+      s = configuration.apply(CONF_NESSIE_HTTP_STREAMING_RESPONSES);
+      if (s != null) {
+        withStreamingResponses(Boolean.parseBoolean(s.trim()));
+      }
 
       return this;
     }
@@ -194,6 +211,11 @@ public interface NessieHttpClientBuilder extends NessieClientBuilder {
       return this;
     }
 
+    @Override
+    public NessieHttpClientBuilder withStreamingResponses(boolean streamingResponses) {
+      return this;
+    }
+
     @Override
     public NessieHttpClientBuilder withResponseFactory(HttpResponseFactory responseFactory) {
       return this;
@@ -49,6 +49,8 @@ public class NessieHttpClientBuilderImpl
 
   private boolean tracing;
 
+  private boolean streamingResponses;
+
   private boolean enableApiCompatibilityCheck =
       Boolean.parseBoolean(System.getProperty(CONF_ENABLE_API_COMPATIBILITY_CHECK, "true"));
 
@@ -210,6 +212,13 @@ public class NessieHttpClientBuilderImpl
     return this;
   }
 
+  @CanIgnoreReturnValue
+  @Override
+  public NessieHttpClientBuilderImpl withStreamingResponses(boolean streamingResponses) {
+    this.streamingResponses = streamingResponses;
+    return this;
+  }
+
   @CanIgnoreReturnValue
   @Override
   public NessieHttpClientBuilderImpl withApiCompatibilityCheck(boolean enable) {
@@ -299,7 +308,7 @@ public class NessieHttpClientBuilderImpl
       if (nessieApiCompatibilityFilter != null) {
         nessieApiCompatibilityFilter.setHttpClient(httpClient);
       }
-      return apiVersion.cast(new HttpApiV2(httpClient));
+      return apiVersion.cast(new HttpApiV2(httpClient, streamingResponses));
     }
 
     throw new IllegalArgumentException(
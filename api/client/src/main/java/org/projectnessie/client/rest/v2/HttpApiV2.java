@@ -17,6 +17,7 @@ package org.projectnessie.client.rest.v2;
 
 import java.util.Arrays;
 import java.util.Optional;
+import org.projectnessie.api.v2.http.HttpStreaming;
 import org.projectnessie.client.api.AssignBranchBuilder;
 import org.projectnessie.client.api.AssignReferenceBuilder;
 import org.projectnessie.client.api.AssignTagBuilder;
@@ -47,9 +48,21 @@ import org.projectnessie.model.SingleReferenceResponse;
 
 public class HttpApiV2 implements NessieApiV2 {
   private final HttpClient client;
+  private final boolean streamingResponses;
 
   public HttpApiV2(HttpClient client) {
+    this(client, false);
+  }
+
+  /**
+   * Creates a new API instance.
+   *
+   * @param streamingResponses whether to request streaming responses in the {@code stream()}
+   *     functions of the entries, commit log and diff builders, see {@link HttpStreaming}
+   */
+  public HttpApiV2(HttpClient client, boolean streamingResponses) {
     this.client = client;
+    this.streamingResponses = streamingResponses;
   }
 
   private volatile boolean didGetConfig;
@@ -62,6 +75,10 @@ public class HttpApiV2 implements NessieApiV2 {
     return isNessieSpec220;
   }
 
+  boolean isStreamingResponses() {
+    return streamingResponses;
+  }
+
   String toPathString(ContentKey key) {
     return isNessieSpec220() ? key.toPathStringEscaped() : key.toPathString();
   }
@@ -135,7 +152,7 @@ public class HttpApiV2 implements NessieApiV2 {
 
   @Override
   public GetCommitLogBuilder getCommitLog() {
-    return new HttpGetCommitLog(client);
+    return new HttpGetCommitLog(client, this);
   }
 
   @Override
@@ -15,21 +15,26 @@
  */
 package org.projectnessie.client.rest.v2;
 
+import java.util.stream.Stream;
 import org.projectnessie.api.v2.params.CommitLogParams;
 import org.projectnessie.client.builder.BaseGetCommitLogBuilder;
 import org.projectnessie.client.http.HttpClient;
+import org.projectnessie.client.http.HttpRequest;
 import org.projectnessie.error.NessieNotFoundException;
 import org.projectnessie.model.FetchOption;
 import org.projectnessie.model.LogResponse;
+import org.projectnessie.model.LogResponse.LogEntry;
 import org.projectnessie.model.Reference;
 
 final class HttpGetCommitLog extends BaseGetCommitLogBuilder<CommitLogParams> {
 
   private final HttpClient client;
+  private final HttpApiV2 api;
 
-  HttpGetCommitLog(HttpClient client) {
+  HttpGetCommitLog(HttpClient client, HttpApiV2 api) {
     super(CommitLogParams::forNextPage);
     this.client = client;
+    this.api = api;
   }
 
   @Override
@@ -44,6 +49,23 @@ final class HttpGetCommitLog extends BaseGetCommitLogBuilder<CommitLogParams> {
 
   @Override
   protected LogResponse get(CommitLogParams p) throws NessieNotFoundException {
+    return request(p).unwrap(NessieNotFoundException.class).get().readEntity(LogResponse.class);
+  }
+
+  @Override
+  public Stream<LogEntry> stream() throws NessieNotFoundException {
+    if (!api.isStreamingResponses()) {
+      return super.stream();
+    }
+    CommitLogParams p = params();
+    return StreamingResponses.generateStream(
+        LogEntry.class,
+        LogResponse.class,
+        LogResponse::getLogEntries,
+        pageToken -> request(p.forNextPage(pageToken)));
+  }
+
+  private HttpRequest request(CommitLogParams p) {
     return client
         .newRequest()
         .path("trees/{ref}/history")
@@ -54,9 +76,6 @@ final class HttpGetCommitLog extends BaseGetCommitLogBuilder<CommitLogParams> {
         .queryParam("page-token", p.pageToken())
         .queryParam("filter", p.filter())
         .queryParam("limit-hash", p.startHash())
-        .queryParam("fetch", FetchOption.getFetchOptionName(p.fetchOption()))
-        .unwrap(NessieNotFoundException.class)
-        .get()
-        .readEntity(LogResponse.class);
+        .queryParam("fetch", FetchOption.getFetchOptionName(p.fetchOption()));
   }
 }
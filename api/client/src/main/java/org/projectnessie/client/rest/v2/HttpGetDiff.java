@@ -15,6 +15,7 @@
  */
 package org.projectnessie.client.rest.v2;
 
+import java.util.stream.Stream;
 import org.projectnessie.api.v2.params.DiffParams;
 import org.projectnessie.client.builder.BaseGetDiffBuilder;
 import org.projectnessie.client.http.HttpClient;
@@ -22,6 +23,7 @@ import org.projectnessie.client.http.HttpRequest;
 import org.projectnessie.error.NessieNotFoundException;
 import org.projectnessie.model.ContentKey;
 import org.projectnessie.model.DiffResponse;
+import org.projectnessie.model.DiffResponse.DiffEntry;
 import org.projectnessie.model.Reference;
 
 final class HttpGetDiff extends BaseGetDiffBuilder<DiffParams> {
@@ -50,6 +52,26 @@ final class HttpGetDiff extends BaseGetDiffBuilder<DiffParams> {
 
   @Override
   public DiffResponse get(DiffParams params) throws NessieNotFoundException {
+    return request(params)
+        .unwrap(NessieNotFoundException.class)
+        .get()
+        .readEntity(DiffResponse.class);
+  }
+
+  @Override
+  public Stream<DiffEntry> stream() throws NessieNotFoundException {
+    if (!api.isStreamingResponses()) {
+      return super.stream();
+    }
+    DiffParams p = params();
+    return StreamingResponses.generateStream(
+        DiffEntry.class,
+        DiffResponse.class,
+        DiffResponse::getDiffs,
+        pageToken -> request(p.forNextPage(pageToken)));
+  }
+
+  private HttpRequest request(DiffParams params) {
     HttpRequest req =
         client
             .newRequest()
@@ -72,6 +94,6 @@ final class HttpGetDiff extends BaseGetDiffBuilder<DiffParams> {
     if (k != null) {
       req.queryParam("prefix-key", api.toPathString(k));
     }
-    return req.unwrap(NessieNotFoundException.class).get().readEntity(DiffResponse.class);
+    return req;
   }
 }
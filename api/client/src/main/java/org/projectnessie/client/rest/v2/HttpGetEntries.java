@@ -15,6 +15,7 @@
  */
 package org.projectnessie.client.rest.v2;
 
+import java.util.stream.Stream;
 import org.projectnessie.api.v2.params.EntriesParams;
 import org.projectnessie.client.api.GetEntriesBuilder;
 import org.projectnessie.client.builder.BaseGetEntriesBuilder;
@@ -23,6 +24,7 @@ import org.projectnessie.client.http.HttpRequest;
 import org.projectnessie.error.NessieNotFoundException;
 import org.projectnessie.model.ContentKey;
 import org.projectnessie.model.EntriesResponse;
+import org.projectnessie.model.EntriesResponse.Entry;
 import org.projectnessie.model.Reference;
 
 final class HttpGetEntries extends BaseGetEntriesBuilder<EntriesParams> {
@@ -57,6 +59,23 @@ final class HttpGetEntries extends BaseGetEntriesBuilder<EntriesParams> {
 
   @Override
   protected EntriesResponse get(EntriesParams p) throws NessieNotFoundException {
+    return request(p).unwrap(NessieNotFoundException.class).get().readEntity(EntriesResponse.class);
+  }
+
+  @Override
+  public Stream<Entry> stream() throws NessieNotFoundException {
+    if (!api.isStreamingResponses()) {
+      return super.stream();
+    }
+    EntriesParams p = params();
+    return StreamingResponses.generateStream(
+        Entry.class,
+        EntriesResponse.class,
+        EntriesResponse::getEntries,
+        pageToken -> request(p.forNextPage(pageToken)));
+  }
+
+  private HttpRequest request(EntriesParams p) {
     HttpRequest req =
         client
             .newRequest()
@@ -79,6 +98,6 @@ final class HttpGetEntries extends BaseGetEntriesBuilder<EntriesParams> {
     if (k != null) {
       req.queryParam("prefix-key", api.toPathString(k));
     }
-    return req.unwrap(NessieNotFoundException.class).get().readEntity(EntriesResponse.class);
+    return req;
   }
 }
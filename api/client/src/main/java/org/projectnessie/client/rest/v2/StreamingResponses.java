@@ -0,0 +1,238 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.client.rest.v2;
+
+import static org.projectnessie.api.v2.http.HttpStreaming.ACCEPT_NDJSON_OR_JSON;
+import static org.projectnessie.api.v2.http.HttpStreaming.APPLICATION_NDJSON;
+import static org.projectnessie.api.v2.http.HttpStreaming.FIELD_ENTRY;
+import static org.projectnessie.api.v2.http.HttpStreaming.FIELD_ERROR;
+import static org.projectnessie.api.v2.http.HttpStreaming.FIELD_RESPONSE;
+
+import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.projectnessie.api.v2.http.HttpStreaming;
+import org.projectnessie.client.http.HttpClientException;
+import org.projectnessie.client.http.HttpRequest;
+import org.projectnessie.client.http.HttpResponse;
+import org.projectnessie.client.rest.NessieServiceException;
+import org.projectnessie.error.ErrorCode;
+import org.projectnessie.error.NessieError;
+import org.projectnessie.error.NessieNotFoundException;
+import org.projectnessie.model.PaginatedResponse;
+
+/**
+ * Streams the entries of the paged REST API v2 endpoints using streaming responses, see {@link
+ * HttpStreaming}, falling back to regular paged JSON responses, if the server does not support
+ * streaming responses.
+ *
+ * <p>The HTTP response of a streaming request is released when all its entries have been read or
+ * when the returned {@link Stream} is closed, so callers must close the stream, if they do not
+ * consume all entries.
+ */
+final class StreamingResponses<E, R extends PaginatedResponse> {
+
+  private final Class<E> entryType;
+  private final Class<R> responseType;
+  private final Function<R, List<E>> entriesFromResponse;
+  private final Function<String, HttpRequest> requestForPage;
+
+  private String pageToken;
+  private boolean lastPage;
+  private HttpResponse streamingResponse;
+  private MappingIterator<JsonNode> lines;
+  private Iterator<E> pageEntries;
+
+  private StreamingResponses(
+      Class<E> entryType,
+      Class<R> responseType,
+      Function<R, List<E>> entriesFromResponse,
+      Function<String, HttpRequest> requestForPage) {
+    this.entryType = entryType;
+    this.responseType = responseType;
+    this.entriesFromResponse = entriesFromResponse;
+    this.requestForPage = requestForPage;
+  }
+
+  /**
+   * Returns a stream of all entries, fetching the first entry eagerly to propagate {@link
+   * NessieNotFoundException}. Closing the returned stream releases the current HTTP response.
+   *
+   * @param requestForPage returns the request for the page with the given paging token, {@code
+   *     null} for the first page
+   */
+  static <E, R extends PaginatedResponse> Stream<E> generateStream(
+      Class<E> entryType,
+      Class<R> responseType,
+      Function<R, List<E>> entriesFromResponse,
+      Function<String, HttpRequest> requestForPage)
+      throws NessieNotFoundException {
+    StreamingResponses<E, R> responses =
+        new StreamingResponses<>(entryType, responseType, entriesFromResponse, requestForPage);
+    E first;
+    try {
+      first = responses.next();
+    } catch (RuntimeException | NessieNotFoundException e) {
+      responses.close();
+      throw e;
+    }
+    Spliterator<E> spliterator =
+        new Spliterators.AbstractSpliterator<E>(
+            Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+          private E nextEntry = first;
+
+          @Override
+          public boolean tryAdvance(Consumer<? super E> action) {
+            E entry = nextEntry;
+            if (entry == null) {
+              return false;
+            }
+            try {
+              nextEntry = responses.next();
+            } catch (NessieNotFoundException e) {
+              nextEntry = null;
+              throw new RuntimeException(e);
+            }
+            action.accept(entry);
+            return true;
+          }
+        };
+    return StreamSupport.stream(spliterator, false).onClose(responses::close);
+  }
+
+  /** Returns the next entry or {@code null}, if there are no more entries. */
+  private E next() throws NessieNotFoundException {
+    while (true) {
+      if (lines != null) {
+        E entry = nextLine();
+        if (entry != null) {
+          return entry;
+        }
+      } else if (pageEntries != null && pageEntries.hasNext()) {
+        return pageEntries.next();
+      }
+
+      if (lastPage) {
+        return null;
+      }
+      fetchPage();
+    }
+  }
+
+  private void fetchPage() throws NessieNotFoundException {
+    pageEntries = null;
+    HttpResponse response =
+        requestForPage
+            .apply(pageToken)
+            .accept(ACCEPT_NDJSON_OR_JSON)
+            .unwrap(NessieNotFoundException.class)
+            .get();
+    if (isStreamingResponse(response.getContentType())) {
+      streamingResponse = response;
+      lines = response.readEntities(JsonNode.class);
+    } else {
+      R page = response.readEntity(responseType);
+      pageEntries = entriesFromResponse.apply(page).iterator();
+      endOfPage(page);
+    }
+  }
+
+  private E nextLine() throws NessieNotFoundException {
+    NessieError error;
+    try {
+      if (!lines.hasNextValue()) {
+        close();
+        throw new HttpClientException("Incomplete streaming response from Nessie server");
+      }
+      JsonNode line = lines.nextValue();
+      ObjectCodec codec = lines.getParser().getCodec();
+      if (line.has(FIELD_ENTRY)) {
+        return codec.treeToValue(line.get(FIELD_ENTRY), entryType);
+      }
+      close();
+      if (line.has(FIELD_RESPONSE)) {
+        endOfPage(codec.treeToValue(line.get(FIELD_RESPONSE), responseType));
+        return null;
+      }
+      if (!line.has(FIELD_ERROR)) {
+        throw new HttpClientException("Unexpected streaming response from Nessie server: " + line);
+      }
+      error = codec.treeToValue(line.get(FIELD_ERROR), NessieError.class);
+    } catch (IOException e) {
+      close();
+      throw new HttpClientException("Failed to read streaming response", e);
+    }
+    throw errorToException(error);
+  }
+
+  private void endOfPage(R page) {
+    lastPage = !page.isHasMore();
+    pageToken = page.getToken();
+    if (!lastPage && pageToken == null) {
+      throw new IllegalStateException(
+          "Backend returned a page with more results, but without a paging token");
+    }
+  }
+
+  private static NessieNotFoundException errorToException(NessieError error) {
+    Exception e = ErrorCode.asException(error).orElseGet(() -> new NessieServiceException(error));
+    if (e instanceof NessieNotFoundException) {
+      return (NessieNotFoundException) e;
+    }
+    if (e instanceof RuntimeException) {
+      throw (RuntimeException) e;
+    }
+    throw new RuntimeException(e);
+  }
+
+  private static boolean isStreamingResponse(String contentType) {
+    if (contentType == null) {
+      return false;
+    }
+    int i = contentType.indexOf(';');
+    if (i > 0) {
+      contentType = contentType.substring(0, i);
+    }
+    return APPLICATION_NDJSON.equalsIgnoreCase(contentType.trim());
+  }
+
+  private void close() {
+    MappingIterator<JsonNode> l = lines;
+    HttpResponse r = streamingResponse;
+    lines = null;
+    streamingResponse = null;
+    try {
+      if (l != null) {
+        l.close();
+      }
+    } catch (IOException e) {
+      // ignore
+    } finally {
+      if (r != null) {
+        r.close();
+      }
+    }
+  }
+}
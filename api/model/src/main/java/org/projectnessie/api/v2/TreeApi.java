@@ -36,6 +36,8 @@ import org.projectnessie.model.CommitResponse;
 import org.projectnessie.model.Content;
 import org.projectnessie.model.ContentKey;
 import org.projectnessie.model.ContentResponse;
+import org.projectnessie.model.CreateReferencesRequest;
+import org.projectnessie.model.CreateReferencesResponse;
 import org.projectnessie.model.DiffResponse;
 import org.projectnessie.model.EntriesResponse;
 import org.projectnessie.model.GetMultipleContentsRequest;
@@ -107,6 +109,18 @@ public interface TreeApi {
       @Valid @jakarta.validation.Valid @Nullable @jakarta.annotation.Nullable Reference sourceRef)
       throws NessieNotFoundException, NessieConflictException;
 
+  /**
+   * Create multiple branches and tags.
+   *
+   * <p>Each element of the request is handled like a call to {@link #createReference(String,
+   * String, Reference)}. The server records many new references at once, which is much cheaper than
+   * creating the references one by one. Failures to create individual references are reported per
+   * reference in the response.
+   */
+  CreateReferencesResponse createReferences(
+      @Valid @jakarta.validation.Valid @NotNull @jakarta.validation.constraints.NotNull
+          CreateReferencesRequest request);
+
   /** Get details of a particular ref, if it exists. */
   SingleReferenceResponse getReferenceByName(
       @Valid @jakarta.validation.Valid @NotNull @jakarta.validation.constraints.NotNull
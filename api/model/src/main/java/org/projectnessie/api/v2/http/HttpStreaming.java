@@ -0,0 +1,58 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.api.v2.http;
+
+/**
+ * Constants for the streaming variants of the paged Nessie REST API v2 endpoints {@code
+ * trees/{ref}/entries}, {@code trees/{ref}/history} and {@code trees/{from}/diff/{to}}.
+ *
+ * <p>Clients request a streaming response by sending the {@code Accept} header {@value
+ * #APPLICATION_NDJSON}. Servers that do not support streaming responses respond with a regular JSON
+ * response, if the {@code Accept} header also contains {@code application/json}.
+ *
+ * <p>A streaming response is a sequence of JSON objects, each on its own line (newline delimited
+ * JSON). Each object has exactly one of the following fields:
+ *
+ * <ul>
+ *   <li>{@value #FIELD_ENTRY}: an entry of the response, for example an {@code
+ *       EntriesResponse.Entry}, written as soon as it has been produced.
+ *   <li>{@value #FIELD_RESPONSE}: the last object of a successful response, containing the response
+ *       object without any entries, for example an {@code EntriesResponse} with the effective
+ *       reference and, if applicable, the paging token.
+ *   <li>{@value #FIELD_ERROR}: the last object of a failed response, containing the {@code
+ *       NessieError}.
+ * </ul>
+ *
+ * <p>A response that does not end with either a {@value #FIELD_RESPONSE} or a {@value
+ * #FIELD_ERROR} object is incomplete.
+ *
+ * <p>Errors that occur before the response has started, for example if a reference does not exist
+ * or access to it is denied, are returned as regular error responses with the corresponding HTTP
+ * status code.
+ */
+public final class HttpStreaming {
+  public static final String APPLICATION_NDJSON = "application/x-ndjson";
+
+  /** {@code Accept} header value that requests a streaming response, falling back to JSON. */
+  public static final String ACCEPT_NDJSON_OR_JSON =
+      APPLICATION_NDJSON + ", application/json;q=0.5";
+
+  public static final String FIELD_ENTRY = "entry";
+  public static final String FIELD_RESPONSE = "response";
+  public static final String FIELD_ERROR = "error";
+
+  private HttpStreaming() {}
+}
@@ -64,6 +64,8 @@ import org.projectnessie.error.NessieNotFoundException;
 import org.projectnessie.model.CommitResponse;
 import org.projectnessie.model.ContentKey;
 import org.projectnessie.model.ContentResponse;
+import org.projectnessie.model.CreateReferencesRequest;
+import org.projectnessie.model.CreateReferencesResponse;
 import org.projectnessie.model.DiffResponse;
 import org.projectnessie.model.EntriesResponse;
 import org.projectnessie.model.GetMultipleContentsRequest;
@@ -167,6 +169,46 @@ public interface HttpTreeApi extends TreeApi {
           Reference reference)
       throws NessieNotFoundException, NessieConflictException;
 
+  @Override
+  @POST
+  @jakarta.ws.rs.POST
+  @Produces(MediaType.APPLICATION_JSON)
+  @jakarta.ws.rs.Produces(jakarta.ws.rs.core.MediaType.APPLICATION_JSON)
+  @Consumes(MediaType.APPLICATION_JSON)
+  @jakarta.ws.rs.Consumes(jakarta.ws.rs.core.MediaType.APPLICATION_JSON)
+  @Path("bulk/create")
+  @jakarta.ws.rs.Path("bulk/create")
+  @Operation(
+      summary = "Create multiple branches and tags",
+      description =
+          "Creates all branches and tags listed in the payload object. Each element of the payload "
+              + "is handled like a call to 'POST /trees' with the same name, type and source reference."
+              + "\n"
+              + "All new references are recorded at once, which is much cheaper than creating the "
+              + "references one by one. Failures to create individual references, for example because "
+              + "a reference with the same name already exists, do not fail the whole request, but are "
+              + "reported per reference in the response object.",
+      operationId = "createReferencesV2")
+  @APIResponses({
+    @APIResponse(
+        responseCode = "200",
+        description = "Processed successfully, see the per reference results.",
+        content = {
+          @Content(
+              mediaType = MediaType.APPLICATION_JSON,
+              schema = @Schema(implementation = CreateReferencesResponse.class))
+        }),
+    @APIResponse(responseCode = "400", description = "Invalid input"),
+    @APIResponse(responseCode = "401", description = "Invalid credentials provided"),
+  })
+  @JsonView(Views.V2.class)
+  CreateReferencesResponse createReferences(
+      @RequestBody(
+              required = true,
+              description = "The branches and tags to create.",
+              content = {@Content(mediaType = MediaType.APPLICATION_JSON)})
+          CreateReferencesRequest request);
+
   @Override
   @GET
   @jakarta.ws.rs.GET
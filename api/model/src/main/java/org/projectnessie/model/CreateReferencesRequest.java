@@ -0,0 +1,73 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.model;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import java.util.List;
+import javax.annotation.Nullable;
+import javax.validation.constraints.NotNull;
+import org.eclipse.microprofile.openapi.annotations.enums.SchemaType;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+import org.immutables.value.Value;
+
+@Schema(
+    type = SchemaType.OBJECT,
+    title = "CreateReferencesRequest",
+    description = "Branches and tags to be created using a single request.")
+@Value.Immutable
+@JsonSerialize(as = ImmutableCreateReferencesRequest.class)
+@JsonDeserialize(as = ImmutableCreateReferencesRequest.class)
+public interface CreateReferencesRequest {
+
+  static ImmutableCreateReferencesRequest.Builder builder() {
+    return ImmutableCreateReferencesRequest.builder();
+  }
+
+  @NotNull
+  @jakarta.validation.constraints.NotNull
+  List<NewReference> getReferences();
+
+  @Value.Immutable
+  @JsonSerialize(as = ImmutableNewReference.class)
+  @JsonDeserialize(as = ImmutableNewReference.class)
+  interface NewReference {
+
+    @NotNull
+    @jakarta.validation.constraints.NotNull
+    @Value.Parameter(order = 1)
+    String getName();
+
+    @NotNull
+    @jakarta.validation.constraints.NotNull
+    @Value.Parameter(order = 2)
+    Reference.ReferenceType getType();
+
+    @Schema(
+        description =
+            "Source reference data from which the new reference is to be created, same as the "
+                + "payload of the request to create a single reference.")
+    @Nullable
+    @jakarta.annotation.Nullable
+    @Value.Parameter(order = 3)
+    Reference getSource();
+
+    static NewReference newReference(
+        String name, Reference.ReferenceType type, @Nullable Reference source) {
+      return ImmutableNewReference.of(name, type, source);
+    }
+  }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.model;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import java.util.List;
+import javax.annotation.Nullable;
+import javax.validation.constraints.NotNull;
+import org.eclipse.microprofile.openapi.annotations.enums.SchemaType;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+import org.immutables.value.Value;
+import org.projectnessie.error.ErrorCode;
+
+@Schema(
+    type = SchemaType.OBJECT,
+    title = "CreateReferencesResponse",
+    description =
+        "The outcome of creating each of the requested references, in the order of the request.")
+@Value.Immutable
+@JsonSerialize(as = ImmutableCreateReferencesResponse.class)
+@JsonDeserialize(as = ImmutableCreateReferencesResponse.class)
+public interface CreateReferencesResponse {
+
+  static ImmutableCreateReferencesResponse.Builder builder() {
+    return ImmutableCreateReferencesResponse.builder();
+  }
+
+  @NotNull
+  @jakarta.validation.constraints.NotNull
+  List<CreateReferenceResult> getResults();
+
+  @Value.Immutable
+  @JsonSerialize(as = ImmutableCreateReferenceResult.class)
+  @JsonDeserialize(as = ImmutableCreateReferenceResult.class)
+  interface CreateReferenceResult {
+
+    @NotNull
+    @jakarta.validation.constraints.NotNull
+    @Value.Parameter(order = 1)
+    String getName();
+
+    @NotNull
+    @jakarta.validation.constraints.NotNull
+    @Value.Parameter(order = 2)
+    Reference.ReferenceType getType();
+
+    @Schema(description = "The created reference, absent if the reference could not be created.")
+    @Nullable
+    @jakarta.annotation.Nullable
+    @Value.Parameter(order = 3)
+    Reference getReference();
+
+    @Schema(description = "The reason why the reference could not be created.")
+    @Nullable
+    @jakarta.annotation.Nullable
+    @Value.Parameter(order = 4)
+    ErrorCode getErrorCode();
+
+    @Nullable
+    @jakarta.annotation.Nullable
+    @Value.Parameter(order = 5)
+    String getErrorMessage();
+
+    static CreateReferenceResult created(Reference reference) {
+      return ImmutableCreateReferenceResult.of(
+          reference.getName(), reference.getType(), reference, null, null);
+    }
+
+    static CreateReferenceResult failed(
+        String name, Reference.ReferenceType type, ErrorCode errorCode, String errorMessage) {
+      return ImmutableCreateReferenceResult.of(name, type, null, errorCode, errorMessage);
+    }
+  }
+}
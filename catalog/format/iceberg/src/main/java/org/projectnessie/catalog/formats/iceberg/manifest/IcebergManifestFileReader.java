@@ -43,6 +43,36 @@ public abstract class IcebergManifestFileReader
 
   private IcebergManifestFileReader() {}
 
+  /**
+   * Reads all remaining entries of this manifest file and returns the manifest-list entry for the
+   * manifest file, including the file and row counts and the partition field summaries. Sequence
+   * numbers are {@code 0}, as for Iceberg spec v1 manifest files.
+   *
+   * @param manifestPath location of this manifest file
+   * @param manifestLength size of this manifest file in bytes
+   * @param addedSnapshotId the ID of the snapshot that added the manifest file
+   */
+  public IcebergManifestFile summarize(
+      String manifestPath, long manifestLength, Long addedSnapshotId) {
+    IcebergColumnStatsCollector statsCollector =
+        new IcebergColumnStatsCollector(schema(), partitionSpec());
+    while (hasNext()) {
+      statsCollector.addManifestEntry(next());
+    }
+
+    IcebergManifestFile.Builder manifestFile =
+        IcebergManifestFile.builder()
+            .manifestPath(manifestPath)
+            .manifestLength(manifestLength)
+            .partitionSpecId(partitionSpec().specId())
+            .content(content())
+            .addedSnapshotId(addedSnapshotId)
+            .sequenceNumber(0L)
+            .minSequenceNumber(0L);
+    statsCollector.addToManifestFileBuilder(manifestFile);
+    return manifestFile.build();
+  }
+
   public static IcebergManifestFileReader openManifestReader(SeekableInput input) {
 
     try {
@@ -0,0 +1,71 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.catalog.formats.iceberg.rest;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.util.RawValue;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import jakarta.annotation.Nullable;
+import java.util.List;
+import java.util.Map;
+import org.projectnessie.nessie.immutables.NessieImmutable;
+
+/**
+ * Serializes to the same JSON as {@link IcebergLoadTableResponse}, but takes the already serialized
+ * {@linkplain IcebergLoadTableResult#metadata() table metadata}, see {@link RawJson}.
+ */
+@NessieImmutable
+@JsonSerialize(as = ImmutableIcebergLoadTableRawResponse.class)
+@JsonNaming(PropertyNamingStrategies.KebabCaseStrategy.class)
+public interface IcebergLoadTableRawResponse {
+
+  @Nullable
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  String metadataLocation();
+
+  RawValue metadata();
+
+  @JsonInclude(JsonInclude.Include.NON_EMPTY)
+  Map<String, String> config();
+
+  @JsonInclude(JsonInclude.Include.NON_EMPTY)
+  @Nullable
+  List<IcebergStorageCredential> storageCredentials();
+
+  static Builder builder() {
+    return ImmutableIcebergLoadTableRawResponse.builder();
+  }
+
+  @SuppressWarnings("unused")
+  interface Builder {
+    @CanIgnoreReturnValue
+    Builder metadataLocation(@Nullable String metadataLocation);
+
+    @CanIgnoreReturnValue
+    Builder metadata(RawValue metadata);
+
+    @CanIgnoreReturnValue
+    Builder putAllConfig(Map<String, ? extends String> entries);
+
+    @CanIgnoreReturnValue
+    Builder storageCredentials(@Nullable Iterable<? extends IcebergStorageCredential> elements);
+
+    IcebergLoadTableRawResponse build();
+  }
+}
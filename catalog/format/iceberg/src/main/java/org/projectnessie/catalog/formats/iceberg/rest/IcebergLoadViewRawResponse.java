@@ -0,0 +1,60 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.catalog.formats.iceberg.rest;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.util.RawValue;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.util.Map;
+import org.projectnessie.nessie.immutables.NessieImmutable;
+
+/**
+ * Serializes to the same JSON as {@link IcebergLoadViewResponse}, but takes the already serialized
+ * {@linkplain IcebergLoadViewResponse#metadata() view metadata}, see {@link RawJson}.
+ */
+@NessieImmutable
+@JsonSerialize(as = ImmutableIcebergLoadViewRawResponse.class)
+@JsonNaming(PropertyNamingStrategies.KebabCaseStrategy.class)
+public interface IcebergLoadViewRawResponse {
+
+  String metadataLocation();
+
+  RawValue metadata();
+
+  @JsonInclude(JsonInclude.Include.NON_EMPTY)
+  Map<String, String> config();
+
+  static Builder builder() {
+    return ImmutableIcebergLoadViewRawResponse.builder();
+  }
+
+  @SuppressWarnings("unused")
+  interface Builder {
+    @CanIgnoreReturnValue
+    Builder metadataLocation(String metadataLocation);
+
+    @CanIgnoreReturnValue
+    Builder metadata(RawValue metadata);
+
+    @CanIgnoreReturnValue
+    Builder putAllConfig(Map<String, ? extends String> entries);
+
+    IcebergLoadViewRawResponse build();
+  }
+}
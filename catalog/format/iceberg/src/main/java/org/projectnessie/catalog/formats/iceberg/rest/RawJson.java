@@ -0,0 +1,137 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.catalog.formats.iceberg.rest;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.databind.util.RawValue;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Already serialized, UTF-8 encoded JSON, written as is via {@link RawValue}. Byte based JSON
+ * generators copy the bytes directly into their output buffer, without converting the JSON to a
+ * {@link String}.
+ */
+public final class RawJson implements SerializableString {
+  private final byte[] utf8;
+
+  private RawJson(byte[] utf8) {
+    this.utf8 = utf8;
+  }
+
+  /** Returns a {@link RawValue} for the given UTF-8 encoded JSON, the array is not copied. */
+  public static RawValue rawJson(byte[] utf8) {
+    return new RawValue(new RawJson(utf8));
+  }
+
+  @Override
+  public String getValue() {
+    return new String(utf8, UTF_8);
+  }
+
+  @Override
+  public int charLength() {
+    return getValue().length();
+  }
+
+  @Override
+  public byte[] asUnquotedUTF8() {
+    return utf8;
+  }
+
+  @Override
+  public int appendUnquotedUTF8(byte[] buffer, int offset) {
+    int length = utf8.length;
+    if (offset + length > buffer.length) {
+      return -1;
+    }
+    System.arraycopy(utf8, 0, buffer, offset, length);
+    return length;
+  }
+
+  @Override
+  public int appendUnquoted(char[] buffer, int offset) {
+    // Let character based generators fall back to getValue()
+    return -1;
+  }
+
+  @Override
+  public int writeUnquotedUTF8(OutputStream out) throws IOException {
+    out.write(utf8);
+    return utf8.length;
+  }
+
+  @Override
+  public int putUnquotedUTF8(ByteBuffer buffer) {
+    int length = utf8.length;
+    if (length > buffer.remaining()) {
+      return -1;
+    }
+    buffer.put(utf8);
+    return length;
+  }
+
+  // Raw JSON is never written as a quoted string.
+
+  @Override
+  public char[] asQuotedChars() {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public byte[] asQuotedUTF8() {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public int appendQuotedUTF8(byte[] buffer, int offset) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public int appendQuoted(char[] buffer, int offset) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public int writeQuotedUTF8(OutputStream out) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public int putQuotedUTF8(ByteBuffer buffer) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    return o instanceof RawJson && Arrays.equals(utf8, ((RawJson) o).utf8);
+  }
+
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(utf8);
+  }
+
+  @Override
+  public String toString() {
+    return getValue();
+  }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.catalog.formats.iceberg.rest;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.projectnessie.catalog.formats.iceberg.rest.RawJson.rawJson;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.projectnessie.catalog.formats.iceberg.meta.IcebergJson;
+
+/**
+ * Verifies that the responses with already serialized metadata produce the same JSON as the typed
+ * responses.
+ */
+@ExtendWith(SoftAssertionsExtension.class)
+public class TestRawResponses {
+  @InjectSoftAssertions protected SoftAssertions soft;
+
+  @ParameterizedTest
+  @MethodSource
+  public void loadTable(String json) throws Exception {
+    ObjectMapper mapper = IcebergJson.objectMapper();
+    IcebergLoadTableResponse response = mapper.readValue(json, IcebergLoadTableResponse.class);
+
+    IcebergLoadTableRawResponse raw =
+        IcebergLoadTableRawResponse.builder()
+            .metadataLocation(response.metadataLocation())
+            .metadata(rawJson(mapper.writeValueAsBytes(response.metadata())))
+            .putAllConfig(response.config())
+            .storageCredentials(response.storageCredentials())
+            .build();
+
+    soft.assertThat(mapper.writeValueAsString(raw)).isEqualTo(mapper.writeValueAsString(response));
+    soft.assertThat(new String(mapper.writeValueAsBytes(raw), UTF_8))
+        .isEqualTo(mapper.writeValueAsString(response));
+  }
+
+  @ParameterizedTest
+  @MethodSource
+  public void loadView(String json) throws Exception {
+    ObjectMapper mapper = IcebergJson.objectMapper();
+    IcebergLoadViewResponse response = mapper.readValue(json, IcebergLoadViewResponse.class);
+
+    IcebergLoadViewRawResponse raw =
+        IcebergLoadViewRawResponse.builder()
+            .metadataLocation(response.metadataLocation())
+            .metadata(rawJson(mapper.writeValueAsBytes(response.metadata())))
+            .putAllConfig(response.config())
+            .build();
+
+    soft.assertThat(mapper.writeValueAsString(raw)).isEqualTo(mapper.writeValueAsString(response));
+    soft.assertThat(new String(mapper.writeValueAsBytes(raw), UTF_8))
+        .isEqualTo(mapper.writeValueAsString(response));
+  }
+
+  static Stream<String> loadTable() throws Exception {
+    return restObjects("LoadTableResponse: ");
+  }
+
+  static Stream<String> loadView() throws Exception {
+    return restObjects("LoadViewResponse: ");
+  }
+
+  private static Stream<String> restObjects(String prefix) throws Exception {
+    URL dataUrl = TestRawResponses.class.getResource("rest-objects.txt");
+    List<String> lines;
+    try (Stream<String> input = Files.lines(Paths.get(dataUrl.toURI()))) {
+      lines =
+          input
+              .filter(ln -> ln.startsWith(prefix))
+              .map(ln -> ln.substring(prefix.length()))
+              .distinct()
+              .limit(20)
+              .collect(Collectors.toList());
+    }
+    return lines.stream();
+  }
+}
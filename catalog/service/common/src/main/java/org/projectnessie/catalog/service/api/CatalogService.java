@@ -21,6 +21,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletionStage;
+import java.util.function.BiPredicate;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -53,12 +54,36 @@ public interface CatalogService {
    *     is useful to return results that are quite big, for example Iceberg manifest lists or
    *     manifest files.
    */
-  CompletionStage<SnapshotResponse> retrieveSnapshot(
+  default CompletionStage<SnapshotResponse> retrieveSnapshot(
       SnapshotReqParams reqParams,
       ContentKey key,
       @Nullable Content.Type expectedType,
       RequestMeta requestMeta,
       ApiContext apiContext)
+      throws NessieNotFoundException {
+    return retrieveSnapshot(reqParams, key, expectedType, requestMeta, apiContext, (r, c) -> false);
+  }
+
+  /**
+   * Retrieves table or view snapshot related information, unless the snapshot has not been modified
+   * according to {@code notModified}.
+   *
+   * <p>This allows implementing conditional requests without retrieving the snapshot and converting
+   * it to the requested format.
+   *
+   * @param notModified tested with the effective reference and the Nessie content object before
+   *     the snapshot is retrieved
+   * @return The response as for {@link #retrieveSnapshot(SnapshotReqParams, ContentKey,
+   *     Content.Type, RequestMeta, ApiContext)}, or {@code null} if {@code notModified} returned
+   *     {@code true}.
+   */
+  CompletionStage<SnapshotResponse> retrieveSnapshot(
+      SnapshotReqParams reqParams,
+      ContentKey key,
+      @Nullable Content.Type expectedType,
+      RequestMeta requestMeta,
+      ApiContext apiContext,
+      BiPredicate<Reference, Content> notModified)
       throws NessieNotFoundException;
 
   Stream<Supplier<CompletionStage<SnapshotResponse>>> retrieveSnapshots(
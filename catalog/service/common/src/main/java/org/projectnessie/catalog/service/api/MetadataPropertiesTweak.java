@@ -0,0 +1,58 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.catalog.service.api;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Deterministic adjustments of the properties of Iceberg table or view metadata, applied by the
+ * catalog service before a snapshot response is built, see {@link
+ * SnapshotReqParams#metadataPropertiesTweak()}.
+ */
+public interface MetadataPropertiesTweak {
+
+  /**
+   * Identifies the adjustments. Tweaks with the same ID must apply the same adjustments, because a
+   * hash of the ID is part of the key of cached serialized responses.
+   */
+  String id();
+
+  void apply(Map<String, String> properties);
+
+  static MetadataPropertiesTweak of(String id, Consumer<Map<String, String>> tweak) {
+    requireNonNull(id, "id");
+    requireNonNull(tweak, "tweak");
+    return new MetadataPropertiesTweak() {
+      @Override
+      public String id() {
+        return id;
+      }
+
+      @Override
+      public void apply(Map<String, String> properties) {
+        tweak.accept(properties);
+      }
+
+      @Override
+      public String toString() {
+        return "MetadataPropertiesTweak{" + id + '}';
+      }
+    };
+  }
+}
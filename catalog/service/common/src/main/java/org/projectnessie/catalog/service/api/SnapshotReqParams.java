@@ -15,6 +15,7 @@
  */
 package org.projectnessie.catalog.service.api;
 
+import java.io.OutputStream;
 import java.util.Locale;
 import java.util.Optional;
 import java.util.OptionalInt;
@@ -32,6 +33,30 @@ public interface SnapshotReqParams {
 
   Optional<NessieId> manifestFileId();
 
+  /**
+   * Whether the caller only needs the serialized response, see {@link
+   * SnapshotResponse#produce(OutputStream)} and the {@linkplain SnapshotResponse#nessieSnapshot()
+   * Nessie snapshot}. Such responses may be served from a cache of serialized responses, without an
+   * {@linkplain SnapshotResponse#entityObject() entity object}.
+   */
+  boolean serializedResponse();
+
+  /**
+   * Optional adjustments of the properties of Iceberg table or view metadata, applied after the
+   * Nessie specific properties have been added. The adjustments are part of {@linkplain
+   * #serializedResponse() serialized responses}, so callers do not have to apply them to each
+   * response.
+   */
+  Optional<MetadataPropertiesTweak> metadataPropertiesTweak();
+
+  default SnapshotReqParams asSerializedResponse() {
+    return ImmutableSnapshotReqParams.copyOf(this).withSerializedResponse(true);
+  }
+
+  default SnapshotReqParams withMetadataPropertiesTweak(MetadataPropertiesTweak tweak) {
+    return ImmutableSnapshotReqParams.copyOf(this).withMetadataPropertiesTweak(tweak);
+  }
+
   static SnapshotReqParams forSnapshotHttpReq(
       ParsedReference ref, String format, String specVersion) {
     SnapshotFormat snapshotFormat;
@@ -63,6 +88,7 @@ public interface SnapshotReqParams {
       }
     }
 
-    return ImmutableSnapshotReqParams.of(ref, snapshotFormat, reqVersion, Optional.empty());
+    return ImmutableSnapshotReqParams.of(
+        ref, snapshotFormat, reqVersion, Optional.empty(), false, Optional.empty());
   }
 }
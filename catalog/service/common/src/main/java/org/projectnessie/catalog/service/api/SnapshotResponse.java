@@ -75,6 +75,11 @@ public interface SnapshotResponse {
         return nessieSnapshot;
       }
 
+      @Override
+      public Optional<byte[]> serialized() {
+        return Optional.empty();
+      }
+
       @Override
       public void produce(OutputStream outputStream) throws IOException {
         throw new UnsupportedOperationException();
@@ -82,6 +87,68 @@ public interface SnapshotResponse {
     };
   }
 
+  /**
+   * Returns a response that {@linkplain #produce(OutputStream) produces} the already serialized
+   * {@code serialized} bytes and has no {@linkplain #entityObject() entity object}.
+   *
+   * @param nessieSnapshot the Nessie snapshot, if available, otherwise {@code null}
+   */
+  static SnapshotResponse forSerialized(
+      Reference effectiveReference,
+      byte[] serialized,
+      String fileName,
+      String contentType,
+      ContentKey contentKey,
+      Content content,
+      NessieEntitySnapshot<?> nessieSnapshot) {
+    return new SnapshotResponse() {
+      @Override
+      public Optional<Object> entityObject() {
+        return Optional.empty();
+      }
+
+      @Override
+      public Reference effectiveReference() {
+        return effectiveReference;
+      }
+
+      @Override
+      public String fileName() {
+        return fileName;
+      }
+
+      @Override
+      public String contentType() {
+        return contentType;
+      }
+
+      @Override
+      public ContentKey contentKey() {
+        return contentKey;
+      }
+
+      @Override
+      public Content content() {
+        return content;
+      }
+
+      @Override
+      public NessieEntitySnapshot<?> nessieSnapshot() {
+        return nessieSnapshot;
+      }
+
+      @Override
+      public Optional<byte[]> serialized() {
+        return Optional.of(serialized);
+      }
+
+      @Override
+      public void produce(OutputStream outputStream) throws IOException {
+        outputStream.write(serialized);
+      }
+    };
+  }
+
   Reference effectiveReference();
 
   Optional<Object> entityObject();
@@ -96,5 +163,11 @@ public interface SnapshotResponse {
 
   NessieEntitySnapshot<?> nessieSnapshot();
 
+  /**
+   * The serialized response, if this response has no {@linkplain #entityObject() entity object}.
+   * The returned array must not be modified.
+   */
+  Optional<byte[]> serialized();
+
   void produce(OutputStream outputStream) throws IOException;
 }
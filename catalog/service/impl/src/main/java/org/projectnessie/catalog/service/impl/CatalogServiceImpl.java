@@ -61,6 +61,7 @@ import java.util.OptionalInt;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Executor;
+import java.util.function.BiPredicate;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -141,6 +142,7 @@ public class CatalogServiceImpl implements CatalogService {
   @Inject TasksService tasksService;
   @Inject BackendExceptionMapper backendExceptionMapper;
   @Inject ServiceConfig serviceConfig;
+  @Inject SnapshotResponseCache snapshotResponseCache;
 
   @Inject
   @Named("import-jobs")
@@ -300,7 +302,8 @@ public class CatalogServiceImpl implements CatalogService {
       ContentKey key,
       @Nullable Content.Type expectedType,
       RequestMeta requestMeta,
-      ApiContext apiContext)
+      ApiContext apiContext,
+      BiPredicate<Reference, Content> notModified)
       throws NessieNotFoundException {
 
     ParsedReference reference = reqParams.ref();
@@ -320,14 +323,26 @@ public class CatalogServiceImpl implements CatalogService {
       throw new NessieContentNotFoundException(key, reference.name());
     }
     Reference effectiveReference = contentResponse.getEffectiveReference();
+    if (notModified.test(effectiveReference, content)) {
+      return completedStage(null);
+    }
 
     ObjId snapshotId = snapshotObjIdForContent(content);
 
-    CompletionStage<NessieEntitySnapshot<?>> snapshotStage =
-        icebergStuff().retrieveIcebergSnapshot(snapshotId, content);
+    Supplier<CompletionStage<SnapshotResponse>> loader =
+        () -> {
+          CompletionStage<NessieEntitySnapshot<?>> snapshotStage =
+              icebergStuff().retrieveIcebergSnapshot(snapshotId, content);
 
-    return snapshotStage.thenApply(
-        snapshot -> snapshotResponse(key, content, reqParams, snapshot, effectiveReference));
+          return snapshotStage.thenApply(
+              snapshot -> snapshotResponse(key, content, reqParams, snapshot, effectiveReference));
+        };
+
+    if (reqParams.serializedResponse()) {
+      return snapshotResponseCache.snapshotResponse(
+          snapshotId, reqParams, effectiveReference, key, content, loader);
+    }
+    return loader.get();
   }
 
   private SnapshotResponse snapshotResponse(
@@ -377,7 +392,7 @@ public class CatalogServiceImpl implements CatalogService {
             nessieTableSnapshotToIceberg(
                 snapshot,
                 optionalIcebergSpec(reqParams.reqVersion()),
-                metadataPropertiesTweak(snapshot, effectiveReference));
+                metadataPropertiesTweak(snapshot, effectiveReference, reqParams));
 
         fileName = "00000-" + snapshot.id().idAsString() + ".metadata.json";
         break;
@@ -390,11 +405,14 @@ public class CatalogServiceImpl implements CatalogService {
   }
 
   private Consumer<Map<String, String>> metadataPropertiesTweak(
-      NessieEntitySnapshot<?> snapshot, Reference effectiveReference) {
+      NessieEntitySnapshot<?> snapshot,
+      Reference effectiveReference,
+      SnapshotReqParams reqParams) {
     return properties -> {
       properties.put(NESSIE_CONTENT_ID, snapshot.entity().nessieContentId());
       properties.put(NESSIE_COMMIT_ID, effectiveReference.getHash());
       properties.put(NESSIE_COMMIT_REF, effectiveReference.getName());
+      reqParams.metadataPropertiesTweak().ifPresent(tweak -> tweak.apply(properties));
     };
   }
 
@@ -427,7 +445,7 @@ public class CatalogServiceImpl implements CatalogService {
             nessieViewSnapshotToIceberg(
                 snapshot,
                 optionalIcebergSpec(reqParams.reqVersion()),
-                metadataPropertiesTweak(snapshot, effectiveReference));
+                metadataPropertiesTweak(snapshot, effectiveReference, reqParams));
 
         fileName = "00000-" + snapshot.id().idAsString() + ".metadata.json";
         break;
@@ -28,10 +28,12 @@ import java.io.InputStream;
 import java.time.Instant;
 import java.util.UUID;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.LongSupplier;
 import java.util.zip.GZIPInputStream;
 import org.projectnessie.catalog.formats.iceberg.manifest.IcebergFileFormat;
 import org.projectnessie.catalog.formats.iceberg.meta.IcebergJson;
+import org.projectnessie.catalog.formats.iceberg.meta.IcebergSnapshot;
 import org.projectnessie.catalog.formats.iceberg.meta.IcebergTableMetadata;
 import org.projectnessie.catalog.formats.iceberg.meta.IcebergViewMetadata;
 import org.projectnessie.catalog.model.NessieEntity;
@@ -101,6 +103,7 @@ final class ImportSnapshotWorker {
             "Failed to read table metadata from " + content.getMetadataLocation(), e);
       }
 
+      AtomicReference<IcebergSnapshot> snapshotWithManifests = new AtomicReference<>();
       snapshot =
           icebergTableSnapshotToNessie(
               snapshotId,
@@ -120,7 +123,7 @@ final class ImportSnapshotWorker {
 
                 // If the Iceberg snapshot references manifest files and no manifest list, which can
                 // happen for old Iceberg format v1 snapshots, generate a manifest list location,
-                // which is then generated by the manifest-group import-worker.
+                // the manifest list itself is generated below.
                 // In other words, this code "prepares" the table snapshot with a manifest-list
                 // location for Iceberg snapshots that have the field `manifests` set but
                 // `manifest-list` not set, as possible for Iceberg spec v1. See
@@ -141,8 +144,27 @@ final class ImportSnapshotWorker {
                         UUID.randomUUID(),
                         IcebergFileFormat.AVRO.fileExtension());
 
+                snapshotWithManifests.set(snap);
                 return metadataLocation.resolve(listFile).toString();
               });
+
+      IcebergSnapshot icebergSnapshot = snapshotWithManifests.get();
+      if (icebergSnapshot != null) {
+        StorageUri listLocation = StorageUri.of(snapshot.icebergManifestListLocation());
+        LOGGER.debug(
+            "Generating manifest list {} for {} manifest files",
+            listLocation,
+            icebergSnapshot.manifests().size());
+        try {
+          new ManifestListGenerator(
+                  taskRequest.objectIO(),
+                  taskRequest.executor(),
+                  ManifestListGenerator.DEFAULT_MAX_CONCURRENT_READS)
+              .generateManifestList(tableMetadata, icebergSnapshot, listLocation);
+        } catch (Exception e) {
+          throw new RuntimeException("Failed to generate manifest list " + listLocation, e);
+        }
+      }
     }
 
     return EntitySnapshotObj.builder()
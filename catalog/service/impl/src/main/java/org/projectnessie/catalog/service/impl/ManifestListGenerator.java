@@ -0,0 +1,145 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.catalog.service.impl;
+
+import static org.projectnessie.catalog.formats.iceberg.manifest.IcebergManifestFileReader.openManifestReader;
+import static org.projectnessie.catalog.formats.iceberg.manifest.IcebergManifestListWriter.openManifestListWriter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import org.projectnessie.catalog.files.api.ObjectIO;
+import org.projectnessie.catalog.formats.iceberg.IcebergSpec;
+import org.projectnessie.catalog.formats.iceberg.manifest.IcebergManifestFile;
+import org.projectnessie.catalog.formats.iceberg.manifest.IcebergManifestFileReader;
+import org.projectnessie.catalog.formats.iceberg.manifest.IcebergManifestListWriter;
+import org.projectnessie.catalog.formats.iceberg.manifest.IcebergManifestListWriterSpec;
+import org.projectnessie.catalog.formats.iceberg.manifest.SeekableStreamInput;
+import org.projectnessie.catalog.formats.iceberg.meta.IcebergPartitionSpec;
+import org.projectnessie.catalog.formats.iceberg.meta.IcebergSchema;
+import org.projectnessie.catalog.formats.iceberg.meta.IcebergSnapshot;
+import org.projectnessie.catalog.formats.iceberg.meta.IcebergTableMetadata;
+import org.projectnessie.storage.uri.StorageUri;
+
+/**
+ * Generates the manifest list for an Iceberg snapshot that references its manifest files directly,
+ * which is possible for Iceberg spec v1 snapshots.
+ *
+ * <p>Manifest files are read concurrently using the given executor, but at most {@code
+ * maxConcurrentReads} at a time. The manifest list is written incrementally, in the order of the
+ * manifest files, so memory usage does not depend on the number of manifest files. If no executor
+ * thread picked up the read of the next manifest file yet, the generating thread reads it itself,
+ * which guarantees progress even if the executor is busy, for example with the import that uses
+ * this generator.
+ */
+final class ManifestListGenerator {
+  static final int DEFAULT_MAX_CONCURRENT_READS =
+      Math.max(2, Runtime.getRuntime().availableProcessors());
+
+  private final ObjectIO objectIO;
+  private final Executor executor;
+  private final int maxConcurrentReads;
+
+  ManifestListGenerator(ObjectIO objectIO, Executor executor, int maxConcurrentReads) {
+    this.objectIO = objectIO;
+    this.executor = executor;
+    this.maxConcurrentReads = maxConcurrentReads;
+  }
+
+  /** Writes the manifest list for the manifest files of {@code snapshot} to {@code location}. */
+  void generateManifestList(
+      IcebergTableMetadata tableMetadata, IcebergSnapshot snapshot, StorageUri location)
+      throws IOException {
+    IcebergManifestListWriterSpec writerSpec =
+        IcebergManifestListWriterSpec.builder()
+            .spec(IcebergSpec.forVersion(tableMetadata.formatVersion()))
+            .schema(currentSchema(tableMetadata))
+            .partitionSpec(defaultPartitionSpec(tableMetadata))
+            .tableProperties(tableMetadata.properties())
+            .snapshotId(snapshot.snapshotId())
+            .parentSnapshotId(snapshot.parentSnapshotId())
+            .sequenceNumber(snapshot.sequenceNumber() != null ? snapshot.sequenceNumber() : 0L)
+            .build();
+
+    Deque<FutureTask<IcebergManifestFile>> inFlight = new ArrayDeque<>(maxConcurrentReads);
+    try (OutputStream output = objectIO.writeObject(location);
+        IcebergManifestListWriter writer = openManifestListWriter(writerSpec, output)) {
+      Iterator<String> manifests = snapshot.manifests().iterator();
+      while (manifests.hasNext() || !inFlight.isEmpty()) {
+        while (manifests.hasNext() && inFlight.size() < maxConcurrentReads) {
+          String manifest = manifests.next();
+          FutureTask<IcebergManifestFile> read =
+              new FutureTask<>(() -> readManifest(manifest, snapshot.snapshotId()));
+          inFlight.addLast(read);
+          try {
+            executor.execute(read);
+          } catch (RejectedExecutionException e) {
+            // The read is performed by this thread below
+          }
+        }
+
+        FutureTask<IcebergManifestFile> next = inFlight.removeFirst();
+        // No-op, if an executor thread already started the read
+        next.run();
+        writer.append(next.get());
+      }
+    } catch (ExecutionException e) {
+      throw new IOException("Failed to read manifest file", e.getCause());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while generating manifest list " + location, e);
+    } catch (IOException | RuntimeException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new IOException("Failed to generate manifest list " + location, e);
+    } finally {
+      inFlight.forEach(read -> read.cancel(true));
+    }
+  }
+
+  private IcebergManifestFile readManifest(String manifest, long snapshotId) throws Exception {
+    StorageUri uri = StorageUri.of(manifest);
+    try (SeekableStreamInput input =
+            new SeekableStreamInput(URI.create(manifest), u -> objectIO.readObject(uri));
+        IcebergManifestFileReader reader = openManifestReader(input)) {
+      return reader.summarize(manifest, input.length(), snapshotId);
+    }
+  }
+
+  private static IcebergSchema currentSchema(IcebergTableMetadata tableMetadata) {
+    return tableMetadata.schemas().stream()
+        .filter(s -> Objects.equals(s.schemaId(), tableMetadata.currentSchemaId()))
+        .findFirst()
+        .orElseGet(tableMetadata::schema);
+  }
+
+  private static IcebergPartitionSpec defaultPartitionSpec(IcebergTableMetadata tableMetadata) {
+    List<IcebergPartitionSpec> specs = tableMetadata.partitionSpecs();
+    return specs.stream()
+        .filter(s -> Objects.equals(s.specId(), tableMetadata.defaultSpecId()))
+        .findFirst()
+        .orElse(IcebergPartitionSpec.unpartitioned());
+  }
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.catalog.service.impl;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.CompletableFuture.completedStage;
+import static org.projectnessie.catalog.service.api.SnapshotResponse.forSerialized;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
+import org.projectnessie.catalog.model.snapshot.NessieEntitySnapshot;
+import org.projectnessie.catalog.service.api.MetadataPropertiesTweak;
+import org.projectnessie.catalog.service.api.SnapshotReqParams;
+import org.projectnessie.catalog.service.api.SnapshotResponse;
+import org.projectnessie.model.Content;
+import org.projectnessie.model.ContentKey;
+import org.projectnessie.model.Reference;
+import org.projectnessie.versioned.storage.common.persist.ObjId;
+
+/**
+ * Bounded cache of serialized snapshot responses, shared by all {@link CatalogServiceImpl}
+ * instances.
+ *
+ * <p>A snapshot response is fully determined by the entity snapshot, the requested format and spec
+ * version, the {@linkplain SnapshotReqParams#metadataPropertiesTweak() metadata properties tweak}
+ * and the effective reference, which is added to the properties of Iceberg metadata. Cached
+ * responses are keyed by exactly these values, using a hash of the tweak's ID, so cached responses
+ * never become stale. Repeated requests for the same snapshot, for example from query engines
+ * time-traveling to the same commit, are served without loading the entity snapshot and without
+ * converting it to Iceberg metadata.
+ *
+ * <p>Only requests that {@linkplain SnapshotReqParams#serializedResponse() accept serialized
+ * responses} use this cache. Responses are serialized using the same {@link ObjectMapper} that
+ * serializes REST responses, so the serialized form can be embedded in REST responses.
+ */
+public final class SnapshotResponseCache {
+
+  /** Rough estimate of the heap used by a cache entry in addition to the serialized bytes. */
+  private static final int ESTIMATED_HEAP_BYTES_PER_ENTRY = 400;
+
+  private final Cache<String, SerializedResponse> cache;
+  private final ObjectMapper objectMapper;
+
+  /**
+   * Creates a cache that holds serialized responses up to the given total size, {@code 0} disables
+   * the cache.
+   */
+  public SnapshotResponseCache(long capacityBytes, ObjectMapper objectMapper) {
+    this.objectMapper = objectMapper;
+    this.cache =
+        capacityBytes > 0L
+            ? CacheBuilder.newBuilder()
+                .maximumWeight(capacityBytes)
+                .weigher(SnapshotResponseCache::weigh)
+                .build()
+            : null;
+  }
+
+  boolean isEnabled() {
+    return cache != null;
+  }
+
+  /**
+   * Returns the cached serialized response for the given snapshot or loads the response via {@code
+   * loader}, serializes it and adds it to the cache.
+   */
+  CompletionStage<SnapshotResponse> snapshotResponse(
+      ObjId snapshotId,
+      SnapshotReqParams reqParams,
+      Reference effectiveReference,
+      ContentKey key,
+      Content content,
+      Supplier<CompletionStage<SnapshotResponse>> loader) {
+    Cache<String, SerializedResponse> c = cache;
+    if (c == null) {
+      return loader.get();
+    }
+
+    String cacheKey = cacheKey(snapshotId, reqParams, effectiveReference);
+    SerializedResponse cached = c.getIfPresent(cacheKey);
+    if (cached != null) {
+      return completedStage(
+          forSerialized(
+              effectiveReference,
+              cached.serialized,
+              cached.fileName,
+              cached.contentType,
+              key,
+              content,
+              cached.nessieSnapshot));
+    }
+
+    return loader
+        .get()
+        .thenApply(
+            response -> {
+              Object entity =
+                  response
+                      .entityObject()
+                      .orElseThrow(() -> new IllegalStateException("entity object missing"));
+              byte[] serialized;
+              try {
+                serialized = objectMapper.writeValueAsBytes(entity);
+              } catch (JsonProcessingException e) {
+                throw new RuntimeException("Failed to serialize snapshot response", e);
+              }
+              // Concurrent loads of the same response are fine, the responses are equal.
+              c.put(
+                  cacheKey,
+                  new SerializedResponse(
+                      response.fileName(),
+                      response.contentType(),
+                      serialized,
+                      response.nessieSnapshot()));
+              return forSerialized(
+                  effectiveReference,
+                  serialized,
+                  response.fileName(),
+                  response.contentType(),
+                  key,
+                  content,
+                  response.nessieSnapshot());
+            });
+  }
+
+  @VisibleForTesting
+  long size() {
+    return cache != null ? cache.size() : 0L;
+  }
+
+  private static String cacheKey(
+      ObjId snapshotId, SnapshotReqParams reqParams, Reference effectiveReference) {
+    // The reference name is the last element, as it is the only one that may contain a '/'.
+    return snapshotId
+        + "/"
+        + reqParams.snapshotFormat()
+        + "/"
+        + (reqParams.reqVersion().isPresent() ? reqParams.reqVersion().getAsInt() : "")
+        + "/"
+        + reqParams.metadataPropertiesTweak().map(SnapshotResponseCache::tweakHash).orElse("")
+        + "/"
+        + effectiveReference.getHash()
+        + "/"
+        + effectiveReference.getName();
+  }
+
+  private static String tweakHash(MetadataPropertiesTweak tweak) {
+    return Hashing.sha256().hashString(tweak.id(), UTF_8).toString();
+  }
+
+  private static int weigh(String cacheKey, SerializedResponse response) {
+    // The Nessie snapshot is assumed to need about as much heap as the serialized response.
+    long weight =
+        2L * response.serialized.length
+            + 2L * (cacheKey.length() + response.fileName.length())
+            + ESTIMATED_HEAP_BYTES_PER_ENTRY;
+    return (int) Math.min(weight, Integer.MAX_VALUE);
+  }
+
+  private static final class SerializedResponse {
+    final String fileName;
+    final String contentType;
+    final byte[] serialized;
+    final NessieEntitySnapshot<?> nessieSnapshot;
+
+    SerializedResponse(
+        String fileName,
+        String contentType,
+        byte[] serialized,
+        NessieEntitySnapshot<?> nessieSnapshot) {
+      this.fileName = fileName;
+      this.contentType = contentType;
+      this.serialized = serialized;
+      this.nessieSnapshot = nessieSnapshot;
+    }
+  }
+}
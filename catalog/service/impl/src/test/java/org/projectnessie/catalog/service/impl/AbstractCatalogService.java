@@ -63,6 +63,7 @@ import org.projectnessie.catalog.files.s3.S3ClientSupplier;
 import org.projectnessie.catalog.files.s3.S3Clients;
 import org.projectnessie.catalog.files.s3.S3ObjectIO;
 import org.projectnessie.catalog.files.s3.S3Sessions;
+import org.projectnessie.catalog.formats.iceberg.meta.IcebergJson;
 import org.projectnessie.catalog.formats.iceberg.meta.IcebergPartitionSpec;
 import org.projectnessie.catalog.formats.iceberg.meta.IcebergSchema;
 import org.projectnessie.catalog.formats.iceberg.meta.IcebergSortOrder;
@@ -227,6 +228,8 @@ public abstract class AbstractCatalogService {
     catalogService.versionStore = versionStore;
     catalogService.authorizer = authorizer;
     catalogService.accessContext = accessContext;
+    catalogService.snapshotResponseCache =
+        new SnapshotResponseCache(1024L * 1024L, IcebergJson.objectMapper());
 
     catalogService.backendExceptionMapper = BackendExceptionMapper.builder().build();
   }
@@ -35,6 +35,7 @@ import static org.projectnessie.services.authz.Check.CheckType.VIEW_REFERENCE;
 import static org.projectnessie.versioned.RequestMeta.API_READ;
 import static org.projectnessie.versioned.RequestMeta.API_WRITE;
 
+import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
@@ -61,6 +62,7 @@ import org.projectnessie.catalog.formats.iceberg.rest.ImmutableSetLocation;
 import org.projectnessie.catalog.model.snapshot.NessieTableSnapshot;
 import org.projectnessie.catalog.service.api.CatalogCommit;
 import org.projectnessie.catalog.service.api.CatalogService;
+import org.projectnessie.catalog.service.api.MetadataPropertiesTweak;
 import org.projectnessie.catalog.service.api.SnapshotReqParams;
 import org.projectnessie.catalog.service.api.SnapshotResponse;
 import org.projectnessie.error.NessieReferenceConflictException;
@@ -354,6 +356,79 @@ public class TestCatalogServiceImpl extends AbstractCatalogService {
         .hasContent(expectedJson);
   }
 
+  @Test
+  public void serializedSnapshotResponse() throws Exception {
+    Reference main = api.getReference().refName("main").get();
+    ContentKey key = ContentKey.of("mytable");
+
+    ParsedReference committed = commitSingle(main, key, API_WRITE);
+    SnapshotReqParams reqParams = forSnapshotHttpReq(committed, "ICEBERG", "2");
+
+    SnapshotResponse snap =
+        catalogService
+            .retrieveSnapshot(reqParams, key, ICEBERG_TABLE, API_READ, apiContext("Catalog", 0))
+            .toCompletableFuture()
+            .get(5, MINUTES);
+    byte[] expected =
+        IcebergJson.objectMapper().writeValueAsBytes(snap.entityObject().orElseThrow());
+    soft.assertThat(catalogService.snapshotResponseCache.size()).isEqualTo(0L);
+
+    for (int i = 0; i < 2; i++) {
+      SnapshotResponse serialized =
+          catalogService
+              .retrieveSnapshot(
+                  reqParams.asSerializedResponse(),
+                  key,
+                  ICEBERG_TABLE,
+                  API_READ,
+                  apiContext("Catalog", 0))
+              .toCompletableFuture()
+              .get(5, MINUTES);
+      soft.assertThat(serialized)
+          .extracting(
+              SnapshotResponse::contentKey,
+              SnapshotResponse::fileName,
+              SnapshotResponse::contentType,
+              SnapshotResponse::effectiveReference)
+          .containsExactly(key, snap.fileName(), snap.contentType(), snap.effectiveReference());
+      soft.assertThat(serialized.entityObject()).isEmpty();
+      soft.assertThat(serialized.nessieSnapshot()).isEqualTo(snap.nessieSnapshot());
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      serialized.produce(out);
+      soft.assertThat(out.toByteArray()).isEqualTo(expected);
+      soft.assertThat(catalogService.snapshotResponseCache.size()).isEqualTo(1L);
+    }
+  }
+
+  @Test
+  public void serializedSnapshotResponseWithPropertiesTweak() throws Exception {
+    Reference main = api.getReference().refName("main").get();
+    ContentKey key = ContentKey.of("mytable");
+
+    ParsedReference committed = commitSingle(main, key, API_WRITE);
+    SnapshotReqParams reqParams = forSnapshotHttpReq(committed, "ICEBERG", "2");
+
+    for (String value : List.of("a", "b", "a")) {
+      SnapshotReqParams tweaked =
+          reqParams
+              .asSerializedResponse()
+              .withMetadataPropertiesTweak(
+                  MetadataPropertiesTweak.of(
+                      "tweak-" + value, properties -> properties.put("tweaked", value)));
+      SnapshotResponse serialized =
+          catalogService
+              .retrieveSnapshot(tweaked, key, ICEBERG_TABLE, API_READ, apiContext("Catalog", 0))
+              .toCompletableFuture()
+              .get(5, MINUTES);
+      IcebergTableMetadata metadata =
+          IcebergJson.objectMapper()
+              .readValue(serialized.serialized().orElseThrow(), IcebergTableMetadata.class);
+      soft.assertThat(metadata.properties()).containsEntry("tweaked", value);
+    }
+    // Responses with different tweaks are cached separately
+    soft.assertThat(catalogService.snapshotResponseCache.size()).isEqualTo(2L);
+  }
+
   /**
    * Verify behavior of {@link CatalogService#retrieveSnapshot(SnapshotReqParams, ContentKey,
    * Content.Type, RequestMeta, ApiContext)} against related Nessie {@link CheckType check types}
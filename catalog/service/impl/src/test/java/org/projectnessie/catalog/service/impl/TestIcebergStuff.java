@@ -21,19 +21,27 @@ import static org.junit.jupiter.params.provider.Arguments.arguments;
 import static org.mockito.Mockito.mock;
 import static org.projectnessie.catalog.formats.iceberg.fixtures.IcebergGenerateFixtures.generateCompressedMetadataForTable;
 import static org.projectnessie.catalog.formats.iceberg.fixtures.IcebergGenerateFixtures.generateCompressedMetadataForView;
+import static org.projectnessie.catalog.formats.iceberg.fixtures.IcebergGenerateFixtures.generateMetadataWithManifests;
 import static org.projectnessie.catalog.formats.iceberg.fixtures.IcebergGenerateFixtures.generateSimpleMetadata;
 import static org.projectnessie.catalog.formats.iceberg.fixtures.IcebergGenerateFixtures.generateSimpleMetadataForView;
 import static org.projectnessie.catalog.formats.iceberg.fixtures.IcebergGenerateFixtures.objectWriterForPath;
+import static org.projectnessie.catalog.formats.iceberg.manifest.IcebergManifestListReader.openManifestListReader;
 import static org.projectnessie.versioned.storage.common.persist.ObjId.randomObjId;
 
+import java.io.InputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.time.Clock;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
+import org.apache.avro.file.SeekableByteArrayInput;
 import org.assertj.core.api.SoftAssertions;
 import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
 import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
@@ -49,6 +57,10 @@ import org.projectnessie.catalog.files.api.BackendExceptionMapper;
 import org.projectnessie.catalog.files.api.ObjectIO;
 import org.projectnessie.catalog.files.local.LocalObjectIO;
 import org.projectnessie.catalog.formats.iceberg.fixtures.IcebergGenerateFixtures;
+import org.projectnessie.catalog.formats.iceberg.manifest.IcebergManifestFile;
+import org.projectnessie.catalog.formats.iceberg.manifest.IcebergManifestListReader;
+import org.projectnessie.catalog.formats.iceberg.meta.IcebergJson;
+import org.projectnessie.catalog.formats.iceberg.meta.IcebergTableMetadata;
 import org.projectnessie.catalog.model.snapshot.NessieTableSnapshot;
 import org.projectnessie.catalog.model.snapshot.NessieViewSnapshot;
 import org.projectnessie.model.IcebergTable;
@@ -57,6 +69,7 @@ import org.projectnessie.nessie.tasks.async.pool.JavaPoolTasksAsync;
 import org.projectnessie.nessie.tasks.service.TasksServiceConfig;
 import org.projectnessie.nessie.tasks.service.impl.TaskServiceMetrics;
 import org.projectnessie.nessie.tasks.service.impl.TasksServiceImpl;
+import org.projectnessie.storage.uri.StorageUri;
 import org.projectnessie.versioned.storage.common.persist.ObjId;
 import org.projectnessie.versioned.storage.common.persist.Persist;
 import org.projectnessie.versioned.storage.testextension.NessiePersist;
@@ -133,6 +146,57 @@ public class TestIcebergStuff {
     soft.assertThat(snapshot).isNotNull();
   }
 
+  @Test
+  public void icebergTableImportGeneratesManifestList() throws Exception {
+    BackendExceptionMapper exceptionMapper = BackendExceptionMapper.builder().build();
+
+    ObjectIO objectIO = new LocalObjectIO();
+    IcebergStuff icebergStuff =
+        new IcebergStuff(
+            objectIO,
+            persist,
+            tasksService,
+            new EntitySnapshotTaskBehavior(exceptionMapper, Duration.ofMillis(1)),
+            executor);
+
+    Path manifestsDir = Files.createDirectories(tempDir.resolve("manifests-" + randomUUID()));
+    String icebergTableMetadata =
+        generateMetadataWithManifests(manifestsDir + "/", objectWriterForPath(tempDir));
+    List<String> manifests =
+        IcebergJson.objectMapper()
+            .readValue(Paths.get(icebergTableMetadata).toFile(), IcebergTableMetadata.class)
+            .snapshots()
+            .get(0)
+            .manifests();
+
+    IcebergTable icebergTable =
+        IcebergTable.of(icebergTableMetadata, 1, 1, 1, 1, randomUUID().toString());
+    NessieTableSnapshot snapshot =
+        icebergStuff
+            .<NessieTableSnapshot>retrieveIcebergSnapshot(randomObjId(), icebergTable)
+            .toCompletableFuture()
+            .get(1, TimeUnit.MINUTES);
+    soft.assertThat(snapshot.icebergManifestListLocation()).isNotNull();
+
+    byte[] manifestList;
+    try (InputStream input =
+        objectIO.readObject(StorageUri.of(snapshot.icebergManifestListLocation()))) {
+      manifestList = input.readAllBytes();
+    }
+    List<IcebergManifestFile> entries = new ArrayList<>();
+    try (IcebergManifestListReader reader =
+        openManifestListReader(new SeekableByteArrayInput(manifestList))) {
+      soft.assertThat(reader.snapshotId()).isEqualTo(1L);
+      reader.forEachRemaining(entries::add);
+    }
+    soft.assertThat(entries).extracting(IcebergManifestFile::manifestPath).isEqualTo(manifests);
+    for (IcebergManifestFile entry : entries) {
+      soft.assertThat(entry.manifestLength())
+          .isEqualTo(Files.size(Paths.get(entry.manifestPath())));
+      soft.assertThat(entry.addedFilesCount()).isEqualTo(3);
+    }
+  }
+
   static Stream<Arguments> icebergTableImports() throws Exception {
     IcebergGenerateFixtures.ObjectWriter objectWriter = objectWriterForPath(tempDir);
     return Stream.of(
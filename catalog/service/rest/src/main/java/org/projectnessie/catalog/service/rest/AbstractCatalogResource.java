@@ -16,17 +16,26 @@
 package org.projectnessie.catalog.service.rest;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.projectnessie.catalog.formats.iceberg.rest.RawJson.rawJson;
+import static org.projectnessie.services.rest.common.RestCommon.ifNoneMatch;
 import static org.projectnessie.versioned.RequestMeta.API_READ;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.RawValue;
 import io.smallrye.mutiny.Uni;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.EntityTag;
 import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.StreamingOutput;
+import java.io.UncheckedIOException;
 import java.net.URLEncoder;
 import java.util.Optional;
 import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.BiPredicate;
 import org.projectnessie.catalog.files.api.ObjectIO;
 import org.projectnessie.catalog.service.api.CatalogService;
 import org.projectnessie.catalog.service.api.SnapshotReqParams;
@@ -48,6 +57,8 @@ abstract class AbstractCatalogResource {
 
   @Inject ObjectIO objectIO;
 
+  @Inject ObjectMapper objectMapper;
+
   @Context ExternalBaseUri uriInfo;
 
   Uni<Response> snapshotBased(
@@ -66,10 +77,78 @@ abstract class AbstractCatalogResource {
       Content.Type expectedType,
       ApiContext apiContext)
       throws NessieNotFoundException {
+    return snapshotResponse(key, snapshotReqParams, expectedType, apiContext, (r, c) -> false);
+  }
+
+  /**
+   * Retrieves the snapshot, unless {@code notModified} returns {@code true} for the effective
+   * reference and the content, in which case the returned {@link Uni} emits {@code null}.
+   */
+  Uni<SnapshotResponse> snapshotResponse(
+      ContentKey key,
+      SnapshotReqParams snapshotReqParams,
+      Content.Type expectedType,
+      ApiContext apiContext,
+      BiPredicate<Reference, Content> notModified)
+      throws NessieNotFoundException {
     return Uni.createFrom()
         .completionStage(
             catalogService.retrieveSnapshot(
-                snapshotReqParams, key, expectedType, API_READ, apiContext));
+                snapshotReqParams, key, expectedType, API_READ, apiContext, notModified));
+  }
+
+  @FunctionalInterface
+  interface ConditionalLoad<R> {
+    /** Loads the result or emits {@code null}, if {@code notModified} returns {@code true}. */
+    Uni<R> load(BiPredicate<Reference, Content> notModified) throws NessieNotFoundException;
+  }
+
+  /**
+   * Implements conditional requests via {@code If-None-Match}: responds with {@code 304 Not
+   * Modified}, if the entity tag for the effective reference and the current content matches {@code
+   * ifNoneMatch}, otherwise with the result of {@code load} and its {@code ETag} header. {@code
+   * entityTag} returns {@code null} for responses that must not be cached.
+   */
+  static <R> Uni<Response> conditionalResponse(
+      String ifNoneMatch,
+      BiFunction<Reference, Content, EntityTag> entityTag,
+      ConditionalLoad<R> load)
+      throws NessieNotFoundException {
+    EntityTag[] tag = new EntityTag[1];
+    return load.load(
+            (reference, content) -> {
+              tag[0] = entityTag.apply(reference, content);
+              return tag[0] != null && ifNoneMatch(ifNoneMatch, tag[0]);
+            })
+        .map(
+            result ->
+                result == null
+                    ? Response.notModified(tag[0]).build()
+                    : Response.ok(result).tag(tag[0]).build());
+  }
+
+  /**
+   * Returns the entity of a snapshot response as raw JSON. The bytes of {@linkplain
+   * SnapshotReqParams#serializedResponse() serialized responses} are used as is. The entity object
+   * of other responses, which happens if the cache of serialized responses is disabled, is
+   * serialized.
+   */
+  RawValue rawEntity(SnapshotResponse snapshot) {
+    byte[] serialized =
+        snapshot
+            .serialized()
+            .orElseGet(
+                () -> {
+                  try {
+                    return objectMapper.writeValueAsBytes(
+                        snapshot
+                            .entityObject()
+                            .orElseThrow(() -> new IllegalStateException("entity object missing")));
+                  } catch (JsonProcessingException e) {
+                    throw new UncheckedIOException(e);
+                  }
+                });
+    return rawJson(serialized);
   }
 
   private static Response snapshotToResponse(SnapshotResponse snapshot) {
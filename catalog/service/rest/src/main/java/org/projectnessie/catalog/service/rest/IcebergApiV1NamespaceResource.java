@@ -28,7 +28,7 @@ import static org.projectnessie.versioned.RequestMeta.API_READ;
 import static org.projectnessie.versioned.RequestMeta.API_WRITE;
 import static org.projectnessie.versioned.RequestMeta.apiWrite;
 
-import io.smallrye.common.annotation.Blocking;
+import io.smallrye.common.annotation.RunOnVirtualThread;
 import jakarta.enterprise.context.RequestScoped;
 import jakarta.inject.Inject;
 import jakarta.validation.Valid;
@@ -121,7 +121,7 @@ public class IcebergApiV1NamespaceResource extends IcebergApiV1ResourceBase {
   @Operation(operationId = "iceberg.v1.createNamespace")
   @POST
   @Path("/v1/{prefix}/namespaces")
-  @Blocking
+  @RunOnVirtualThread
   public IcebergCreateNamespaceResponse createNamespace(
       @PathParam("prefix") String prefix,
       @Valid IcebergCreateNamespaceRequest createNamespaceRequest)
@@ -201,7 +201,7 @@ public class IcebergApiV1NamespaceResource extends IcebergApiV1ResourceBase {
   @Operation(operationId = "iceberg.v1.dropNamespace")
   @DELETE
   @Path("/v1/{prefix}/namespaces/{namespace}")
-  @Blocking
+  @RunOnVirtualThread
   public void dropNamespace(
       @PathParam("prefix") String prefix, @PathParam("namespace") String namespace)
       throws IOException {
@@ -274,7 +274,7 @@ public class IcebergApiV1NamespaceResource extends IcebergApiV1ResourceBase {
   @Operation(operationId = "iceberg.v1.listNamespaces")
   @GET
   @Path("/v1/{prefix}/namespaces")
-  @Blocking
+  @RunOnVirtualThread
   public IcebergListNamespacesResponse listNamespaces(
       @PathParam("prefix") String prefix,
       @QueryParam("parent") String parent,
@@ -298,7 +298,7 @@ public class IcebergApiV1NamespaceResource extends IcebergApiV1ResourceBase {
   @Operation(operationId = "iceberg.v1.namespaceExists")
   @HEAD
   @Path("/v1/{prefix}/namespaces/{namespace}")
-  @Blocking
+  @RunOnVirtualThread
   public void namespaceExists(
       @PathParam("prefix") String prefix, @PathParam("namespace") String namespace)
       throws IOException {
@@ -324,7 +324,7 @@ public class IcebergApiV1NamespaceResource extends IcebergApiV1ResourceBase {
   @Operation(operationId = "iceberg.v1.loadNamespaceMetadata")
   @GET
   @Path("/v1/{prefix}/namespaces/{namespace}")
-  @Blocking
+  @RunOnVirtualThread
   public IcebergGetNamespaceResponse loadNamespaceMetadata(
       @PathParam("prefix") String prefix, @PathParam("namespace") String namespace)
       throws IOException {
@@ -373,7 +373,7 @@ public class IcebergApiV1NamespaceResource extends IcebergApiV1ResourceBase {
   @Operation(operationId = "iceberg.v1.updateNamespaceProperties")
   @POST
   @Path("/v1/{prefix}/namespaces/{namespace}/properties")
-  @Blocking
+  @RunOnVirtualThread
   public IcebergUpdateNamespacePropertiesResponse updateProperties(
       @PathParam("prefix") String prefix,
       @PathParam("namespace") String namespace,
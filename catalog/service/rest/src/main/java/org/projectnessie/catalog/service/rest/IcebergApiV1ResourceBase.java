@@ -33,11 +33,13 @@ import static org.projectnessie.model.Namespace.Empty.EMPTY_NAMESPACE;
 import static org.projectnessie.model.Reference.ReferenceType.BRANCH;
 import static org.projectnessie.services.authz.ApiContext.apiContext;
 import static org.projectnessie.services.impl.RefUtil.toReference;
+import static org.projectnessie.services.rest.common.RestCommon.entityTag;
 import static org.projectnessie.versioned.RequestMeta.API_READ;
 import static org.projectnessie.versioned.RequestMeta.API_WRITE;
 
 import com.google.common.base.Splitter;
 import io.smallrye.mutiny.Uni;
+import jakarta.ws.rs.core.EntityTag;
 import java.io.IOException;
 import java.net.URI;
 import java.time.OffsetDateTime;
@@ -71,6 +73,7 @@ import org.projectnessie.model.ContentKey;
 import org.projectnessie.model.ContentResponse;
 import org.projectnessie.model.EntriesResponse;
 import org.projectnessie.model.GetMultipleContentsResponse;
+import org.projectnessie.model.IcebergContent;
 import org.projectnessie.model.ImmutableEntriesResponse;
 import org.projectnessie.model.ImmutableOperations;
 import org.projectnessie.model.Namespace;
@@ -327,6 +330,31 @@ abstract class IcebergApiV1ResourceBase extends AbstractCatalogResource {
     return decodedPrefix(parsedReference, resolvedWarehouse);
   }
 
+  /**
+   * Entity tag of a load-table or load-view response. The response is derived from the content's
+   * metadata, which is identified by the metadata location and version ID, the same attributes that
+   * identify the entity snapshot. The response also contains the name and commit ID of the
+   * effective reference in the metadata properties.
+   *
+   * <p>Returns {@code null}, if data access delegation has been requested, because vended
+   * credentials and request signing parameters are only valid for a limited time.
+   */
+  static EntityTag icebergEntityTag(
+      Reference effectiveReference, Content content, String prefix, String dataAccess) {
+    if (dataAccess != null && !dataAccess.isBlank()) {
+      return null;
+    }
+    IcebergContent icebergContent = (IcebergContent) content;
+    return entityTag(
+        effectiveReference.getName(),
+        effectiveReference.getHash(),
+        content.getType().name(),
+        String.valueOf(content.getId()),
+        icebergContent.getMetadataLocation(),
+        Long.toString(icebergContent.getVersionId()),
+        prefix);
+  }
+
   static Branch checkBranch(Reference reference) {
     checkArgument(
         reference instanceof Branch, "Can only commit against a branch, but got " + reference);
@@ -37,6 +37,8 @@ import static org.projectnessie.catalog.formats.iceberg.rest.IcebergMetadataUpda
 import static org.projectnessie.catalog.formats.iceberg.rest.IcebergMetadataUpdate.SetDefaultSortOrder.setDefaultSortOrder;
 import static org.projectnessie.catalog.formats.iceberg.rest.IcebergMetadataUpdate.SetProperties.setProperties;
 import static org.projectnessie.catalog.formats.iceberg.rest.IcebergMetadataUpdate.UpgradeFormatVersion.upgradeFormatVersion;
+import static org.projectnessie.catalog.service.rest.IcebergConfigurer.icebergObjectStorageEnabled;
+import static org.projectnessie.catalog.service.rest.IcebergConfigurer.icebergObjectStorageProperties;
 import static org.projectnessie.catalog.service.rest.TableRef.tableRef;
 import static org.projectnessie.model.Content.Type.ICEBERG_TABLE;
 import static org.projectnessie.model.Reference.ReferenceType.BRANCH;
@@ -45,6 +47,7 @@ import static org.projectnessie.versioned.RequestMeta.apiWrite;
 
 import com.google.common.collect.Lists;
 import io.smallrye.common.annotation.Blocking;
+import io.smallrye.common.annotation.RunOnVirtualThread;
 import io.smallrye.mutiny.Uni;
 import jakarta.enterprise.context.RequestScoped;
 import jakarta.inject.Inject;
@@ -61,6 +64,7 @@ import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import java.io.IOException;
@@ -68,6 +72,7 @@ import java.io.InputStream;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.BiPredicate;
 import java.util.function.ToIntFunction;
 import org.eclipse.microprofile.openapi.annotations.Operation;
 import org.jboss.resteasy.reactive.server.ServerExceptionMapper;
@@ -84,6 +89,7 @@ import org.projectnessie.catalog.formats.iceberg.rest.IcebergCreateTableRequest;
 import org.projectnessie.catalog.formats.iceberg.rest.IcebergCreateTableResponse;
 import org.projectnessie.catalog.formats.iceberg.rest.IcebergListTablesResponse;
 import org.projectnessie.catalog.formats.iceberg.rest.IcebergLoadCredentialsResponse;
+import org.projectnessie.catalog.formats.iceberg.rest.IcebergLoadTableRawResponse;
 import org.projectnessie.catalog.formats.iceberg.rest.IcebergLoadTableResponse;
 import org.projectnessie.catalog.formats.iceberg.rest.IcebergLoadTableResult;
 import org.projectnessie.catalog.formats.iceberg.rest.IcebergMetadataUpdate;
@@ -95,6 +101,7 @@ import org.projectnessie.catalog.formats.iceberg.rest.ImmutableIcebergLoadCreden
 import org.projectnessie.catalog.model.snapshot.NessieEntitySnapshot;
 import org.projectnessie.catalog.model.snapshot.NessieTableSnapshot;
 import org.projectnessie.catalog.service.api.CatalogEntityAlreadyExistsException;
+import org.projectnessie.catalog.service.api.MetadataPropertiesTweak;
 import org.projectnessie.catalog.service.api.SnapshotReqParams;
 import org.projectnessie.catalog.service.api.SnapshotResponse;
 import org.projectnessie.catalog.service.config.LakehouseConfig;
@@ -113,6 +120,7 @@ import org.projectnessie.model.ImmutableOperations;
 import org.projectnessie.model.Operation.Delete;
 import org.projectnessie.model.Operation.Put;
 import org.projectnessie.model.Operations;
+import org.projectnessie.model.Reference;
 import org.projectnessie.services.authz.AccessContext;
 import org.projectnessie.services.authz.Authorizer;
 import org.projectnessie.services.config.ServerConfig;
@@ -155,17 +163,21 @@ public class IcebergApiV1TableResource extends IcebergApiV1ResourceBase {
   @GET
   @Path("/v1/{prefix}/namespaces/{namespace}/tables/{table}")
   @Blocking
-  public Uni<IcebergLoadTableResponse> loadTable(
+  public Uni<Response> loadTable(
       @PathParam("prefix") String prefix,
       @PathParam("namespace") String namespace,
       @PathParam("table") String table,
       @QueryParam("snapshots") String snapshots,
-      @HeaderParam("X-Iceberg-Access-Delegation") String dataAccess)
+      @HeaderParam("X-Iceberg-Access-Delegation") String dataAccess,
+      @HeaderParam(HttpHeaders.IF_NONE_MATCH) String ifNoneMatch)
       throws IOException {
 
     TableRef tableRef = decodeTableRef(prefix, namespace, table);
 
-    return this.loadTable(tableRef, prefix, dataAccess, false);
+    return conditionalResponse(
+        ifNoneMatch,
+        (reference, content) -> icebergEntityTag(reference, content, prefix, dataAccess),
+        notModified -> loadTableSerialized(tableRef, prefix, dataAccess, notModified));
   }
 
   @Operation(operationId = "iceberg.v1.loadCredentials")
@@ -179,7 +191,9 @@ public class IcebergApiV1TableResource extends IcebergApiV1ResourceBase {
       @HeaderParam("X-Iceberg-Access-Delegation") String dataAccess)
       throws IOException {
 
-    return loadTable(prefix, namespace, table, null, dataAccess)
+    TableRef tableRef = decodeTableRef(prefix, namespace, table);
+
+    return loadTable(tableRef, prefix, dataAccess, false)
         .map(
             loadTableResponse -> {
               var creds = loadTableResponse.storageCredentials();
@@ -191,6 +205,16 @@ public class IcebergApiV1TableResource extends IcebergApiV1ResourceBase {
   private Uni<IcebergLoadTableResponse> loadTable(
       TableRef tableRef, String prefix, String dataAccess, boolean writeAccessValidated)
       throws NessieNotFoundException {
+    return loadTable(tableRef, prefix, dataAccess, writeAccessValidated, (r, c) -> false);
+  }
+
+  private Uni<IcebergLoadTableResponse> loadTable(
+      TableRef tableRef,
+      String prefix,
+      String dataAccess,
+      boolean writeAccessValidated,
+      BiPredicate<Reference, Content> notModified)
+      throws NessieNotFoundException {
     ContentKey key = tableRef.contentKey();
 
     WarehouseConfig warehouse = lakehouseConfig.catalog().getWarehouse(tableRef.warehouse());
@@ -199,17 +223,97 @@ public class IcebergApiV1TableResource extends IcebergApiV1ResourceBase {
             key,
             SnapshotReqParams.forSnapshotHttpReq(tableRef.reference(), "iceberg", null),
             ICEBERG_TABLE,
-            ICEBERG_V1)
+            ICEBERG_V1,
+            notModified)
         .map(
             snap ->
-                loadTableResultFromSnapshotResponse(
-                    snap,
-                    IcebergLoadTableResponse.builder(),
-                    warehouse.location(),
-                    prefix,
-                    key,
-                    dataAccess,
-                    writeAccessValidated));
+                snap == null
+                    ? null
+                    : loadTableResultFromSnapshotResponse(
+                        snap,
+                        IcebergLoadTableResponse.builder(),
+                        warehouse.location(),
+                        prefix,
+                        key,
+                        dataAccess,
+                        writeAccessValidated));
+  }
+
+  /**
+   * Loads the table like {@link #loadTable(TableRef, String, String, boolean, BiPredicate)}, but
+   * embeds the serialized table metadata, which is usually served from the cache of serialized
+   * snapshot responses, in the response.
+   */
+  private Uni<IcebergLoadTableRawResponse> loadTableSerialized(
+      TableRef tableRef,
+      String prefix,
+      String dataAccess,
+      BiPredicate<Reference, Content> notModified)
+      throws NessieNotFoundException {
+    ContentKey key = tableRef.contentKey();
+
+    WarehouseConfig warehouse = lakehouseConfig.catalog().getWarehouse(tableRef.warehouse());
+
+    return snapshotResponse(
+            key,
+            SnapshotReqParams.forSnapshotHttpReq(tableRef.reference(), "iceberg", null)
+                .asSerializedResponse()
+                .withMetadataPropertiesTweak(icebergRestPropertiesTweak(warehouse.location())),
+            ICEBERG_TABLE,
+            ICEBERG_V1,
+            notModified)
+        .map(
+            snap ->
+                snap == null
+                    ? null
+                    : loadTableResultFromSerializedResponse(
+                        snap, warehouse.location(), prefix, key, dataAccess));
+  }
+
+  private IcebergLoadTableRawResponse loadTableResultFromSerializedResponse(
+      SnapshotResponse snap,
+      String warehouseLocation,
+      String prefix,
+      ContentKey contentKey,
+      String dataAccess) {
+    NessieEntitySnapshot<?> nessieSnapshot = snap.nessieSnapshot();
+    boolean writeAccessValidated = hasWriteAccess(snap, contentKey);
+
+    // The serialized table metadata already contains the adjustments of
+    // icebergRestPropertiesTweak(), the config is computed from the unadjusted properties, like in
+    // loadTableResult().
+    IcebergTableConfig config =
+        icebergConfigurer.icebergConfigPerTable(
+            nessieSnapshot,
+            warehouseLocation,
+            nessieSnapshot.icebergLocation(),
+            nessieSnapshot.properties(),
+            prefix,
+            contentKey,
+            dataAccess,
+            writeAccessValidated);
+
+    return IcebergLoadTableRawResponse.builder()
+        .metadataLocation(((IcebergTable) snap.content()).getMetadataLocation())
+        .metadata(rawEntity(snap))
+        .putAllConfig(config.config())
+        .build();
+  }
+
+  /**
+   * The adjustments of the table metadata properties that {@link #loadTableResultFromMetadata}
+   * applies, as a {@link MetadataPropertiesTweak} that the catalog service applies before the
+   * serialized table metadata is cached.
+   */
+  static MetadataPropertiesTweak icebergRestPropertiesTweak(String warehouseLocation) {
+    return MetadataPropertiesTweak.of(
+        "iceberg-rest-v1/" + warehouseLocation,
+        properties -> {
+          properties.putIfAbsent(GC_ENABLED, "false");
+          if (icebergObjectStorageEnabled(properties)) {
+            icebergObjectStorageProperties(properties, warehouseLocation);
+          }
+        });
   }
 
   private <R extends IcebergLoadTableResult, B extends IcebergLoadTableResult.Builder<R, B>>
@@ -225,6 +329,46 @@ public class IcebergApiV1TableResource extends IcebergApiV1ResourceBase {
         (IcebergTableMetadata)
             snap.entityObject()
                 .orElseThrow(() -> new IllegalStateException("entity object missing"));
+    if (!writeAccessValidated) {
+      // Check whether the current user has write access to the table, if that hasn't been already
+      // checked by the caller.
+      writeAccessValidated = hasWriteAccess(snap, contentKey);
+    }
+    return loadTableResultFromMetadata(
+        snap,
+        tableMetadata,
+        builder,
+        warehouseLocation,
+        prefix,
+        contentKey,
+        dataAccess,
+        writeAccessValidated);
+  }
+
+  private boolean hasWriteAccess(SnapshotResponse snap, ContentKey contentKey) {
+    try {
+      contentService.getContent(
+          contentKey,
+          snap.effectiveReference().getName(),
+          snap.effectiveReference().getHash(),
+          false,
+          API_WRITE);
+      return true;
+    } catch (Exception ignore) {
+      return false;
+    }
+  }
+
+  private <R extends IcebergLoadTableResult, B extends IcebergLoadTableResult.Builder<R, B>>
+      R loadTableResultFromMetadata(
+          SnapshotResponse snap,
+          IcebergTableMetadata tableMetadata,
+          B builder,
+          String warehouseLocation,
+          String prefix,
+          ContentKey contentKey,
+          String dataAccess,
+          boolean writeAccessValidated) {
     if (!tableMetadata.properties().containsKey(GC_ENABLED)) {
       tableMetadata =
           IcebergTableMetadata.builder()
@@ -234,21 +378,6 @@ public class IcebergApiV1TableResource extends IcebergApiV1ResourceBase {
     }
     IcebergTable content = (IcebergTable) snap.content();
 
-    if (!writeAccessValidated) {
-      // Check whether the current user has write access to the table, if that hasn't been already
-      // checked by the caller.
-      try {
-        contentService.getContent(
-            contentKey,
-            snap.effectiveReference().getName(),
-            snap.effectiveReference().getHash(),
-            false,
-            API_WRITE);
-        writeAccessValidated = true;
-      } catch (Exception ignore) {
-      }
-    }
-
     return loadTableResult(
         content.getMetadataLocation(),
         snap.nessieSnapshot(),
@@ -520,7 +649,7 @@ public class IcebergApiV1TableResource extends IcebergApiV1ResourceBase {
   @Operation(operationId = "iceberg.v1.dropTable")
   @DELETE
   @Path("/v1/{prefix}/namespaces/{namespace}/tables/{table}")
-  @Blocking
+  @RunOnVirtualThread
   public void dropTable(
       @PathParam("prefix") String prefix,
       @PathParam("namespace") String namespace,
@@ -546,7 +675,7 @@ public class IcebergApiV1TableResource extends IcebergApiV1ResourceBase {
   @Operation(operationId = "iceberg.v1.listTables")
   @GET
   @Path("/v1/{prefix}/namespaces/{namespace}/tables")
-  @Blocking
+  @RunOnVirtualThread
   public IcebergListTablesResponse listTables(
       @PathParam("prefix") String prefix,
       @PathParam("namespace") String namespace,
@@ -566,7 +695,7 @@ public class IcebergApiV1TableResource extends IcebergApiV1ResourceBase {
 
   @POST
   @Path("/v1/{prefix}/tables/rename")
-  @Blocking
+  @RunOnVirtualThread
   public void renameTable(
       @PathParam("prefix") String prefix,
       @Valid @NotNull IcebergRenameTableRequest renameTableRequest)
@@ -578,7 +707,7 @@ public class IcebergApiV1TableResource extends IcebergApiV1ResourceBase {
   @Operation(operationId = "iceberg.v1.tableExists")
   @HEAD
   @Path("/v1/{prefix}/namespaces/{namespace}/tables/{table}")
-  @Blocking
+  @RunOnVirtualThread
   public void tableExists(
       @PathParam("prefix") String prefix,
       @PathParam("namespace") String namespace,
@@ -592,7 +721,7 @@ public class IcebergApiV1TableResource extends IcebergApiV1ResourceBase {
   @Operation(operationId = "iceberg.v1.tableMetrics")
   @POST
   @Path("/v1/{prefix}/namespaces/{namespace}/tables/{table}/metrics")
-  @Blocking
+  @RunOnVirtualThread
   public void reportMetrics(
       @PathParam("prefix") String prefix,
       @PathParam("namespace") String namespace,
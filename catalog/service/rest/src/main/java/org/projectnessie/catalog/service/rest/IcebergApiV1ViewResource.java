@@ -33,6 +33,7 @@ import static org.projectnessie.versioned.RequestMeta.apiWrite;
 
 import com.google.common.collect.Lists;
 import io.smallrye.common.annotation.Blocking;
+import io.smallrye.common.annotation.RunOnVirtualThread;
 import io.smallrye.mutiny.Uni;
 import jakarta.enterprise.context.RequestScoped;
 import jakarta.inject.Inject;
@@ -43,22 +44,26 @@ import jakarta.ws.rs.DELETE;
 import jakarta.ws.rs.DefaultValue;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.HEAD;
+import jakarta.ws.rs.HeaderParam;
 import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import java.io.IOException;
 import java.util.List;
 import java.util.Map;
+import java.util.function.BiPredicate;
 import org.eclipse.microprofile.openapi.annotations.Operation;
 import org.jboss.resteasy.reactive.server.ServerExceptionMapper;
 import org.projectnessie.catalog.formats.iceberg.meta.IcebergViewMetadata;
 import org.projectnessie.catalog.formats.iceberg.rest.IcebergCommitViewRequest;
 import org.projectnessie.catalog.formats.iceberg.rest.IcebergCreateViewRequest;
 import org.projectnessie.catalog.formats.iceberg.rest.IcebergListTablesResponse;
+import org.projectnessie.catalog.formats.iceberg.rest.IcebergLoadViewRawResponse;
 import org.projectnessie.catalog.formats.iceberg.rest.IcebergLoadViewResponse;
 import org.projectnessie.catalog.formats.iceberg.rest.IcebergMetadataUpdate;
 import org.projectnessie.catalog.formats.iceberg.rest.IcebergRenameTableRequest;
@@ -69,12 +74,14 @@ import org.projectnessie.catalog.service.config.LakehouseConfig;
 import org.projectnessie.catalog.service.rest.IcebergErrorMapper.IcebergEntityKind;
 import org.projectnessie.error.NessieNotFoundException;
 import org.projectnessie.model.Branch;
+import org.projectnessie.model.Content;
 import org.projectnessie.model.ContentKey;
 import org.projectnessie.model.ContentResponse;
 import org.projectnessie.model.IcebergView;
 import org.projectnessie.model.ImmutableOperations;
 import org.projectnessie.model.Operation.Delete;
 import org.projectnessie.model.Operations;
+import org.projectnessie.model.Reference;
 import org.projectnessie.services.authz.AccessContext;
 import org.projectnessie.services.authz.Authorizer;
 import org.projectnessie.services.config.ServerConfig;
@@ -169,7 +176,7 @@ public class IcebergApiV1ViewResource extends IcebergApiV1ResourceBase {
   @Operation(operationId = "iceberg.v1.dropView")
   @DELETE
   @Path("/v1/{prefix}/namespaces/{namespace}/views/{view}")
-  @Blocking
+  @RunOnVirtualThread
   public void dropView(
       @PathParam("prefix") String prefix,
       @PathParam("namespace") String namespace,
@@ -199,7 +206,7 @@ public class IcebergApiV1ViewResource extends IcebergApiV1ResourceBase {
   @Operation(operationId = "iceberg.v1.listViews")
   @GET
   @Path("/v1/{prefix}/namespaces/{namespace}/views")
-  @Blocking
+  @RunOnVirtualThread
   public IcebergListTablesResponse listViews(
       @PathParam("prefix") String prefix,
       @PathParam("namespace") String namespace,
@@ -222,31 +229,50 @@ public class IcebergApiV1ViewResource extends IcebergApiV1ResourceBase {
   @GET
   @Path("/v1/{prefix}/namespaces/{namespace}/views/{view}")
   @Blocking
-  public Uni<IcebergLoadViewResponse> loadView(
+  public Uni<Response> loadView(
       @PathParam("prefix") String prefix,
       @PathParam("namespace") String namespace,
-      @PathParam("view") String view)
+      @PathParam("view") String view,
+      @HeaderParam(HttpHeaders.IF_NONE_MATCH) String ifNoneMatch)
       throws IOException {
 
     TableRef tableRef = decodeTableRef(prefix, namespace, view);
-    return loadView(tableRef);
+    return conditionalResponse(
+        ifNoneMatch,
+        (reference, content) -> icebergEntityTag(reference, content, prefix, null),
+        notModified -> loadViewSerialized(tableRef, notModified));
   }
 
-  private Uni<IcebergLoadViewResponse> loadView(TableRef tableRef) throws NessieNotFoundException {
+  /**
+   * Loads the view, the response embeds the serialized view metadata, which is usually served from
+   * the cache of serialized snapshot responses.
+   */
+  private Uni<IcebergLoadViewRawResponse> loadViewSerialized(
+      TableRef tableRef, BiPredicate<Reference, Content> notModified)
+      throws NessieNotFoundException {
     ContentKey key = tableRef.contentKey();
 
     return snapshotResponse(
             key,
-            SnapshotReqParams.forSnapshotHttpReq(tableRef.reference(), "iceberg", null),
+            SnapshotReqParams.forSnapshotHttpReq(tableRef.reference(), "iceberg", null)
+                .asSerializedResponse(),
             ICEBERG_VIEW,
-            ICEBERG_V1)
-        .map(snap -> loadViewResultFromSnapshotResponse(snap, IcebergLoadViewResponse.builder()));
+            ICEBERG_V1,
+            notModified)
+        .map(
+            snap ->
+                snap == null
+                    ? null
+                    : IcebergLoadViewRawResponse.builder()
+                        .metadataLocation(((IcebergView) snap.content()).getMetadataLocation())
+                        .metadata(rawEntity(snap))
+                        .build());
   }
 
   @Operation(operationId = "iceberg.v1.renameView")
   @POST
   @Path("/v1/{prefix}/views/rename")
-  @Blocking
+  @RunOnVirtualThread
   public void renameView(
       @PathParam("prefix") String prefix,
       @Valid @NotNull IcebergRenameTableRequest renameTableRequest)
@@ -258,7 +284,7 @@ public class IcebergApiV1ViewResource extends IcebergApiV1ResourceBase {
   @Operation(operationId = "iceberg.v1.viewExists")
   @HEAD
   @Path("/v1/{prefix}/namespaces/{namespace}/views/{view}")
-  @Blocking
+  @RunOnVirtualThread
   public void viewExists(
       @PathParam("prefix") String prefix,
       @PathParam("namespace") String namespace,
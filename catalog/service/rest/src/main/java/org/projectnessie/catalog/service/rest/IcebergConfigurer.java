@@ -221,18 +221,37 @@ public class IcebergConfigurer {
       ContentKey contentKey,
       String dataAccess,
       boolean writeAccessGranted) {
+    return icebergConfigPerTable(
+        nessieSnapshot,
+        warehouseLocation,
+        tableMetadata.location(),
+        tableMetadata.properties(),
+        prefix,
+        contentKey,
+        dataAccess,
+        writeAccessGranted);
+  }
+
+  IcebergTableConfig icebergConfigPerTable(
+      NessieEntitySnapshot<?> nessieSnapshot,
+      String warehouseLocation,
+      String tableLocation,
+      Map<String, String> metadataProperties,
+      String prefix,
+      ContentKey contentKey,
+      String dataAccess,
+      boolean writeAccessGranted) {
     ImmutableIcebergTableConfig.Builder tableConfig = ImmutableIcebergTableConfig.builder();
 
     Set<StorageUri> writeable = new HashSet<>();
     Set<StorageUri> readOnly = new HashSet<>();
     Set<StorageUri> maybeWriteable = writeAccessGranted ? writeable : readOnly;
-    StorageUri locationUri = StorageUri.of(tableMetadata.location());
-    (tableMetadata.location().startsWith(warehouseLocation) ? maybeWriteable : readOnly)
-        .add(locationUri);
+    StorageUri locationUri = StorageUri.of(tableLocation);
+    (tableLocation.startsWith(warehouseLocation) ? maybeWriteable : readOnly).add(locationUri);
 
-    if (!icebergWriteObjectStorage(tableConfig, tableMetadata.properties(), warehouseLocation)) {
-      String writeLocation = icebergWriteLocation(tableMetadata.properties());
-      if (writeLocation != null && !writeLocation.startsWith(tableMetadata.location())) {
+    if (!icebergWriteObjectStorage(tableConfig, metadataProperties, warehouseLocation)) {
+      String writeLocation = icebergWriteLocation(metadataProperties);
+      if (writeLocation != null && !writeLocation.startsWith(tableLocation)) {
         (writeLocation.startsWith(warehouseLocation) ? maybeWriteable : readOnly)
             .add(StorageUri.of(writeLocation));
       }
@@ -340,22 +359,31 @@ public class IcebergConfigurer {
       ImmutableIcebergTableConfig.Builder config,
       Map<String, String> metadataProperties,
       String bucketLocation) {
-    if (!Boolean.parseBoolean(
-        metadataProperties.getOrDefault("write.object-storage.enabled", "false"))) {
+    if (!icebergObjectStorageEnabled(metadataProperties)) {
       return false;
     }
 
     Map<String, String> updated = new HashMap<>(metadataProperties);
-
-    updated.put("write.data.path", bucketLocation);
-    updated.remove("write.object-storage.path");
-    updated.remove("write.folder-storage.path");
+    icebergObjectStorageProperties(updated, bucketLocation);
 
     config.updatedMetadataProperties(updated);
 
     return true;
   }
 
+  /** Adjusts the given, mutable table metadata properties for object storage in the bucket. */
+  static void icebergObjectStorageProperties(
+      Map<String, String> metadataProperties, String bucketLocation) {
+    metadataProperties.put("write.data.path", bucketLocation);
+    metadataProperties.remove("write.object-storage.path");
+    metadataProperties.remove("write.folder-storage.path");
+  }
+
+  static boolean icebergObjectStorageEnabled(Map<String, String> metadataProperties) {
+    return Boolean.parseBoolean(
+        metadataProperties.getOrDefault("write.object-storage.enabled", "false"));
+  }
+
   static String icebergWriteLocation(Map<String, String> properties) {
     String dataLocation = properties.get("write.data.path");
     if (dataLocation == null) {
@@ -113,7 +113,7 @@ public class NessieCatalogResource extends AbstractCatalogResource {
       throws NessieNotFoundException {
     return snapshotBased(
         key,
-        forSnapshotHttpReq(parseRefPathString(ref), format, specVersion),
+        forSnapshotHttpReq(parseRefPathString(ref), format, specVersion).asSerializedResponse(),
         ICEBERG_TABLE,
         CATALOG_V0);
   }
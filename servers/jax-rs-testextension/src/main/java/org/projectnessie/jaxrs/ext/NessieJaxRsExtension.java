@@ -49,6 +49,7 @@ import org.projectnessie.services.impl.ConfigApiImpl;
 import org.projectnessie.services.impl.TreeApiImpl;
 import org.projectnessie.services.rest.AccessCheckExceptionMapper;
 import org.projectnessie.services.rest.BackendLimitExceededExceptionMapper;
+import org.projectnessie.services.rest.ContentEntityTagFilter;
 import org.projectnessie.services.rest.RestConfigResource;
 import org.projectnessie.services.rest.RestContentResource;
 import org.projectnessie.services.rest.RestDiffResource;
@@ -241,6 +242,7 @@ public class NessieJaxRsExtension extends NessieClientResolver
               config.register(NessieExceptionMapper.class);
               config.register(NessieJaxRsJsonParseExceptionMapper.class, 10);
               config.register(NessieJaxRsJsonMappingExceptionMapper.class, 10);
+              config.register(ContentEntityTagFilter.class);
               config.register(EncodingFilter.class);
               config.register(GZipEncoder.class);
               config.register(DeflateEncoder.class);
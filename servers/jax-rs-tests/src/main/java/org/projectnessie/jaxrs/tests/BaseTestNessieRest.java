@@ -17,24 +17,30 @@ package org.projectnessie.jaxrs.tests;
 
 import static io.restassured.RestAssured.given;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.entry;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.assertj.core.api.InstanceOfAssertFactories.list;
 import static org.assertj.core.api.InstanceOfAssertFactories.type;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.projectnessie.model.CommitMeta.fromMessage;
+import static org.projectnessie.model.CreateReferencesRequest.NewReference.newReference;
 import static org.projectnessie.model.Validation.REF_NAME_MESSAGE;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.restassured.RestAssured;
 import io.restassured.builder.RequestSpecBuilder;
 import io.restassured.http.ContentType;
+import io.restassured.response.Response;
 import io.restassured.response.ValidatableResponse;
 import io.restassured.specification.RequestSpecification;
 import java.io.IOException;
 import java.net.HttpURLConnection;
 import java.net.URI;
 import java.net.URL;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -50,13 +56,17 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.projectnessie.api.v2.http.HttpStreaming;
+import org.projectnessie.client.NessieClientBuilder;
 import org.projectnessie.client.api.CommitMultipleOperationsBuilder;
 import org.projectnessie.client.api.NessieApiV2;
 import org.projectnessie.client.ext.NessieApiVersion;
 import org.projectnessie.client.ext.NessieApiVersions;
 import org.projectnessie.client.ext.NessieClientUri;
+import org.projectnessie.client.http.NessieHttpClientBuilder;
 import org.projectnessie.error.ErrorCode;
 import org.projectnessie.error.NessieError;
+import org.projectnessie.error.NessieNotFoundException;
 import org.projectnessie.error.ReferenceConflicts;
 import org.projectnessie.model.Branch;
 import org.projectnessie.model.CommitMeta;
@@ -66,6 +76,9 @@ import org.projectnessie.model.Conflict.ConflictType;
 import org.projectnessie.model.Content;
 import org.projectnessie.model.ContentKey;
 import org.projectnessie.model.ContentResponse;
+import org.projectnessie.model.CreateReferencesRequest;
+import org.projectnessie.model.CreateReferencesResponse;
+import org.projectnessie.model.CreateReferencesResponse.CreateReferenceResult;
 import org.projectnessie.model.DiffResponse;
 import org.projectnessie.model.EntriesResponse;
 import org.projectnessie.model.GetMultipleContentsRequest;
@@ -269,6 +282,41 @@ public abstract class BaseTestNessieRest extends BaseTestNessieApi {
     soft.assertThat(nessieError.getErrorDetails()).isNull();
   }
 
+  @Test
+  @NessieApiVersions(versions = {NessieApiVersion.V2})
+  public void createReferencesV2() {
+    Branch branch = createBranchV2("bulk-source");
+
+    CreateReferencesResponse response =
+        rest()
+            .body(
+                CreateReferencesRequest.builder()
+                    .addReferences(
+                        newReference("bulk-branch", Reference.ReferenceType.BRANCH, branch))
+                    .addReferences(newReference("bulk-tag", Reference.ReferenceType.TAG, branch))
+                    .addReferences(
+                        newReference("bulk-source", Reference.ReferenceType.BRANCH, branch))
+                    .addReferences(newReference("bulk-tag", Reference.ReferenceType.TAG, branch))
+                    .build())
+            .post("trees/bulk/create")
+            .then()
+            .statusCode(200)
+            .extract()
+            .as(CreateReferencesResponse.class);
+
+    soft.assertThat(response.getResults())
+        .extracting(CreateReferenceResult::getName, CreateReferenceResult::getErrorCode)
+        .containsExactly(
+            tuple("bulk-branch", null),
+            tuple("bulk-tag", null),
+            tuple("bulk-source", ErrorCode.REFERENCE_ALREADY_EXISTS),
+            tuple("bulk-tag", ErrorCode.BAD_REQUEST));
+    soft.assertThat(response.getResults().get(0).getReference())
+        .isEqualTo(Branch.of("bulk-branch", branch.getHash()));
+    soft.assertThat(response.getResults().get(1).getReference())
+        .isEqualTo(Tag.of("bulk-tag", branch.getHash()));
+  }
+
   @NessieApiVersions(versions = {NessieApiVersion.V1})
   @ParameterizedTest
   @CsvSource({
@@ -630,6 +678,46 @@ public abstract class BaseTestNessieRest extends BaseTestNessieApi {
         .isEqualTo("test-location");
   }
 
+  @NessieApiVersions(versions = {NessieApiVersion.V2})
+  @Test
+  void testGetContentIfNoneMatch() {
+    Branch branch = createBranchV2("conditional-content");
+    ContentKey key = ContentKey.of("conditional");
+    branch = commitV2(branch, key, IcebergTable.of("loc1", 1, 2, 3, 4));
+
+    String etag =
+        rest()
+            .get("trees/{ref}/contents/{key}", branch.getName(), key.toPathString())
+            .then()
+            .statusCode(200)
+            .extract()
+            .header("ETag");
+    soft.assertThat(etag).isNotEmpty();
+
+    String body =
+        rest()
+            .header("If-None-Match", etag)
+            .get("trees/{ref}/contents/{key}", branch.getName(), key.toPathString())
+            .then()
+            .statusCode(304)
+            .header("ETag", etag)
+            .extract()
+            .asString();
+    soft.assertThat(body).isEmpty();
+
+    // A new commit changes the effective reference in the response
+    commitV2(branch, ContentKey.of("other"), IcebergTable.of("loc2", 1, 2, 3, 4));
+    String newEtag =
+        rest()
+            .header("If-None-Match", etag)
+            .get("trees/{ref}/contents/{key}", branch.getName(), key.toPathString())
+            .then()
+            .statusCode(200)
+            .extract()
+            .header("ETag");
+    soft.assertThat(newEtag).isNotEmpty().isNotEqualTo(etag);
+  }
+
   @NessieApiVersions(versions = {NessieApiVersion.V2})
   @ParameterizedTest
   @ValueSource(strings = {"simple", "with/slash"})
@@ -672,6 +760,177 @@ public abstract class BaseTestNessieRest extends BaseTestNessieApi {
     assertThat(contents).containsExactlyInAnyOrder(entry(key1, "loc1"), entry(key2, "loc2"));
   }
 
+  @NessieApiVersions(versions = {NessieApiVersion.V2})
+  @Test
+  void testStreamingResponses() throws Exception {
+    Branch base = createBranchV2("streaming");
+    ContentKey key1 = ContentKey.of("ns1", "Key1");
+    ContentKey key2 = ContentKey.of("ns2", "Key2");
+    Branch branch = commitV2(base, key1, IcebergTable.of("loc1", 1, 2, 3, 4));
+    branch = commitV2(branch, key2, IcebergTable.of("loc2", 1, 2, 3, 4));
+    ObjectMapper mapper = new ObjectMapper();
+
+    // 2 namespaces + 2 tables + the final response
+    List<JsonNode> lines =
+        streamingLines(streamingRest().get("trees/{ref}/entries", branch.toPathString()));
+    assertThat(lines).hasSize(5);
+    assertThat(lines.subList(0, 4)).allSatisfy(l -> assertThat(l.has("entry")).isTrue());
+    EntriesResponse entries =
+        mapper.treeToValue(lines.get(4).get("response"), EntriesResponse.class);
+    assertThat(entries.getEntries()).isEmpty();
+    assertThat(entries.isHasMore()).isFalse();
+    assertThat(entries.getEffectiveReference()).isEqualTo(branch);
+
+    lines =
+        streamingLines(
+            streamingRest()
+                .queryParam("max-records", 1)
+                .get("trees/{ref}/history", branch.toPathString()));
+    assertThat(lines).hasSize(2);
+    assertThat(lines.get(0).get("entry").get("commitMeta").get("hash").asText())
+        .isEqualTo(branch.getHash());
+    LogResponse log = mapper.treeToValue(lines.get(1).get("response"), LogResponse.class);
+    assertThat(log.isHasMore()).isTrue();
+    assertThat(log.getToken()).isNotNull();
+
+    lines =
+        streamingLines(
+            streamingRest()
+                .get("trees/{from}/diff/{to}", base.toPathString(), branch.toPathString()));
+    assertThat(lines).hasSize(5);
+    assertThat(lines.subList(0, 4)).allSatisfy(l -> assertThat(l.has("entry")).isTrue());
+    assertThat(lines.get(4).has("response")).isTrue();
+
+    // Unknown references are reported before the streaming response starts
+    for (String path :
+        List.of(
+            "trees/does-not-exist/entries",
+            "trees/does-not-exist/history",
+            "trees/does-not-exist/diff/main")) {
+      NessieError error =
+          streamingRest().get(path).then().statusCode(404).extract().as(NessieError.class);
+      assertThat(error.getErrorCode()).isEqualTo(ErrorCode.REFERENCE_NOT_FOUND);
+    }
+    // Invalid arguments are rejected before the streaming response starts
+    for (String path :
+        List.of(
+            "trees/" + branch.toPathString() + "/entries",
+            "trees/" + branch.toPathString() + "/history",
+            "trees/" + base.toPathString() + "/diff/" + branch.toPathString())) {
+      NessieError error =
+          streamingRest()
+              .queryParam("filter", "this is not valid CEL")
+              .get(path)
+              .then()
+              .statusCode(400)
+              .extract()
+              .as(NessieError.class);
+      assertThat(error.getErrorCode()).isEqualTo(ErrorCode.BAD_REQUEST);
+    }
+    for (String path :
+        List.of(
+            "trees/" + branch.toPathString() + "/entries",
+            "trees/" + base.toPathString() + "/diff/" + branch.toPathString())) {
+      streamingRest()
+          .queryParam("min-key", "a")
+          .queryParam("prefix-key", "b")
+          .get(path)
+          .then()
+          .statusCode(400);
+    }
+
+    try (NessieApiV2 api =
+        NessieClientBuilder.createClientBuilder("HTTP", null)
+            .asInstanceOf(NessieHttpClientBuilder.class)
+            .withUri(clientUri)
+            .withStreamingResponses(true)
+            .build(NessieApiV2.class)) {
+      assertThat(api.getEntries().reference(branch).stream())
+          .map(EntriesResponse.Entry::getName)
+          .contains(key1, key2);
+      assertThat(api.getCommitLog().reference(branch).maxRecords(1).stream())
+          .hasSizeGreaterThanOrEqualTo(2)
+          .first()
+          .extracting(e -> e.getCommitMeta().getHash())
+          .isEqualTo(branch.getHash());
+      assertThat(api.getDiff().fromRef(base).toRef(branch).stream())
+          .map(DiffResponse.DiffEntry::getKey)
+          .contains(key1, key2);
+      assertThatThrownBy(() -> api.getEntries().refName("does-not-exist").stream())
+          .isInstanceOf(NessieNotFoundException.class);
+    }
+  }
+
+  /**
+   * Clients that send {@code Accept: *}{@code /*} must keep getting the non-streaming JSON
+   * responses, the NDJSON producers are only selected when explicitly requested.
+   */
+  @NessieApiVersions(versions = {NessieApiVersion.V2})
+  @Test
+  void testAcceptAnyProducesJson() {
+    Branch base = createBranchV2("accept-any");
+    ContentKey key = ContentKey.of("key");
+    Branch branch = commitV2(base, key, IcebergTable.of("loc", 1, 2, 3, 4));
+
+    EntriesResponse entries =
+        rest()
+            .accept("*/*")
+            .get("trees/{ref}/entries", branch.toPathString())
+            .then()
+            .statusCode(200)
+            .contentType(ContentType.JSON)
+            .extract()
+            .as(EntriesResponse.class);
+    assertThat(entries.getEntries()).extracting(EntriesResponse.Entry::getName).contains(key);
+
+    LogResponse log =
+        rest()
+            .accept("*/*")
+            .get("trees/{ref}/history", branch.toPathString())
+            .then()
+            .statusCode(200)
+            .contentType(ContentType.JSON)
+            .extract()
+            .as(LogResponse.class);
+    assertThat(log.getLogEntries())
+        .first()
+        .extracting(e -> e.getCommitMeta().getHash())
+        .isEqualTo(branch.getHash());
+
+    DiffResponse diff =
+        rest()
+            .accept("*/*")
+            .get("trees/{from}/diff/{to}", base.toPathString(), branch.toPathString())
+            .then()
+            .statusCode(200)
+            .contentType(ContentType.JSON)
+            .extract()
+            .as(DiffResponse.class);
+    assertThat(diff.getDiffs()).extracting(DiffResponse.DiffEntry::getKey).containsExactly(key);
+  }
+
+  private static RequestSpecification streamingRest() {
+    return rest().accept(HttpStreaming.APPLICATION_NDJSON);
+  }
+
+  private static List<JsonNode> streamingLines(Response response) throws IOException {
+    ObjectMapper mapper = new ObjectMapper();
+    List<JsonNode> lines = new ArrayList<>();
+    String body =
+        response
+            .then()
+            .statusCode(200)
+            .contentType(HttpStreaming.APPLICATION_NDJSON)
+            .extract()
+            .asString();
+    for (String line : body.split("\n")) {
+      if (!line.isEmpty()) {
+        lines.add(mapper.readTree(line));
+      }
+    }
+    return lines;
+  }
+
   /** Dedicated test for human-readable references in URL paths. */
   @NessieApiVersions(versions = {NessieApiVersion.V2})
   @Test
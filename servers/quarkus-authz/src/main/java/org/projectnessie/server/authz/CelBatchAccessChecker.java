@@ -30,7 +30,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Supplier;
-import org.projectnessie.cel.tools.ScriptException;
+import java.util.stream.Collectors;
 import org.projectnessie.model.Content.Type;
 import org.projectnessie.model.ContentKey;
 import org.projectnessie.model.RepositoryConfig;
@@ -85,8 +85,8 @@ final class CelBatchAccessChecker extends AbstractBatchAccessChecker {
   }
 
   private List<String> roles() {
-    // CEL only accepts lists and maps, but not sets
-    return List.copyOf(context.roleIds());
+    // CEL only accepts lists and maps, but not sets. Sorted to get stable decision cache keys.
+    return context.roleIds().stream().sorted().collect(Collectors.toList());
   }
 
   private void canPerformOp(Check check, Map<Check, String> failed) {
@@ -179,21 +179,7 @@ final class CelBatchAccessChecker extends AbstractBatchAccessChecker {
       Check check,
       Supplier<String> errorMessageSupplier,
       Map<Check, String> failed) {
-    boolean allowed =
-        compiledRules.getRules().entrySet().stream()
-            .anyMatch(
-                entry -> {
-                  try {
-                    return entry.getValue().execute(Boolean.class, arguments);
-                  } catch (ScriptException e) {
-                    throw new RuntimeException(
-                        String.format(
-                            "Failed to execute authorization rule with id '%s' due to: %s",
-                            entry.getKey(), e.getMessage()),
-                        e);
-                  }
-                });
-    if (!allowed) {
+    if (!compiledRules.isAllowed(check.type().name(), arguments)) {
       failed.put(check, errorMessageSupplier.get());
     }
   }
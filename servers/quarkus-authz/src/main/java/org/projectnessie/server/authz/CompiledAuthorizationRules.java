@@ -17,47 +17,86 @@ package org.projectnessie.server.authz;
 
 import static org.projectnessie.services.authz.Check.CheckType.VIEW_REFERENCE;
 
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableMap;
 import io.quarkus.runtime.Startup;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import org.projectnessie.cel.tools.Script;
 import org.projectnessie.cel.tools.ScriptException;
 import org.projectnessie.quarkus.config.QuarkusNessieAuthorizationConfig;
+import org.projectnessie.services.authz.Check.CheckType;
 import org.projectnessie.services.cel.CELUtil;
 
 /**
  * Compiles the authorization rules from {@link QuarkusNessieAuthorizationConfig} at startup and
  * provides access to them via {@link CompiledAuthorizationRules#getRules()}.
+ *
+ * <p>Rules are partitioned by the operations ({@code op}) they can match, see {@link
+ * #restrictedOps(String)}, so only the rules that can match an operation are evaluated by {@link
+ * #isAllowed(String, Map)}. Authorization decisions are cached, keyed by the arguments passed to
+ * the rules. Since the rules are compiled once and never change, a cached decision is valid as long
+ * as the rules are, the cache lives and dies with the compiled rules.
  */
 @Singleton
 @Startup
 public class CompiledAuthorizationRules {
   private final QuarkusNessieAuthorizationConfig config;
   private final Map<String, Script> compiledRules;
+  private final Map<String, List<Map.Entry<String, Script>>> rulesByOp;
+  private final List<Map.Entry<String, Script>> allRules;
+  private final Cache<Map<String, Object>, Boolean> decisions;
   private static final String ALLOW_VIEWING_ALL_REFS_ID = "__ALLOW_VIEWING_REF_ID";
   private static final String ALLOW_VIEWING_ALL_REFS =
       String.format("op=='%s' && ref.matches('.*')", VIEW_REFERENCE);
 
+  private static final Pattern OP_EQUALS =
+      Pattern.compile("op\\s*==\\s*(['\"])(\\w+)\\1|(['\"])(\\w+)\\3\\s*==\\s*op");
+  private static final Pattern OP_IN = Pattern.compile("op\\s+in\\s*\\[([^\\]]*)]");
+  private static final Pattern QUOTED_NAME = Pattern.compile("\\s*(['\"])(\\w+)\\1\\s*");
+
   @Inject
   public CompiledAuthorizationRules(QuarkusNessieAuthorizationConfig config) {
     this.config = config;
-    this.compiledRules = compileAuthorizationRules();
+    Map<String, String> rules = authorizationRules();
+    this.compiledRules = compileAuthorizationRules(rules);
+    this.allRules = List.copyOf(compiledRules.entrySet());
+    this.rulesByOp = partitionRules(rules);
+    this.decisions =
+        config.decisionCacheSize() > 0
+            ? CacheBuilder.newBuilder()
+                .maximumSize(config.decisionCacheSize())
+                .expireAfterWrite(config.decisionCacheTtl())
+                .build()
+            : null;
   }
 
-  /**
-   * Compiles all authorization rules and returns them.
-   *
-   * @return A map of compiled authorization rules
-   */
-  private Map<String, Script> compileAuthorizationRules() {
+  private Map<String, String> authorizationRules() {
     Map<String, String> rules = new HashMap<>(config.rules());
     // by default we allow viewing all references until there's a user-defined VIEW_REFERENCE rule
     if (rules.entrySet().stream().noneMatch(r -> r.getValue().contains(VIEW_REFERENCE.name()))) {
       rules.put(ALLOW_VIEWING_ALL_REFS_ID, ALLOW_VIEWING_ALL_REFS);
     }
+    return rules;
+  }
+
+  /**
+   * Compiles all authorization rules and returns them.
+   *
+   * @return A map of compiled authorization rules
+   */
+  private Map<String, Script> compileAuthorizationRules(Map<String, String> rules) {
     Map<String, Script> scripts = new HashMap<>();
     rules.forEach(
         (key, value) ->
@@ -81,6 +120,223 @@ public class CompiledAuthorizationRules {
     return ImmutableMap.copyOf(scripts);
   }
 
+  /** Builds the lists of rules that can match each operation. */
+  private Map<String, List<Map.Entry<String, Script>>> partitionRules(Map<String, String> rules) {
+    Map<String, List<Map.Entry<String, Script>>> byOp = new HashMap<>();
+    for (CheckType type : CheckType.values()) {
+      byOp.put(type.name(), new ArrayList<>());
+    }
+    for (Map.Entry<String, Script> rule : compiledRules.entrySet()) {
+      Optional<Set<String>> ops = restrictedOps(rules.get(rule.getKey()));
+      byOp.forEach(
+          (op, opRules) -> {
+            if (ops.isEmpty() || ops.get().contains(op)) {
+              opRules.add(rule);
+            }
+          });
+    }
+    Map<String, List<Map.Entry<String, Script>>> result = new HashMap<>();
+    byOp.forEach((op, opRules) -> result.put(op, List.copyOf(opRules)));
+    return Map.copyOf(result);
+  }
+
+  /**
+   * Returns the operations for which the given rule expression can evaluate to {@code true}, or an
+   * empty optional, if the rule is not restricted to specific operations.
+   *
+   * <p>A rule is only considered as restricted, if it is a conjunction ({@code &&}) of terms and
+   * one of the terms is either {@code op == 'NAME'} or {@code op in ['NAME', ...]}. All other
+   * rules, for example rules containing {@code ||} or a conditional on the top level, are
+   * considered as unrestricted.
+   */
+  @VisibleForTesting
+  static Optional<Set<String>> restrictedOps(String expression) {
+    List<String> conjuncts = new ArrayList<>();
+    if (!collectConjuncts(expression, conjuncts)) {
+      return Optional.empty();
+    }
+    for (String conjunct : conjuncts) {
+      Matcher m = OP_EQUALS.matcher(conjunct);
+      if (m.matches()) {
+        return Optional.of(Set.of(m.group(2) != null ? m.group(2) : m.group(4)));
+      }
+      m = OP_IN.matcher(conjunct);
+      if (m.matches()) {
+        Set<String> ops = new HashSet<>();
+        boolean valid = true;
+        for (String item : m.group(1).split(",", -1)) {
+          Matcher name = QUOTED_NAME.matcher(item);
+          if (!name.matches()) {
+            valid = false;
+            break;
+          }
+          ops.add(name.group(2));
+        }
+        if (valid) {
+          return Optional.of(Set.copyOf(ops));
+        }
+      }
+    }
+    return Optional.empty();
+  }
+
+  /**
+   * Splits the given expression at top-level {@code &&} operators, descending into fully
+   * parenthesized terms. Returns {@code false}, if the expression is not a plain conjunction or
+   * contains constructs that are not handled, like comments or raw/triple-quoted strings.
+   */
+  private static boolean collectConjuncts(String expression, List<String> conjuncts) {
+    int depth = 0;
+    int start = 0;
+    int len = expression.length();
+    for (int i = 0; i < len; i++) {
+      char c = expression.charAt(i);
+      switch (c) {
+        case '\'':
+        case '"':
+          i = closingQuote(expression, i);
+          if (i < 0) {
+            return false;
+          }
+          break;
+        case '(':
+        case '[':
+        case '{':
+          depth++;
+          break;
+        case ')':
+        case ']':
+        case '}':
+          depth--;
+          break;
+        case '/':
+          if (i + 1 < len && expression.charAt(i + 1) == '/') {
+            // comment
+            return false;
+          }
+          break;
+        case '|':
+        case '?':
+          if (depth == 0) {
+            return false;
+          }
+          break;
+        case '&':
+          if (depth == 0 && i + 1 < len && expression.charAt(i + 1) == '&') {
+            if (!addConjunct(expression.substring(start, i), conjuncts)) {
+              return false;
+            }
+            i++;
+            start = i + 1;
+          }
+          break;
+        default:
+          break;
+      }
+    }
+    return depth == 0 && addConjunct(expression.substring(start), conjuncts);
+  }
+
+  private static boolean addConjunct(String conjunct, List<String> conjuncts) {
+    conjunct = conjunct.strip();
+    int len = conjunct.length();
+    if (len >= 2 && conjunct.charAt(0) == '(' && closingParen(conjunct) == len - 1) {
+      return collectConjuncts(conjunct.substring(1, len - 1), conjuncts);
+    }
+    conjuncts.add(conjunct);
+    return true;
+  }
+
+  /** Returns the index of the parenthesis closing the one at index {@code 0}, or {@code -1}. */
+  private static int closingParen(String expression) {
+    int depth = 0;
+    for (int i = 0; i < expression.length(); i++) {
+      char c = expression.charAt(i);
+      if (c == '\'' || c == '"') {
+        i = closingQuote(expression, i);
+        if (i < 0) {
+          return -1;
+        }
+      } else if (c == '(') {
+        depth++;
+      } else if (c == ')') {
+        depth--;
+        if (depth == 0) {
+          return i;
+        }
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Returns the index of the quote closing the string literal starting at {@code start}, or {@code
+   * -1} for raw, bytes and triple-quoted string literals.
+   */
+  private static int closingQuote(String expression, int start) {
+    char quote = expression.charAt(start);
+    if (start > 0 && "rRbB".indexOf(expression.charAt(start - 1)) >= 0) {
+      return -1;
+    }
+    if (expression.startsWith(String.valueOf(quote).repeat(3), start)) {
+      return -1;
+    }
+    for (int i = start + 1; i < expression.length(); i++) {
+      char c = expression.charAt(i);
+      if (c == '\\') {
+        i++;
+      } else if (c == quote) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Checks whether any rule that can match the operation {@code op} evaluates to {@code true} for
+   * the given arguments.
+   */
+  public boolean isAllowed(String op, Map<String, Object> arguments) {
+    Cache<Map<String, Object>, Boolean> cache = decisions;
+    if (cache != null) {
+      Boolean cached = cache.getIfPresent(arguments);
+      if (cached != null) {
+        return cached;
+      }
+    }
+
+    boolean allowed = false;
+    for (Map.Entry<String, Script> rule : rulesByOp.getOrDefault(op, allRules)) {
+      try {
+        if (rule.getValue().execute(Boolean.class, arguments)) {
+          allowed = true;
+          break;
+        }
+      } catch (ScriptException e) {
+        throw new RuntimeException(
+            String.format(
+                "Failed to execute authorization rule with id '%s' due to: %s",
+                rule.getKey(), e.getMessage()),
+            e);
+      }
+    }
+
+    if (cache != null) {
+      cache.put(arguments, allowed);
+    }
+    return allowed;
+  }
+
+  @VisibleForTesting
+  List<Map.Entry<String, Script>> rulesForOp(String op) {
+    return rulesByOp.getOrDefault(op, allRules);
+  }
+
+  @VisibleForTesting
+  long cachedDecisions() {
+    return decisions != null ? decisions.size() : 0L;
+  }
+
   /**
    * Returns a map of compiled authorization rules.
    *
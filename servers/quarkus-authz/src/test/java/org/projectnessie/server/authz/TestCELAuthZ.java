@@ -23,6 +23,8 @@ import static org.projectnessie.services.authz.Check.CheckType.VIEW_REFERENCE;
 
 import jakarta.enterprise.inject.Instance;
 import java.security.Principal;
+import java.time.Duration;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicReference;
@@ -169,7 +171,87 @@ public class TestCELAuthZ {
         .isSameAs(AbstractBatchAccessChecker.NOOP_ACCESS_CHECKER);
   }
 
+  @Test
+  void restrictedOps() {
+    soft.assertThat(CompiledAuthorizationRules.restrictedOps("op=='VIEW_REFERENCE' && ref=='main'"))
+        .contains(Set.of("VIEW_REFERENCE"));
+    soft.assertThat(
+            CompiledAuthorizationRules.restrictedOps("ref=='main' && \"COMMIT_CHANGE\" == op"))
+        .contains(Set.of("COMMIT_CHANGE"));
+    soft.assertThat(
+            CompiledAuthorizationRules.restrictedOps(
+                "(op in ['READ_ENTITY_VALUE', 'CREATE_ENTITY'] && path.startsWith('a.')) "
+                    + "&& role=='foo'"))
+        .contains(Set.of("READ_ENTITY_VALUE", "CREATE_ENTITY"));
+    soft.assertThat(
+            CompiledAuthorizationRules.restrictedOps("ref.matches('&&|') && op=='DELETE_ENTITY'"))
+        .contains(Set.of("DELETE_ENTITY"));
+
+    soft.assertThat(CompiledAuthorizationRules.restrictedOps("false")).isEmpty();
+    soft.assertThat(CompiledAuthorizationRules.restrictedOps("'bar' in roles")).isEmpty();
+    soft.assertThat(CompiledAuthorizationRules.restrictedOps("op=='VIEW_REFERENCE' || role=='x'"))
+        .isEmpty();
+    soft.assertThat(
+            CompiledAuthorizationRules.restrictedOps(
+                "role=='x' ? op=='VIEW_REFERENCE' : op=='COMMIT_CHANGE'"))
+        .isEmpty();
+    soft.assertThat(CompiledAuthorizationRules.restrictedOps("!(op=='VIEW_REFERENCE')")).isEmpty();
+    soft.assertThat(CompiledAuthorizationRules.restrictedOps("op!='VIEW_REFERENCE' && role=='x'"))
+        .isEmpty();
+    soft.assertThat(CompiledAuthorizationRules.restrictedOps("op in roles && role=='x'")).isEmpty();
+  }
+
+  @Test
+  void rulesPartitionedByOp() {
+    CompiledAuthorizationRules rules = new CompiledAuthorizationRules(buildConfig(true));
+
+    soft.assertThat(rules.rulesForOp(VIEW_REFERENCE.name()))
+        .extracting(Map.Entry::getKey)
+        .containsExactlyInAnyOrder("foo", "bar", "baz", "__ALLOW_VIEWING_REF_ID");
+    soft.assertThat(rules.rulesForOp(CheckType.READ_ENTITY_VALUE.name()))
+        .extracting(Map.Entry::getKey)
+        .containsExactlyInAnyOrder("foo", "bar", "baz", "contentType");
+    soft.assertThat(rules.rulesForOp(CREATE_REFERENCE.name()))
+        .extracting(Map.Entry::getKey)
+        .containsExactlyInAnyOrder("foo", "bar", "baz");
+    soft.assertThat(rules.rulesForOp("NOT_A_CHECK_TYPE"))
+        .extracting(Map.Entry::getKey)
+        .containsExactlyInAnyOrder("foo", "bar", "baz", "contentType", "__ALLOW_VIEWING_REF_ID");
+  }
+
+  @Test
+  void decisionCache() {
+    CompiledAuthorizationRules rules = new CompiledAuthorizationRules(buildConfig(true));
+
+    Map<String, Object> viewMain =
+        Map.of("op", VIEW_REFERENCE.name(), "ref", "main", "role", "", "roles", List.of());
+    Map<String, Object> createMain =
+        Map.of("op", CREATE_REFERENCE.name(), "ref", "main", "role", "", "roles", List.of());
+    Map<String, Object> createMainBaz =
+        Map.of("op", CREATE_REFERENCE.name(), "ref", "main", "role", "baz", "roles", List.of());
+
+    soft.assertThat(rules.isAllowed(VIEW_REFERENCE.name(), viewMain)).isTrue();
+    soft.assertThat(rules.isAllowed(CREATE_REFERENCE.name(), createMain)).isFalse();
+    soft.assertThat(rules.isAllowed(CREATE_REFERENCE.name(), createMainBaz)).isTrue();
+    soft.assertThat(rules.cachedDecisions()).isEqualTo(3L);
+
+    soft.assertThat(rules.isAllowed(VIEW_REFERENCE.name(), viewMain)).isTrue();
+    soft.assertThat(rules.isAllowed(CREATE_REFERENCE.name(), createMain)).isFalse();
+    soft.assertThat(rules.isAllowed(CREATE_REFERENCE.name(), createMainBaz)).isTrue();
+    soft.assertThat(rules.cachedDecisions()).isEqualTo(3L);
+
+    CompiledAuthorizationRules uncached = new CompiledAuthorizationRules(buildConfig(true, 0));
+    soft.assertThat(uncached.isAllowed(VIEW_REFERENCE.name(), viewMain)).isTrue();
+    soft.assertThat(uncached.isAllowed(CREATE_REFERENCE.name(), createMain)).isFalse();
+    soft.assertThat(uncached.cachedDecisions()).isEqualTo(0L);
+  }
+
   private static QuarkusNessieAuthorizationConfig buildConfig(boolean enabled) {
+    return buildConfig(enabled, 100);
+  }
+
+  private static QuarkusNessieAuthorizationConfig buildConfig(
+      boolean enabled, int decisionCacheSize) {
     return new QuarkusNessieAuthorizationConfig() {
       @Override
       public String authorizationType() {
@@ -194,6 +276,16 @@ public class TestCELAuthZ {
             "op in ['READ_CONTENT_KEY', 'READ_ENTITY_VALUE', 'CREATE_ENTITY', 'UPDATE_ENTITY', 'DELETE_ENTITY'] "
                 + "&& contentType=='foo'");
       }
+
+      @Override
+      public int decisionCacheSize() {
+        return decisionCacheSize;
+      }
+
+      @Override
+      public Duration decisionCacheTtl() {
+        return Duration.ofMinutes(5);
+      }
     };
   }
 }
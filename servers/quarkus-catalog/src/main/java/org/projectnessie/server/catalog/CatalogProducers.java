@@ -18,6 +18,7 @@ package org.projectnessie.server.catalog;
 import static java.time.Clock.systemUTC;
 
 import com.azure.core.http.HttpClient;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.auth.http.HttpTransportFactory;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.quarkus.runtime.StartupEvent;
@@ -71,6 +72,7 @@ import org.projectnessie.catalog.service.impl.IcebergExceptionMapper;
 import org.projectnessie.catalog.service.impl.IllegalArgumentExceptionMapper;
 import org.projectnessie.catalog.service.impl.NessieExceptionMapper;
 import org.projectnessie.catalog.service.impl.PreviousTaskExceptionMapper;
+import org.projectnessie.catalog.service.impl.SnapshotResponseCache;
 import org.projectnessie.nessie.tasks.async.TasksAsync;
 import org.projectnessie.nessie.tasks.async.pool.JavaPoolTasksAsync;
 import org.projectnessie.nessie.tasks.async.wrapping.ThreadContextTasksAsync;
@@ -313,6 +315,16 @@ public class CatalogProducers {
         "tasks", config.raceWaitMin().toMillis(), config.raceWaitMax().toMillis());
   }
 
+  @Produces
+  @Singleton
+  public SnapshotResponseCache snapshotResponseCache(
+      CatalogServiceConfig config, ObjectMapper objectMapper) {
+    // Use the object mapper that serializes REST responses, so the cached serialized responses can
+    // be embedded in REST responses.
+    return new SnapshotResponseCache(
+        config.snapshotResponseCacheCapacityMb() * 1024L * 1024L, objectMapper);
+  }
+
   /** Provides the executor to run actual catalog import jobs, with thread-context propagation. */
   @Produces
   @Singleton
@@ -20,7 +20,10 @@ import io.smallrye.config.ConfigMapping;
 import io.smallrye.config.WithDefault;
 import io.smallrye.config.WithName;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Optional;
 import org.projectnessie.versioned.storage.rocksdb.RocksDBBackendBaseConfig;
+import org.projectnessie.versioned.storage.rocksdb.RocksDBColumnFamilyConfig;
 
 /**
  * When setting {@code nessie.version.store.type=ROCKSDB} which enables RocksDB as the version store
@@ -34,4 +37,28 @@ public interface QuarkusRocksConfig extends RocksDBBackendBaseConfig {
   @WithDefault("/tmp/nessie-rocksdb-store")
   @Override
   Path databasePath();
+
+  /**
+   * Maximum time a write waits for a row lock held by a concurrent write to the same reference or
+   * object, defaults to 1 second.
+   */
+  @WithName("lock-timeout")
+  @Override
+  Optional<Duration> lockTimeout();
+
+  /**
+   * Tuning options for the column family holding objects: {@code block-cache-size-mb}, {@code
+   * bloom-filter-bits-per-key} and {@code compression} (one of {@code none}, {@code snappy}, {@code
+   * zlib}, {@code bzip2}, {@code lz4}, {@code lz4hc}, {@code xpress}, {@code zstd}).
+   */
+  @WithName("objects")
+  @Override
+  Optional<RocksDBColumnFamilyConfig> objectsColumnFamily();
+
+  /**
+   * Tuning options for the column family holding references, same options as for {@code objects}.
+   */
+  @WithName("references")
+  @Override
+  Optional<RocksDBColumnFamilyConfig> referencesColumnFamily();
 }
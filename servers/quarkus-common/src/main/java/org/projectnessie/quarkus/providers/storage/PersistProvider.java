@@ -33,6 +33,7 @@ import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import java.time.Duration;
 import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.UUID;
 import org.projectnessie.quarkus.config.QuarkusStoreConfig;
 import org.projectnessie.quarkus.config.VersionStoreConfig;
@@ -49,6 +50,7 @@ import org.projectnessie.versioned.storage.cache.DistributedCacheInvalidation;
 import org.projectnessie.versioned.storage.cache.DistributedCacheInvalidationConsumer;
 import org.projectnessie.versioned.storage.cache.DistributedCacheInvalidations;
 import org.projectnessie.versioned.storage.cache.PersistCaches;
+import org.projectnessie.versioned.storage.common.config.StoreConfig;
 import org.projectnessie.versioned.storage.common.persist.Backend;
 import org.projectnessie.versioned.storage.common.persist.Persist;
 import org.projectnessie.versioned.storage.common.persist.PersistFactory;
@@ -157,6 +159,8 @@ public class PersistProvider {
       if (meterRegistry.isResolvable()) {
         cacheConfig.meterRegistry(meterRegistry.get());
       }
+      storeConfig.cacheOffHeapCapacityMB().ifPresent(cacheConfig::offHeapCapacityMb);
+      storeConfig.cacheRepositoryQuotaMB().ifPresent(cacheConfig::repositoryQuotaMb);
 
       Optional<Duration> referenceCacheTtl = storeConfig.referenceCacheTtl();
       Optional<Duration> referenceCacheNegativeTtl = storeConfig.referenceCacheNegativeTtl();
@@ -173,6 +177,15 @@ public class PersistProvider {
 
       info += ", with soft-references " + (enableSoftReferences ? "enabled" : "disabled");
 
+      OptionalInt offHeapCapacityMB = storeConfig.cacheOffHeapCapacityMB();
+      if (offHeapCapacityMB.isPresent()) {
+        info += format(", with an off-heap tier of %d MB", offHeapCapacityMB.getAsInt());
+      }
+      OptionalInt repositoryQuotaMB = storeConfig.cacheRepositoryQuotaMB();
+      if (repositoryQuotaMB.isPresent()) {
+        info += format(", with a per-repository quota of %d MB", repositoryQuotaMB.getAsInt());
+      }
+
       CacheBackend cacheBackend = PersistCaches.newBackend(cacheConfig.build());
 
       if (invalidationSender.isResolvable() && cacheInvalidationReceiver.isResolvable()) {
@@ -236,6 +249,8 @@ public class PersistProvider {
 
     LOGGER.info("Creating/opening version store {} ...", versionStoreType);
 
+    StoreConfig.validateObjCompression(storeConfig.objCompression());
+
     PersistFactory persistFactory = b.createFactory();
     Persist persist = persistFactory.newPersist(storeConfig);
 
@@ -27,6 +27,14 @@ public interface CatalogServiceConfig {
   @WithDefault("32")
   int maxConcurrentImports();
 
+  /**
+   * Advanced property, defines the capacity in MB of the cache of serialized snapshot responses,
+   * {@code 0} disables the cache.
+   */
+  @WithName("snapshot-response-cache.capacity-mb")
+  @WithDefault("32")
+  int snapshotResponseCacheCapacityMb();
+
   /** Advanced property, defines the maximum number of threads for async tasks like imports. */
   @WithName("tasks.threads.max")
   @WithDefault("-1")
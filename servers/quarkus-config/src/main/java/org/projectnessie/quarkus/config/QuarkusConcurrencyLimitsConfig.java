@@ -0,0 +1,71 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.quarkus.config;
+
+import io.quarkus.runtime.annotations.StaticInitSafe;
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+import io.smallrye.config.WithName;
+
+/**
+ * Configuration of the adaptive concurrency limits of the Nessie server.
+ *
+ * <p>Requests to the Nessie REST API, the Iceberg REST API and the Nessie catalog API are
+ * classified as reads, commits or catalog snapshot imports. Each class has its own adaptive
+ * concurrency limit. Requests exceeding the limit of their class are rejected with HTTP status 429
+ * and a {@code Retry-After} header.
+ */
+@StaticInitSafe
+@ConfigMapping(prefix = "nessie.server.concurrency-limits")
+public interface QuarkusConcurrencyLimitsConfig {
+
+  /** Enable adaptive concurrency limits. */
+  @WithName("enabled")
+  @WithDefault("false")
+  boolean enabled();
+
+  /** Limits for read requests, for example fetching references, entries or contents. */
+  @WithName("reads")
+  Limits reads();
+
+  /** Limits for commits and other mutating requests. */
+  @WithName("commits")
+  Limits commits();
+
+  /**
+   * Limits for requests that may import Iceberg snapshots, for example loading an Iceberg table or
+   * retrieving snapshots via the Nessie catalog API.
+   */
+  @WithName("catalog-imports")
+  Limits catalogImports();
+
+  interface Limits {
+    /** Initial concurrency limit, adapted at runtime based on the observed request latencies. */
+    @WithName("initial-limit")
+    @WithDefault("20")
+    int initialLimit();
+
+    /** Lower bound of the concurrency limit. */
+    @WithName("min-limit")
+    @WithDefault("4")
+    int minLimit();
+
+    /** Upper bound of the concurrency limit. */
+    @WithName("max-limit")
+    @WithDefault("200")
+    int maxLimit();
+  }
+}
@@ -19,6 +19,7 @@ import io.quarkus.runtime.annotations.StaticInitSafe;
 import io.smallrye.config.ConfigMapping;
 import io.smallrye.config.WithDefault;
 import io.smallrye.config.WithName;
+import java.time.Duration;
 import java.util.Map;
 
 /** Configuration for Nessie authorization settings. */
@@ -47,4 +48,18 @@ public interface QuarkusNessieAuthorizationConfig {
    *     expression.
    */
   Map<String, String> rules();
+
+  /**
+   * Maximum number of authorization decisions to cache. Decisions are cached per distinct set of
+   * arguments passed to the authorization rules, for example role, operation, reference and content
+   * key. {@code 0} disables the decision cache.
+   */
+  @WithName("decision-cache-size")
+  @WithDefault("10000")
+  int decisionCacheSize();
+
+  /** Duration for which a cached authorization decision is retained. */
+  @WithName("decision-cache-ttl")
+  @WithDefault("PT5M")
+  Duration decisionCacheTtl();
 }
@@ -39,4 +39,19 @@ public interface QuarkusServerConfig extends ServerConfig {
   @WithName("access-checks-batch-size")
   @WithDefault("" + ServerConfig.DEFAULT_ACCESS_CHECK_BATCH_SIZE)
   int accessChecksBatchSize();
+
+  /**
+   * Run the blocking Nessie REST API and Iceberg REST API endpoints on virtual threads instead of
+   * the worker thread pool. Endpoints that run on virtual threads are not limited by the size of
+   * the worker thread pool, which helps when requests mostly wait for the database. Requires Java
+   * 21 or newer.
+   *
+   * <p><em>This feature is experimental and disabled by default.</em> There are no benchmarks yet
+   * that compare throughput and latencies against the worker thread pool. Virtual threads can be
+   * pinned to their carrier thread by database drivers that block inside {@code synchronized}
+   * blocks, which can make things worse than with the worker thread pool.
+   */
+  @WithName("virtual-threads.enabled")
+  @WithDefault("false")
+  boolean virtualThreadsEnabled();
 }
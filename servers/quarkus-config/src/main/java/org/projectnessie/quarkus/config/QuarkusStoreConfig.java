@@ -22,10 +22,12 @@ import io.smallrye.config.WithDefault;
 import io.smallrye.config.WithName;
 import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.OptionalDouble;
 import java.util.OptionalInt;
 import org.projectnessie.versioned.storage.common.config.StoreConfig;
+import org.projectnessie.versioned.storage.common.objtypes.Compression;
 
 @StaticInitSafe
 @ConfigMapping(prefix = QuarkusStoreConfig.NESSIE_VERSION_STORE_PERSIST)
@@ -136,6 +138,27 @@ public interface QuarkusStoreConfig extends StoreConfig {
   @WithDefault("" + DEFAULT_CONFIG_CACHE_ENABLE_SOFT_REFERENCES)
   Optional<Boolean> cacheEnableSoftReferences();
 
+  String CONFIG_CACHE_OFF_HEAP_CAPACITY_MB = "cache-off-heap-capacity-mb";
+
+  /**
+   * Amount of off-heap memory in MB used as a second cache tier for objects evicted from the heap
+   * cache, not enabled by default. Objects in the off-heap tier are held in their serialized form
+   * and do not contribute to garbage-collection overhead. The JVM's {@code -XX:MaxDirectMemorySize}
+   * must be large enough to accommodate this value.
+   */
+  @WithName(CONFIG_CACHE_OFF_HEAP_CAPACITY_MB)
+  OptionalInt cacheOffHeapCapacityMB();
+
+  String CONFIG_CACHE_REPOSITORY_QUOTA_MB = "cache-repository-quota-mb";
+
+  /**
+   * Maximum amount of the objects cache in MB that a single repository may occupy, not limited by
+   * default. Useful for multi-tenant setups to prevent one repository from evicting the cached
+   * objects of all other repositories.
+   */
+  @WithName(CONFIG_CACHE_REPOSITORY_QUOTA_MB)
+  OptionalInt cacheRepositoryQuotaMB();
+
   String CONFIG_CACHE_CAPACITY_FRACTION_MIN_SIZE_MB = "cache-capacity-fraction-min-size-mb";
 
   String CONFIG_CACHE_ENABLE_SOFT_REFERENCES = "cache-enable-soft-references";
@@ -171,6 +194,25 @@ public interface QuarkusStoreConfig extends StoreConfig {
   @Override
   Optional<Duration> referenceCacheNegativeTtl();
 
+  @WithName(CONFIG_GROUP_COMMITS)
+  @WithDefault("" + DEFAULT_GROUP_COMMITS)
+  @Override
+  boolean groupCommits();
+
+  @WithName(CONFIG_OBJ_COMPRESSION)
+  @Override
+  Map<String, Compression> objCompression();
+
+  @WithName(CONFIG_OBJ_COMPRESSION_MIN_SIZE)
+  @WithDefault("" + DEFAULT_OBJ_COMPRESSION_MIN_SIZE)
+  @Override
+  int objCompressionMinSize();
+
+  @WithName(CONFIG_INDEX_STRIPE_CACHE_MB)
+  @WithDefault("" + DEFAULT_INDEX_STRIPE_CACHE_MB)
+  @Override
+  int indexStripeCacheMb();
+
   /**
    * Host names or IP addresses or kubernetes headless-service name of all Nessie server instances
    * accessing the same repository.
@@ -0,0 +1,128 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.server.limits;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.vertx.web.RouteFilter;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.ext.web.RoutingContext;
+import jakarta.enterprise.inject.Any;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.projectnessie.quarkus.config.QuarkusConcurrencyLimitsConfig;
+import org.projectnessie.quarkus.config.QuarkusConcurrencyLimitsConfig.Limits;
+
+/**
+ * Sheds load by rejecting requests that exceed the adaptive concurrency limit of their {@link
+ * RequestClass} with HTTP status 429 (Too Many Requests) and a {@code Retry-After} header.
+ */
+@Singleton
+public class ConcurrencyLimitFilter {
+  private static final String METRICS_PREFIX = "nessie.server.concurrency";
+  private static final String TAG_CLASS = "class";
+
+  private static final String NESSIE_ERROR =
+      "{\"message\":\"Too many concurrent requests, please retry later\","
+          + "\"status\":429,\"reason\":\"Too Many Requests\",\"errorCode\":\"TOO_MANY_REQUESTS\"}";
+  private static final String ICEBERG_ERROR =
+      "{\"error\":{\"message\":\"Too many concurrent requests, please retry later\","
+          + "\"type\":\"TooManyRequestsException\",\"code\":429}}";
+
+  private final Map<RequestClass, GradientLimiter> limiters;
+
+  @Inject
+  public ConcurrencyLimitFilter(
+      QuarkusConcurrencyLimitsConfig config, @Any Instance<MeterRegistry> meterRegistry) {
+    if (!config.enabled()) {
+      this.limiters = null;
+      return;
+    }
+
+    this.limiters = new EnumMap<>(RequestClass.class);
+    limiters.put(RequestClass.READS, newLimiter(config.reads()));
+    limiters.put(RequestClass.COMMITS, newLimiter(config.commits()));
+    limiters.put(RequestClass.CATALOG_IMPORTS, newLimiter(config.catalogImports()));
+
+    if (meterRegistry.isResolvable()) {
+      MeterRegistry registry = meterRegistry.get();
+      limiters.forEach((requestClass, limiter) -> registerMetrics(registry, requestClass, limiter));
+    }
+  }
+
+  private static GradientLimiter newLimiter(Limits limits) {
+    return new GradientLimiter(limits.initialLimit(), limits.minLimit(), limits.maxLimit());
+  }
+
+  private static void registerMetrics(
+      MeterRegistry registry, RequestClass requestClass, GradientLimiter limiter) {
+    String tag = requestClass.tagValue();
+    Gauge.builder(METRICS_PREFIX + ".limit", limiter, GradientLimiter::limit)
+        .description("Current adaptive concurrency limit")
+        .tag(TAG_CLASS, tag)
+        .register(registry);
+    Gauge.builder(METRICS_PREFIX + ".inflight", limiter, GradientLimiter::inflight)
+        .description("Number of in-flight requests")
+        .tag(TAG_CLASS, tag)
+        .register(registry);
+    Gauge.builder(
+            METRICS_PREFIX + ".rtt",
+            limiter,
+            l -> l.longRttNanos() / (double) TimeUnit.MILLISECONDS.toNanos(1))
+        .description("Smoothed request latency in milliseconds")
+        .tag(TAG_CLASS, tag)
+        .register(registry);
+    FunctionCounter.builder(METRICS_PREFIX + ".rejected", limiter, GradientLimiter::rejected)
+        .description("Number of requests rejected due to the concurrency limit")
+        .tag(TAG_CLASS, tag)
+        .register(registry);
+  }
+
+  @RouteFilter(50)
+  void limitConcurrency(RoutingContext rc) {
+    if (limiters == null) {
+      rc.next();
+      return;
+    }
+
+    String path = rc.normalizedPath();
+    RequestClass requestClass = RequestClass.classify(rc.request().method().name(), path);
+    if (requestClass == null) {
+      rc.next();
+      return;
+    }
+
+    GradientLimiter limiter = limiters.get(requestClass);
+    if (!limiter.tryAcquire()) {
+      long retryAfterSeconds = Math.max(1L, TimeUnit.NANOSECONDS.toSeconds(limiter.longRttNanos()));
+      rc.response()
+          .setStatusCode(429)
+          .putHeader("Retry-After", Long.toString(retryAfterSeconds))
+          .putHeader(HttpHeaders.CONTENT_TYPE, "application/json")
+          .end(path.startsWith("/iceberg/") ? ICEBERG_ERROR : NESSIE_ERROR);
+      return;
+    }
+
+    long start = System.nanoTime();
+    rc.addEndHandler(ignore -> limiter.release(System.nanoTime() - start));
+    rc.next();
+  }
+}
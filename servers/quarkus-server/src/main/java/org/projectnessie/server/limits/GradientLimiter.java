@@ -0,0 +1,141 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.server.limits;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Adaptive concurrency limiter using a gradient of the request latencies, similar to TCP Vegas.
+ *
+ * <p>The limiter tracks a long-term exponentially smoothed round-trip time and compares it with the
+ * round-trip time of each finished request. If requests get slower than the long-term average, the
+ * backend is queueing and the limit shrinks proportionally, otherwise the limit grows by a queue
+ * allowance of {@code sqrt(limit)}. The limit only grows while at least half of the current limit
+ * is in use, so that an idle server does not accumulate a huge limit.
+ *
+ * <p>Requests that do not get a permit are meant to be rejected immediately, there is no queue.
+ */
+public final class GradientLimiter {
+  /** Weight of a new sample for the long-term round-trip time. */
+  static final double LONG_RTT_SMOOTHING = 1d / 600d;
+
+  /** Weight of a newly calculated limit. */
+  static final double LIMIT_SMOOTHING = 0.2d;
+
+  /** Lower bound for the gradient, the limit shrinks by at most half per sample. */
+  static final double MIN_GRADIENT = 0.5d;
+
+  /**
+   * Tolerated ratio of the current round-trip time to the long-term round-trip time before the
+   * limit shrinks.
+   */
+  static final double RTT_TOLERANCE = 1.5d;
+
+  private final int minLimit;
+  private final int maxLimit;
+
+  private final AtomicLong rejected = new AtomicLong();
+  private int inflight;
+  private double limit;
+  private double longRttNanos;
+
+  public GradientLimiter(int initialLimit, int minLimit, int maxLimit) {
+    checkArgument(minLimit > 0, "min-limit must be positive");
+    checkArgument(maxLimit >= minLimit, "max-limit must not be less than min-limit");
+    checkArgument(
+        initialLimit >= minLimit && initialLimit <= maxLimit,
+        "initial-limit must be between min-limit and max-limit");
+    this.limit = initialLimit;
+    this.minLimit = minLimit;
+    this.maxLimit = maxLimit;
+  }
+
+  /**
+   * Acquires a permit, if the number of in-flight requests is below the current limit.
+   *
+   * @return {@code true} if a permit has been acquired, which must be released via {@link
+   *     #release(long)}, or {@code false} if the request shall be rejected
+   */
+  public boolean tryAcquire() {
+    synchronized (this) {
+      if (inflight < (int) limit) {
+        inflight++;
+        return true;
+      }
+    }
+    rejected.incrementAndGet();
+    return false;
+  }
+
+  /**
+   * Releases a permit acquired via {@link #tryAcquire()} and updates the limit.
+   *
+   * @param rttNanos the time in nanoseconds it took to process the request
+   */
+  public void release(long rttNanos) {
+    long rtt = Math.max(rttNanos, 1L);
+    synchronized (this) {
+      int inflightBefore = inflight--;
+
+      if (longRttNanos == 0d) {
+        longRttNanos = rtt;
+        return;
+      }
+      longRttNanos = longRttNanos * (1d - LONG_RTT_SMOOTHING) + rtt * LONG_RTT_SMOOTHING;
+
+      // If the current round-trip time is much lower than the long-term one, the long-term
+      // average is stale (for example after an overload situation), let it recover faster.
+      if (longRttNanos / rtt > 2d) {
+        longRttNanos *= 0.95d;
+      }
+
+      double gradient = Math.max(MIN_GRADIENT, Math.min(1d, RTT_TOLERANCE * longRttNanos / rtt));
+      double queueSize = Math.sqrt(limit);
+      double newLimit = limit * gradient + queueSize;
+      newLimit = limit * (1d - LIMIT_SMOOTHING) + newLimit * LIMIT_SMOOTHING;
+
+      // Do not grow the limit, if the application does not use it, but always let it shrink when
+      // the latencies increase.
+      if (newLimit > limit && inflightBefore < limit / 2d) {
+        return;
+      }
+
+      limit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+    }
+  }
+
+  /** The current concurrency limit. */
+  public synchronized int limit() {
+    return (int) limit;
+  }
+
+  /** The number of currently in-flight requests. */
+  public synchronized int inflight() {
+    return inflight;
+  }
+
+  /** The total number of rejected requests. */
+  public long rejected() {
+    return rejected.get();
+  }
+
+  /** The long-term smoothed round-trip time in nanoseconds, {@code 0} if there is no sample yet. */
+  public synchronized long longRttNanos() {
+    return Math.round(longRttNanos);
+  }
+}
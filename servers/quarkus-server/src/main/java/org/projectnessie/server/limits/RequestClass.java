@@ -0,0 +1,80 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.server.limits;
+
+/** Classes of requests that have their own concurrency limit. */
+public enum RequestClass {
+  /** Read requests, for example fetching references, entries, contents or Iceberg namespaces. */
+  READS("reads"),
+  /** Commits and other mutating requests. */
+  COMMITS("commits"),
+  /** Requests that may import Iceberg snapshots, for example loading an Iceberg table. */
+  CATALOG_IMPORTS("catalog-imports");
+
+  private final String tagValue;
+
+  RequestClass(String tagValue) {
+    this.tagValue = tagValue;
+  }
+
+  /** The value of the {@code class} tag of the metrics. */
+  public String tagValue() {
+    return tagValue;
+  }
+
+  /**
+   * Classifies a request to the Nessie REST API, the Iceberg REST API or the Nessie catalog API.
+   *
+   * @param method the HTTP method
+   * @param path the normalized request path
+   * @return the request class or {@code null}, if the request is not subject to concurrency limits
+   */
+  public static RequestClass classify(String method, String path) {
+    boolean iceberg = path.startsWith("/iceberg/");
+    boolean catalog = path.startsWith("/catalog/");
+    if (!iceberg && !catalog && !path.startsWith("/api/")) {
+      return null;
+    }
+
+    switch (method) {
+      case "GET":
+        if (iceberg && (path.contains("/tables/") || path.contains("/views/"))) {
+          return CATALOG_IMPORTS;
+        }
+        if (catalog && path.contains("/snapshot")) {
+          return CATALOG_IMPORTS;
+        }
+        return READS;
+      case "HEAD":
+      case "OPTIONS":
+        return READS;
+      default:
+        return isReadOnly(path, iceberg) ? READS : COMMITS;
+    }
+  }
+
+  /** Identifies requests that use a method like {@code POST}, but do not change any state. */
+  private static boolean isReadOnly(String path, boolean iceberg) {
+    if (iceberg) {
+      return path.contains("/s3sign/")
+          || path.contains("/s3-sign/")
+          || path.endsWith("/oauth/tokens")
+          || (path.endsWith("/metrics") && !path.endsWith("/tables/metrics"));
+    }
+    // Nessie REST API v1 and v2 endpoints to fetch multiple contents
+    return path.startsWith("/api/") && path.endsWith("/contents");
+  }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.server;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.TestProfile;
+import java.util.HashMap;
+import java.util.Map;
+import org.projectnessie.quarkus.tests.profiles.QuarkusTestProfilePersistH2;
+
+/** Runs the smoke tests with the blocking endpoints on virtual threads against JDBC (Agroal). */
+@QuarkusTest
+@TestProfile(TestVirtualThreadsPersistH2.Profile.class)
+class TestVirtualThreadsPersistH2 extends AbstractQuarkusSmoke {
+
+  public static class Profile extends QuarkusTestProfilePersistH2 {
+
+    @Override
+    public Map<String, String> getConfigOverrides() {
+      Map<String, String> config = new HashMap<>(super.getConfigOverrides());
+      config.put("nessie.server.virtual-threads.enabled", "true");
+      return config;
+    }
+  }
+}
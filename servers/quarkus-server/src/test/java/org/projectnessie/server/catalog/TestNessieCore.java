@@ -190,6 +190,58 @@ public class TestNessieCore {
     soft.assertThat(requests).extracting(Future::result).allMatch(firstBody::equals);
   }
 
+  @Test
+  public void loadTableEntityTag() throws Exception {
+    var tableMetadataLocation = generateSimpleMetadata(objectWriter(), 2);
+
+    var namespace = "etag";
+    var tableName = "loadTableEntityTag";
+
+    var commitId =
+        api.commitMultipleOperations()
+            .commitMeta(fromMessage("a table named " + tableName))
+            .operation(Operation.Put.of(ContentKey.of(namespace), Namespace.of(namespace)))
+            .operation(
+                Operation.Put.of(
+                    ContentKey.of(namespace, tableName),
+                    IcebergTable.of(tableMetadataLocation, 1, 0, 0, 0)))
+            .branch(api.getDefaultBranch())
+            .commitWithResponse()
+            .getTargetBranch()
+            .getHash();
+
+    var loadTableUri =
+        baseUri.resolve(
+            format(
+                "../../iceberg/v1/main%%7C%s/namespaces/%s/tables/%s",
+                WAREHOUSE_NAME, namespace, tableName));
+
+    var response = conditionalRequest(loadTableUri, null);
+    soft.assertThat(response.status()).isEqualTo(200);
+    soft.assertThat(response.etag()).isNotNull();
+    soft.assertThat(response.nessieCommitId()).isEqualTo(commitId);
+
+    var notModified = conditionalRequest(loadTableUri, response.etag());
+    soft.assertThat(notModified.status()).isEqualTo(304);
+    soft.assertThat(notModified.etag()).isEqualTo(response.etag());
+
+    // An unrelated commit changes the commit ID in the response, must not respond with 304
+    var unrelatedCommitId =
+        api.commitMultipleOperations()
+            .commitMeta(fromMessage("unrelated"))
+            .operation(
+                Operation.Put.of(ContentKey.of("etag-unrelated"), Namespace.of("etag-unrelated")))
+            .branch(api.getDefaultBranch())
+            .commitWithResponse()
+            .getTargetBranch()
+            .getHash();
+
+    var modified = conditionalRequest(loadTableUri, response.etag());
+    soft.assertThat(modified.status()).isEqualTo(200);
+    soft.assertThat(modified.etag()).isNotNull().isNotEqualTo(response.etag());
+    soft.assertThat(modified.nessieCommitId()).isEqualTo(unrelatedCommitId);
+  }
+
   @Test
   public void getMultipleSnapshots() throws Exception {
     var tableMetadataLocation = generateSimpleMetadata(objectWriter(), 2);
@@ -252,6 +304,44 @@ public class TestNessieCore {
         .containsExactly(null, emptyList());
   }
 
+  record ConditionalResponse(int status, String etag, String body) {
+    String nessieCommitId() throws IOException {
+      return IcebergJson.objectMapper()
+          .readTree(body)
+          .path("metadata")
+          .path("properties")
+          .path("nessie.commit.id")
+          .asText(null);
+    }
+  }
+
+  private static ConditionalResponse conditionalRequest(URI uri, String ifNoneMatch)
+      throws Exception {
+    return httpClient
+        .request(
+            HttpMethod.GET,
+            uri.getPort(),
+            uri.getHost(),
+            uri.getRawPath() + (uri.getRawQuery() != null ? "?" + uri.getRawQuery() : ""))
+        .compose(
+            req -> {
+              if (ifNoneMatch != null) {
+                req.putHeader("If-None-Match", ifNoneMatch);
+              }
+              return req.send();
+            })
+        .compose(
+            r ->
+                r.body()
+                    .map(
+                        body ->
+                            new ConditionalResponse(
+                                r.statusCode(), r.getHeader("ETag"), body.toString())))
+        .toCompletionStage()
+        .toCompletableFuture()
+        .get(10, SECONDS);
+  }
+
   private static String httpRequestString(URI uri) throws Exception {
     return httpRequest(uri)
         .map(Buffer::toString)
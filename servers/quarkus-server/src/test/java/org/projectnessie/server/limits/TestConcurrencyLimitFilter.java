@@ -0,0 +1,177 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.server.limits;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.RoutingContext;
+import jakarta.enterprise.inject.Instance;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.projectnessie.quarkus.config.QuarkusConcurrencyLimitsConfig;
+import org.projectnessie.quarkus.config.QuarkusConcurrencyLimitsConfig.Limits;
+
+@ExtendWith(SoftAssertionsExtension.class)
+public class TestConcurrencyLimitFilter {
+  @InjectSoftAssertions protected SoftAssertions soft;
+
+  @Test
+  public void disabled() {
+    ConcurrencyLimitFilter filter = filter(false);
+
+    for (int i = 0; i < 3; i++) {
+      RoutingContext rc = routingContext(HttpMethod.POST, "/api/v2/trees/main/history/commit");
+      filter.limitConcurrency(rc);
+      verify(rc).next();
+      verify(rc, never()).addEndHandler(any());
+    }
+  }
+
+  @Test
+  public void unclassifiedRequestsAreNotLimited() {
+    ConcurrencyLimitFilter filter = filter(true);
+
+    for (int i = 0; i < 3; i++) {
+      RoutingContext rc = routingContext(HttpMethod.GET, "/q/health");
+      filter.limitConcurrency(rc);
+      verify(rc).next();
+      verify(rc, never()).addEndHandler(any());
+    }
+  }
+
+  @Test
+  public void rejectWithRetryAfter() {
+    ConcurrencyLimitFilter filter = filter(true);
+
+    RoutingContext first = routingContext(HttpMethod.GET, "/api/v2/trees");
+    filter.limitConcurrency(first);
+    verify(first).next();
+
+    // Other request classes have their own limit
+    RoutingContext commit = routingContext(HttpMethod.POST, "/api/v2/trees/main/history/commit");
+    filter.limitConcurrency(commit);
+    verify(commit).next();
+
+    RoutingContext rejected = routingContext(HttpMethod.GET, "/api/v2/trees/main/entries");
+    filter.limitConcurrency(rejected);
+    verify(rejected, never()).next();
+    verify(rejected, never()).addEndHandler(any());
+    HttpServerResponse response = rejected.response();
+    verify(response).setStatusCode(429);
+    verify(response).putHeader("Retry-After", "1");
+    ArgumentCaptor<String> body = ArgumentCaptor.forClass(String.class);
+    verify(response).end(body.capture());
+    soft.assertThat(body.getValue()).contains("\"status\":429", "TOO_MANY_REQUESTS");
+
+    RoutingContext icebergFirst =
+        routingContext(HttpMethod.GET, "/iceberg/v1/main/namespaces/ns/tables/tab");
+    filter.limitConcurrency(icebergFirst);
+    verify(icebergFirst).next();
+
+    RoutingContext icebergRejected =
+        routingContext(HttpMethod.GET, "/iceberg/v1/main/namespaces/ns/views/view");
+    filter.limitConcurrency(icebergRejected);
+    verify(icebergRejected, never()).next();
+    response = icebergRejected.response();
+    verify(response).setStatusCode(429);
+    verify(response).putHeader("Retry-After", "1");
+    verify(response).end(body.capture());
+    soft.assertThat(body.getValue()).contains("\"code\":429", "TooManyRequestsException");
+  }
+
+  @Test
+  public void releaseOnSuccess() {
+    releaseOnCompletion(Future.succeededFuture());
+  }
+
+  @Test
+  public void releaseOnError() {
+    releaseOnCompletion(Future.failedFuture(new RuntimeException("connection reset")));
+  }
+
+  private void releaseOnCompletion(AsyncResult<Void> completion) {
+    ConcurrencyLimitFilter filter = filter(true);
+
+    RoutingContext first = routingContext(HttpMethod.POST, "/api/v2/trees/main/history/commit");
+    filter.limitConcurrency(first);
+    verify(first).next();
+    Handler<AsyncResult<Void>> endHandler = endHandler(first);
+
+    RoutingContext rejected = routingContext(HttpMethod.POST, "/api/v2/trees/main/history/commit");
+    filter.limitConcurrency(rejected);
+    verify(rejected, never()).next();
+
+    endHandler.handle(completion);
+
+    RoutingContext admitted = routingContext(HttpMethod.POST, "/api/v2/trees/main/history/commit");
+    filter.limitConcurrency(admitted);
+    verify(admitted).next();
+    verify(admitted.response(), never()).setStatusCode(429);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Handler<AsyncResult<Void>> endHandler(RoutingContext rc) {
+    ArgumentCaptor<Handler<AsyncResult<Void>>> handler = ArgumentCaptor.forClass(Handler.class);
+    verify(rc).addEndHandler(handler.capture());
+    return handler.getValue();
+  }
+
+  /** Creates a filter that admits only one concurrent request per request class. */
+  @SuppressWarnings("unchecked")
+  private static ConcurrencyLimitFilter filter(boolean enabled) {
+    Limits limits = mock(Limits.class);
+    when(limits.initialLimit()).thenReturn(1);
+    when(limits.minLimit()).thenReturn(1);
+    when(limits.maxLimit()).thenReturn(1);
+
+    QuarkusConcurrencyLimitsConfig config = mock(QuarkusConcurrencyLimitsConfig.class);
+    when(config.enabled()).thenReturn(enabled);
+    when(config.reads()).thenReturn(limits);
+    when(config.commits()).thenReturn(limits);
+    when(config.catalogImports()).thenReturn(limits);
+
+    return new ConcurrencyLimitFilter(config, mock(Instance.class));
+  }
+
+  private static RoutingContext routingContext(HttpMethod method, String path) {
+    HttpServerRequest request = mock(HttpServerRequest.class);
+    when(request.method()).thenReturn(method);
+    HttpServerResponse response = mock(HttpServerResponse.class, RETURNS_SELF);
+    when(response.end(anyString())).thenReturn(Future.succeededFuture());
+
+    RoutingContext rc = mock(RoutingContext.class);
+    when(rc.normalizedPath()).thenReturn(path);
+    when(rc.request()).thenReturn(request);
+    when(rc.response()).thenReturn(response);
+    return rc;
+  }
+}
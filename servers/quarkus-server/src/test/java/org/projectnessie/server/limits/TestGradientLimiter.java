@@ -0,0 +1,118 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.server.limits;
+
+import java.util.concurrent.TimeUnit;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(SoftAssertionsExtension.class)
+public class TestGradientLimiter {
+  @InjectSoftAssertions protected SoftAssertions soft;
+
+  static final long RTT = TimeUnit.MILLISECONDS.toNanos(10);
+
+  @Test
+  public void rejectsAboveLimit() {
+    GradientLimiter limiter = new GradientLimiter(3, 1, 10);
+    for (int i = 0; i < 3; i++) {
+      soft.assertThat(limiter.tryAcquire()).isTrue();
+    }
+    soft.assertThat(limiter.inflight()).isEqualTo(3);
+    soft.assertThat(limiter.tryAcquire()).isFalse();
+    soft.assertThat(limiter.tryAcquire()).isFalse();
+    soft.assertThat(limiter.rejected()).isEqualTo(2L);
+
+    limiter.release(RTT);
+    soft.assertThat(limiter.inflight()).isEqualTo(2);
+    soft.assertThat(limiter.tryAcquire()).isTrue();
+    soft.assertThat(limiter.rejected()).isEqualTo(2L);
+  }
+
+  @Test
+  public void growsWithStableLatency() {
+    GradientLimiter limiter = new GradientLimiter(10, 1, 50);
+    for (int i = 0; i < 200; i++) {
+      saturate(limiter, RTT);
+    }
+    soft.assertThat(limiter.limit()).isEqualTo(50);
+    soft.assertThat(limiter.longRttNanos()).isEqualTo(RTT);
+  }
+
+  @Test
+  public void doesNotGrowWhenUnused() {
+    GradientLimiter limiter = new GradientLimiter(10, 1, 50);
+    for (int i = 0; i < 200; i++) {
+      soft.assertThat(limiter.tryAcquire()).isTrue();
+      limiter.release(RTT);
+    }
+    soft.assertThat(limiter.limit()).isEqualTo(10);
+  }
+
+  @Test
+  public void shrinksWhenUnused() {
+    GradientLimiter limiter = new GradientLimiter(40, 2, 50);
+    soft.assertThat(limiter.tryAcquire()).isTrue();
+    limiter.release(RTT);
+
+    for (int i = 0; i < 20; i++) {
+      soft.assertThat(limiter.tryAcquire()).isTrue();
+      limiter.release(RTT * 10);
+    }
+    soft.assertThat(limiter.limit()).isLessThan(20).isGreaterThanOrEqualTo(2);
+  }
+
+  @Test
+  public void adaptsToLatency() {
+    GradientLimiter limiter = new GradientLimiter(40, 2, 50);
+    for (int i = 0; i < 20; i++) {
+      saturate(limiter, RTT);
+    }
+    int limitBefore = limiter.limit();
+
+    for (int i = 0; i < 50; i++) {
+      saturate(limiter, RTT * 10);
+    }
+    soft.assertThat(limiter.limit()).isLessThan(limitBefore / 2).isGreaterThanOrEqualTo(2);
+
+    // recovers when the latency goes back to normal
+    for (int i = 0; i < 100; i++) {
+      saturate(limiter, RTT);
+    }
+    soft.assertThat(limiter.limit()).isEqualTo(50);
+  }
+
+  @Test
+  public void invalidLimits() {
+    soft.assertThatIllegalArgumentException().isThrownBy(() -> new GradientLimiter(1, 0, 10));
+    soft.assertThatIllegalArgumentException().isThrownBy(() -> new GradientLimiter(5, 6, 5));
+    soft.assertThatIllegalArgumentException().isThrownBy(() -> new GradientLimiter(11, 1, 10));
+  }
+
+  /** Acquires all permits and releases them with the given round-trip time. */
+  private static void saturate(GradientLimiter limiter, long rtt) {
+    int acquired = 0;
+    while (limiter.tryAcquire()) {
+      acquired++;
+    }
+    for (int i = 0; i < acquired; i++) {
+      limiter.release(rtt);
+    }
+  }
+}
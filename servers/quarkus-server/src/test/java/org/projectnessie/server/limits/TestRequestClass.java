@@ -0,0 +1,76 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.server.limits;
+
+import static org.projectnessie.server.limits.RequestClass.CATALOG_IMPORTS;
+import static org.projectnessie.server.limits.RequestClass.COMMITS;
+import static org.projectnessie.server.limits.RequestClass.READS;
+
+import java.util.stream.Stream;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+@ExtendWith(SoftAssertionsExtension.class)
+public class TestRequestClass {
+  @InjectSoftAssertions protected SoftAssertions soft;
+
+  @ParameterizedTest
+  @MethodSource
+  public void classify(String method, String path, RequestClass expected) {
+    soft.assertThat(RequestClass.classify(method, path)).isEqualTo(expected);
+  }
+
+  static Stream<Arguments> classify() {
+    return Stream.of(
+        Arguments.of("GET", "/", null),
+        Arguments.of("GET", "/tree/main", null),
+        Arguments.of("GET", "/q/metrics", null),
+        Arguments.of("GET", "/api/v2/trees", READS),
+        Arguments.of("GET", "/api/v2/trees/main/entries", READS),
+        Arguments.of("POST", "/api/v2/trees/main/contents", READS),
+        Arguments.of("POST", "/api/v1/contents", READS),
+        Arguments.of("POST", "/api/v2/trees", COMMITS),
+        Arguments.of("POST", "/api/v2/trees/main/history/commit", COMMITS),
+        Arguments.of("DELETE", "/api/v2/trees/branch", COMMITS),
+        Arguments.of("PUT", "/api/v2/trees/main", COMMITS),
+        Arguments.of("HEAD", "/api/v2/trees/main", READS),
+        Arguments.of("OPTIONS", "/api/v2/trees", READS),
+        Arguments.of("GET", "/iceberg/v1/config", READS),
+        Arguments.of("GET", "/iceberg/v1/main/namespaces/ns/tables", READS),
+        Arguments.of("GET", "/iceberg/v1/main/namespaces/ns/tables/tab", CATALOG_IMPORTS),
+        Arguments.of("GET", "/iceberg/v1/main/namespaces/ns/views/view", CATALOG_IMPORTS),
+        Arguments.of("HEAD", "/iceberg/v1/main/namespaces/ns/tables/tab", READS),
+        Arguments.of("POST", "/iceberg/v1/main/namespaces/ns/tables/tab", COMMITS),
+        Arguments.of("POST", "/iceberg/v1/main/namespaces/ns/tables/metrics", COMMITS),
+        Arguments.of("POST", "/iceberg/v1/main/namespaces/ns/tables/tab/metrics", READS),
+        Arguments.of("POST", "/iceberg/v1/main/namespaces/contents/tables", COMMITS),
+        Arguments.of("POST", "/iceberg/v1/main/transactions/commit", COMMITS),
+        Arguments.of("POST", "/iceberg/v1/oauth/tokens", READS),
+        Arguments.of("POST", "/iceberg/v1/main/s3-sign/abc", READS),
+        Arguments.of("POST", "/iceberg/v1/main/s3sign/abc", READS),
+        Arguments.of("POST", "/iceberg/v1/main/namespaces", COMMITS),
+        Arguments.of("DELETE", "/iceberg/v1/main/namespaces/ns/tables/tab", COMMITS),
+        Arguments.of("GET", "/catalog/v1/trees/main/manifest-file/a.b", READS),
+        Arguments.of("GET", "/catalog/v1/trees/main/snapshots", CATALOG_IMPORTS),
+        Arguments.of("GET", "/catalog/v1/trees/main/snapshot/a.b", CATALOG_IMPORTS),
+        Arguments.of("POST", "/catalog/v1/trees/main/commit", COMMITS));
+  }
+}
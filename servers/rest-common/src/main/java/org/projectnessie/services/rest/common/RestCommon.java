@@ -15,7 +15,12 @@
  */
 package org.projectnessie.services.rest.common;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
 import com.google.common.base.Throwables;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import jakarta.ws.rs.core.EntityTag;
 import jakarta.ws.rs.core.HttpHeaders;
 import java.util.Arrays;
 import java.util.Locale;
@@ -89,6 +94,44 @@ public final class RestCommon {
     }
   }
 
+  /**
+   * Builds a strong entity tag from the given values, which must uniquely identify the
+   * representation of a response.
+   */
+  public static EntityTag entityTag(String... values) {
+    Hasher hasher = Hashing.sha256().newHasher();
+    for (String value : values) {
+      hasher.putInt(value.length()).putString(value, UTF_8);
+    }
+    return new EntityTag(hasher.hash().toString());
+  }
+
+  /**
+   * Checks whether the value of an {@code If-None-Match} request header matches the given entity
+   * tag, using the weak comparison as required for {@code If-None-Match}.
+   */
+  public static boolean ifNoneMatch(String ifNoneMatch, EntityTag entityTag) {
+    if (ifNoneMatch == null) {
+      return false;
+    }
+    for (String candidate : ifNoneMatch.split(",")) {
+      candidate = candidate.trim();
+      if (candidate.equals("*")) {
+        return true;
+      }
+      if (candidate.startsWith("W/")) {
+        candidate = candidate.substring(2);
+      }
+      if (candidate.length() >= 2
+          && candidate.startsWith("\"")
+          && candidate.endsWith("\"")
+          && candidate.substring(1, candidate.length() - 1).equals(entityTag.getValue())) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   public static CommitMeta.Builder updateCommitMeta(
       CommitMeta.Builder commitMeta, HttpHeaders httpHeaders) {
     httpHeaders
@@ -32,6 +32,8 @@ dependencies {
   compileOnly(libs.jakarta.validation.api)
   compileOnly(libs.jakarta.ws.rs.api)
   compileOnly(libs.jakarta.servlet.api)
+  compileOnly(platform(libs.quarkus.bom))
+  compileOnly("io.smallrye.common:smallrye-common-annotation")
 
   compileOnly(libs.microprofile.openapi)
 
@@ -0,0 +1,74 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.services.rest;
+
+import static org.projectnessie.services.rest.common.RestCommon.entityTag;
+import static org.projectnessie.services.rest.common.RestCommon.ifNoneMatch;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.ws.rs.HttpMethod;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.ext.Provider;
+import org.projectnessie.model.Content;
+import org.projectnessie.model.ContentResponse;
+
+/**
+ * Adds an {@code ETag} header to successful responses of the REST API v1 and v2 endpoints that
+ * return a single content object and responds with {@code 304 Not Modified} without a body, if the
+ * request's {@code If-None-Match} header matches.
+ *
+ * <p>The content has to be looked up to know whether it changed, so this saves the serialization
+ * and transfer of the response, not the lookup.
+ */
+@Provider
+@ApplicationScoped
+public class ContentEntityTagFilter implements ContainerResponseFilter {
+
+  @Override
+  public void filter(ContainerRequestContext request, ContainerResponseContext response) {
+    if (!HttpMethod.GET.equals(request.getMethod())
+        || response.getStatus() != Response.Status.OK.getStatusCode()) {
+      return;
+    }
+
+    EntityTag tag = contentEntityTag(response.getEntity());
+    if (tag == null) {
+      return;
+    }
+
+    response.getHeaders().putSingle(HttpHeaders.ETAG, tag);
+    if (ifNoneMatch(request.getHeaderString(HttpHeaders.IF_NONE_MATCH), tag)) {
+      response.setStatus(Response.Status.NOT_MODIFIED.getStatusCode());
+      response.setEntity(null);
+    }
+  }
+
+  static EntityTag contentEntityTag(Object entity) {
+    // The string representations of the immutable model types contain all attributes.
+    if (entity instanceof Content) {
+      return entityTag("content", entity.toString());
+    }
+    if (entity instanceof ContentResponse) {
+      return entityTag("content-response", entity.toString());
+    }
+    return null;
+  }
+}
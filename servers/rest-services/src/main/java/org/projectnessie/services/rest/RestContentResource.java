@@ -19,6 +19,7 @@ import static org.projectnessie.services.rest.RestApiContext.NESSIE_V1;
 import static org.projectnessie.versioned.RequestMeta.API_READ;
 
 import com.fasterxml.jackson.annotation.JsonView;
+import io.smallrye.common.annotation.RunOnVirtualThread;
 import jakarta.enterprise.context.RequestScoped;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.Path;
@@ -38,6 +39,7 @@ import org.projectnessie.versioned.VersionStore;
 
 /** REST endpoint for the content-API. */
 @RequestScoped
+@RunOnVirtualThread
 @Path("api/v1/contents")
 public class RestContentResource implements HttpContentApi {
   // Cannot extend the ContentApiImplWithAuthz class, because then CDI gets confused
@@ -16,21 +16,36 @@
 package org.projectnessie.services.rest;
 
 import static com.google.common.base.Preconditions.checkArgument;
+import static org.projectnessie.api.v2.http.HttpStreaming.APPLICATION_NDJSON;
+import static org.projectnessie.api.v2.params.ParsedReference.parsedReference;
 import static org.projectnessie.api.v2.params.ReferenceResolver.resolveReferencePathElement;
+import static org.projectnessie.model.Validation.REF_NAME_PATH_ELEMENT_REGEX;
 import static org.projectnessie.services.impl.RefUtil.toReference;
 import static org.projectnessie.services.rest.RestApiContext.NESSIE_V2;
+import static org.projectnessie.services.rest.StreamingResponseWriter.writeStreamingResponse;
 import static org.projectnessie.services.rest.common.RestCommon.updateCommitMeta;
 import static org.projectnessie.services.spi.TreeService.MAX_COMMIT_LOG_ENTRIES;
 import static org.projectnessie.versioned.RequestMeta.API_READ;
 import static org.projectnessie.versioned.RequestMeta.API_WRITE;
 
 import com.fasterxml.jackson.annotation.JsonView;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.smallrye.common.annotation.RunOnVirtualThread;
 import jakarta.enterprise.context.RequestScoped;
+import jakarta.enterprise.inject.Instance;
 import jakarta.inject.Inject;
+import jakarta.ws.rs.BeanParam;
+import jakarta.ws.rs.GET;
 import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.StreamingOutput;
 import java.util.List;
 import java.util.Locale;
+import java.util.function.Consumer;
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.projectnessie.api.v2.http.HttpStreaming;
 import org.projectnessie.api.v2.http.HttpTreeApi;
 import org.projectnessie.api.v2.params.CommitLogParams;
 import org.projectnessie.api.v2.params.DiffParams;
@@ -47,6 +62,8 @@ import org.projectnessie.model.CommitMeta;
 import org.projectnessie.model.CommitResponse;
 import org.projectnessie.model.ContentKey;
 import org.projectnessie.model.ContentResponse;
+import org.projectnessie.model.CreateReferencesRequest;
+import org.projectnessie.model.CreateReferencesResponse;
 import org.projectnessie.model.DiffResponse;
 import org.projectnessie.model.DiffResponse.DiffEntry;
 import org.projectnessie.model.EntriesResponse;
@@ -80,10 +97,13 @@ import org.projectnessie.services.spi.ContentService;
 import org.projectnessie.services.spi.DiffService;
 import org.projectnessie.services.spi.PagedCountingResponseHandler;
 import org.projectnessie.services.spi.TreeService;
+import org.projectnessie.versioned.NamedRef;
 import org.projectnessie.versioned.VersionStore;
+import org.projectnessie.versioned.WithHash;
 
 /** REST endpoint for the tree-API. */
 @RequestScoped
+@RunOnVirtualThread
 @Path("api/v2/trees")
 public class RestV2TreeResource implements HttpTreeApi {
 
@@ -91,25 +111,43 @@ public class RestV2TreeResource implements HttpTreeApi {
   private final TreeService treeService;
   private final ContentService contentService;
   private final DiffService diffService;
+  private final ServerConfig config;
   private final HttpHeaders httpHeaders;
+  private final ObjectMapper objectMapper;
 
   // Mandated by CDI 2.0
   public RestV2TreeResource() {
     this(null, null, null, null, null);
   }
 
-  @Inject
   public RestV2TreeResource(
       ServerConfig config,
       VersionStore store,
       Authorizer authorizer,
       AccessContext accessContext,
       HttpHeaders httpHeaders) {
+    this(config, store, authorizer, accessContext, httpHeaders, null);
+  }
+
+  @Inject
+  public RestV2TreeResource(
+      ServerConfig config,
+      VersionStore store,
+      Authorizer authorizer,
+      AccessContext accessContext,
+      HttpHeaders httpHeaders,
+      Instance<ObjectMapper> objectMapper) {
     this.configService = new ConfigApiImpl(config, store, authorizer, accessContext, NESSIE_V2);
     this.treeService = new TreeApiImpl(config, store, authorizer, accessContext, NESSIE_V2);
     this.contentService = new ContentApiImpl(config, store, authorizer, accessContext, NESSIE_V2);
     this.diffService = new DiffApiImpl(config, store, authorizer, accessContext, NESSIE_V2);
+    this.config = config;
     this.httpHeaders = httpHeaders;
+    // Use the server's configured ObjectMapper, if there is one
+    this.objectMapper =
+        objectMapper != null && objectMapper.isResolvable()
+            ? objectMapper.get()
+            : StreamingResponseWriter.DEFAULT_OBJECT_MAPPER;
   }
 
   private ParsedReference parseRefPathString(String refPathString) {
@@ -183,6 +221,12 @@ public class RestV2TreeResource implements HttpTreeApi {
     return SingleReferenceResponse.builder().reference(created).build();
   }
 
+  @JsonView(Views.V2.class)
+  @Override
+  public CreateReferencesResponse createReferences(CreateReferencesRequest request) {
+    return tree().createReferences(request.getReferences());
+  }
+
   @JsonView(Views.V2.class)
   @Override
   public SingleReferenceResponse getReferenceByName(GetReferenceParams params)
@@ -211,9 +255,53 @@ public class RestV2TreeResource implements HttpTreeApi {
   @Override
   public EntriesResponse getEntries(String ref, EntriesParams params)
       throws NessieNotFoundException {
-    ParsedReference reference = parseRefPathString(ref);
-    Integer maxRecords = params.maxRecords();
     ImmutableEntriesResponse.Builder builder = EntriesResponse.builder();
+    return getEntries(parseRefPathString(ref), params, builder, builder::addEntries);
+  }
+
+  /**
+   * Streaming variant of {@link #getEntries(String, EntriesParams)}, writes each entry as soon as
+   * it has been produced, see {@link HttpStreaming}.
+   *
+   * <p>The reference is resolved and access checked and the arguments are validated before the
+   * response is committed, so that those errors are returned with the appropriate HTTP status. The
+   * streaming call uses the resolved commit ID.
+   */
+  @GET
+  @Path("{ref:" + REF_NAME_PATH_ELEMENT_REGEX + "}/entries")
+  @Produces(APPLICATION_NDJSON)
+  @Operation(hidden = true)
+  public StreamingOutput getEntriesStreaming(
+      @PathParam("ref") String ref, @BeanParam EntriesParams params)
+      throws NessieNotFoundException {
+    ParsedReference parsed = parseRefPathString(ref);
+    ParsedReference reference =
+        resolvedReference(
+            parsed,
+            tree()
+                .resolveEntries(
+                    parsed.name(),
+                    parsed.hashWithRelativeSpec(),
+                    params.filter(),
+                    params.minKey(),
+                    params.maxKey(),
+                    params.prefixKey()));
+    return output ->
+        writeStreamingResponse(
+            output,
+            objectMapper,
+            config,
+            httpHeaders,
+            writer -> getEntries(reference, params, EntriesResponse.builder(), writer::entry));
+  }
+
+  private EntriesResponse getEntries(
+      ParsedReference reference,
+      EntriesParams params,
+      ImmutableEntriesResponse.Builder builder,
+      Consumer<EntriesResponse.Entry> entries)
+      throws NessieNotFoundException {
+    Integer maxRecords = params.maxRecords();
     return tree()
         .getEntries(
             reference.name(),
@@ -230,7 +318,7 @@ public class RestV2TreeResource implements HttpTreeApi {
 
               @Override
               protected boolean doAddEntry(EntriesResponse.Entry entry) {
-                builder.addEntries(entry);
+                entries.accept(entry);
                 return true;
               }
 
@@ -250,7 +338,53 @@ public class RestV2TreeResource implements HttpTreeApi {
   @Override
   public LogResponse getCommitLog(String ref, CommitLogParams params)
       throws NessieNotFoundException {
-    ParsedReference reference = parseRefPathString(ref);
+    ImmutableLogResponse.Builder builder = ImmutableLogResponse.builder();
+    return getCommitLog(parseRefPathString(ref), params, builder, builder::addLogEntries);
+  }
+
+  /**
+   * Streaming variant of {@link #getCommitLog(String, CommitLogParams)}, writes each log entry as
+   * soon as it has been produced, see {@link HttpStreaming}.
+   *
+   * <p>The reference is resolved and access checked and the arguments are validated before the
+   * response is committed, so that those errors are returned with the appropriate HTTP status.
+   * Unless a page token is given, the streaming call uses the resolved commit ID.
+   */
+  @GET
+  @Path("{ref:" + REF_NAME_PATH_ELEMENT_REGEX + "}/history")
+  @Produces(APPLICATION_NDJSON)
+  @Operation(hidden = true)
+  public StreamingOutput getCommitLogStreaming(
+      @PathParam("ref") String ref, @BeanParam CommitLogParams params)
+      throws NessieNotFoundException {
+    ParsedReference parsed = parseRefPathString(ref);
+    WithHash<NamedRef> resolved =
+        tree()
+            .resolveCommitLog(
+                parsed.name(),
+                params.startHash(),
+                parsed.hashWithRelativeSpec(),
+                params.filter(),
+                params.pageToken());
+    // The page token takes precedence over the commit ID of the reference
+    ParsedReference reference =
+        params.pageToken() == null ? resolvedReference(parsed, resolved) : parsed;
+    return output ->
+        writeStreamingResponse(
+            output,
+            objectMapper,
+            config,
+            httpHeaders,
+            writer ->
+                getCommitLog(reference, params, ImmutableLogResponse.builder(), writer::entry));
+  }
+
+  private LogResponse getCommitLog(
+      ParsedReference reference,
+      CommitLogParams params,
+      ImmutableLogResponse.Builder builder,
+      Consumer<LogEntry> entries)
+      throws NessieNotFoundException {
     Integer maxRecords = params.maxRecords();
     return tree()
         .getCommitLog(
@@ -261,8 +395,6 @@ public class RestV2TreeResource implements HttpTreeApi {
             params.filter(),
             params.pageToken(),
             new PagedCountingResponseHandler<>(maxRecords, MAX_COMMIT_LOG_ENTRIES) {
-              final ImmutableLogResponse.Builder builder = ImmutableLogResponse.builder();
-
               @Override
               public LogResponse build() {
                 return builder.build();
@@ -270,7 +402,7 @@ public class RestV2TreeResource implements HttpTreeApi {
 
               @Override
               protected boolean doAddEntry(LogEntry entry) {
-                builder.addLogEntries(entry);
+                entries.accept(entry);
                 return true;
               }
 
@@ -284,10 +416,68 @@ public class RestV2TreeResource implements HttpTreeApi {
   @JsonView(Views.V2.class)
   @Override
   public DiffResponse getDiff(DiffParams params) throws NessieNotFoundException {
-    Integer maxRecords = params.maxRecords();
-    ParsedReference from = parseRefPathString(params.getFromRef());
-    ParsedReference to = parseRefPathString(params.getToRef());
     ImmutableDiffResponse.Builder builder = DiffResponse.builder();
+    return getDiff(
+        parseRefPathString(params.getFromRef()),
+        parseRefPathString(params.getToRef()),
+        params,
+        builder,
+        builder::addDiffs);
+  }
+
+  /**
+   * Streaming variant of {@link #getDiff(DiffParams)}, writes each diff entry as soon as it has
+   * been produced, see {@link HttpStreaming}.
+   *
+   * <p>The references are resolved and access checked and the arguments are validated before the
+   * response is committed, so that those errors are returned with the appropriate HTTP status. The
+   * streaming call uses the resolved commit IDs.
+   */
+  @GET
+  @Path(
+      "{from-ref:"
+          + REF_NAME_PATH_ELEMENT_REGEX
+          + "}/diff/{to-ref:"
+          + REF_NAME_PATH_ELEMENT_REGEX
+          + "}")
+  @Produces(APPLICATION_NDJSON)
+  @Operation(hidden = true)
+  public StreamingOutput getDiffStreaming(@BeanParam DiffParams params)
+      throws NessieNotFoundException {
+    ParsedReference parsedFrom = parseRefPathString(params.getFromRef());
+    ParsedReference parsedTo = parseRefPathString(params.getToRef());
+    ParsedReference[] resolved = {parsedFrom, parsedTo};
+    diff()
+        .resolveDiff(
+            parsedFrom.name(),
+            parsedFrom.hashWithRelativeSpec(),
+            parsedTo.name(),
+            parsedTo.hashWithRelativeSpec(),
+            h -> resolved[0] = resolvedReference(parsedFrom, h),
+            h -> resolved[1] = resolvedReference(parsedTo, h),
+            params.minKey(),
+            params.maxKey(),
+            params.prefixKey(),
+            params.getFilter());
+    ParsedReference from = resolved[0];
+    ParsedReference to = resolved[1];
+    return output ->
+        writeStreamingResponse(
+            output,
+            objectMapper,
+            config,
+            httpHeaders,
+            writer -> getDiff(from, to, params, DiffResponse.builder(), writer::entry));
+  }
+
+  private DiffResponse getDiff(
+      ParsedReference from,
+      ParsedReference to,
+      DiffParams params,
+      ImmutableDiffResponse.Builder builder,
+      Consumer<DiffEntry> entries)
+      throws NessieNotFoundException {
+    Integer maxRecords = params.maxRecords();
     return diff()
         .getDiff(
             from.name(),
@@ -303,7 +493,7 @@ public class RestV2TreeResource implements HttpTreeApi {
 
               @Override
               protected boolean doAddEntry(DiffEntry entry) {
-                builder.addDiffs(entry);
+                entries.accept(entry);
                 return true;
               }
 
@@ -321,6 +511,12 @@ public class RestV2TreeResource implements HttpTreeApi {
             params.getFilter());
   }
 
+  /** Returns {@code parsed} with the commit ID it has been resolved to. */
+  private static ParsedReference resolvedReference(
+      ParsedReference parsed, WithHash<NamedRef> resolved) {
+    return parsedReference(parsed.name(), resolved.getHash().asString(), parsed.type());
+  }
+
   @JsonView(Views.V2.class)
   @Override
   public SingleReferenceResponse assignReference(String type, String ref, Reference assignTo)
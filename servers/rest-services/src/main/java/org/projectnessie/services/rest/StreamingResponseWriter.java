@@ -0,0 +1,169 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.services.rest;
+
+import static org.projectnessie.api.v2.http.HttpStreaming.FIELD_ENTRY;
+import static org.projectnessie.api.v2.http.HttpStreaming.FIELD_ERROR;
+import static org.projectnessie.api.v2.http.HttpStreaming.FIELD_RESPONSE;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.google.common.base.Throwables;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Response;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.stream.Collectors;
+import org.projectnessie.api.v2.http.HttpStreaming;
+import org.projectnessie.error.BaseNessieClientServerException;
+import org.projectnessie.error.ErrorCode;
+import org.projectnessie.error.NessieError;
+import org.projectnessie.model.ser.Views;
+import org.projectnessie.services.authz.AccessCheckException;
+import org.projectnessie.services.config.ExceptionConfig;
+import org.projectnessie.services.rest.common.RestCommon;
+import org.projectnessie.versioned.BackendLimitExceededException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Writes the entries of a paged response as newline delimited JSON, one entry at a time, as
+ * described in {@link HttpStreaming}.
+ */
+final class StreamingResponseWriter {
+  private static final Logger LOGGER = LoggerFactory.getLogger(StreamingResponseWriter.class);
+
+  /** Used when the server does not provide a configured {@link ObjectMapper}. */
+  static final ObjectMapper DEFAULT_OBJECT_MAPPER = new ObjectMapper();
+
+  @FunctionalInterface
+  interface StreamingCall {
+    /** Performs the service call and returns the response object without entries. */
+    Object call(StreamingResponseWriter writer) throws Exception;
+  }
+
+  private final ObjectWriter objectWriter;
+  private final JsonGenerator generator;
+
+  private StreamingResponseWriter(OutputStream output, ObjectMapper objectMapper)
+      throws IOException {
+    // Each JSON object must be written on a single line
+    this.objectWriter =
+        objectMapper
+            .writerWithView(Views.V2.class)
+            .without(SerializationFeature.INDENT_OUTPUT)
+            .without(SerializationFeature.FAIL_ON_EMPTY_BEANS)
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    this.generator = objectWriter.createGenerator(output, JsonEncoding.UTF8);
+    this.generator.setRootValueSeparator(null);
+  }
+
+  /**
+   * Writes the entries produced by the given call and finally the response object or, if the call
+   * fails, the error to {@code output}.
+   */
+  static void writeStreamingResponse(
+      OutputStream output,
+      ObjectMapper objectMapper,
+      ExceptionConfig config,
+      HttpHeaders headers,
+      StreamingCall call)
+      throws IOException {
+    StreamingResponseWriter writer = new StreamingResponseWriter(output, objectMapper);
+    try {
+      Object response;
+      try {
+        response = call.call(writer);
+      } catch (UncheckedIOException e) {
+        // Failure writing to the client, cannot report it
+        throw e.getCause();
+      } catch (Exception e) {
+        writer.write(FIELD_ERROR, nessieError(e, config, headers));
+        return;
+      }
+      writer.write(FIELD_RESPONSE, response);
+    } finally {
+      writer.generator.close();
+    }
+  }
+
+  /**
+   * Writes an entry. Entries are not flushed individually, the generator and the underlying output
+   * stream send entries to the client as their buffers fill up.
+   */
+  void entry(Object entry) {
+    try {
+      write(FIELD_ENTRY, entry);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private void write(String field, Object value) throws IOException {
+    generator.writeStartObject();
+    generator.writeFieldName(field);
+    objectWriter.writeValue(generator, value);
+    generator.writeEndObject();
+    generator.writeRaw('\n');
+  }
+
+  private static NessieError nessieError(
+      Exception exception, ExceptionConfig config, HttpHeaders headers) {
+    ErrorCode errorCode;
+    String message;
+    if (exception instanceof BaseNessieClientServerException) {
+      errorCode = ((BaseNessieClientServerException) exception).getErrorCode();
+      message = exception.getMessage();
+    } else if (exception.getCause() instanceof BaseNessieClientServerException) {
+      errorCode = ((BaseNessieClientServerException) exception.getCause()).getErrorCode();
+      message = exception.getCause().getMessage();
+    } else if (exception instanceof AccessCheckException) {
+      errorCode = ErrorCode.FORBIDDEN;
+      message = exception.getMessage();
+    } else if (exception instanceof BackendLimitExceededException) {
+      LOGGER.warn("Backend throttled/refused the request: {}", exception.toString());
+      errorCode = ErrorCode.TOO_MANY_REQUESTS;
+      message = "Backend store refused to process the request: " + exception;
+    } else if (exception instanceof IllegalArgumentException) {
+      errorCode = ErrorCode.BAD_REQUEST;
+      message = exception.getMessage();
+    } else {
+      LOGGER.warn("Unhandled exception returned as streaming error to client", exception);
+      errorCode = ErrorCode.UNKNOWN;
+      message =
+          Throwables.getCausalChain(exception).stream()
+              .map(Throwable::toString)
+              .collect(Collectors.joining(", caused by "));
+    }
+
+    Response.Status status = Response.Status.fromStatusCode(errorCode.httpStatus());
+    if (status == null) {
+      status = Response.Status.INTERNAL_SERVER_ERROR;
+    }
+    return RestCommon.buildNessieError(
+        message,
+        status.getStatusCode(),
+        status.getReasonPhrase(),
+        errorCode,
+        exception,
+        config != null && config.sendStacktraceToClient(),
+        headers != null ? headers::getHeaderString : h -> null);
+  }
+}
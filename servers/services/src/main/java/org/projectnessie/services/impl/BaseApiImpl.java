@@ -15,6 +15,7 @@
  */
 package org.projectnessie.services.impl;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static org.projectnessie.services.cel.CELUtil.CONTAINER;
 import static org.projectnessie.services.cel.CELUtil.CONTENT_KEY_DECLARATIONS;
 import static org.projectnessie.services.cel.CELUtil.CONTENT_KEY_TYPES;
@@ -95,6 +96,17 @@ public abstract class BaseApiImpl {
     };
   }
 
+  /**
+   * Validates the combination of key range arguments, the same way the version store does when
+   * listing keys or diffs.
+   */
+  static void checkKeyRange(
+      @Nullable ContentKey minKey, @Nullable ContentKey maxKey, @Nullable ContentKey prefixKey) {
+    checkArgument(
+        prefixKey == null || (minKey == null && maxKey == null),
+        "Combining prefixKey with either minKey or maxKey is not supported.");
+  }
+
   protected ServerConfig getServerConfig() {
     return config;
   }
@@ -164,4 +164,38 @@ public class DiffApiImpl extends BaseApiImpl implements DiffService {
       throw new NessieReferenceNotFoundException(e.getMessage(), e);
     }
   }
+
+  @Override
+  public void resolveDiff(
+      String fromRef,
+      String fromHash,
+      String toRef,
+      String toHash,
+      Consumer<WithHash<NamedRef>> fromReference,
+      Consumer<WithHash<NamedRef>> toReference,
+      ContentKey minKey,
+      ContentKey maxKey,
+      ContentKey prefixKey,
+      String filter)
+      throws NessieNotFoundException {
+    try {
+      ResolvedHash from =
+          getHashResolver().resolveHashOnRef(fromRef, fromHash, new HashValidator("\"From\" hash"));
+      ResolvedHash to =
+          getHashResolver().resolveHashOnRef(toRef, toHash, new HashValidator("\"To\" hash"));
+
+      startAccessCheck()
+          .canViewReference(from.getNamedRef())
+          .canViewReference(to.getNamedRef())
+          .checkAndThrow();
+
+      checkKeyRange(minKey, maxKey, prefixKey);
+      filterOnContentKey(filter);
+
+      fromReference.accept(from);
+      toReference.accept(to);
+    } catch (ReferenceNotFoundException e) {
+      throw new NessieReferenceNotFoundException(e.getMessage(), e);
+    }
+  }
 }
@@ -22,6 +22,11 @@ import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.singleton;
 import static java.util.function.Function.identity;
+import static org.projectnessie.error.ErrorCode.BAD_REQUEST;
+import static org.projectnessie.error.ErrorCode.FORBIDDEN;
+import static org.projectnessie.error.ErrorCode.REFERENCE_ALREADY_EXISTS;
+import static org.projectnessie.error.ErrorCode.REFERENCE_NOT_FOUND;
+import static org.projectnessie.error.ErrorCode.UNKNOWN;
 import static org.projectnessie.model.CommitResponse.AddedContent.addedContent;
 import static org.projectnessie.services.authz.Check.canReadContentKey;
 import static org.projectnessie.services.authz.Check.canReadEntries;
@@ -51,6 +56,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -63,6 +69,7 @@ import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import org.projectnessie.cel.tools.Script;
 import org.projectnessie.cel.tools.ScriptException;
+import org.projectnessie.error.ErrorCode;
 import org.projectnessie.error.NessieConflictException;
 import org.projectnessie.error.NessieNotFoundException;
 import org.projectnessie.error.NessieReferenceAlreadyExistsException;
@@ -73,6 +80,9 @@ import org.projectnessie.model.CommitMeta;
 import org.projectnessie.model.CommitResponse;
 import org.projectnessie.model.Content;
 import org.projectnessie.model.ContentKey;
+import org.projectnessie.model.CreateReferencesRequest.NewReference;
+import org.projectnessie.model.CreateReferencesResponse;
+import org.projectnessie.model.CreateReferencesResponse.CreateReferenceResult;
 import org.projectnessie.model.EntriesResponse.Entry;
 import org.projectnessie.model.FetchOption;
 import org.projectnessie.model.IdentifiedContentKey;
@@ -113,6 +123,7 @@ import org.projectnessie.services.spi.PagedResponseHandler;
 import org.projectnessie.services.spi.TreeService;
 import org.projectnessie.versioned.BranchName;
 import org.projectnessie.versioned.Commit;
+import org.projectnessie.versioned.CreateReferenceOutcome;
 import org.projectnessie.versioned.GetNamedRefsParams;
 import org.projectnessie.versioned.GetNamedRefsParams.RetrieveOptions;
 import org.projectnessie.versioned.Hash;
@@ -123,6 +134,7 @@ import org.projectnessie.versioned.MergeTransplantResultBase;
 import org.projectnessie.versioned.NamedRef;
 import org.projectnessie.versioned.ReferenceAlreadyExistsException;
 import org.projectnessie.versioned.ReferenceConflictException;
+import org.projectnessie.versioned.ReferenceCreatedResult;
 import org.projectnessie.versioned.ReferenceHistory;
 import org.projectnessie.versioned.ReferenceInfo;
 import org.projectnessie.versioned.ReferenceNotFoundException;
@@ -133,6 +145,7 @@ import org.projectnessie.versioned.VersionStore;
 import org.projectnessie.versioned.VersionStore.CommitValidator;
 import org.projectnessie.versioned.VersionStore.MergeOp;
 import org.projectnessie.versioned.VersionStore.TransplantOp;
+import org.projectnessie.versioned.VersionStoreException;
 import org.projectnessie.versioned.WithHash;
 import org.projectnessie.versioned.paging.PaginationIterator;
 
@@ -330,6 +343,90 @@ public class TreeApiImpl extends BaseApiImpl implements TreeService {
     }
   }
 
+  @Override
+  public CreateReferencesResponse createReferences(List<NewReference> references) {
+    CreateReferenceResult[] results = new CreateReferenceResult[references.size()];
+    Map<NamedRef, ResolvedHash> targets = new LinkedHashMap<>();
+    Map<NamedRef, Integer> indexes = new HashMap<>();
+    Set<String> names = new HashSet<>();
+
+    BatchAccessChecker check = startAccessCheck();
+    for (int i = 0; i < references.size(); i++) {
+      NewReference newReference = references.get(i);
+      String refName = newReference.getName();
+      ReferenceType type = newReference.getType();
+      try {
+        Validation.validateReferenceName(refName);
+        Validation.validateForbiddenReferenceName(refName);
+        checkArgument(names.add(refName), "Reference '%s' specified multiple times", refName);
+        NamedRef namedReference = toNamedRef(type, refName);
+
+        Reference source = newReference.getSource();
+        ResolvedHash targetRef =
+            getHashResolver()
+                .resolveHashOnRef(
+                    source != null ? source.getName() : null,
+                    source != null ? source.getHash() : null,
+                    new HashValidator("Target hash").hashMustBeUnambiguous());
+        check.canCreateReference(namedReference).canViewReference(targetRef.getNamedRef());
+        targets.put(namedReference, targetRef);
+        indexes.put(namedReference, i);
+      } catch (IllegalArgumentException e) {
+        results[i] = CreateReferenceResult.failed(refName, type, BAD_REQUEST, e.getMessage());
+      } catch (ReferenceNotFoundException e) {
+        results[i] =
+            CreateReferenceResult.failed(refName, type, REFERENCE_NOT_FOUND, e.getMessage());
+      }
+    }
+
+    Map<Check, String> failedChecks = check.check();
+    Map<NamedRef, Optional<Hash>> refs = new LinkedHashMap<>();
+    for (Map.Entry<NamedRef, ResolvedHash> target : targets.entrySet()) {
+      NamedRef namedReference = target.getKey();
+      String failedCheck = failedChecks.get(Check.canCreateReference(namedReference));
+      if (failedCheck == null) {
+        failedCheck = failedChecks.get(canViewReference(target.getValue().getNamedRef()));
+      }
+      if (failedCheck != null) {
+        int i = indexes.get(namedReference);
+        results[i] =
+            CreateReferenceResult.failed(
+                namedReference.getName(), references.get(i).getType(), FORBIDDEN, failedCheck);
+      } else {
+        refs.put(namedReference, Optional.of(target.getValue().getHash()));
+      }
+    }
+
+    if (!refs.isEmpty()) {
+      for (CreateReferenceOutcome outcome : getStore().createReferences(refs)) {
+        NamedRef namedReference = outcome.getNamedRef();
+        int i = indexes.get(namedReference);
+        Optional<ReferenceCreatedResult> created = outcome.getCreated();
+        if (created.isPresent()) {
+          results[i] =
+              CreateReferenceResult.created(
+                  RefUtil.toReference(namedReference, created.get().getHash()));
+        } else {
+          VersionStoreException failure = outcome.getFailure().orElseThrow();
+          ErrorCode errorCode =
+              failure instanceof ReferenceAlreadyExistsException
+                  ? REFERENCE_ALREADY_EXISTS
+                  : failure instanceof ReferenceNotFoundException
+                      ? REFERENCE_NOT_FOUND
+                      : UNKNOWN;
+          results[i] =
+              CreateReferenceResult.failed(
+                  namedReference.getName(),
+                  references.get(i).getType(),
+                  errorCode,
+                  failure.getMessage());
+        }
+      }
+    }
+
+    return CreateReferencesResponse.builder().addResults(results).build();
+  }
+
   @Override
   public Branch getDefaultBranch() throws NessieNotFoundException {
     Reference r = getReferenceByName(getServerConfig().getDefaultBranch(), FetchOption.MINIMAL);
@@ -488,6 +585,36 @@ public class TreeApiImpl extends BaseApiImpl implements TreeService {
     }
   }
 
+  @Override
+  public WithHash<NamedRef> resolveCommitLog(
+      String namedRef,
+      String oldestHashLimit,
+      String youngestHash,
+      String filter,
+      String pageToken)
+      throws NessieNotFoundException {
+    try {
+      ResolvedHash endRef =
+          getHashResolver()
+              .resolveHashOnRef(
+                  namedRef,
+                  null == pageToken ? youngestHash : pageToken,
+                  new HashValidator(null == pageToken ? "Youngest hash" : "Token pagination hash"));
+
+      startAccessCheck().canListCommitLog(endRef.getNamedRef()).checkAndThrow();
+
+      if (oldestHashLimit != null) {
+        getHashResolver()
+            .resolveHashOnRef(endRef, oldestHashLimit, new HashValidator("Oldest hash"));
+      }
+      filterCommitLog(filter);
+
+      return endRef;
+    } catch (ReferenceNotFoundException e) {
+      throw new NessieReferenceNotFoundException(e.getMessage(), e);
+    }
+  }
+
   private LogEntry logEntryOperationsAccessCheck(
       Set<Check> successfulChecks,
       Set<Check> failedChecks,
@@ -968,6 +1095,31 @@ public class TreeApiImpl extends BaseApiImpl implements TreeService {
     }
   }
 
+  @Override
+  public WithHash<NamedRef> resolveEntries(
+      String namedRef,
+      String hashOnRef,
+      String filter,
+      ContentKey minKey,
+      ContentKey maxKey,
+      ContentKey prefixKey)
+      throws NessieNotFoundException {
+    try {
+      ResolvedHash refWithHash =
+          getHashResolver()
+              .resolveHashOnRef(namedRef, hashOnRef, new HashValidator("Expected hash"));
+
+      startAccessCheck().canReadEntries(refWithHash.getValue()).checkAndThrow();
+
+      checkKeyRange(minKey, maxKey, prefixKey);
+      filterEntries(filter);
+
+      return refWithHash;
+    } catch (ReferenceNotFoundException e) {
+      throw new NessieReferenceNotFoundException(e.getMessage(), e);
+    }
+  }
+
   private static Entry maybeTruncateToDepth(Entry entry, int depth) {
     List<String> nameElements = entry.getName().getElements();
     boolean truncateToNamespace = nameElements.size() > depth;
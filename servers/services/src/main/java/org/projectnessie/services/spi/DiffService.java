@@ -61,4 +61,31 @@ public interface DiffService {
       @Nullable List<ContentKey> requestedKeys,
       @Nullable String filter)
       throws NessieNotFoundException;
+
+  /**
+   * Resolves the references of a {@link #getDiff(String, String, String, String, String,
+   * PagedResponseHandler, Consumer, Consumer, ContentKey, ContentKey, ContentKey, List, String)
+   * diff request}, checks access to them and validates the arguments, without computing any
+   * difference. Used to report errors before a streaming response is committed.
+   */
+  void resolveDiff(
+      @NotNull @Pattern(regexp = REF_NAME_REGEX, message = REF_NAME_MESSAGE) String fromRef,
+      @Nullable
+          @Pattern(
+              regexp = HASH_OR_RELATIVE_COMMIT_SPEC_REGEX,
+              message = HASH_OR_RELATIVE_COMMIT_SPEC_MESSAGE)
+          String fromHash,
+      @NotNull @Pattern(regexp = REF_NAME_REGEX, message = REF_NAME_MESSAGE) String toRef,
+      @Nullable
+          @Pattern(
+              regexp = HASH_OR_RELATIVE_COMMIT_SPEC_REGEX,
+              message = HASH_OR_RELATIVE_COMMIT_SPEC_MESSAGE)
+          String toHash,
+      Consumer<WithHash<NamedRef>> fromReference,
+      Consumer<WithHash<NamedRef>> toReference,
+      @Nullable ContentKey minKey,
+      @Nullable ContentKey maxKey,
+      @Nullable ContentKey prefixKey,
+      @Nullable String filter)
+      throws NessieNotFoundException;
 }
@@ -34,6 +34,8 @@ import org.projectnessie.model.Branch;
 import org.projectnessie.model.CommitMeta;
 import org.projectnessie.model.CommitResponse;
 import org.projectnessie.model.ContentKey;
+import org.projectnessie.model.CreateReferencesRequest.NewReference;
+import org.projectnessie.model.CreateReferencesResponse;
 import org.projectnessie.model.EntriesResponse.Entry;
 import org.projectnessie.model.FetchOption;
 import org.projectnessie.model.LogResponse.LogEntry;
@@ -87,6 +89,12 @@ public interface TreeService {
       @Valid @Pattern(regexp = REF_NAME_REGEX, message = REF_NAME_MESSAGE) String sourceRefName)
       throws NessieNotFoundException, NessieConflictException;
 
+  /**
+   * Creates multiple branches and tags. Failures to create individual references, including failed
+   * access checks, are reported per reference in the returned response.
+   */
+  CreateReferencesResponse createReferences(@Valid @NotNull List<NewReference> references);
+
   Reference assignReference(
       ReferenceType referenceType,
       @Valid @NotNull @Pattern(regexp = REF_NAME_REGEX, message = REF_NAME_MESSAGE)
@@ -128,6 +136,30 @@ public interface TreeService {
       @NotNull PagedResponseHandler<R, LogEntry> pagedResponseHandler)
       throws NessieNotFoundException;
 
+  /**
+   * Resolves the reference of a {@link #getCommitLog(String, FetchOption, String, String, String,
+   * String, PagedResponseHandler) commit log request}, checks access to it and validates the
+   * arguments, without reading any commit. Used to report errors before a streaming response is
+   * committed.
+   *
+   * @return the resolved {@code pageToken}, if present, otherwise the resolved {@code youngestHash}
+   */
+  WithHash<NamedRef> resolveCommitLog(
+      @Valid @NotNull @Pattern(regexp = REF_NAME_REGEX, message = REF_NAME_MESSAGE) String namedRef,
+      @Valid
+          @Pattern(
+              regexp = HASH_OR_RELATIVE_COMMIT_SPEC_REGEX,
+              message = HASH_OR_RELATIVE_COMMIT_SPEC_MESSAGE)
+          String oldestHashLimit,
+      @Valid
+          @Pattern(
+              regexp = HASH_OR_RELATIVE_COMMIT_SPEC_REGEX,
+              message = HASH_OR_RELATIVE_COMMIT_SPEC_MESSAGE)
+          String youngestHash,
+      @Nullable String filter,
+      @Nullable String pageToken)
+      throws NessieNotFoundException;
+
   MergeResponse transplantCommitsIntoBranch(
       @Valid @NotNull @Pattern(regexp = REF_NAME_REGEX, message = REF_NAME_MESSAGE)
           String branchName,
@@ -195,6 +227,26 @@ public interface TreeService {
       List<ContentKey> requestedKeys)
       throws NessieNotFoundException;
 
+  /**
+   * Resolves the reference of an {@link #getEntries(String, String, Integer, String, String,
+   * boolean, PagedResponseHandler, Consumer, ContentKey, ContentKey, ContentKey, List) entries
+   * request}, checks access to it and validates the arguments, without reading any entry. Used to
+   * report errors before a streaming response is committed.
+   */
+  WithHash<NamedRef> resolveEntries(
+      @Valid @NotNull @Pattern(regexp = REF_NAME_REGEX, message = REF_NAME_MESSAGE) String namedRef,
+      @Valid
+          @Nullable
+          @Pattern(
+              regexp = HASH_OR_RELATIVE_COMMIT_SPEC_REGEX,
+              message = HASH_OR_RELATIVE_COMMIT_SPEC_MESSAGE)
+          String hashOnRef,
+      @Nullable String filter,
+      @Nullable ContentKey minKey,
+      @Nullable ContentKey maxKey,
+      @Nullable ContentKey prefixKey)
+      throws NessieNotFoundException;
+
   CommitResponse commitMultipleOperations(
       @Valid @NotNull @Pattern(regexp = REF_NAME_REGEX, message = REF_NAME_MESSAGE) String branch,
       @Valid
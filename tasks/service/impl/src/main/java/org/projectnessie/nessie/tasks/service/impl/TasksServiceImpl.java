@@ -105,12 +105,10 @@ public class TasksServiceImpl implements TasksService {
     // Try to get the object and immediately return if it has a final state. We expect to hit final
     // states way more often, so preventing the concurrent-hash-map interactions and especially the
     // asynchronous task handling improves the implementation.
-    // TODO using `fetchObj()` would be wrong here, because it is *synchronous* and can block.
-    //  Options:
-    //  a) remove this "optimization"
-    //  b) add a `getObjIfCached(ObjId)` --> chosen for now
-    //  c) add a `fetchObjAsync()`, but adding async variants to all database implementations will
-    //     be tricky
+    // Using `fetchObj()` would be wrong here, because it is *synchronous* and can block. Only
+    // consult the cache here, `tryLocal()` fetches the object from the database anyway. Using
+    // `Persist.fetchObjAsync()` would not block, but would add another database round trip for
+    // the case that the task object does not exist yet.
     Obj obj = persist.getImmediate(taskRequest.objId());
     if (obj != null) {
       T taskObj = castObj(taskRequest, obj);
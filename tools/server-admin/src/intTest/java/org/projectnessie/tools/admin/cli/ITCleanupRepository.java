@@ -15,15 +15,22 @@
  */
 package org.projectnessie.tools.admin.cli;
 
+import static org.projectnessie.nessie.relocated.protobuf.ByteString.copyFromUtf8;
+import static org.projectnessie.versioned.storage.common.objtypes.ContentValueObj.contentValue;
+
 import io.quarkus.test.junit.TestProfile;
 import io.quarkus.test.junit.main.QuarkusMainLauncher;
 import io.quarkus.test.junit.main.QuarkusMainTest;
+import java.util.Arrays;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import org.assertj.core.api.SoftAssertions;
 import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
 import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.projectnessie.quarkus.tests.profiles.BaseConfigProfile;
+import org.projectnessie.versioned.storage.common.persist.ObjId;
 import org.projectnessie.versioned.storage.common.persist.Persist;
 
 @QuarkusMainTest
@@ -31,6 +38,9 @@ import org.projectnessie.versioned.storage.common.persist.Persist;
 @ExtendWith({NessieServerAdminTestExtension.class, SoftAssertionsExtension.class})
 class ITCleanupRepository extends AbstractContentTests<Object> {
 
+  private static final Pattern DELETED_PER_THREAD =
+      Pattern.compile("Deleted objects per purge thread: \\[(.*)]\\.");
+
   @InjectSoftAssertions private SoftAssertions soft;
 
   ITCleanupRepository(Persist persist) {
@@ -93,4 +103,42 @@ class ITCleanupRepository extends AbstractContentTests<Object> {
                 s.matches(
                     "Finished purging unreferenced objects after PT.*. Scanned 5 objects, 0 were deleted."));
   }
+
+  @Test
+  public void testCleanupPurgeThreads(QuarkusMainLauncher launcher) throws Exception {
+    var unreferenced = new ObjId[100];
+    for (int i = 0; i < unreferenced.length; i++) {
+      var obj = contentValue("cid-" + i, 42, copyFromUtf8("value-" + i));
+      persist().storeObj(obj);
+      unreferenced[i] = obj.id();
+    }
+
+    var launchResult =
+        launcher.launch(
+            "cleanup-repository",
+            CleanupRepository.PURGE_THREADS,
+            "3",
+            CleanupRepository.PURGE_SCAN_THREADS,
+            "2");
+    soft.assertThat(launchResult.exitCode()).isEqualTo(0);
+    soft.assertThat(launchResult.getOutputStream())
+        .anyMatch(
+            s ->
+                s.matches(
+                    "Finished purging unreferenced objects after PT.*. Scanned 105 objects, 100 were deleted."));
+
+    var perThread =
+        launchResult.getOutputStream().stream()
+            .map(DELETED_PER_THREAD::matcher)
+            .filter(Matcher::matches)
+            .map(m -> Arrays.stream(m.group(1).split(", ")).mapToLong(Long::parseLong).toArray())
+            .findFirst();
+    soft.assertThat(perThread).isPresent();
+    perThread.ifPresent(
+        counts -> {
+          soft.assertThat(counts).hasSize(3);
+          soft.assertThat(Arrays.stream(counts).sum()).isEqualTo(100L);
+        });
+    soft.assertThat(persist().fetchObjsIfExist(unreferenced)).containsOnlyNulls();
+  }
 }
@@ -23,6 +23,8 @@ import static org.projectnessie.versioned.storage.cleanup.Cleanup.createCleanup;
 import static org.projectnessie.versioned.storage.cleanup.CleanupParams.DEFAULT_ALLOWED_FALSE_POSITIVE_PROBABILITY;
 import static org.projectnessie.versioned.storage.cleanup.CleanupParams.DEFAULT_EXPECTED_OBJ_COUNT;
 import static org.projectnessie.versioned.storage.cleanup.CleanupParams.DEFAULT_FALSE_POSITIVE_PROBABILITY;
+import static org.projectnessie.versioned.storage.cleanup.CleanupParams.DEFAULT_PURGE_DELETE_PARALLELISM;
+import static org.projectnessie.versioned.storage.cleanup.CleanupParams.DEFAULT_PURGE_SCAN_PARALLELISM;
 import static org.projectnessie.versioned.storage.cleanup.CleanupParams.DEFAULT_RECENT_OBJ_IDS_FILTER_SIZE;
 import static org.projectnessie.versioned.storage.common.logic.Logics.repositoryLogic;
 
@@ -66,6 +68,8 @@ public class CleanupRepository extends BaseCommand {
   public static final String OBJ_RATE = "--obj-rate";
   public static final String SCAN_OBJ_RATE = "--scan-obj-rate";
   public static final String PURGE_OBJ_RATE = "--purge-obj-rate";
+  public static final String PURGE_SCAN_THREADS = "--purge-scan-threads";
+  public static final String PURGE_THREADS = "--purge-threads";
   public static final String DRY_RUN = "--dry-run";
   public static final String REFERENCED_GRACE = "--referenced-grace";
 
@@ -130,12 +134,28 @@ public class CleanupRepository extends BaseCommand {
           "Allowed number of objects to scan during the 'purge' phase per second. Default is unlimited.")
   private int purgeScanObjRatePerSecond = 0;
 
+  @CommandLine.Option(
+      names = {PURGE_SCAN_THREADS},
+      description =
+          "Number of threads scanning objects during the 'purge' phase, each thread scans one segment of the repository. The scan rate limit applies to all threads together. Version store types that cannot scan segments natively always use one thread. Defaults to "
+              + DEFAULT_PURGE_SCAN_PARALLELISM
+              + '.')
+  private int purgeScanParallelism = DEFAULT_PURGE_SCAN_PARALLELISM;
+
   @CommandLine.Option(
       names = {PURGE_OBJ_RATE},
       description =
           "Allowed number of objects to delete during the 'purge' phase per second. Default is unlimited.")
   private int purgeDeleteObjRatePerSecond = 0;
 
+  @CommandLine.Option(
+      names = {PURGE_THREADS},
+      description =
+          "Number of threads deleting objects during the 'purge' phase. The purge rate limit applies to all threads together. Defaults to "
+              + DEFAULT_PURGE_DELETE_PARALLELISM
+              + '.')
+  private int purgeDeleteParallelism = DEFAULT_PURGE_DELETE_PARALLELISM;
+
   @CommandLine.Option(
       names = {"--recent-objs-ids-filter-size"},
       description =
@@ -163,7 +183,9 @@ public class CleanupRepository extends BaseCommand {
             .pendingObjsBatchSize(pendingObjsBatchSize)
             .allowDuplicateCommitTraversals(allowDuplicateCommitTraversals)
             .purgeScanObjRatePerSecond(purgeScanObjRatePerSecond)
+            .purgeScanParallelism(purgeScanParallelism)
             .purgeDeleteObjRatePerSecond(purgeDeleteObjRatePerSecond)
+            .purgeDeleteParallelism(purgeDeleteParallelism)
             .recentObjIdsFilterSize(recentObjIdsFilterSize)
             .dryRun(dryRun)
             .build();
@@ -240,6 +262,11 @@ public class CleanupRepository extends BaseCommand {
                 resolveResult.stats().duration(),
                 purgeResult.stats().numScannedObjs(),
                 purgeResult.stats().numPurgedObjs());
+        spec.commandLine()
+            .getOut()
+            .printf(
+                "Deleted objects per purge thread: %s.%n",
+                purgeResult.stats().numPurgedObjsPerWorker());
 
         break;
       } catch (MustRestartWithBiggerFilterException e) {
@@ -0,0 +1,57 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned;
+
+import java.util.Optional;
+import org.immutables.value.Value;
+
+/**
+ * Outcome of creating one reference via {@link VersionStore#createReferences(java.util.Map)},
+ * either {@linkplain #getCreated() created} or {@linkplain #getFailure() failed}.
+ */
+@Value.Immutable
+public interface CreateReferenceOutcome {
+
+  @Value.Parameter(order = 1)
+  NamedRef getNamedRef();
+
+  @Value.Parameter(order = 2)
+  Optional<ReferenceCreatedResult> getCreated();
+
+  /**
+   * The reason why the reference has not been created, either a {@link ReferenceNotFoundException}
+   * or a {@link ReferenceAlreadyExistsException}, like {@link VersionStore#create(NamedRef,
+   * Optional)} would have thrown.
+   */
+  @Value.Parameter(order = 3)
+  Optional<VersionStoreException> getFailure();
+
+  @Value.Check
+  default void check() {
+    if (getCreated().isPresent() == getFailure().isPresent()) {
+      throw new IllegalStateException("Either created or failure must be present");
+    }
+  }
+
+  static CreateReferenceOutcome created(ReferenceCreatedResult created) {
+    return ImmutableCreateReferenceOutcome.of(
+        created.getNamedRef(), Optional.of(created), Optional.empty());
+  }
+
+  static CreateReferenceOutcome failed(NamedRef namedRef, VersionStoreException failure) {
+    return ImmutableCreateReferenceOutcome.of(namedRef, Optional.empty(), Optional.of(failure));
+  }
+}
@@ -102,6 +102,13 @@ public class EventsVersionStore implements VersionStore {
     return result;
   }
 
+  @Override
+  public List<CreateReferenceOutcome> createReferences(Map<NamedRef, Optional<Hash>> refs) {
+    List<CreateReferenceOutcome> outcomes = delegate.createReferences(refs);
+    outcomes.forEach(outcome -> outcome.getCreated().ifPresent(resultSink));
+    return outcomes;
+  }
+
   @Override
   public ReferenceDeletedResult delete(NamedRef ref, Hash hash)
       throws ReferenceNotFoundException, ReferenceConflictException {
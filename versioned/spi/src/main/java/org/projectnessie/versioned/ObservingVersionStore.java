@@ -133,6 +133,14 @@ public class ObservingVersionStore implements VersionStore {
     return delegate.create(ref, targetHash);
   }
 
+  @WithSpan
+  @Override
+  @Counted(PREFIX)
+  @Timed(value = PREFIX, histogram = true)
+  public List<CreateReferenceOutcome> createReferences(Map<NamedRef, Optional<Hash>> refs) {
+    return delegate.createReferences(refs);
+  }
+
   @WithSpan
   @Override
   @Counted(PREFIX)
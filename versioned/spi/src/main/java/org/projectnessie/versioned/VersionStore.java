@@ -19,6 +19,7 @@ import static org.projectnessie.versioned.DefaultMetadataRewriter.DEFAULT_METADA
 
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -269,6 +270,28 @@ public interface VersionStore {
   ReferenceCreatedResult create(NamedRef ref, Optional<Hash> targetHash)
       throws ReferenceNotFoundException, ReferenceAlreadyExistsException;
 
+  /**
+   * Creates multiple references, each like {@link #create(NamedRef, Optional)}.
+   *
+   * <p>Implementations may record all new references at once, which is much cheaper than creating
+   * the references one by one, when creating many references.
+   *
+   * @param refs the references to create, with their optional target hashes, reference names must
+   *     be unique
+   * @return the outcome for each reference, in the iteration order of {@code refs}
+   */
+  default List<CreateReferenceOutcome> createReferences(Map<NamedRef, Optional<Hash>> refs) {
+    List<CreateReferenceOutcome> outcomes = new ArrayList<>(refs.size());
+    for (Map.Entry<NamedRef, Optional<Hash>> ref : refs.entrySet()) {
+      try {
+        outcomes.add(CreateReferenceOutcome.created(create(ref.getKey(), ref.getValue())));
+      } catch (ReferenceNotFoundException | ReferenceAlreadyExistsException e) {
+        outcomes.add(CreateReferenceOutcome.failed(ref.getKey(), e));
+      }
+    }
+    return outcomes;
+  }
+
   /**
    * Delete the provided NamedRef
    *
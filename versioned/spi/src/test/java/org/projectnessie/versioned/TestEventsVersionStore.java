@@ -455,6 +455,26 @@ class TestEventsVersionStore {
     verifyNoMoreInteractions(delegate, sink);
   }
 
+  @Test
+  void testCreateReferences() {
+    ReferenceCreatedResult created =
+        ImmutableReferenceCreatedResult.builder().namedRef(branch1).hash(hash2).build();
+    Map<NamedRef, Optional<Hash>> refs =
+        ImmutableMap.of(branch1, Optional.of(hash1), branch2, Optional.of(hash1));
+    List<CreateReferenceOutcome> expectedResult =
+        Arrays.asList(
+            CreateReferenceOutcome.created(created),
+            CreateReferenceOutcome.failed(
+                branch2, new ReferenceAlreadyExistsException("irrelevant")));
+    when(delegate.createReferences(refs)).thenReturn(expectedResult);
+    EventsVersionStore versionStore = new EventsVersionStore(delegate, sink);
+    List<CreateReferenceOutcome> actualResult = versionStore.createReferences(refs);
+    assertThat(actualResult).isEqualTo(expectedResult);
+    verify(delegate).createReferences(refs);
+    verify(sink).accept(created);
+    verifyNoMoreInteractions(delegate, sink);
+  }
+
   @Test
   void testDeleteSuccess() throws Exception {
     ReferenceDeletedResult expectedResult =
@@ -454,6 +454,16 @@ final class BatchingPersistImpl implements BatchingPersist, ValidatingPersist {
     throw new UnsupportedOperationException();
   }
 
+  @Override
+  @Nonnull
+  @javax.annotation.Nonnull
+  public CloseableIterator<Obj> scanAllObjects(
+      @Nonnull @javax.annotation.Nonnull Set<ObjType> returnedObjTypes,
+      int segment,
+      int totalSegments) {
+    throw new UnsupportedOperationException();
+  }
+
   @Override
   public boolean isCaching() {
     return delegate().isCaching();
@@ -0,0 +1,49 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import com.github.jengelman.gradle.plugins.shadow.tasks.ShadowJar
+
+plugins {
+  id("nessie-conventions-unpublished-tool")
+  id("com.gradleup.shadow")
+  alias(libs.plugins.jmh)
+}
+
+publishingHelper { mavenName = "Nessie - Storage - Microbenchmarks" }
+
+description = "Microbenchmarks for Persist implementations and the Persist wrappers."
+
+dependencies {
+  implementation(project(":nessie-versioned-storage-common"))
+  implementation(project(":nessie-versioned-storage-cache"))
+  implementation(project(":nessie-versioned-storage-batching"))
+  implementation(project(":nessie-versioned-storage-testextension"))
+  implementation(project(path = ":nessie-protobuf-relocated", configuration = "shadow"))
+  implementation(libs.slf4j.api)
+
+  jmhImplementation(libs.jmh.core)
+  jmhAnnotationProcessor(libs.jmh.generator.annprocess)
+  jmhRuntimeOnly(project(":nessie-versioned-storage-inmemory-tests"))
+  jmhRuntimeOnly(project(":nessie-versioned-storage-rocksdb-tests"))
+  jmhRuntimeOnly(project(":nessie-versioned-storage-jdbc2-tests"))
+  jmhRuntimeOnly(libs.agroal.pool)
+  jmhRuntimeOnly(libs.h2)
+  jmhRuntimeOnly(libs.logback.classic)
+}
+
+jmh { jmhVersion = libs.versions.jmh.get() }
+
+tasks.named<ShadowJar>("jmhJar").configure { mergeServiceFiles() }
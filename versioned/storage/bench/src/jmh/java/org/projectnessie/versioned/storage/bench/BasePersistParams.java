@@ -0,0 +1,150 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.bench;
+
+import static org.projectnessie.versioned.storage.common.objtypes.ContentValueObj.contentValue;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.UUID;
+import org.projectnessie.nessie.relocated.protobuf.ByteString;
+import org.projectnessie.versioned.storage.batching.BatchingPersist;
+import org.projectnessie.versioned.storage.batching.WriteBatching;
+import org.projectnessie.versioned.storage.cache.CacheBackend;
+import org.projectnessie.versioned.storage.cache.CacheConfig;
+import org.projectnessie.versioned.storage.cache.PersistCaches;
+import org.projectnessie.versioned.storage.common.config.StoreConfig;
+import org.projectnessie.versioned.storage.common.objtypes.ContentValueObj;
+import org.projectnessie.versioned.storage.common.persist.Backend;
+import org.projectnessie.versioned.storage.common.persist.Obj;
+import org.projectnessie.versioned.storage.common.persist.ObjId;
+import org.projectnessie.versioned.storage.common.persist.Persist;
+import org.projectnessie.versioned.storage.testextension.BackendTestFactory;
+
+/**
+ * Common setup for the {@link Persist} benchmarks: starts the backend named by {@code backendName}
+ * and wraps the backend's {@link Persist} as named by {@code wrapper}.
+ */
+abstract class BasePersistParams {
+  /** Use the "plain" {@link Persist} of the backend. */
+  static final String WRAPPER_NONE = "none";
+
+  /** Wrap the backend's {@link Persist} with {@code CachingPersistImpl}. */
+  static final String WRAPPER_CACHING = "caching";
+
+  /** Wrap the backend's {@link Persist} with {@code BatchingPersistImpl}. */
+  static final String WRAPPER_BATCHING = "batching";
+
+  private static final ByteString PAYLOAD = ByteString.copyFrom(new byte[256]);
+
+  Backend backend;
+  Persist persist;
+  BackendTestFactory backendTestFactory;
+
+  protected void init(String backendName, String wrapper) throws Exception {
+    Set<String> known = new HashSet<>();
+    for (BackendTestFactory candidate : ServiceLoader.load(BackendTestFactory.class)) {
+      String name = candidate.getName();
+      known.add(name);
+      if (backendName.equals(name)) {
+        backendTestFactory = candidate;
+        break;
+      }
+    }
+    if (backendTestFactory == null) {
+      throw new IllegalArgumentException(
+          "Could not find backend named " + backendName + ", known backends: " + known);
+    }
+
+    backendTestFactory.start();
+
+    backend = backendTestFactory.createNewBackend();
+    backend.setupSchema();
+    Persist base = backend.createFactory().newPersist(StoreConfig.Adjustable.empty());
+
+    switch (wrapper) {
+      case WRAPPER_NONE:
+        persist = base;
+        break;
+      case WRAPPER_CACHING:
+        CacheBackend cacheBackend =
+            PersistCaches.newBackend(
+                CacheConfig.builder()
+                    .capacityMb(64)
+                    .referenceTtl(Duration.ofMinutes(5))
+                    .referenceNegativeTtl(Duration.ofSeconds(10))
+                    .build());
+        persist = cacheBackend.wrap(base);
+        break;
+      case WRAPPER_BATCHING:
+        persist = WriteBatching.builder().persist(base).build().create();
+        break;
+      default:
+        throw new IllegalArgumentException("Unknown Persist wrapper " + wrapper);
+    }
+  }
+
+  /** Flushes pending writes, if {@link #persist} is a {@link BatchingPersist}. */
+  void flush() {
+    if (persist instanceof BatchingPersist) {
+      ((BatchingPersist) persist).flush();
+    }
+  }
+
+  /** Stores the given number of {@link ContentValueObj}s and returns their IDs. */
+  ObjId[] storeObjs(int num) throws Exception {
+    Obj[] objs = newObjs(num);
+    persist.storeObjs(objs);
+    flush();
+    ObjId[] ids = new ObjId[num];
+    for (int i = 0; i < num; i++) {
+      ids[i] = objs[i].id();
+    }
+    return ids;
+  }
+
+  static Obj[] newObjs(int num) {
+    Obj[] objs = new Obj[num];
+    for (int i = 0; i < num; i++) {
+      objs[i] = newObj();
+    }
+    return objs;
+  }
+
+  static Obj newObj() {
+    return contentValue(UUID.randomUUID().toString(), 42, PAYLOAD);
+  }
+
+  protected void tearDown() throws Exception {
+    persist = null;
+    if (backend != null) {
+      try {
+        backend.close();
+      } finally {
+        backend = null;
+      }
+    }
+    if (backendTestFactory != null) {
+      try {
+        backendTestFactory.stop();
+      } finally {
+        backendTestFactory = null;
+      }
+    }
+  }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.bench;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import java.util.concurrent.ThreadLocalRandom;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.projectnessie.versioned.storage.common.persist.Obj;
+import org.projectnessie.versioned.storage.common.persist.ObjId;
+
+/** Benchmarks for fetching and storing objects. */
+@Warmup(iterations = 2, time = 2000, timeUnit = MILLISECONDS)
+@Measurement(iterations = 3, time = 1000, timeUnit = MILLISECONDS)
+@Fork(1)
+@Threads(4)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+public class PersistObjsBench {
+  static final int NUM_OBJS = 10_000;
+
+  @State(Scope.Benchmark)
+  public static class BenchmarkParam extends BasePersistParams {
+
+    @Param({"In-Memory", "RocksDB", "JDBC2-H2"})
+    public String backendName;
+
+    @Param({"none", "caching", "batching"})
+    public String wrapper;
+
+    @Param({"1", "10", "100"})
+    public int batchSize;
+
+    ObjId[] ids;
+
+    @Setup
+    public void setup() throws Exception {
+      super.init(backendName, wrapper);
+      ids = storeObjs(NUM_OBJS);
+    }
+
+    @TearDown(Level.Iteration)
+    public void flushWrites() {
+      flush();
+    }
+
+    @Override
+    @TearDown
+    public void tearDown() throws Exception {
+      super.tearDown();
+    }
+
+    ObjId randomId() {
+      return ids[ThreadLocalRandom.current().nextInt(ids.length)];
+    }
+
+    ObjId[] randomIds() {
+      ObjId[] r = new ObjId[batchSize];
+      for (int i = 0; i < r.length; i++) {
+        r[i] = randomId();
+      }
+      return r;
+    }
+  }
+
+  @Benchmark
+  public Obj fetchObj(BenchmarkParam param) throws Exception {
+    return param.persist.fetchObj(param.randomId());
+  }
+
+  @Benchmark
+  public Obj[] fetchObjs(BenchmarkParam param) throws Exception {
+    return param.persist.fetchObjs(param.randomIds());
+  }
+
+  @Benchmark
+  public boolean[] storeObjs(BenchmarkParam param) throws Exception {
+    return param.persist.storeObjs(BasePersistParams.newObjs(param.batchSize));
+  }
+}
@@ -33,6 +33,8 @@ import static org.projectnessie.versioned.storage.bigtable.BigTableConstants.QUA
 import static org.projectnessie.versioned.storage.bigtable.BigTableConstants.QUALIFIER_OBJ_VERS;
 import static org.projectnessie.versioned.storage.bigtable.BigTableConstants.QUALIFIER_REFS;
 import static org.projectnessie.versioned.storage.common.persist.ObjId.objIdFromByteBuffer;
+import static org.projectnessie.versioned.storage.common.persist.ObjIdSegments.lowerBound;
+import static org.projectnessie.versioned.storage.common.persist.ObjIdSegments.upperBound;
 import static org.projectnessie.versioned.storage.serialize.ProtoSerialization.deserializeObj;
 import static org.projectnessie.versioned.storage.serialize.ProtoSerialization.deserializeReference;
 import static org.projectnessie.versioned.storage.serialize.ProtoSerialization.serializeObj;
@@ -52,6 +54,7 @@ import com.google.cloud.bigtable.data.v2.models.Filters.Filter;
 import com.google.cloud.bigtable.data.v2.models.Mutation;
 import com.google.cloud.bigtable.data.v2.models.MutationApi;
 import com.google.cloud.bigtable.data.v2.models.Query;
+import com.google.cloud.bigtable.data.v2.models.Range.ByteStringRange;
 import com.google.cloud.bigtable.data.v2.models.Row;
 import com.google.cloud.bigtable.data.v2.models.RowCell;
 import com.google.cloud.bigtable.data.v2.models.RowMutation;
@@ -83,6 +86,7 @@ import org.projectnessie.versioned.storage.common.objtypes.UpdateableObj;
 import org.projectnessie.versioned.storage.common.persist.CloseableIterator;
 import org.projectnessie.versioned.storage.common.persist.Obj;
 import org.projectnessie.versioned.storage.common.persist.ObjId;
+import org.projectnessie.versioned.storage.common.persist.ObjIdSegments;
 import org.projectnessie.versioned.storage.common.persist.ObjType;
 import org.projectnessie.versioned.storage.common.persist.ObjTypes;
 import org.projectnessie.versioned.storage.common.persist.Persist;
@@ -521,7 +525,11 @@ public class BigTablePersist implements Persist {
 
       byte[] serialized =
           serializeObj(
-              obj, effectiveIncrementalIndexSizeLimit(), effectiveIndexSegmentSizeLimit(), false);
+              obj,
+              effectiveIncrementalIndexSizeLimit(),
+              effectiveIndexSegmentSizeLimit(),
+              false,
+              config);
 
       long referenced = config.currentTimeMicros();
       backend
@@ -554,7 +562,11 @@ public class BigTablePersist implements Persist {
 
         byte[] serialized =
             serializeObj(
-                obj, effectiveIncrementalIndexSizeLimit(), effectiveIndexSegmentSizeLimit(), false);
+                obj,
+                effectiveIncrementalIndexSizeLimit(),
+                effectiveIndexSegmentSizeLimit(),
+                false,
+                config);
 
         batcher.add(objToMutation(obj, referenced, RowMutationEntry.create(key), serialized));
       }
@@ -647,7 +659,7 @@ public class BigTablePersist implements Persist {
         ignoreSoftSizeRestrictions ? Integer.MAX_VALUE : effectiveIncrementalIndexSizeLimit();
     int indexSizeLimit =
         ignoreSoftSizeRestrictions ? Integer.MAX_VALUE : effectiveIndexSegmentSizeLimit();
-    byte[] serialized = serializeObj(obj, incrementalIndexSizeLimit, indexSizeLimit, false);
+    byte[] serialized = serializeObj(obj, incrementalIndexSizeLimit, indexSizeLimit, false, config);
 
     return objToMutation(obj, referenced, Mutation.create(), serialized);
   }
@@ -683,7 +695,33 @@ public class BigTablePersist implements Persist {
   @Nonnull
   @Override
   public CloseableIterator<Obj> scanAllObjects(@Nonnull Set<ObjType> returnedObjTypes) {
-    return new ScanAllObjectsIterator(returnedObjTypes);
+    return new ScanAllObjectsIterator(returnedObjTypes, ByteStringRange.prefix(keyPrefix));
+  }
+
+  /**
+   * Reads only the row key range of the given segment using the ID ranges from {@link
+   * ObjIdSegments}. BigTable orders row keys by their unsigned bytes, the repository prefix
+   * followed by the object ID.
+   */
+  @Nonnull
+  @Override
+  public CloseableIterator<Obj> scanAllObjects(
+      @Nonnull Set<ObjType> returnedObjTypes, int segment, int totalSegments) {
+    byte[] lower = lowerBound(segment, totalSegments);
+    byte[] upper = upperBound(segment, totalSegments);
+    ByteStringRange range = ByteStringRange.prefix(keyPrefix);
+    if (lower != null) {
+      range.startClosed(dbKey(unsafeWrap(lower)));
+    }
+    if (upper != null) {
+      range.endOpen(dbKey(unsafeWrap(upper)));
+    }
+    return new ScanAllObjectsIterator(returnedObjTypes, range);
+  }
+
+  @Override
+  public boolean supportsSegmentedScans() {
+    return true;
   }
 
   private class ScanAllObjectsIterator extends AbstractIterator<Obj>
@@ -694,9 +732,9 @@ public class BigTablePersist implements Persist {
 
     private ByteString lastKey;
 
-    ScanAllObjectsIterator(Set<ObjType> returnedObjTypes) {
+    ScanAllObjectsIterator(Set<ObjType> returnedObjTypes, ByteStringRange range) {
 
-      Query q = Query.create(backend.tableObjsId).prefix(keyPrefix);
+      Query q = Query.create(backend.tableObjsId).range(range);
 
       Filters.ChainFilter filterChain =
           FILTERS.chain().filter(FILTERS.family().exactMatch(FAMILY_OBJS));
@@ -725,7 +763,7 @@ public class BigTablePersist implements Persist {
         if (!all) {
           // Condition filters are generally not recommended because they are slower, but
           // scanAllObjects is not meant to be particularly efficient. The fact that we are also
-          // limiting the query to a row prefix should alleviate the performance impact.
+          // limiting the query to a row range should alleviate the performance impact.
           filterChain.filter(
               FILTERS.condition(typeFilter).then(FILTERS.pass()).otherwise(FILTERS.block()));
         }
@@ -21,6 +21,7 @@ import com.google.errorprone.annotations.CanIgnoreReturnValue;
 import io.micrometer.core.instrument.MeterRegistry;
 import java.time.Duration;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.function.LongSupplier;
 import org.immutables.value.Value;
 
@@ -30,9 +31,24 @@ public interface CacheConfig {
   String INVALID_REFERENCE_NEGATIVE_TTL =
       "Cache reference-negative-TTL must only be present, if reference-TTL is configured, and must only be positive.";
   String INVALID_REFERENCE_TTL = "Cache reference-TTL must be positive, if present.";
+  String INVALID_OFF_HEAP_CAPACITY = "Cache off-heap capacity must be positive, if present.";
+  String INVALID_REPOSITORY_QUOTA = "Cache per-repository quota must be positive, if present.";
 
   long capacityMb();
 
+  /**
+   * Capacity of the optional off-heap cache tier, which holds the serialized representation of
+   * objects evicted from the on-heap cache. The off-heap tier is disabled, if not present.
+   */
+  OptionalLong offHeapCapacityMb();
+
+  /**
+   * Optional maximum amount of the cache capacity that a single repository may occupy. Adding an
+   * object to a repository that reached its quota evicts the repository's least recently used
+   * objects.
+   */
+  OptionalLong repositoryQuotaMb();
+
   Optional<MeterRegistry> meterRegistry();
 
   Optional<Duration> referenceTtl();
@@ -60,12 +76,21 @@ public interface CacheConfig {
                 checkState(
                     referenceTtl().isPresent() && ttl.compareTo(Duration.ZERO) > 0,
                     INVALID_REFERENCE_NEGATIVE_TTL));
+    offHeapCapacityMb()
+        .ifPresent(capacity -> checkState(capacity > 0L, INVALID_OFF_HEAP_CAPACITY));
+    repositoryQuotaMb().ifPresent(quota -> checkState(quota > 0L, INVALID_REPOSITORY_QUOTA));
   }
 
   interface Builder {
     @CanIgnoreReturnValue
     Builder capacityMb(long capacityMb);
 
+    @CanIgnoreReturnValue
+    Builder offHeapCapacityMb(long offHeapCapacityMb);
+
+    @CanIgnoreReturnValue
+    Builder repositoryQuotaMb(long repositoryQuotaMb);
+
     @CanIgnoreReturnValue
     Builder meterRegistry(MeterRegistry meterRegistry);
 
@@ -0,0 +1,222 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.cache;
+
+import static org.projectnessie.versioned.storage.cache.CaffeineCacheBackend.CACHE_NAME;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import org.projectnessie.versioned.storage.cache.CaffeineCacheBackend.CacheKeyValue;
+
+/**
+ * Per-repository state of {@link CaffeineCacheBackend}.
+ *
+ * <p>Cache keys carry the {@link #generation() generation} of the repository's partition. {@link
+ * #clear() Clearing} a partition increments the generation, which makes all previously cached
+ * entries of the repository unreachable in O(1). Those entries are eventually evicted from the
+ * shared cache like any other entry that is no longer accessed.
+ *
+ * <p>The partition also tracks the (approximate) weight of the repository's reachable entries, to
+ * implement the optional per-repository quota, and the repository's cache hits and misses.
+ *
+ * <p>If a quota is configured, the partition keeps its own access-ordered ledger of the
+ * repository's entries and their weights, guarded by a per-partition lock. A repository that
+ * reached its quota evicts its own least recently used entries from that ledger to make room for
+ * new ones, without looking at the shared cache's eviction order or at other repositories.
+ */
+final class CachePartition {
+  private final String repositoryId;
+  private final long quotaBytes;
+
+  private final AtomicInteger generation = new AtomicInteger();
+  private final AtomicLong weight = new AtomicLong();
+
+  private final ReentrantLock ledgerLock;
+  // Access-ordered weights of the current generation's entries, null if there is no quota.
+  // Guarded by ledgerLock.
+  private LinkedHashMap<CacheKeyValue, Integer> ledger;
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  CachePartition(String repositoryId, long quotaBytes, MeterRegistry meterRegistry) {
+    this.repositoryId = repositoryId;
+    this.quotaBytes = quotaBytes;
+    this.ledgerLock = quotaBytes > 0L ? new ReentrantLock() : null;
+    this.ledger = quotaBytes > 0L ? newLedger() : null;
+
+    if (meterRegistry != null) {
+      Tags tags = Tags.of(Tag.of("cache", CACHE_NAME), Tag.of("repository", repositoryId));
+      FunctionCounter.builder("cache.repository.gets", hits, LongAdder::sum)
+          .tags(tags)
+          .tag("result", "hit")
+          .description("The number of cache hits for a repository.")
+          .register(meterRegistry);
+      FunctionCounter.builder("cache.repository.gets", misses, LongAdder::sum)
+          .tags(tags)
+          .tag("result", "miss")
+          .description("The number of cache misses for a repository.")
+          .register(meterRegistry);
+      Gauge.builder("cache.repository.weight", weight, AtomicLong::get)
+          .tags(tags)
+          .description("The approximate weight in bytes of the cached entries of a repository.")
+          .baseUnit("bytes")
+          .register(meterRegistry);
+    }
+  }
+
+  String repositoryId() {
+    return repositoryId;
+  }
+
+  int generation() {
+    return generation.get();
+  }
+
+  private static LinkedHashMap<CacheKeyValue, Integer> newLedger() {
+    return new LinkedHashMap<>(16, 0.75f, true);
+  }
+
+  /** Makes all currently cached entries of the repository unreachable. */
+  void clear() {
+    if (ledgerLock != null) {
+      ledgerLock.lock();
+      try {
+        generation.incrementAndGet();
+        weight.set(0L);
+        ledger = newLedger();
+      } finally {
+        ledgerLock.unlock();
+      }
+    } else {
+      generation.incrementAndGet();
+      weight.set(0L);
+    }
+  }
+
+  /** Returns whether an entry with the given weight fits into the per-repository quota at all. */
+  boolean fits(int entryWeight) {
+    return quotaBytes <= 0L || entryWeight <= quotaBytes;
+  }
+
+  /**
+   * Accounts an entry that has been added to the cache. If the repository's quota is exceeded, its
+   * least recently used entries are removed from the ledger until the quota is met. The keys of
+   * those entries are returned, the caller has to remove them from the cache.
+   */
+  List<CacheKeyValue> added(CacheKeyValue key, int entryWeight) {
+    if (ledgerLock == null) {
+      if (key.generation == generation.get()) {
+        weight.addAndGet(entryWeight);
+      }
+      return List.of();
+    }
+    if (entryWeight == 0) {
+      // Negative entries are not accounted and just expire
+      return List.of();
+    }
+
+    List<CacheKeyValue> evicted = null;
+    ledgerLock.lock();
+    try {
+      if (key.generation != generation.get()) {
+        return List.of();
+      }
+      Integer previous = ledger.put(key, entryWeight);
+      long current =
+          weight.addAndGet(previous != null ? entryWeight - previous : (long) entryWeight);
+      // The added entry is the most recently used one, it is never evicted here, because it fits
+      // into the quota on its own.
+      for (Iterator<Map.Entry<CacheKeyValue, Integer>> iter = ledger.entrySet().iterator();
+          current > quotaBytes && iter.hasNext(); ) {
+        Map.Entry<CacheKeyValue, Integer> coldest = iter.next();
+        iter.remove();
+        current = weight.addAndGet(-coldest.getValue());
+        if (evicted == null) {
+          evicted = new ArrayList<>();
+        }
+        evicted.add(coldest.getKey());
+      }
+    } finally {
+      ledgerLock.unlock();
+    }
+    return evicted != null ? evicted : List.of();
+  }
+
+  /** Accounts an entry that has been removed from the cache. */
+  void removed(CacheKeyValue key, int entryWeight) {
+    if (ledgerLock == null) {
+      if (key.generation == generation.get()) {
+        weight.accumulateAndGet(entryWeight, (current, w) -> Math.max(0L, current - w));
+      }
+      return;
+    }
+    ledgerLock.lock();
+    try {
+      Integer previous = ledger.remove(key);
+      if (previous != null) {
+        weight.addAndGet(-previous);
+      }
+    } finally {
+      ledgerLock.unlock();
+    }
+  }
+
+  /**
+   * Records an access to the given entry in the ledger. Accesses are not recorded while the ledger
+   * is locked by another thread, so the eviction order is an approximation of LRU.
+   */
+  void accessed(CacheKeyValue key) {
+    if (ledgerLock != null && ledgerLock.tryLock()) {
+      try {
+        ledger.get(key);
+      } finally {
+        ledgerLock.unlock();
+      }
+    }
+  }
+
+  long weight() {
+    return weight.get();
+  }
+
+  void hit() {
+    hits.increment();
+  }
+
+  void miss() {
+    misses.increment();
+  }
+
+  long hitCount() {
+    return hits.sum();
+  }
+
+  long missCount() {
+    return misses.sum();
+  }
+}
@@ -15,6 +15,7 @@
  */
 package org.projectnessie.versioned.storage.cache;
 
+import static java.util.concurrent.CompletableFuture.completedStage;
 import static org.projectnessie.versioned.storage.cache.CacheBackend.NON_EXISTENT_REFERENCE_SENTINEL;
 import static org.projectnessie.versioned.storage.cache.CacheBackend.NOT_FOUND_OBJ_SENTINEL;
 
@@ -23,6 +24,7 @@ import java.lang.reflect.Array;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletionStage;
 import org.projectnessie.versioned.storage.common.config.StoreConfig;
 import org.projectnessie.versioned.storage.common.exceptions.ObjNotFoundException;
 import org.projectnessie.versioned.storage.common.exceptions.ObjTooLargeException;
@@ -221,6 +223,24 @@ class CachingPersistImpl implements Persist {
     return r;
   }
 
+  @Override
+  @Nonnull
+  public <T extends Obj> CompletionStage<T[]> fetchTypedObjsIfExistAsync(
+      @Nonnull ObjId[] ids, ObjType type, @Nonnull Class<T> typeClass) {
+    @SuppressWarnings("unchecked")
+    T[] r = (T[]) Array.newInstance(typeClass, ids.length);
+
+    ObjId[] backendIds = fetchObjsPre(ids, r, type, typeClass);
+
+    if (backendIds == null) {
+      return completedStage(r);
+    }
+
+    return persist
+        .fetchTypedObjsIfExistAsync(backendIds, type, typeClass)
+        .thenApply(backendResult -> fetchObjsPost(backendIds, backendResult, r, type));
+  }
+
   @Override
   @Nonnull
   public Obj[] fetchObjsIfExist(@Nonnull ObjId[] ids) {
@@ -258,6 +278,22 @@ class CachingPersistImpl implements Persist {
     return stored;
   }
 
+  @Override
+  @Nonnull
+  public CompletionStage<boolean[]> storeObjsAsync(@Nonnull Obj[] objs) {
+    return persist
+        .storeObjsAsync(objs)
+        .thenApply(
+            stored -> {
+              for (int i = 0; i < stored.length; i++) {
+                if (stored[i]) {
+                  cache.put(objs[i]);
+                }
+              }
+              return stored;
+            });
+  }
+
   @Override
   public void upsertObj(@Nonnull Obj obj) throws ObjTooLargeException {
     try {
@@ -347,6 +383,18 @@ class CachingPersistImpl implements Persist {
     return persist.scanAllObjects(returnedObjTypes);
   }
 
+  @Override
+  @Nonnull
+  public CloseableIterator<Obj> scanAllObjects(
+      @Nonnull Set<ObjType> returnedObjTypes, int segment, int totalSegments) {
+    return persist.scanAllObjects(returnedObjTypes, segment, totalSegments);
+  }
+
+  @Override
+  public boolean supportsSegmentedScans() {
+    return persist.supportsSegmentedScans();
+  }
+
   // plain delegates...
 
   @Override
@@ -435,6 +483,22 @@ class CachingPersistImpl implements Persist {
     }
   }
 
+  @Override
+  @Nonnull
+  public CompletionStage<Reference> updateReferencePointerAsync(
+      @Nonnull Reference reference, @Nonnull ObjId newPointer) {
+    return persist
+        .updateReferencePointerAsync(reference, newPointer)
+        .whenComplete(
+            (r, failure) -> {
+              if (r != null) {
+                cache.putReference(r);
+              } else {
+                cache.removeReference(reference.name());
+              }
+            });
+  }
+
   @Override
   public Reference fetchReference(@Nonnull String name) {
     return fetchReferenceInternal(name, false);
@@ -28,11 +28,16 @@ import static org.projectnessie.versioned.storage.serialize.ProtoSerialization.s
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tag;
 import io.micrometer.core.instrument.binder.cache.CaffeineStatsCounter;
 import jakarta.annotation.Nonnull;
 import java.lang.ref.SoftReference;
 import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import org.checkerframework.checker.index.qual.NonNegative;
 import org.projectnessie.versioned.storage.common.exceptions.ObjTooLargeException;
 import org.projectnessie.versioned.storage.common.persist.Obj;
@@ -54,6 +59,10 @@ class CaffeineCacheBackend implements CacheBackend {
   private final long refCacheTtlNanos;
   private final long refCacheNegativeTtlNanos;
   private final boolean enableSoftReferences;
+  private final long repositoryQuotaBytes;
+  private final MeterRegistry meterRegistry;
+  private final Map<String, CachePartition> partitions = new ConcurrentHashMap<>();
+  final OffHeapCacheTier offHeap;
 
   CaffeineCacheBackend(CacheConfig config) {
     this.config = config;
@@ -61,6 +70,8 @@ class CaffeineCacheBackend implements CacheBackend {
     refCacheTtlNanos = config.referenceTtl().orElse(Duration.ZERO).toNanos();
     refCacheNegativeTtlNanos = config.referenceNegativeTtl().orElse(Duration.ZERO).toNanos();
     enableSoftReferences = config.enableSoftReferences().orElse(true);
+    repositoryQuotaBytes = config.repositoryQuotaMb().orElse(0L) * 1024L * 1024L;
+    meterRegistry = config.meterRegistry().orElse(null);
 
     Caffeine<CacheKeyValue, CacheKeyValue> cacheBuilder =
         Caffeine.newBuilder()
@@ -100,7 +111,12 @@ class CaffeineCacheBackend implements CacheBackend {
                     return currentDurationNanos;
                   }
                 })
-            .ticker(config.clockNanos()::getAsLong);
+            .ticker(config.clockNanos()::getAsLong)
+            .evictionListener(this::onEviction);
+    offHeap =
+        config.offHeapCapacityMb().isPresent()
+            ? new OffHeapCacheTier(config.offHeapCapacityMb().getAsLong(), meterRegistry)
+            : null;
     config
         .meterRegistry()
         .ifPresent(
@@ -122,6 +138,114 @@ class CaffeineCacheBackend implements CacheBackend {
     return new CachingPersistImpl(persist, cache);
   }
 
+  CachePartition partition(String repositoryId) {
+    CachePartition partition = partitions.get(repositoryId);
+    if (partition == null) {
+      partition =
+          partitions.computeIfAbsent(
+              repositoryId, id -> new CachePartition(id, repositoryQuotaBytes, meterRegistry));
+    }
+    return partition;
+  }
+
+  /**
+   * Updates the per-repository weight for evicted entries and moves entries that were evicted from
+   * the on-heap cache due to its size limit to the off-heap cache tier. Only entries that do not
+   * expire, which excludes negative and reference entries, are moved.
+   */
+  private void onEviction(CacheKeyValue key, CacheKeyValue value, RemovalCause cause) {
+    if (key == null || value == null) {
+      return;
+    }
+    CachePartition partition = partitions.get(key.repositoryId);
+    if (partition == null || key.generation != partition.generation()) {
+      // Entry belongs to a cleared generation
+      return;
+    }
+    partition.removed(key, entryWeight(value));
+    if (offHeap != null
+        && cause == RemovalCause.SIZE
+        && value != NON_EXISTING_SENTINEL
+        && value.expiresAtNanosEpoch == CACHE_UNLIMITED) {
+      offHeap.put(value);
+    }
+  }
+
+  /**
+   * Looks up the given key in the off-heap cache tier and promotes a found entry to the on-heap
+   * cache, see {@link #cachePut(CachePartition, CacheKeyValue, CacheKeyValue)}.
+   */
+  private Obj getOffHeap(CachePartition partition, CacheKeyValue key) {
+    if (offHeap == null) {
+      return null;
+    }
+    byte[] serialized = offHeap.get(key);
+    if (serialized == null) {
+      return null;
+    }
+    CacheKeyValue promoted =
+        cacheKeyValue(
+            key.repositoryId,
+            key.generation,
+            key.id,
+            CACHE_UNLIMITED,
+            serialized,
+            null,
+            enableSoftReferences);
+    int weight = entryWeight(promoted);
+    if (!partition.fits(weight)) {
+      return promoted.getObj();
+    }
+    // Do not replace an entry that has been concurrently added to the on-heap cache.
+    CacheKeyValue existing = cache.asMap().putIfAbsent(promoted, promoted);
+    if (existing == null) {
+      evictFromPartition(partition.added(promoted, weight));
+      return promoted.getObj();
+    }
+    if (existing == NON_EXISTING_SENTINEL) {
+      return NOT_FOUND_OBJ_SENTINEL;
+    }
+    return existing.getObj();
+  }
+
+  /**
+   * Adds the given entry to the cache. If adding the entry exceeds the repository's quota, the
+   * repository's least recently used entries are evicted, see {@link CachePartition}. Entries of
+   * other repositories are not affected. If the entry alone exceeds the repository's quota, it is
+   * not cached and an existing entry for the same key is removed, as it would be stale.
+   */
+  private void cachePut(CachePartition partition, CacheKeyValue key, CacheKeyValue value) {
+    int weight = entryWeight(value);
+    if (!partition.fits(weight)) {
+      cacheRemove(partition, key);
+      return;
+    }
+    CacheKeyValue previous = cache.asMap().put(key, value);
+    if (previous != null) {
+      partition.removed(key, entryWeight(previous));
+    }
+    evictFromPartition(partition.added(key, weight));
+  }
+
+  /** Removes entries that have already been evicted from their partition's ledger. */
+  private void evictFromPartition(List<CacheKeyValue> evicted) {
+    for (CacheKeyValue key : evicted) {
+      cache.asMap().remove(key);
+    }
+  }
+
+  private void cacheRemove(CachePartition partition, CacheKeyValue key) {
+    CacheKeyValue previous = cache.asMap().remove(key);
+    if (previous != null) {
+      partition.removed(key, entryWeight(previous));
+    }
+  }
+
+  /** Weight of a cache entry for the per-repository quota, negative entries are not accounted. */
+  private int entryWeight(CacheKeyValue value) {
+    return value == NON_EXISTING_SENTINEL ? 0 : weigher(value, value);
+  }
+
   private int weigher(CacheKeyValue key, CacheKeyValue value) {
     int size = key.heapSize();
     size += CAFFEINE_OBJ_OVERHEAD;
@@ -130,14 +254,23 @@ class CaffeineCacheBackend implements CacheBackend {
 
   @Override
   public Obj get(@Nonnull String repositoryId, @Nonnull ObjId id) {
-    CacheKeyValue key = cacheKeyForRead(repositoryId, id);
+    CachePartition partition = partition(repositoryId);
+    CacheKeyValue key = cacheKeyForRead(repositoryId, partition.generation(), id);
     CacheKeyValue value = cache.getIfPresent(key);
     if (value == null) {
-      return null;
+      Obj obj = getOffHeap(partition, key);
+      if (obj != null) {
+        partition.hit();
+      } else {
+        partition.miss();
+      }
+      return obj;
     }
+    partition.hit();
     if (value == NON_EXISTING_SENTINEL) {
       return NOT_FOUND_OBJ_SENTINEL;
     }
+    partition.accessed(key);
     return value.getObj();
   }
 
@@ -160,10 +293,18 @@ class CaffeineCacheBackend implements CacheBackend {
       byte[] serialized = serializeObj(obj, Integer.MAX_VALUE, Integer.MAX_VALUE, true);
       long expiresAtNanos =
           expiresAt == CACHE_UNLIMITED ? CACHE_UNLIMITED : MICROSECONDS.toNanos(expiresAt);
+      CachePartition partition = partition(repositoryId);
       CacheKeyValue keyValue =
           cacheKeyValue(
-              repositoryId, obj.id(), expiresAtNanos, serialized, obj, enableSoftReferences);
-      cache.put(keyValue, keyValue);
+              repositoryId,
+              partition.generation(),
+              obj.id(),
+              expiresAtNanos,
+              serialized,
+              obj,
+              enableSoftReferences);
+      removeOffHeap(keyValue);
+      cachePut(partition, keyValue, keyValue);
     } catch (ObjTooLargeException e) {
       // this should never happen
       throw new RuntimeException(e);
@@ -182,20 +323,36 @@ class CaffeineCacheBackend implements CacheBackend {
 
     long expiresAtNanos =
         expiresAt == CACHE_UNLIMITED ? CACHE_UNLIMITED : MICROSECONDS.toNanos(expiresAt);
-    CacheKeyValue keyValue = cacheKeyValue(repositoryId, id, expiresAtNanos, enableSoftReferences);
+    CachePartition partition = partition(repositoryId);
+    CacheKeyValue keyValue =
+        cacheKeyValue(
+            repositoryId, partition.generation(), id, expiresAtNanos, enableSoftReferences);
 
-    cache.put(keyValue, NON_EXISTING_SENTINEL);
+    removeOffHeap(keyValue);
+    cachePut(partition, keyValue, NON_EXISTING_SENTINEL);
   }
 
   @Override
   public void remove(@Nonnull String repositoryId, @Nonnull ObjId id) {
-    CacheKeyValue key = cacheKeyForRead(repositoryId, id);
-    cache.invalidate(key);
+    CachePartition partition = partition(repositoryId);
+    CacheKeyValue key = cacheKeyForRead(repositoryId, partition.generation(), id);
+    removeOffHeap(key);
+    cacheRemove(partition, key);
   }
 
+  /**
+   * Makes all cached entries of the given repository unreachable in O(1), see {@link
+   * CachePartition}.
+   */
   @Override
   public void clear(@Nonnull String repositoryId) {
-    cache.asMap().keySet().removeIf(k -> k.repositoryId.equals(repositoryId));
+    partition(repositoryId).clear();
+  }
+
+  private void removeOffHeap(CacheKeyValue key) {
+    if (offHeap != null) {
+      offHeap.remove(key);
+    }
   }
 
   private ObjId refObjId(String name) {
@@ -208,8 +365,9 @@ class CaffeineCacheBackend implements CacheBackend {
       return;
     }
     ObjId id = refObjId(name);
-    CacheKeyValue key = cacheKeyForRead(repositoryId, id);
-    cache.invalidate(key);
+    CachePartition partition = partition(repositoryId);
+    CacheKeyValue key = cacheKeyForRead(repositoryId, partition.generation(), id);
+    cacheRemove(partition, key);
   }
 
   @Override
@@ -223,15 +381,17 @@ class CaffeineCacheBackend implements CacheBackend {
       return;
     }
     ObjId id = refObjId(r.name());
+    CachePartition partition = partition(repositoryId);
     CacheKeyValue keyValue =
         cacheKeyValue(
             repositoryId,
+            partition.generation(),
             id,
             config.clockNanos().getAsLong() + refCacheTtlNanos,
             serializeReference(r),
             r,
             enableSoftReferences);
-    cache.put(keyValue, keyValue);
+    cachePut(partition, keyValue, keyValue);
   }
 
   @Override
@@ -240,13 +400,15 @@ class CaffeineCacheBackend implements CacheBackend {
       return;
     }
     ObjId id = refObjId(name);
+    CachePartition partition = partition(repositoryId);
     CacheKeyValue key =
         cacheKeyValue(
             repositoryId,
+            partition.generation(),
             id,
             config.clockNanos().getAsLong() + refCacheNegativeTtlNanos,
             enableSoftReferences);
-    cache.put(key, NON_EXISTING_SENTINEL);
+    cachePut(partition, key, NON_EXISTING_SENTINEL);
   }
 
   @Override
@@ -255,34 +417,53 @@ class CaffeineCacheBackend implements CacheBackend {
       return null;
     }
     ObjId id = refObjId(name);
-    CacheKeyValue value = cache.getIfPresent(cacheKeyForRead(repositoryId, id));
+    CachePartition partition = partition(repositoryId);
+    CacheKeyValue key = cacheKeyForRead(repositoryId, partition.generation(), id);
+    CacheKeyValue value = cache.getIfPresent(key);
     if (value == null) {
       return null;
     }
     if (value == NON_EXISTING_SENTINEL) {
       return NON_EXISTENT_REFERENCE_SENTINEL;
     }
+    partition.accessed(key);
     return value.getReference();
   }
 
   static CacheKeyValue cacheKeyForRead(String repositoryId, ObjId id) {
-    return new CacheKeyValue(repositoryId, id, false);
+    return cacheKeyForRead(repositoryId, 0, id);
+  }
+
+  static CacheKeyValue cacheKeyForRead(String repositoryId, int generation, ObjId id) {
+    return new CacheKeyValue(repositoryId, generation, id, 0L, null, null, false);
   }
 
   private static CacheKeyValue cacheKeyValue(
-      String repositoryId, ObjId id, long expiresAtNanosEpoch, boolean enableSoftReferences) {
-    return new CacheKeyValue(repositoryId, id, expiresAtNanosEpoch, enableSoftReferences);
+      String repositoryId,
+      int generation,
+      ObjId id,
+      long expiresAtNanosEpoch,
+      boolean enableSoftReferences) {
+    return new CacheKeyValue(
+        repositoryId, generation, id, expiresAtNanosEpoch, null, null, enableSoftReferences);
   }
 
   private static CacheKeyValue cacheKeyValue(
       String repositoryId,
+      int generation,
       ObjId id,
       long expiresAtNanosEpoch,
       byte[] serialized,
       Object object,
       boolean enableSoftReferences) {
     return new CacheKeyValue(
-        repositoryId, id, expiresAtNanosEpoch, serialized, object, enableSoftReferences);
+        repositoryId,
+        generation,
+        id,
+        expiresAtNanosEpoch,
+        serialized,
+        object,
+        enableSoftReferences);
   }
 
   /**
@@ -293,6 +474,8 @@ class CaffeineCacheBackend implements CacheBackend {
   static final class CacheKeyValue {
 
     final String repositoryId;
+    // Generation of the repository's cache partition, see CachePartition
+    final int generation;
     // ObjId256 heap size: 40 bytes (assumed, jol)
     final ObjId id;
 
@@ -302,23 +485,26 @@ class CaffeineCacheBackend implements CacheBackend {
     final byte[] serialized;
     java.lang.ref.Reference<Object> object;
 
-    CacheKeyValue(String repositoryId, ObjId id, boolean enableSoftReferences) {
-      this(repositoryId, id, 0L, enableSoftReferences);
-    }
-
     CacheKeyValue(
-        String repositoryId, ObjId id, long expiresAtNanosEpoch, boolean enableSoftReferences) {
-      this(repositoryId, id, expiresAtNanosEpoch, null, null, enableSoftReferences);
+        String repositoryId,
+        ObjId id,
+        long expiresAtNanosEpoch,
+        byte[] serialized,
+        Object object,
+        boolean enableSoftReferences) {
+      this(repositoryId, 0, id, expiresAtNanosEpoch, serialized, object, enableSoftReferences);
     }
 
     CacheKeyValue(
         String repositoryId,
+        int generation,
         ObjId id,
         long expiresAtNanosEpoch,
         byte[] serialized,
         Object object,
         boolean enableSoftReferences) {
       this.repositoryId = repositoryId;
+      this.generation = generation;
       this.id = id;
       this.expiresAtNanosEpoch = expiresAtNanosEpoch;
       this.serialized = serialized;
@@ -346,17 +532,19 @@ class CaffeineCacheBackend implements CacheBackend {
         return false;
       }
       CacheKeyValue cacheKey = (CacheKeyValue) o;
-      return repositoryId.equals(cacheKey.repositoryId) && id.equals(cacheKey.id);
+      return generation == cacheKey.generation
+          && repositoryId.equals(cacheKey.repositoryId)
+          && id.equals(cacheKey.id);
     }
 
     @Override
     public int hashCode() {
-      return repositoryId.hashCode() * 31 + id.hashCode();
+      return (repositoryId.hashCode() * 31 + generation) * 31 + id.hashCode();
     }
 
     @Override
     public String toString() {
-      return "{" + repositoryId + ", " + id + '}';
+      return "{" + repositoryId + ", " + generation + ", " + id + '}';
     }
 
     Obj getObj() {
@@ -398,7 +586,7 @@ class CaffeineCacheBackend implements CacheBackend {
    24   4   org.projectnessie.versioned.storage.common.persist.ObjId CacheKeyValue.id             null
    28   4                                                     byte[] CacheKeyValue.serialized     null
    32   4                                    java.lang.ref.Reference CacheKeyValue.object         null
-   36   4                                                            (object alignment gap)
+   36   4                                                        int CacheKeyValue.generation     0
   Instance size: 40 bytes
   Space losses: 0 bytes internal + 4 bytes external = 4 bytes total
   */
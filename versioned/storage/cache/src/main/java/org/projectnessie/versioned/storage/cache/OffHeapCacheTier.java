@@ -0,0 +1,246 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.cache;
+
+import static java.util.Collections.singletonList;
+import static org.projectnessie.versioned.storage.cache.CaffeineCacheBackend.CACHE_NAME;
+import static org.projectnessie.versioned.storage.cache.CaffeineCacheBackend.cacheKeyForRead;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import org.projectnessie.versioned.storage.cache.CaffeineCacheBackend.CacheKeyValue;
+
+/**
+ * Second, off-heap cache tier for {@link CaffeineCacheBackend}, holding the serialized
+ * representation of objects that were evicted from the on-heap cache.
+ *
+ * <p>The serialized values are appended to direct {@link ByteBuffer} "slabs" of a fixed size. When
+ * all slabs are used, the oldest slab is recycled, evicting all entries in that slab at once. Only
+ * the (small) index that maps cache keys to slab locations lives on the Java heap.
+ *
+ * <p>Reads do not take any lock. Each slab carries a generation, which is incremented before the
+ * slab is recycled. A read copies the serialized value and checks the generation before and after
+ * the copy, so concurrently recycled slabs are detected and reported as a cache miss.
+ */
+final class OffHeapCacheTier {
+
+  static final String OFF_HEAP_CACHE_NAME = CACHE_NAME + "-off-heap";
+  static final int DEFAULT_SLAB_SIZE = 16 * 1024 * 1024;
+
+  private final int slabSize;
+  private final Slab[] slabs;
+  private final Map<CacheKeyValue, Entry> index = new ConcurrentHashMap<>();
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+
+  // Write state, guarded by 'this'
+  private int currentSlab;
+  private int writeOffset;
+
+  OffHeapCacheTier(long capacityMb, MeterRegistry meterRegistry) {
+    this(capacityMb * 1024L * 1024L, DEFAULT_SLAB_SIZE, meterRegistry);
+  }
+
+  OffHeapCacheTier(long capacityBytes, int maxSlabSize, MeterRegistry meterRegistry) {
+    // Need at least two slabs, otherwise recycling a slab would evict everything.
+    int slabSize = (int) Math.min(maxSlabSize, Math.max(1L, capacityBytes / 2));
+    long numSlabs = capacityBytes / slabSize;
+    if (numSlabs > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("Off-heap cache capacity too large: " + capacityBytes);
+    }
+    this.slabSize = slabSize;
+    this.slabs = new Slab[(int) numSlabs];
+    this.slabs[0] = new Slab(slabSize);
+
+    if (meterRegistry != null) {
+      List<Tag> tags = singletonList(Tag.of("cache", OFF_HEAP_CACHE_NAME));
+      FunctionCounter.builder("cache.gets", hits, LongAdder::sum)
+          .tags(tags)
+          .tag("result", "hit")
+          .description("The number of times off-heap cache lookup methods have returned a value.")
+          .register(meterRegistry);
+      FunctionCounter.builder("cache.gets", misses, LongAdder::sum)
+          .tags(tags)
+          .tag("result", "miss")
+          .description("The number of times off-heap cache lookup methods have not found a value.")
+          .register(meterRegistry);
+      FunctionCounter.builder("cache.off_heap.evictions", evictions, LongAdder::sum)
+          .tags(tags)
+          .description("The number of entries evicted from the off-heap cache.")
+          .register(meterRegistry);
+      Gauge.builder("cache.size", index, Map::size)
+          .tags(tags)
+          .description("The number of entries in the off-heap cache.")
+          .register(meterRegistry);
+      meterRegistry.gauge(
+          "cache_capacity_mb", tags, "", x -> (double) capacityBytes / 1024d / 1024d);
+    }
+  }
+
+  /**
+   * Adds the serialized value of the given cache entry, if it fits into a slab. An existing entry
+   * for the same key is replaced, unless it has the same serialized value, because the value of an
+   * {@code UpdateableObj} can change.
+   */
+  void put(CacheKeyValue value) {
+    byte[] serialized = value.serialized;
+    if (serialized == null || serialized.length > slabSize) {
+      return;
+    }
+
+    synchronized (this) {
+      Entry existing = index.get(value);
+      if (existing != null && Arrays.equals(existing.read(), serialized)) {
+        return;
+      }
+
+      if (writeOffset + serialized.length > slabSize) {
+        nextSlab();
+      }
+
+      Slab slab = slabs[currentSlab];
+      ByteBuffer buffer = slab.buffer.duplicate();
+      buffer.position(writeOffset);
+      buffer.put(serialized);
+
+      Entry entry =
+          new Entry(
+              cacheKeyForRead(value.repositoryId, value.generation, value.id),
+              slab,
+              slab.generation.get(),
+              writeOffset,
+              serialized.length);
+      writeOffset += serialized.length;
+      slab.entries.add(entry);
+      index.put(entry.key, entry);
+    }
+  }
+
+  /**
+   * Returns the serialized value for the given key or {@code null}, if the off-heap cache does not
+   * contain the key.
+   */
+  byte[] get(CacheKeyValue key) {
+    Entry entry = index.get(key);
+    if (entry != null) {
+      byte[] serialized = entry.read();
+      if (serialized != null) {
+        hits.increment();
+        return serialized;
+      }
+      index.remove(entry.key, entry);
+    }
+    misses.increment();
+    return null;
+  }
+
+  void remove(CacheKeyValue key) {
+    index.remove(key);
+  }
+
+  int size() {
+    return index.size();
+  }
+
+  long hitCount() {
+    return hits.sum();
+  }
+
+  long missCount() {
+    return misses.sum();
+  }
+
+  long evictionCount() {
+    return evictions.sum();
+  }
+
+  /** Switches to the next slab, recycling it and evicting its entries, if necessary. */
+  private void nextSlab() {
+    currentSlab = (currentSlab + 1) % slabs.length;
+    writeOffset = 0;
+
+    Slab slab = slabs[currentSlab];
+    if (slab == null) {
+      slabs[currentSlab] = new Slab(slabSize);
+      return;
+    }
+
+    // Invalidate concurrent reads before the slab's content is overwritten.
+    slab.generation.incrementAndGet();
+    for (Entry entry : slab.entries) {
+      if (index.remove(entry.key, entry)) {
+        evictions.increment();
+      }
+    }
+    slab.entries.clear();
+  }
+
+  private static final class Slab {
+    final ByteBuffer buffer;
+    final AtomicInteger generation = new AtomicInteger();
+    // guarded by the OffHeapCacheTier instance
+    final List<Entry> entries = new ArrayList<>();
+
+    Slab(int slabSize) {
+      this.buffer = ByteBuffer.allocateDirect(slabSize);
+    }
+  }
+
+  private static final class Entry {
+    final CacheKeyValue key;
+    final Slab slab;
+    final int generation;
+    final int offset;
+    final int length;
+
+    Entry(CacheKeyValue key, Slab slab, int generation, int offset, int length) {
+      this.key = key;
+      this.slab = slab;
+      this.generation = generation;
+      this.offset = offset;
+      this.length = length;
+    }
+
+    boolean isValid() {
+      return slab.generation.get() == generation;
+    }
+
+    byte[] read() {
+      if (!isValid()) {
+        return null;
+      }
+      byte[] serialized = new byte[length];
+      ByteBuffer buffer = slab.buffer.duplicate();
+      buffer.position(offset);
+      buffer.get(serialized);
+      VarHandle.acquireFence();
+      return isValid() ? serialized : null;
+    }
+  }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.cache;
+
+import static org.projectnessie.versioned.storage.common.objtypes.ContentValueObj.contentValue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.projectnessie.nessie.relocated.protobuf.ByteString;
+import org.projectnessie.versioned.storage.common.objtypes.ContentValueObj;
+
+@ExtendWith(SoftAssertionsExtension.class)
+public class TestCachePartitions {
+  @InjectSoftAssertions protected SoftAssertions soft;
+
+  @Test
+  public void clearRepository() {
+    CaffeineCacheBackend backend =
+        new CaffeineCacheBackend(CacheConfig.builder().capacityMb(8).build());
+
+    ContentValueObj obj = contentValue("cid", 42, ByteString.copyFromUtf8("hello"));
+    backend.put("repo1", obj);
+    backend.put("repo2", obj);
+
+    soft.assertThat(backend.get("repo1", obj.id())).isEqualTo(obj);
+    soft.assertThat(backend.get("repo2", obj.id())).isEqualTo(obj);
+    soft.assertThat(backend.partition("repo1").weight()).isPositive();
+
+    backend.clear("repo1");
+
+    soft.assertThat(backend.get("repo1", obj.id())).isNull();
+    soft.assertThat(backend.get("repo2", obj.id())).isEqualTo(obj);
+    soft.assertThat(backend.partition("repo1").weight()).isEqualTo(0L);
+
+    backend.put("repo1", obj);
+    soft.assertThat(backend.get("repo1", obj.id())).isEqualTo(obj);
+
+    soft.assertThat(backend.partition("repo1").hitCount()).isEqualTo(2L);
+    soft.assertThat(backend.partition("repo1").missCount()).isEqualTo(1L);
+    soft.assertThat(backend.partition("repo2").hitCount()).isEqualTo(2L);
+    soft.assertThat(backend.partition("repo2").missCount()).isEqualTo(0L);
+  }
+
+  @Test
+  public void repositoryQuota() {
+    CaffeineCacheBackend backend =
+        new CaffeineCacheBackend(CacheConfig.builder().capacityMb(8).repositoryQuotaMb(1).build());
+
+    // 3 of these objects fit into the quota of 1 MB
+    List<ContentValueObj> objs = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      objs.add(contentValue("cid" + i, 42, ByteString.copyFrom(new byte[300 * 1024])));
+    }
+    objs.forEach(obj -> backend.put("repo1", obj));
+    objs.forEach(obj -> backend.put("repo2", obj));
+
+    // The oldest objects have been evicted to make room for the newer ones
+    for (String repo : List.of("repo1", "repo2")) {
+      soft.assertThat(objs.stream().filter(obj -> backend.get(repo, obj.id()) != null))
+          .describedAs(repo)
+          .containsExactlyElementsOf(objs.subList(2, 5));
+      soft.assertThat(backend.partition(repo).weight()).isLessThanOrEqualTo(1024L * 1024L);
+    }
+
+    // Removing an object frees quota for another one, without evicting other objects
+    backend.remove("repo1", objs.get(4).id());
+    backend.put("repo1", objs.get(0));
+    soft.assertThat(backend.get("repo1", objs.get(4).id())).isNull();
+    soft.assertThat(backend.get("repo1", objs.get(0).id())).isEqualTo(objs.get(0));
+    soft.assertThat(backend.get("repo1", objs.get(2).id())).isEqualTo(objs.get(2));
+    soft.assertThat(backend.get("repo1", objs.get(3).id())).isEqualTo(objs.get(3));
+
+    // An object larger than the quota is not cached
+    ContentValueObj huge = contentValue("huge", 42, ByteString.copyFrom(new byte[1024 * 1024]));
+    backend.put("repo1", huge);
+    soft.assertThat(backend.get("repo1", huge.id())).isNull();
+    soft.assertThat(backend.get("repo1", objs.get(0).id())).isEqualTo(objs.get(0));
+  }
+
+  @Test
+  public void fullPartitionCachesNewEntries() {
+    CaffeineCacheBackend backend =
+        new CaffeineCacheBackend(CacheConfig.builder().capacityMb(8).repositoryQuotaMb(1).build());
+
+    List<ContentValueObj> other = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      other.add(contentValue("other" + i, 42, ByteString.copyFrom(new byte[100 * 1024])));
+    }
+    other.forEach(obj -> backend.put("repo2", obj));
+
+    // Keep adding objects to a full partition, each new object must be cached
+    for (int i = 0; i < 30; i++) {
+      ContentValueObj obj = contentValue("cid" + i, 42, ByteString.copyFrom(new byte[100 * 1024]));
+      backend.put("repo1", obj);
+      soft.assertThat(backend.get("repo1", obj.id())).describedAs("obj %d", i).isEqualTo(obj);
+      soft.assertThat(backend.partition("repo1").weight())
+          .describedAs("obj %d", i)
+          .isLessThanOrEqualTo(1024L * 1024L);
+    }
+
+    // Entries of other repositories are not evicted
+    for (ContentValueObj obj : other) {
+      soft.assertThat(backend.get("repo2", obj.id())).isEqualTo(obj);
+    }
+  }
+
+  @Test
+  public void partitionFilledFarPastQuota() {
+    CaffeineCacheBackend backend =
+        new CaffeineCacheBackend(CacheConfig.builder().capacityMb(8).repositoryQuotaMb(1).build());
+
+    Map<String, List<ContentValueObj>> others = new HashMap<>();
+    for (String repo : List.of("repo2", "repo3", "repo4")) {
+      List<ContentValueObj> objs = new ArrayList<>();
+      for (int i = 0; i < 20; i++) {
+        objs.add(contentValue(repo + i, 42, ByteString.copyFrom(new byte[10 * 1024])));
+      }
+      objs.forEach(obj -> backend.put(repo, obj));
+      others.put(repo, objs);
+    }
+
+    // 20 times the quota, more than twice the capacity of the whole cache
+    ContentValueObj hot = contentValue("hot", 42, ByteString.copyFrom(new byte[10 * 1024]));
+    backend.put("repo1", hot);
+    ContentValueObj last = null;
+    for (int i = 0; i < 2000; i++) {
+      last = contentValue("cid" + i, 42, ByteString.copyFrom(new byte[10 * 1024]));
+      backend.put("repo1", last);
+      // Recently accessed entries are evicted last
+      soft.assertThat(backend.get("repo1", hot.id())).describedAs("obj %d", i).isEqualTo(hot);
+    }
+    soft.assertThat(backend.get("repo1", last.id())).isEqualTo(last);
+    soft.assertThat(backend.partition("repo1").weight())
+        .isLessThanOrEqualTo(1024L * 1024L)
+        .isGreaterThan(1024L * 1024L / 2);
+
+    // Entries of other repositories are not evicted
+    others.forEach(
+        (repo, objs) -> {
+          for (ContentValueObj obj : objs) {
+            soft.assertThat(backend.get(repo, obj.id())).describedAs(repo).isEqualTo(obj);
+          }
+          soft.assertThat(backend.partition(repo).weight()).describedAs(repo).isPositive();
+        });
+  }
+}
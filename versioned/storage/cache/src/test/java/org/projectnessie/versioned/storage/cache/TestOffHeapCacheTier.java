@@ -0,0 +1,167 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.cache;
+
+import static org.projectnessie.versioned.storage.cache.CaffeineCacheBackend.cacheKeyForRead;
+import static org.projectnessie.versioned.storage.common.objtypes.ContentValueObj.contentValue;
+import static org.projectnessie.versioned.storage.common.persist.ObjId.randomObjId;
+import static org.projectnessie.versioned.storage.common.persist.ObjType.CACHE_UNLIMITED;
+import static org.projectnessie.versioned.storage.serialize.ProtoSerialization.serializeObj;
+
+import com.github.benmanes.caffeine.cache.Policy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.projectnessie.nessie.relocated.protobuf.ByteString;
+import org.projectnessie.versioned.storage.cache.CaffeineCacheBackend.CacheKeyValue;
+import org.projectnessie.versioned.storage.common.objtypes.ContentValueObj;
+import org.projectnessie.versioned.storage.common.persist.ObjId;
+import org.projectnessie.versioned.storage.commontests.objtypes.VersionedTestObj;
+
+@ExtendWith(SoftAssertionsExtension.class)
+public class TestOffHeapCacheTier {
+  @InjectSoftAssertions protected SoftAssertions soft;
+
+  @Test
+  public void slabRecycling() {
+    // 4 slabs of 100 bytes, each slab holds one 60 byte value
+    OffHeapCacheTier tier = new OffHeapCacheTier(400, 100, null);
+
+    List<CacheKeyValue> values = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      byte[] serialized = new byte[60];
+      Arrays.fill(serialized, (byte) i);
+      CacheKeyValue value =
+          new CacheKeyValue("repo", randomObjId(), CACHE_UNLIMITED, serialized, null, false);
+      values.add(value);
+      tier.put(value);
+    }
+
+    soft.assertThat(tier.size()).isEqualTo(4);
+    soft.assertThat(tier.evictionCount()).isEqualTo(1);
+
+    soft.assertThat(tier.get(values.get(0))).isNull();
+    for (int i = 1; i < 5; i++) {
+      soft.assertThat(tier.get(values.get(i))).isEqualTo(values.get(i).serialized);
+    }
+    soft.assertThat(tier.hitCount()).isEqualTo(4);
+    soft.assertThat(tier.missCount()).isEqualTo(1);
+
+    tier.remove(values.get(1));
+    soft.assertThat(tier.get(values.get(1))).isNull();
+    soft.assertThat(tier.size()).isEqualTo(3);
+
+    // too large for a slab
+    tier.put(new CacheKeyValue("repo", randomObjId(), CACHE_UNLIMITED, new byte[101], null, false));
+    soft.assertThat(tier.size()).isEqualTo(3);
+  }
+
+  @Test
+  public void replaceValue() {
+    OffHeapCacheTier tier = new OffHeapCacheTier(400, 100, null);
+
+    ObjId id = randomObjId();
+    byte[] serialized1 = new byte[30];
+    Arrays.fill(serialized1, (byte) 1);
+    byte[] serialized2 = new byte[30];
+    Arrays.fill(serialized2, (byte) 2);
+
+    tier.put(new CacheKeyValue("repo", id, CACHE_UNLIMITED, serialized1, null, false));
+    tier.put(new CacheKeyValue("repo", id, CACHE_UNLIMITED, serialized2, null, false));
+    soft.assertThat(tier.get(cacheKeyForRead("repo", id))).isEqualTo(serialized2);
+    soft.assertThat(tier.size()).isEqualTo(1);
+
+    // Recycling the slab of the replaced value does not evict the current value
+    tier.put(new CacheKeyValue("repo", randomObjId(), CACHE_UNLIMITED, new byte[60], null, false));
+    byte[] serialized3 = new byte[60];
+    Arrays.fill(serialized3, (byte) 3);
+    tier.put(new CacheKeyValue("repo", id, CACHE_UNLIMITED, serialized3, null, false));
+    for (int i = 0; i < 3; i++) {
+      tier.put(
+          new CacheKeyValue("repo", randomObjId(), CACHE_UNLIMITED, new byte[60], null, false));
+    }
+    soft.assertThat(tier.get(cacheKeyForRead("repo", id))).isEqualTo(serialized3);
+  }
+
+  @Test
+  public void updateEvictGet() throws Exception {
+    CaffeineCacheBackend backend =
+        new CaffeineCacheBackend(CacheConfig.builder().capacityMb(8).offHeapCapacityMb(8).build());
+    Policy.Eviction<?, ?> eviction = backend.cache.policy().eviction().orElseThrow();
+    long maximum = eviction.getMaximum();
+
+    VersionedTestObj obj1 =
+        VersionedTestObj.builder().id(randomObjId()).versionToken("1").someValue("hello").build();
+    VersionedTestObj obj2 =
+        VersionedTestObj.builder().id(obj1.id()).versionToken("2").someValue("again").build();
+
+    // Demote and promote version 1, the off-heap tier still holds it
+    backend.put("repo", obj1);
+    eviction.setMaximum(0L);
+    backend.cache.cleanUp();
+    eviction.setMaximum(maximum);
+    soft.assertThat(backend.get("repo", obj1.id())).isEqualTo(obj1);
+
+    // Update, the previous version may still reach the off-heap tier, for example by a delayed
+    // eviction
+    backend.put("repo", obj2);
+    backend.offHeap.put(
+        new CacheKeyValue(
+            "repo",
+            obj1.id(),
+            CACHE_UNLIMITED,
+            serializeObj(obj1, Integer.MAX_VALUE, Integer.MAX_VALUE, true),
+            null,
+            false));
+
+    // Evict version 2, must not promote version 1
+    eviction.setMaximum(0L);
+    backend.cache.cleanUp();
+    eviction.setMaximum(maximum);
+    soft.assertThat(backend.get("repo", obj1.id())).isEqualTo(obj2);
+  }
+
+  @Test
+  public void demoteAndPromote() {
+    CaffeineCacheBackend backend =
+        new CaffeineCacheBackend(CacheConfig.builder().capacityMb(8).offHeapCapacityMb(8).build());
+
+    ContentValueObj obj = contentValue("cid", 42, ByteString.copyFromUtf8("hello"));
+    ObjId negative = randomObjId();
+    backend.put("repo", obj);
+    backend.putNegative("repo", negative, obj.type());
+
+    // Evict everything from the on-heap cache
+    backend.cache.policy().eviction().orElseThrow().setMaximum(0L);
+    backend.cache.cleanUp();
+
+    soft.assertThat(backend.cache.asMap()).isEmpty();
+    soft.assertThat(backend.offHeap.size()).isEqualTo(1);
+
+    soft.assertThat(backend.get("repo", negative)).isNull();
+    soft.assertThat(backend.get("repo", obj.id())).isEqualTo(obj);
+    soft.assertThat(backend.offHeap.hitCount()).isEqualTo(1);
+
+    backend.remove("repo", obj.id());
+    soft.assertThat(backend.offHeap.get(cacheKeyForRead("repo", obj.id()))).isNull();
+    soft.assertThat(backend.get("repo", obj.id())).isNull();
+  }
+}
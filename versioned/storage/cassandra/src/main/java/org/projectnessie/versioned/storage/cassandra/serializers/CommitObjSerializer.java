@@ -15,10 +15,6 @@
  */
 package org.projectnessie.versioned.storage.cassandra.serializers;
 
-import static org.projectnessie.versioned.storage.common.indexes.StoreKey.keyFromString;
-import static org.projectnessie.versioned.storage.common.objtypes.IndexStripe.indexStripe;
-import static org.projectnessie.versioned.storage.common.persist.ObjId.objIdFromByteBuffer;
-
 import com.datastax.oss.driver.api.core.cql.BoundStatementBuilder;
 import com.datastax.oss.driver.api.core.cql.Row;
 import com.google.common.collect.ImmutableSet;
@@ -37,8 +33,8 @@ import org.projectnessie.versioned.storage.common.persist.ObjId;
 import org.projectnessie.versioned.storage.common.persist.ObjType;
 import org.projectnessie.versioned.storage.common.proto.StorageTypes.HeaderEntry;
 import org.projectnessie.versioned.storage.common.proto.StorageTypes.Headers;
-import org.projectnessie.versioned.storage.common.proto.StorageTypes.Stripe;
 import org.projectnessie.versioned.storage.common.proto.StorageTypes.Stripes;
+import org.projectnessie.versioned.storage.serialize.ProtoSerialization;
 
 public class CommitObjSerializer extends ObjSerializer<CommitObj> {
 
@@ -108,12 +104,7 @@ public class CommitObjSerializer extends ObjSerializer<CommitObj> {
 
     Stripes.Builder b = Stripes.newBuilder();
     obj.referenceIndexStripes().stream()
-        .map(
-            s ->
-                Stripe.newBuilder()
-                    .setFirstKey(s.firstKey().rawString())
-                    .setLastKey(s.lastKey().rawString())
-                    .setSegment(s.segment().asBytes()))
+        .map(ProtoSerialization::serializeStripe)
         .forEach(b::addStripes);
     stmt.setByteBuffer(
         COL_COMMIT_REFERENCE_INDEX_STRIPES.name(), b.build().toByteString().asReadOnlyByteBuffer());
@@ -170,12 +161,7 @@ public class CommitObjSerializer extends ObjSerializer<CommitObj> {
     try {
       Stripes stripes = Stripes.parseFrom(row.getByteBuffer("c_reference_index_stripes"));
       stripes.getStripesList().stream()
-          .map(
-              s ->
-                  indexStripe(
-                      keyFromString(s.getFirstKey()),
-                      keyFromString(s.getLastKey()),
-                      objIdFromByteBuffer(s.getSegment().asReadOnlyByteBuffer())))
+          .map(ProtoSerialization::deserializeStripe)
           .forEach(b::addReferenceIndexStripes);
     } catch (IOException e) {
       throw new RuntimeException(e);
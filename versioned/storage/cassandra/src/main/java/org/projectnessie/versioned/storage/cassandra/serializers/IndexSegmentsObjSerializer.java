@@ -15,10 +15,7 @@
  */
 package org.projectnessie.versioned.storage.cassandra.serializers;
 
-import static org.projectnessie.versioned.storage.common.indexes.StoreKey.keyFromString;
 import static org.projectnessie.versioned.storage.common.objtypes.IndexSegmentsObj.indexSegments;
-import static org.projectnessie.versioned.storage.common.objtypes.IndexStripe.indexStripe;
-import static org.projectnessie.versioned.storage.common.persist.ObjId.objIdFromByteBuffer;
 
 import com.datastax.oss.driver.api.core.cql.BoundStatementBuilder;
 import com.datastax.oss.driver.api.core.cql.Row;
@@ -34,8 +31,8 @@ import org.projectnessie.versioned.storage.common.objtypes.IndexSegmentsObj;
 import org.projectnessie.versioned.storage.common.objtypes.IndexStripe;
 import org.projectnessie.versioned.storage.common.persist.ObjId;
 import org.projectnessie.versioned.storage.common.persist.ObjType;
-import org.projectnessie.versioned.storage.common.proto.StorageTypes.Stripe;
 import org.projectnessie.versioned.storage.common.proto.StorageTypes.Stripes;
+import org.projectnessie.versioned.storage.serialize.ProtoSerialization;
 
 public class IndexSegmentsObjSerializer extends ObjSerializer<IndexSegmentsObj> {
 
@@ -60,12 +57,7 @@ public class IndexSegmentsObjSerializer extends ObjSerializer<IndexSegmentsObj>
       throws ObjTooLargeException {
     Stripes.Builder b = Stripes.newBuilder();
     obj.stripes().stream()
-        .map(
-            s ->
-                Stripe.newBuilder()
-                    .setFirstKey(s.firstKey().rawString())
-                    .setLastKey(s.lastKey().rawString())
-                    .setSegment(s.segment().asBytes()))
+        .map(ProtoSerialization::serializeStripe)
         .forEach(b::addStripes);
     stmt.setByteBuffer(
         COL_SEGMENTS_STRIPES.name(), b.build().toByteString().asReadOnlyByteBuffer());
@@ -78,12 +70,7 @@ public class IndexSegmentsObjSerializer extends ObjSerializer<IndexSegmentsObj>
       Stripes stripes = Stripes.parseFrom(row.getByteBuffer(COL_SEGMENTS_STRIPES.name()));
       List<IndexStripe> stripeList =
           stripes.getStripesList().stream()
-              .map(
-                  s ->
-                      indexStripe(
-                          keyFromString(s.getFirstKey()),
-                          keyFromString(s.getLastKey()),
-                          objIdFromByteBuffer(s.getSegment().asReadOnlyByteBuffer())))
+              .map(ProtoSerialization::deserializeStripe)
               .collect(Collectors.toList());
       return indexSegments(id, referenced, stripeList);
     } catch (IOException e) {
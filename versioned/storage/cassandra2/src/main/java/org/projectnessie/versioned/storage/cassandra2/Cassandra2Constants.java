@@ -342,6 +342,35 @@ public final class Cassandra2Constants {
           + COL_REPO_ID
           + "=? ALLOW FILTERING";
 
+  /**
+   * Scans an inclusive token range of the objs table. Rows of other repositories in the same token
+   * range are filtered out by the caller.
+   */
+  static final String SCAN_OBJS_TOKEN_RANGE =
+      "SELECT "
+          + COL_OBJ_ID
+          + ", "
+          + COL_OBJ_TYPE
+          + ", "
+          + COL_OBJ_VERS
+          + ", "
+          + COL_OBJ_VALUE
+          + ", "
+          + COL_OBJ_REFERENCED
+          + ", "
+          + COL_REPO_ID
+          + " FROM %s."
+          + TABLE_OBJS
+          + " WHERE token("
+          + COL_REPO_ID
+          + ", "
+          + COL_OBJ_ID
+          + ")>=? AND token("
+          + COL_REPO_ID
+          + ", "
+          + COL_OBJ_ID
+          + ")<=?";
+
   static final String ERASE_OBJS_SCAN =
       "SELECT "
           + COL_REPO_ID
@@ -38,6 +38,8 @@ import static org.projectnessie.versioned.storage.cassandra2.Cassandra2Constants
 import static org.projectnessie.versioned.storage.cassandra2.Cassandra2Constants.MAX_CONCURRENT_STORES;
 import static org.projectnessie.versioned.storage.cassandra2.Cassandra2Constants.PURGE_REFERENCE;
 import static org.projectnessie.versioned.storage.cassandra2.Cassandra2Constants.SCAN_OBJS;
+import static org.projectnessie.versioned.storage.cassandra2.Cassandra2Constants.SCAN_OBJS_TOKEN_RANGE;
+import static org.projectnessie.versioned.storage.cassandra2.Cassandra2Constants.SELECT_BATCH_SIZE;
 import static org.projectnessie.versioned.storage.cassandra2.Cassandra2Constants.STORE_OBJ;
 import static org.projectnessie.versioned.storage.cassandra2.Cassandra2Constants.UPDATE_OBJ;
 import static org.projectnessie.versioned.storage.cassandra2.Cassandra2Constants.UPDATE_OBJ_REFERENCED;
@@ -45,7 +47,9 @@ import static org.projectnessie.versioned.storage.cassandra2.Cassandra2Constants
 import static org.projectnessie.versioned.storage.cassandra2.Cassandra2Constants.UPSERT_OBJ;
 import static org.projectnessie.versioned.storage.cassandra2.Cassandra2Serde.deserializeObjId;
 import static org.projectnessie.versioned.storage.cassandra2.Cassandra2Serde.serializeObjId;
+import static org.projectnessie.versioned.storage.common.persist.ObjIdSegments.checkSegment;
 import static org.projectnessie.versioned.storage.common.persist.ObjTypes.objTypeByName;
+import static org.projectnessie.versioned.storage.common.persist.PersistAsync.unwrapFailure;
 import static org.projectnessie.versioned.storage.serialize.ProtoSerialization.deserializeObj;
 import static org.projectnessie.versioned.storage.serialize.ProtoSerialization.serializePreviousPointers;
 
@@ -57,16 +61,21 @@ import com.datastax.oss.driver.api.core.cql.Row;
 import com.google.common.collect.AbstractIterator;
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
+import java.lang.reflect.Array;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.atomic.AtomicIntegerArray;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import org.agrona.collections.Hashing;
+import org.agrona.collections.Object2IntHashMap;
 import org.projectnessie.versioned.storage.cassandra2.Cassandra2Backend.BatchedQuery;
 import org.projectnessie.versioned.storage.common.config.StoreConfig;
 import org.projectnessie.versioned.storage.common.exceptions.ObjNotFoundException;
@@ -240,6 +249,63 @@ public class Cassandra2Persist implements Persist {
     return updated;
   }
 
+  @Nonnull
+  @Override
+  public CompletionStage<Reference> updateReferencePointerAsync(
+      @Nonnull Reference reference, @Nonnull ObjId newPointer) {
+    Reference updated = reference.forNewPointer(newPointer, config);
+    byte[] serializedPreviousPointers = serializePreviousPointers(updated.previousPointers());
+    ByteBuffer previous =
+        serializedPreviousPointers != null ? ByteBuffer.wrap(serializedPreviousPointers) : null;
+    BoundStatement stmt =
+        backend.buildStatement(
+            UPDATE_REFERENCE_POINTER,
+            false,
+            serializeObjId(newPointer),
+            previous,
+            config().repositoryId(),
+            reference.name(),
+            serializeObjId(reference.pointer()),
+            false,
+            reference.createdAtMicros(),
+            serializeObjId(reference.extendedInfoObj()));
+    return backend
+        .executeAsync(stmt)
+        .thenCompose(
+            rs -> {
+              if (rs.wasApplied()) {
+                return CompletableFuture.completedStage(updated);
+              }
+              return fetchReferenceAsync(reference.name())
+                  .<Reference>thenApply(
+                      ref -> {
+                        if (ref == null) {
+                          throw new CompletionException(new RefNotFoundException(reference));
+                        }
+                        throw new CompletionException(new RefConditionFailedException(ref));
+                      });
+            })
+        .handle(
+            (ref, failure) -> {
+              if (failure != null) {
+                throw new CompletionException(asyncFailure(failure));
+              }
+              return ref;
+            });
+  }
+
+  private CompletionStage<Reference> fetchReferenceAsync(String name) {
+    return backend
+        .executeAsync(
+            backend.buildStatement(
+                FIND_REFERENCES, true, config.repositoryId(), singletonList(name)))
+        .thenApply(
+            rs -> {
+              Row row = rs.one();
+              return row != null ? Cassandra2Serde.deserializeReference(row) : null;
+            });
+  }
+
   @SuppressWarnings("unused")
   @Override
   @Nonnull
@@ -281,19 +347,7 @@ public class Cassandra2Persist implements Persist {
                 backend.buildStatement(
                     FIND_OBJS, true, config.repositoryId(), idsToByteBuffers.apply(keys)));
 
-    Function<Row, T> rowMapper =
-        row -> {
-          ObjType objType = objTypeByName(requireNonNull(row.getString(COL_OBJ_TYPE.name())));
-          if (type != null && !type.equals(objType)) {
-            return null;
-          }
-          ObjId id = deserializeObjId(row.getByteBuffer(COL_OBJ_ID.name()));
-          String versionToken = row.getString(COL_OBJ_VERS.name());
-          ByteBuffer serialized = row.getByteBuffer(COL_OBJ_VALUE.name());
-          String colReferenced = COL_OBJ_REFERENCED.name();
-          long referenced = row.isNull(colReferenced) ? -1 : row.getLong(colReferenced);
-          return typeClass.cast(deserializeObj(id, referenced, serialized, versionToken));
-        };
+    Function<Row, T> rowMapper = row -> rowToObj(row, type, typeClass);
 
     T[] r;
     try (BatchedQuery<ObjId, T> batchedQuery =
@@ -314,6 +368,94 @@ public class Cassandra2Persist implements Persist {
     return r;
   }
 
+  private static <T extends Obj> T rowToObj(Row row, ObjType type, Class<T> typeClass) {
+    ObjType objType = objTypeByName(requireNonNull(row.getString(COL_OBJ_TYPE.name())));
+    if (type != null && !type.equals(objType)) {
+      return null;
+    }
+    ObjId id = deserializeObjId(row.getByteBuffer(COL_OBJ_ID.name()));
+    String versionToken = row.getString(COL_OBJ_VERS.name());
+    ByteBuffer serialized = row.getByteBuffer(COL_OBJ_VALUE.name());
+    String colReferenced = COL_OBJ_REFERENCED.name();
+    long referenced = row.isNull(colReferenced) ? -1 : row.getLong(colReferenced);
+    return typeClass.cast(deserializeObj(id, referenced, serialized, versionToken));
+  }
+
+  @Nonnull
+  @Override
+  public <T extends Obj> CompletionStage<T[]> fetchTypedObjsIfExistAsync(
+      @Nonnull ObjId[] ids, ObjType type, @Nonnull Class<T> typeClass) {
+    @SuppressWarnings("unchecked")
+    T[] r = (T[]) Array.newInstance(typeClass, ids.length);
+
+    // Prepare all batches before submitting any query, the index-map is read concurrently by the
+    // driver's threads.
+    Object2IntHashMap<ObjId> idToIndex =
+        new Object2IntHashMap<>(ids.length * 2, Hashing.DEFAULT_LOAD_FACTOR, -1);
+    List<List<ByteBuffer>> batches = new ArrayList<>();
+    List<ByteBuffer> batch = null;
+    for (int i = 0; i < ids.length; i++) {
+      ObjId id = ids[i];
+      if (id != null) {
+        if (batch == null || batch.size() == SELECT_BATCH_SIZE) {
+          batch = new ArrayList<>(SELECT_BATCH_SIZE);
+          batches.add(batch);
+        }
+        batch.add(serializeObjId(id));
+        idToIndex.put(id, i);
+      }
+    }
+
+    CompletableFuture<?>[] queries = new CompletableFuture<?>[batches.size()];
+    for (int i = 0; i < queries.length; i++) {
+      queries[i] =
+          backend
+              .executeAsync(
+                  backend.buildStatement(FIND_OBJS, true, config.repositoryId(), batches.get(i)))
+              .thenCompose(rs -> consumeObjsPage(rs, r, idToIndex, type, typeClass))
+              .toCompletableFuture();
+    }
+
+    return CompletableFuture.allOf(queries)
+        .handle(
+            (x, failure) -> {
+              if (failure != null) {
+                throw new CompletionException(asyncFailure(failure));
+              }
+              return r;
+            });
+  }
+
+  private static <T extends Obj> CompletionStage<Void> consumeObjsPage(
+      AsyncResultSet rs,
+      T[] r,
+      Object2IntHashMap<ObjId> idToIndex,
+      ObjType type,
+      Class<T> typeClass) {
+    for (Row row : rs.currentPage()) {
+      T obj = rowToObj(row, type, typeClass);
+      if (obj != null) {
+        int idx = idToIndex.getValue(obj.id());
+        if (idx != -1) {
+          r[idx] = obj;
+        }
+      }
+    }
+    if (rs.hasMorePages()) {
+      return rs.fetchNextPage()
+          .thenCompose(next -> consumeObjsPage(next, r, idToIndex, type, typeClass));
+    }
+    return CompletableFuture.completedStage(null);
+  }
+
+  private static Throwable asyncFailure(Throwable failure) {
+    failure = unwrapFailure(failure);
+    if (failure instanceof DriverException) {
+      return unhandledException((DriverException) failure);
+    }
+    return failure;
+  }
+
   @Override
   public boolean storeObj(@Nonnull Obj obj, boolean ignoreSoftSizeRestrictions)
       throws ObjTooLargeException {
@@ -332,6 +474,47 @@ public class Cassandra2Persist implements Persist {
     return persistObjs(objs, referenced, false);
   }
 
+  @Nonnull
+  @Override
+  public CompletionStage<boolean[]> storeObjsAsync(@Nonnull Obj[] objs) {
+    long referenced = config.currentTimeMicros();
+    boolean[] r = new boolean[objs.length];
+    List<CompletableFuture<?>> writes = new ArrayList<>(objs.length);
+    for (int i = 0; i < objs.length; i++) {
+      Obj o = objs[i];
+      if (o == null) {
+        continue;
+      }
+      int idx = i;
+      CompletionStage<AsyncResultSet> write;
+      try {
+        write = writeSingleObj(o, referenced, false, false, backend::executeAsync);
+      } catch (ObjTooLargeException e) {
+        return CompletableFuture.failedStage(e);
+      }
+      writes.add(
+          write
+              .thenCompose(
+                  rs -> {
+                    if (rs.wasApplied()) {
+                      r[idx] = true;
+                      return CompletableFuture.<AsyncResultSet>completedStage(null);
+                    }
+                    return updateSingleReferenced(o.id(), referenced, backend::executeAsync);
+                  })
+              .toCompletableFuture());
+    }
+
+    return CompletableFuture.allOf(writes.toArray(new CompletableFuture<?>[0]))
+        .handle(
+            (x, failure) -> {
+              if (failure != null) {
+                throw new CompletionException(asyncFailure(failure));
+              }
+              return r;
+            });
+  }
+
   @Override
   public void upsertObj(@Nonnull Obj obj) throws ObjTooLargeException {
     long referenced = config.currentTimeMicros();
@@ -394,7 +577,8 @@ public class Cassandra2Persist implements Persist {
             newValue,
             effectiveIncrementalIndexSizeLimit(),
             effectiveIndexSegmentSizeLimit(),
-            false);
+            false,
+            config);
 
     long referenced = config.currentTimeMicros();
 
@@ -545,7 +729,7 @@ public class Cassandra2Persist implements Persist {
 
     byte[] serialized =
         ProtoSerialization.serializeObj(
-            obj, incrementalIndexSizeLimit, indexSegmentSizeLimit, false);
+            obj, incrementalIndexSizeLimit, indexSegmentSizeLimit, false, config);
 
     BoundStatementBuilder stmt =
         backend
@@ -597,7 +781,45 @@ public class Cassandra2Persist implements Persist {
   @Override
   @Nonnull
   public CloseableIterator<Obj> scanAllObjects(@Nonnull Set<ObjType> returnedObjTypes) {
-    return new ScanAllObjectsIterator(returnedObjTypes);
+    return new ScanAllObjectsIterator(
+        returnedObjTypes, backend.buildStatement(SCAN_OBJS, true, config.repositoryId()), false);
+  }
+
+  /**
+   * Scans one of {@code totalSegments} equally sized token ranges of the Murmur3 partitioner,
+   * without {@code ALLOW FILTERING}.
+   */
+  @Override
+  @Nonnull
+  public CloseableIterator<Obj> scanAllObjects(
+      @Nonnull Set<ObjType> returnedObjTypes, int segment, int totalSegments) {
+    checkSegment(segment, totalSegments);
+    if (totalSegments == 1) {
+      return scanAllObjects(returnedObjTypes);
+    }
+    BoundStatement stmt =
+        backend.buildStatement(
+            SCAN_OBJS_TOKEN_RANGE,
+            true,
+            tokenRangeStart(segment, totalSegments),
+            tokenRangeEnd(segment, totalSegments));
+    return new ScanAllObjectsIterator(returnedObjTypes, stmt, true);
+  }
+
+  @Override
+  public boolean supportsSegmentedScans() {
+    return true;
+  }
+
+  private static long tokenRangeStart(int segment, int totalSegments) {
+    long step = Long.divideUnsigned(-1L, totalSegments);
+    return Long.MIN_VALUE + segment * step;
+  }
+
+  private static long tokenRangeEnd(int segment, int totalSegments) {
+    return segment == totalSegments - 1
+        ? Long.MAX_VALUE
+        : tokenRangeStart(segment + 1, totalSegments) - 1L;
   }
 
   private class ScanAllObjectsIterator extends AbstractIterator<Obj>
@@ -605,10 +827,12 @@ public class Cassandra2Persist implements Persist {
 
     private final Iterator<Row> rs;
     private final Predicate<ObjType> returnedObjTypes;
+    private final boolean filterRepository;
 
-    ScanAllObjectsIterator(Set<ObjType> returnedObjTypes) {
+    ScanAllObjectsIterator(
+        Set<ObjType> returnedObjTypes, BoundStatement stmt, boolean filterRepository) {
       this.returnedObjTypes = returnedObjTypes.isEmpty() ? x -> true : returnedObjTypes::contains;
-      BoundStatement stmt = backend.buildStatement(SCAN_OBJS, true, config.repositoryId());
+      this.filterRepository = filterRepository;
       rs = backend.execute(stmt).iterator();
     }
 
@@ -624,6 +848,10 @@ public class Cassandra2Persist implements Persist {
         }
 
         Row row = rs.next();
+        if (filterRepository
+            && !config.repositoryId().equals(row.getString(COL_REPO_ID.name()))) {
+          continue;
+        }
         ObjType type = objTypeByName(requireNonNull(row.getString(1)));
         if (!returnedObjTypes.test(type)) {
           continue;
@@ -20,12 +20,14 @@ import static org.projectnessie.versioned.storage.common.logic.InternalRef.REF_R
 import static org.projectnessie.versioned.transfer.related.CompositeTransferRelatedObjects.createCompositeTransferRelatedObjects;
 
 import java.util.List;
+import java.util.Set;
 import java.util.function.IntFunction;
 import org.immutables.value.Value;
 import org.projectnessie.nessie.immutables.NessieImmutable;
 import org.projectnessie.versioned.storage.common.objtypes.CommitObj;
 import org.projectnessie.versioned.storage.common.persist.Obj;
 import org.projectnessie.versioned.storage.common.persist.ObjId;
+import org.projectnessie.versioned.storage.common.persist.Persist;
 import org.projectnessie.versioned.transfer.related.TransferRelatedObjects;
 
 /**
@@ -44,6 +46,9 @@ public interface CleanupParams {
   boolean DEFAULT_ALLOW_DUPLICATE_COMMIT_TRAVERSALS = false;
   int DEFAULT_PENDING_OBJS_BATCH_SIZE = 20;
   int DEFAULT_RECENT_OBJ_IDS_FILTER_SIZE = 100_000;
+  int DEFAULT_PURGE_SCAN_PARALLELISM = 4;
+  int DEFAULT_PURGE_DELETE_PARALLELISM = 4;
+  int DEFAULT_PURGE_DELETE_BATCH_SIZE = 100;
 
   static ImmutableCleanupParams.Builder builder() {
     return ImmutableCleanupParams.builder();
@@ -139,6 +144,18 @@ public interface CleanupParams {
     return 0;
   }
 
+  /**
+   * Number of threads scanning objects during {@link PurgeObjects#purge()}, defaults to {@value
+   * #DEFAULT_PURGE_SCAN_PARALLELISM}. Each thread scans one segment of the repository, see {@link
+   * Persist#scanAllObjects(Set, int, int)}. The {@linkplain #purgeScanObjRatePerSecond() scan rate
+   * limit} applies to all threads together. Backends that do not {@linkplain
+   * Persist#supportsSegmentedScans() support segmented scans} are always scanned by one thread.
+   */
+  @Value.Default
+  default int purgeScanParallelism() {
+    return DEFAULT_PURGE_SCAN_PARALLELISM;
+  }
+
   /**
    * Rate limit for purging objects per second during {@link PurgeObjects#purge()}, default is
    * unlimited. Any positive value enables rate limiting, any value {@code <=0} disables rate
@@ -149,6 +166,30 @@ public interface CleanupParams {
     return 0;
   }
 
+  /**
+   * Number of threads deleting objects during {@link PurgeObjects#purge()}, defaults to {@value
+   * #DEFAULT_PURGE_DELETE_PARALLELISM}. The {@linkplain #purgeDeleteObjRatePerSecond() delete rate
+   * limit} applies to all threads together.
+   */
+  @Value.Default
+  default int purgeDeleteParallelism() {
+    return DEFAULT_PURGE_DELETE_PARALLELISM;
+  }
+
+  /**
+   * Maximum number of objects a delete thread takes at once from the queue of objects to delete
+   * during {@link PurgeObjects#purge()}, defaults to {@value #DEFAULT_PURGE_DELETE_BATCH_SIZE}.
+   *
+   * <p>This value only controls the hand-off from the scanning threads to the delete threads and
+   * the capacity of the queue between those. Objects are still deleted one by one via {@link
+   * Persist#deleteWithReferenced(Obj)}, because every delete is conditional on the object's {@link
+   * Obj#referenced()} timestamp, which a batched {@link Persist#deleteObjs(ObjId[])} cannot check.
+   */
+  @Value.Default
+  default int purgeDeleteBatchSize() {
+    return DEFAULT_PURGE_DELETE_BATCH_SIZE;
+  }
+
   /**
    * {@link ReferencedObjectsResolver} attempts to fetch objects from the backend database in
    * batches, this parameter defines the batch size, defaults to {@link
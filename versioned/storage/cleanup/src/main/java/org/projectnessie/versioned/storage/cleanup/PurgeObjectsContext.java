@@ -41,8 +41,14 @@ public interface PurgeObjectsContext {
 
   int scanObjRatePerSecond();
 
+  int scanParallelism();
+
   int deleteObjRatePerSecond();
 
+  int deleteParallelism();
+
+  int deleteBatchSize();
+
   static PurgeObjectsContext purgeObjectsContext(
       ReferencedObjectsContext referencedObjectsContext) {
     return ImmutablePurgeObjectsContext.of(
@@ -50,7 +56,10 @@ public interface PurgeObjectsContext {
         referencedObjectsContext.referencedObjects(),
         referencedObjectsContext.purgeFilter(),
         referencedObjectsContext.params().purgeScanObjRatePerSecond(),
+        referencedObjectsContext.params().purgeScanParallelism(),
         referencedObjectsContext.params().purgeDeleteObjRatePerSecond(),
+        referencedObjectsContext.params().purgeDeleteParallelism(),
+        referencedObjectsContext.params().purgeDeleteBatchSize(),
         referencedObjectsContext.params().dryRun());
   }
 
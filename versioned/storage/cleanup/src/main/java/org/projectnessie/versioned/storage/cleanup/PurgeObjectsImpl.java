@@ -16,19 +16,43 @@
 package org.projectnessie.versioned.storage.cleanup;
 
 import static com.google.common.base.Preconditions.checkState;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.projectnessie.versioned.storage.cleanup.HeapSizes.memSizeToStringMB;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.IntFunction;
 import org.projectnessie.versioned.storage.common.persist.CloseableIterator;
 import org.projectnessie.versioned.storage.common.persist.Obj;
+import org.projectnessie.versioned.storage.common.persist.Persist;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Scans all objects using {@linkplain PurgeObjectsContext#scanParallelism() multiple scan threads},
+ * each scanning one segment of the repository, and passes the objects that can be purged via a
+ * shared bounded queue to {@linkplain PurgeObjectsContext#deleteParallelism() multiple delete
+ * threads}. The scan rate limit is shared by all scan threads, the delete rate limit is shared by
+ * all delete threads. Backends that do not {@linkplain Persist#supportsSegmentedScans() support
+ * segmented scans} are scanned by a single thread.
+ */
 final class PurgeObjectsImpl implements PurgeObjects {
   private static final Logger LOGGER = LoggerFactory.getLogger(PurgeObjectsImpl.class);
 
+  /** Interval to check whether the scan has finished or a delete thread has failed. */
+  private static final long POLL_INTERVAL_MILLIS = 100L;
+
   private final PurgeObjectsContext purgeObjectsContext;
   private final PurgeStatsBuilder stats;
   private final AtomicBoolean used = new AtomicBoolean();
@@ -48,32 +72,27 @@ final class PurgeObjectsImpl implements PurgeObjects {
   public PurgeResult purge() {
     checkState(used.compareAndSet(false, true), "purge() has already been called.");
 
-    var purgeFilter = purgeObjectsContext.purgeFilter();
     var persist = purgeObjectsContext.persist();
     var clock = persist.config().clock();
+    // Backends that cannot scan a segment natively would read all objects once per segment
+    var scanParallelism =
+        persist.supportsSegmentedScans() ? Math.max(1, purgeObjectsContext.scanParallelism()) : 1;
+    var parallelism = Math.max(1, purgeObjectsContext.deleteParallelism());
 
     LOGGER.info(
-        "Purging unreferenced objects in repository '{}', scanning {} objects per second, deleting {} objects per second, estimated context heap pressure: {}",
+        "Purging unreferenced objects in repository '{}', scanning {} objects per second using {} threads, deleting {} objects per second using {} threads, estimated context heap pressure: {}",
         persist.config().repositoryId(),
         scanRateLimiter,
+        scanParallelism,
         purgeRateLimiter,
+        parallelism,
         memSizeToStringMB(estimatedHeapPressure()));
 
     PurgeStats finalStats = null;
     try {
       stats.started = clock.instant();
-      try (CloseableIterator<Obj> iter = persist.scanAllObjects(Set.of())) {
-        while (iter.hasNext()) {
-          scanRateLimiter.acquire();
-          stats.numScannedObjs++;
-          var obj = iter.next();
-          if (purgeFilter.mustKeep(obj)) {
-            continue;
-          }
-
-          purgeRateLimiter.acquire();
-          purgeObj(obj);
-        }
+      try {
+        scanAndPurge(scanParallelism, parallelism);
       } catch (RuntimeException e) {
         stats.failure = e;
       } finally {
@@ -118,9 +137,164 @@ final class PurgeObjectsImpl implements PurgeObjects {
     return purgeObjectsContext.referencedObjects().estimatedHeapPressure();
   }
 
-  private void purgeObj(Obj obj) {
-    // TODO delete in parallel (multiple threads)
-    stats.numPurgedObjs++;
+  private void scanAndPurge(int scanParallelism, int parallelism) {
+    var batchSize = Math.max(1, purgeObjectsContext.deleteBatchSize());
+
+    BlockingQueue<Obj> queue = new ArrayBlockingQueue<>(2 * parallelism * batchSize);
+    var scanDone = new AtomicBoolean();
+    var failure = new AtomicReference<RuntimeException>();
+
+    stats.workers(parallelism);
+    var scanExecutor = newExecutor(scanParallelism, "nessie-purge-scan-%d");
+    var deleteExecutor = newExecutor(parallelism, "nessie-purge-%d");
+    try {
+      List<Future<?>> workers = new ArrayList<>(parallelism);
+      for (int i = 0; i < parallelism; i++) {
+        var worker = i;
+        workers.add(
+            submit(
+                deleteExecutor,
+                () -> {
+                  purgeWorker(worker, queue, batchSize, scanDone);
+                  return null;
+                },
+                failure));
+      }
+
+      List<Future<?>> scanners = new ArrayList<>(scanParallelism);
+      for (int i = 0; i < scanParallelism; i++) {
+        var segment = i;
+        scanners.add(
+            submit(
+                scanExecutor,
+                () -> {
+                  scanSegment(segment, scanParallelism, queue, failure);
+                  return null;
+                },
+                failure));
+      }
+
+      try {
+        for (Future<?> scanner : scanners) {
+          awaitWorker(scanner);
+        }
+      } finally {
+        scanDone.set(true);
+      }
+
+      for (Future<?> worker : workers) {
+        awaitWorker(worker);
+      }
+    } finally {
+      scanExecutor.shutdownNow();
+      deleteExecutor.shutdownNow();
+    }
+  }
+
+  private static ExecutorService newExecutor(int threads, String nameFormat) {
+    return Executors.newFixedThreadPool(
+        threads, new ThreadFactoryBuilder().setNameFormat(nameFormat).setDaemon(true).build());
+  }
+
+  /** Submits a task, the first failure of any task stops all scan threads. */
+  private static Future<?> submit(
+      ExecutorService executor, Callable<?> task, AtomicReference<RuntimeException> failure) {
+    return executor.submit(
+        () -> {
+          try {
+            return task.call();
+          } catch (RuntimeException e) {
+            failure.compareAndSet(null, e);
+            throw e;
+          }
+        });
+  }
+
+  private void scanSegment(
+      int segment,
+      int totalSegments,
+      BlockingQueue<Obj> queue,
+      AtomicReference<RuntimeException> failure) {
+    var purgeFilter = purgeObjectsContext.purgeFilter();
+    var persist = purgeObjectsContext.persist();
+
+    try (CloseableIterator<Obj> iter = persist.scanAllObjects(Set.of(), segment, totalSegments)) {
+      while (iter.hasNext()) {
+        checkFailure(failure);
+        scanRateLimiter.acquire();
+        stats.scanned();
+        var obj = iter.next();
+        if (purgeFilter.mustKeep(obj)) {
+          continue;
+        }
+
+        enqueue(queue, obj, failure);
+      }
+    }
+  }
+
+  private static void checkFailure(AtomicReference<RuntimeException> failure) {
+    var e = failure.get();
+    if (e != null) {
+      throw e;
+    }
+  }
+
+  private static void enqueue(
+      BlockingQueue<Obj> queue, Obj obj, AtomicReference<RuntimeException> failure) {
+    try {
+      do {
+        // Stop scanning as soon as any scan or delete thread failed
+        checkFailure(failure);
+      } while (!queue.offer(obj, POLL_INTERVAL_MILLIS, MILLISECONDS));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException(e);
+    }
+  }
+
+  private static void awaitWorker(Future<?> worker) {
+    try {
+      worker.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException(e);
+    } catch (ExecutionException e) {
+      var cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      throw new RuntimeException(cause);
+    }
+  }
+
+  private void purgeWorker(
+      int worker, BlockingQueue<Obj> queue, int batchSize, AtomicBoolean scanDone)
+      throws InterruptedException {
+    var batch = new ArrayList<Obj>(batchSize);
+    while (true) {
+      // Must be read before polling, all objects have been queued if the scan has finished.
+      var done = scanDone.get();
+      var obj = queue.poll(POLL_INTERVAL_MILLIS, MILLISECONDS);
+      if (obj == null) {
+        if (done) {
+          return;
+        }
+        continue;
+      }
+
+      batch.add(obj);
+      queue.drainTo(batch, batchSize - 1);
+      for (Obj o : batch) {
+        purgeRateLimiter.acquire();
+        purgeObj(worker, o);
+      }
+      batch.clear();
+    }
+  }
+
+  private void purgeObj(int worker, Obj obj) {
+    stats.purged(worker);
 
     var persist = purgeObjectsContext.persist();
 
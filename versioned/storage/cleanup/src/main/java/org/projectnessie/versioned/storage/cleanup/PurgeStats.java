@@ -17,6 +17,7 @@ package org.projectnessie.versioned.storage.cleanup;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 import org.projectnessie.nessie.immutables.NessieImmutable;
 
@@ -39,5 +40,11 @@ public interface PurgeStats {
    */
   long numPurgedObjs();
 
+  /**
+   * Number of purged (deleted) objects per delete thread, the sum of all values is {@link
+   * #numPurgedObjs()}.
+   */
+  List<Long> numPurgedObjsPerWorker();
+
   Optional<Exception> failure();
 }
@@ -16,7 +16,11 @@
 package org.projectnessie.versioned.storage.cleanup;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
 
 final class PurgeStatsBuilder {
   Instant started;
@@ -24,11 +28,39 @@ final class PurgeStatsBuilder {
 
   Exception failure;
 
-  long numScannedObjs;
-  long numPurgedObjs;
+  /** Number of scanned objects, updated concurrently by the scan threads. */
+  final AtomicLong numScannedObjs = new AtomicLong();
+
+  /** Number of purged objects per delete thread, updated concurrently by the delete threads. */
+  AtomicLongArray numPurgedObjsPerWorker = new AtomicLongArray(0);
+
+  void workers(int numWorkers) {
+    numPurgedObjsPerWorker = new AtomicLongArray(numWorkers);
+  }
+
+  void scanned() {
+    numScannedObjs.incrementAndGet();
+  }
+
+  void purged(int worker) {
+    numPurgedObjsPerWorker.incrementAndGet(worker);
+  }
 
   PurgeStats build() {
+    AtomicLongArray perWorker = numPurgedObjsPerWorker;
+    List<Long> numPurgedObjsPerWorker = new ArrayList<>(perWorker.length());
+    long numPurgedObjs = 0L;
+    for (int i = 0; i < perWorker.length(); i++) {
+      long n = perWorker.get(i);
+      numPurgedObjsPerWorker.add(n);
+      numPurgedObjs += n;
+    }
     return ImmutablePurgeStats.of(
-        started, ended, numScannedObjs, numPurgedObjs, Optional.ofNullable(failure));
+        started,
+        ended,
+        numScannedObjs.get(),
+        numPurgedObjs,
+        numPurgedObjsPerWorker,
+        Optional.ofNullable(failure));
   }
 }
@@ -17,6 +17,12 @@ package org.projectnessie.versioned.storage.cleanup;
 
 import static java.util.Objects.requireNonNull;
 import static java.util.UUID.randomUUID;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 import static org.projectnessie.nessie.relocated.protobuf.ByteString.copyFromUtf8;
 import static org.projectnessie.versioned.storage.cleanup.Cleanup.createCleanup;
 import static org.projectnessie.versioned.storage.common.config.StoreConfig.CONFIG_MAX_INCREMENTAL_INDEX_SIZE;
@@ -38,6 +44,8 @@ import static org.projectnessie.versioned.testworker.OnRefOnly.onRef;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.assertj.core.api.SoftAssertions;
 import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
 import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
@@ -158,6 +166,142 @@ public class TestCleanup {
         .containsExactly(Optional.empty(), 5L, 0L);
   }
 
+  @Test
+  void parallelPurge() throws Exception {
+    soft.assertThat(repositoryLogic(persist).repositoryExists()).isTrue();
+
+    var unreferenced = new ObjId[500];
+    for (int i = 0; i < unreferenced.length; i++) {
+      var obj = contentValue("cid-" + i, 42, copyFromUtf8("value-" + i));
+      persist.storeObj(obj);
+      unreferenced[i] = obj.id();
+    }
+
+    var cleanup =
+        createCleanup(
+            CleanupParams.builder().purgeDeleteParallelism(3).purgeDeleteBatchSize(7).build());
+    var referencedObjectsContext =
+        cleanup.buildReferencedObjectsContext(persist, persist.config().currentTimeMicros());
+    var resolveResult =
+        cleanup.createReferencedObjectsResolver(referencedObjectsContext).resolve();
+    var purgeResult = cleanup.createPurgeObjects(resolveResult.purgeObjectsContext()).purge();
+
+    soft.assertThat(purgeResult.stats())
+        .extracting(PurgeStats::failure, PurgeStats::numScannedObjs, PurgeStats::numPurgedObjs)
+        .containsExactly(Optional.empty(), 5L + 500L, 500L);
+    var perWorker = purgeResult.stats().numPurgedObjsPerWorker();
+    soft.assertThat(perWorker).hasSize(3);
+    soft.assertThat(perWorker.stream().mapToLong(Long::longValue).sum()).isEqualTo(500L);
+    soft.assertThat(persist.fetchObjsIfExist(unreferenced)).containsOnlyNulls();
+  }
+
+  @Test
+  void parallelScan() throws Exception {
+    soft.assertThat(repositoryLogic(persist).repositoryExists()).isTrue();
+
+    var unreferenced = new ObjId[500];
+    for (int i = 0; i < unreferenced.length; i++) {
+      var obj = contentValue("cid-" + i, 42, copyFromUtf8("value-" + i));
+      persist.storeObj(obj);
+      unreferenced[i] = obj.id();
+    }
+
+    var scanningPersist = spy(persist);
+    doReturn(true).when(scanningPersist).supportsSegmentedScans();
+    var cleanup =
+        createCleanup(
+            CleanupParams.builder().purgeScanParallelism(3).purgeDeleteParallelism(2).build());
+    var referencedObjectsContext =
+        cleanup.buildReferencedObjectsContext(
+            scanningPersist, scanningPersist.config().currentTimeMicros());
+    var resolveResult =
+        cleanup.createReferencedObjectsResolver(referencedObjectsContext).resolve();
+    var purgeResult = cleanup.createPurgeObjects(resolveResult.purgeObjectsContext()).purge();
+
+    soft.assertThat(purgeResult.stats())
+        .extracting(PurgeStats::failure, PurgeStats::numScannedObjs, PurgeStats::numPurgedObjs)
+        .containsExactly(Optional.empty(), 5L + 500L, 500L);
+    soft.assertThat(persist.fetchObjsIfExist(unreferenced)).containsOnlyNulls();
+    for (int segment = 0; segment < 3; segment++) {
+      verify(scanningPersist).scanAllObjects(Set.of(), segment, 3);
+    }
+  }
+
+  @Test
+  void scanWithoutSegmentedScansSupport() throws Exception {
+    soft.assertThat(repositoryLogic(persist).repositoryExists()).isTrue();
+
+    var unreferenced = new ObjId[100];
+    for (int i = 0; i < unreferenced.length; i++) {
+      var obj = contentValue("cid-" + i, 42, copyFromUtf8("value-" + i));
+      persist.storeObj(obj);
+      unreferenced[i] = obj.id();
+    }
+
+    var scanningPersist = spy(persist);
+    doReturn(false).when(scanningPersist).supportsSegmentedScans();
+    var cleanup = createCleanup(CleanupParams.builder().purgeScanParallelism(3).build());
+    var referencedObjectsContext =
+        cleanup.buildReferencedObjectsContext(
+            scanningPersist, scanningPersist.config().currentTimeMicros());
+    var resolveResult =
+        cleanup.createReferencedObjectsResolver(referencedObjectsContext).resolve();
+    var purgeResult = cleanup.createPurgeObjects(resolveResult.purgeObjectsContext()).purge();
+
+    soft.assertThat(purgeResult.stats())
+        .extracting(PurgeStats::failure, PurgeStats::numScannedObjs, PurgeStats::numPurgedObjs)
+        .containsExactly(Optional.empty(), 5L + 100L, 100L);
+    soft.assertThat(persist.fetchObjsIfExist(unreferenced)).containsOnlyNulls();
+    verify(scanningPersist).scanAllObjects(Set.of(), 0, 1);
+    verify(scanningPersist, never()).scanAllObjects(Set.of(), 0, 3);
+  }
+
+  @Test
+  void parallelPurgeStopsOnDeleteFailure() throws Exception {
+    soft.assertThat(repositoryLogic(persist).repositoryExists()).isTrue();
+
+    var unreferenced = new ObjId[500];
+    for (int i = 0; i < unreferenced.length; i++) {
+      var obj = contentValue("cid-" + i, 42, copyFromUtf8("value-" + i));
+      persist.storeObj(obj);
+      unreferenced[i] = obj.id();
+    }
+
+    // Only the first delete fails, the other delete threads keep draining the queue
+    var failed = new AtomicBoolean();
+    var failure = new RuntimeException("delete failed");
+    var failingPersist = spy(persist);
+    doAnswer(
+            invocation -> {
+              if (failed.compareAndSet(false, true)) {
+                throw failure;
+              }
+              return invocation.callRealMethod();
+            })
+        .when(failingPersist)
+        .deleteWithReferenced(any());
+
+    var cleanup =
+        createCleanup(
+            CleanupParams.builder().purgeDeleteParallelism(3).purgeDeleteBatchSize(1).build());
+    var referencedObjectsContext =
+        cleanup.buildReferencedObjectsContext(
+            failingPersist, failingPersist.config().currentTimeMicros());
+    var resolveResult =
+        cleanup.createReferencedObjectsResolver(referencedObjectsContext).resolve();
+    var purgeResult = cleanup.createPurgeObjects(resolveResult.purgeObjectsContext()).purge();
+
+    var stats = purgeResult.stats();
+    soft.assertThat(stats.failure()).containsSame(failure);
+    soft.assertThat(stats.numScannedObjs()).isLessThan(5L + 500L);
+    soft.assertThat(stats.numPurgedObjs()).isLessThan(500L);
+    soft.assertThat(stats.numPurgedObjsPerWorker()).hasSize(3);
+    soft.assertThat(stats.numPurgedObjsPerWorker().stream().mapToLong(Long::longValue).sum())
+        .isEqualTo(stats.numPurgedObjs());
+    // The scan stopped, so not all unreferenced objects have been deleted
+    soft.assertThat(persist.fetchObjsIfExist(unreferenced)).filteredOn(o -> o != null).isNotEmpty();
+  }
+
   @Test
   void purgeDeleteRefObjs() throws Exception {
     soft.assertThat(repositoryLogic(persist).repositoryExists()).isTrue();
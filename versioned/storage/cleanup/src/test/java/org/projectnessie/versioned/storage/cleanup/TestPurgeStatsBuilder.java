@@ -17,6 +17,7 @@ package org.projectnessie.versioned.storage.cleanup;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.List;
 import org.assertj.core.api.SoftAssertions;
 import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
 import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
@@ -37,9 +38,14 @@ public class TestPurgeStatsBuilder {
     expected.started(Instant.EPOCH);
     builder.ended = Instant.EPOCH.plus(42, ChronoUnit.DAYS);
     expected.ended(Instant.EPOCH.plus(42, ChronoUnit.DAYS));
-    builder.numPurgedObjs = 1;
-    expected.numPurgedObjs(1);
-    builder.numScannedObjs = 2;
+    builder.workers(3);
+    builder.purged(0);
+    builder.purged(2);
+    builder.purged(2);
+    expected.numPurgedObjs(3);
+    expected.numPurgedObjsPerWorker(List.of(1L, 0L, 2L));
+    builder.scanned();
+    builder.scanned();
     expected.numScannedObjs(2);
     builder.failure = new Exception("hello");
     expected.failure(builder.failure);
@@ -27,6 +27,8 @@ import static org.projectnessie.versioned.storage.common.objtypes.StringObj.stri
 import static org.projectnessie.versioned.storage.common.objtypes.TagObj.tag;
 import static org.projectnessie.versioned.storage.common.objtypes.UniqueIdObj.uniqueId;
 import static org.projectnessie.versioned.storage.common.persist.ObjTypes.objTypeByName;
+import static org.projectnessie.versioned.storage.common.util.Compressions.compress;
+import static org.projectnessie.versioned.storage.common.util.Compressions.uncompress;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
@@ -36,8 +38,11 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Consumer;
 import org.projectnessie.nessie.relocated.protobuf.ByteString;
+import org.projectnessie.nessie.relocated.protobuf.CodedInputStream;
 import org.projectnessie.nessie.relocated.protobuf.InvalidProtocolBufferException;
 import org.projectnessie.nessie.relocated.protobuf.Parser;
+import org.projectnessie.nessie.relocated.protobuf.UnsafeByteOperations;
+import org.projectnessie.versioned.storage.common.config.StoreConfig;
 import org.projectnessie.versioned.storage.common.exceptions.ObjTooLargeException;
 import org.projectnessie.versioned.storage.common.objtypes.CommitHeaders;
 import org.projectnessie.versioned.storage.common.objtypes.CommitObj;
@@ -208,9 +213,66 @@ public final class ProtoSerialization {
     return result;
   }
 
+  public static Stripe.Builder serializeStripe(IndexStripe indexStripe) {
+    Stripe.Builder stripe =
+        Stripe.newBuilder()
+            .setFirstKey(indexStripe.firstKey().rawString())
+            .setLastKey(indexStripe.lastKey().rawString())
+            .setSegment(serializeObjId(indexStripe.segment()));
+    ByteString keyFilter = indexStripe.keyFilter();
+    if (keyFilter != null) {
+      stripe.setKeyFilter(keyFilter);
+    }
+    return stripe;
+  }
+
+  public static IndexStripe deserializeStripe(Stripe stripe) {
+    return indexStripe(
+        keyFromString(stripe.getFirstKey()),
+        keyFromString(stripe.getLastKey()),
+        deserializeObjId(stripe.getSegment()),
+        stripe.hasKeyFilter() ? stripe.getKeyFilter() : null);
+  }
+
   public static byte[] serializeObj(
       Obj obj, int incrementalIndexSizeLimit, int indexSizeLimit, boolean includeVersionToken)
       throws ObjTooLargeException {
+    return serializeObj(
+        obj, incrementalIndexSizeLimit, indexSizeLimit, includeVersionToken, Compression.NONE, 0);
+  }
+
+  /**
+   * Serializes an object like {@link #serializeObj(Obj, int, int, boolean)}, but compresses the
+   * payload of the object using the codec configured for the object's type, see {@link
+   * StoreConfig#objCompression()}.
+   */
+  public static byte[] serializeObj(
+      Obj obj,
+      int incrementalIndexSizeLimit,
+      int indexSizeLimit,
+      boolean includeVersionToken,
+      StoreConfig config)
+      throws ObjTooLargeException {
+    if (obj == null) {
+      return null;
+    }
+    return serializeObj(
+        obj,
+        incrementalIndexSizeLimit,
+        indexSizeLimit,
+        includeVersionToken,
+        config.compressionForObjType(obj.type()),
+        config.objCompressionMinSize());
+  }
+
+  private static byte[] serializeObj(
+      Obj obj,
+      int incrementalIndexSizeLimit,
+      int indexSizeLimit,
+      boolean includeVersionToken,
+      Compression compression,
+      int compressionMinSize)
+      throws ObjTooLargeException {
     if (obj == null) {
       return null;
     }
@@ -218,7 +280,9 @@ public final class ProtoSerialization {
     if (obj.type() instanceof StandardObjType) {
       switch (((StandardObjType) obj.type())) {
         case COMMIT:
-          return b.setCommit(serializeCommit((CommitObj) obj, incrementalIndexSizeLimit))
+          return b.setCommit(
+                  serializeCommit(
+                      (CommitObj) obj, incrementalIndexSizeLimit, compression, compressionMinSize))
               .build()
               .toByteArray();
         case VALUE:
@@ -232,7 +296,10 @@ public final class ProtoSerialization {
               .build()
               .toByteArray();
         case INDEX:
-          return b.setIndex(serializeIndex((IndexObj) obj, indexSizeLimit)).build().toByteArray();
+          return b.setIndex(
+                  serializeIndex((IndexObj) obj, indexSizeLimit, compression, compressionMinSize))
+              .build()
+              .toByteArray();
         case STRING:
           return b.setStringData(serializeStringData((StringObj) obj)).build().toByteArray();
         case TAG:
@@ -243,10 +310,18 @@ public final class ProtoSerialization {
           throw new UnsupportedOperationException("Unknown standard object type " + obj.type());
       }
     } else {
-      return b.setCustom(serializeCustom(obj, includeVersionToken)).build().toByteArray();
+      return b.setCustom(
+              serializeCustom(obj, includeVersionToken, compression, compressionMinSize))
+          .build()
+          .toByteArray();
     }
   }
 
+  /**
+   * Deserializes an object from the given buffer. The {@code bytes} fields are copied, because
+   * buffers returned by database drivers are often views of a larger, shared response buffer, which
+   * must not be retained by the deserialized object.
+   */
   public static Obj deserializeObj(
       ObjId id, long referenced, ByteBuffer serialized, String versionToken) {
     if (serialized == null) {
@@ -260,15 +335,25 @@ public final class ProtoSerialization {
     }
   }
 
+  /**
+   * Deserializes an object from the given array without copying the {@code bytes} fields, for
+   * example index and content-value payloads, which share the given array instead.
+   *
+   * <p>The caller must not modify {@code serialized} after calling this function. This is the case
+   * for arrays freshly returned by a database driver and for the serialized objects held by the
+   * cache.
+   */
   public static Obj deserializeObj(
       ObjId id, long referenced, byte[] serialized, String versionToken) {
     if (serialized == null) {
       return null;
     }
     try {
-      ObjProto obj = ObjProto.parseFrom(serialized);
+      CodedInputStream input = UnsafeByteOperations.unsafeWrap(serialized).newCodedInput();
+      input.enableAliasing(true);
+      ObjProto obj = ObjProto.parseFrom(input);
       return deserializeObjProto(id, referenced, obj, versionToken);
-    } catch (InvalidProtocolBufferException e) {
+    } catch (IOException e) {
       throw new RuntimeException(e);
     }
   }
@@ -317,7 +402,9 @@ public final class ProtoSerialization {
             .created(commit.getCreated())
             .seq(commit.getSeq())
             .message(commit.getMessage())
-            .incrementalIndex(commit.getIncrementalIndex())
+            .incrementalIndex(
+                uncompressPayload(
+                    commit.getIncrementalIndex(), commit.getIncrementalIndexCompression()))
             .incompleteIndex(commit.getIncompleteIndex())
             .commitType(CommitType.valueOf(commit.getCommitType().name()));
     deserializeObjIds(commit.getTailList(), b::addTail);
@@ -333,25 +420,27 @@ public final class ProtoSerialization {
       b.referenceIndex(deserializeObjId(commit.getReferenceIndex()));
     }
     for (Stripe s : commit.getReferenceIndexStripesList()) {
-      b.addReferenceIndexStripes(
-          indexStripe(
-              keyFromString(s.getFirstKey()),
-              keyFromString(s.getLastKey()),
-              deserializeObjId(s.getSegment())));
+      b.addReferenceIndexStripes(deserializeStripe(s));
     }
     return b.build();
   }
 
-  private static CommitProto.Builder serializeCommit(CommitObj obj, int indexSizeLimit)
+  private static CommitProto.Builder serializeCommit(
+      CommitObj obj, int indexSizeLimit, Compression compression, int compressionMinSize)
       throws ObjTooLargeException {
     CommitProto.Builder b =
         CommitProto.newBuilder()
             .setCreated(obj.created())
             .setSeq(obj.seq())
             .setMessage(obj.message())
-            .setIncrementalIndex(verifySize(obj.incrementalIndex(), indexSizeLimit))
             .setIncompleteIndex(obj.incompleteIndex())
             .setCommitType(CommitTypeProto.valueOf(obj.commitType().name()));
+    b.setIncrementalIndex(
+        compressPayload(
+            verifySize(obj.incrementalIndex(), indexSizeLimit),
+            compression,
+            compressionMinSize,
+            b::setIncrementalIndexCompression));
     serializeObjIds(obj.tail(), b::addTail);
     serializeObjIds(obj.secondaryParents(), b::addSecondaryParents);
     for (String h : obj.headers().keySet()) {
@@ -362,11 +451,7 @@ public final class ProtoSerialization {
       b.setReferenceIndex(serializeObjId(referenceIndexId));
     }
     for (IndexStripe indexStripe : obj.referenceIndexStripes()) {
-      b.addReferenceIndexStripes(
-          Stripe.newBuilder()
-              .setFirstKey(indexStripe.firstKey().rawString())
-              .setLastKey(indexStripe.lastKey().rawString())
-              .setSegment(serializeObjId(indexStripe.segment())));
+      b.addReferenceIndexStripes(serializeStripe(indexStripe));
     }
     return b;
   }
@@ -380,6 +465,36 @@ public final class ProtoSerialization {
     return index;
   }
 
+  /**
+   * Compresses the given payload, if it is larger than {@code compressionMinSize} and if the
+   * compressed payload is smaller than the uncompressed one, passing the compression to {@code
+   * compressionReceiver} in that case.
+   */
+  private static ByteString compressPayload(
+      ByteString payload,
+      Compression compression,
+      int compressionMinSize,
+      Consumer<CompressionProto> compressionReceiver) {
+    if (compression == Compression.NONE || payload.size() <= compressionMinSize) {
+      return payload;
+    }
+    byte[] compressed = compress(compression, payload.toByteArray());
+    if (compressed.length >= payload.size()) {
+      return payload;
+    }
+    compressionReceiver.accept(CompressionProto.valueOf(compression.name()));
+    return UnsafeByteOperations.unsafeWrap(compressed);
+  }
+
+  private static ByteString uncompressPayload(ByteString payload, CompressionProto compression) {
+    if (compression == CompressionProto.C_UNKNOWN || compression == CompressionProto.NONE) {
+      // Objects written before compression was introduced do not have the compression field.
+      return payload;
+    }
+    return UnsafeByteOperations.unsafeWrap(
+        uncompress(Compression.valueOf(compression.name()), payload.toByteArray()));
+  }
+
   private static ContentValueObj deserializeContentValue(
       ObjId id, long referenced, ContentValueProto contentValue) {
     return contentValue(
@@ -424,11 +539,7 @@ public final class ProtoSerialization {
       ObjId id, long referenced, IndexSegmentsProto indexSegments) {
     List<IndexStripe> stripes = new ArrayList<>(indexSegments.getStripesCount());
     for (Stripe s : indexSegments.getStripesList()) {
-      stripes.add(
-          indexStripe(
-              keyFromString(s.getFirstKey()),
-              keyFromString(s.getLastKey()),
-              deserializeObjId(s.getSegment())));
+      stripes.add(deserializeStripe(s));
     }
     return indexSegments(id, referenced, stripes);
   }
@@ -436,22 +547,25 @@ public final class ProtoSerialization {
   private static IndexSegmentsProto.Builder serializeIndexSegments(IndexSegmentsObj obj) {
     IndexSegmentsProto.Builder b = IndexSegmentsProto.newBuilder();
     for (IndexStripe indexStripe : obj.stripes()) {
-      b.addStripes(
-          Stripe.newBuilder()
-              .setFirstKey(indexStripe.firstKey().rawString())
-              .setLastKey(indexStripe.lastKey().rawString())
-              .setSegment(serializeObjId(indexStripe.segment())));
+      b.addStripes(serializeStripe(indexStripe));
     }
     return b;
   }
 
   private static IndexObj deserializeIndex(ObjId id, long referenced, IndexProto index) {
-    return index(id, referenced, index.getIndex());
+    return index(id, referenced, uncompressPayload(index.getIndex(), index.getCompression()));
   }
 
-  private static IndexProto.Builder serializeIndex(IndexObj obj, int indexSizeLimit)
+  private static IndexProto.Builder serializeIndex(
+      IndexObj obj, int indexSizeLimit, Compression compression, int compressionMinSize)
       throws ObjTooLargeException {
-    return IndexProto.newBuilder().setIndex(verifySize(obj.index(), indexSizeLimit));
+    IndexProto.Builder b = IndexProto.newBuilder();
+    return b.setIndex(
+        compressPayload(
+            verifySize(obj.index(), indexSizeLimit),
+            compression,
+            compressionMinSize,
+            b::setCompression));
   }
 
   private static StringObj deserializeStringData(
@@ -538,7 +652,8 @@ public final class ProtoSerialization {
         custom.getCompression().name());
   }
 
-  private static CustomProto.Builder serializeCustom(Obj obj, boolean includeVersionToken) {
+  private static CustomProto.Builder serializeCustom(
+      Obj obj, boolean includeVersionToken, Compression compression, int compressionMinSize) {
     CustomProto.Builder builder = CustomProto.newBuilder().setObjType(obj.type().shortName());
     if (includeVersionToken) {
       UpdateableObj.extractVersionToken(obj).ifPresent(builder::setVersionToken);
@@ -546,8 +661,10 @@ public final class ProtoSerialization {
     byte[] bytes =
         SmileSerialization.serializeObj(
             obj,
-            compression -> builder.setCompression(CompressionProto.valueOf(compression.name())));
-    builder.setData(ByteString.copyFrom(bytes));
+            compression,
+            compressionMinSize,
+            compr -> builder.setCompression(CompressionProto.valueOf(compr.name())));
+    builder.setData(UnsafeByteOperations.unsafeWrap(bytes));
     return builder;
   }
 }
@@ -16,6 +16,7 @@
 package org.projectnessie.versioned.storage.serialize;
 
 import static org.projectnessie.versioned.storage.common.json.ObjIdHelper.contextualReader;
+import static org.projectnessie.versioned.storage.common.util.Compressions.compress;
 import static org.projectnessie.versioned.storage.common.util.Compressions.compressDefault;
 import static org.projectnessie.versioned.storage.common.util.Compressions.uncompress;
 
@@ -98,4 +99,36 @@ public final class SmileSerialization {
       throw new UncheckedIOException(e);
     }
   }
+
+  /**
+   * Serializes the given object and compresses it using the given compression, if the serialized
+   * object is larger than {@code compressionMinSize} and if the compressed object is smaller than
+   * the serialized one. Uses the default compression, if {@code compression} is {@link
+   * Compression#NONE}.
+   */
+  public static byte[] serializeObj(
+      Obj obj,
+      Compression compression,
+      int compressionMinSize,
+      Consumer<Compression> compressionReceiver) {
+    if (compression == Compression.NONE) {
+      return serializeObj(obj, compressionReceiver);
+    }
+    try {
+      byte[] serialized = SMILE_WRITER.writeValueAsBytes(obj);
+      if (serialized.length <= compressionMinSize) {
+        compressionReceiver.accept(Compression.NONE);
+        return serialized;
+      }
+      byte[] compressed = compress(compression, serialized);
+      if (compressed.length >= serialized.length) {
+        compressionReceiver.accept(Compression.NONE);
+        return serialized;
+      }
+      compressionReceiver.accept(compression);
+      return compressed;
+    } catch (JsonProcessingException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
 }
@@ -51,6 +51,7 @@ import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import java.nio.ByteBuffer;
 import java.time.Instant;
 import java.time.OffsetDateTime;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -63,11 +64,14 @@ import org.immutables.value.Value;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.projectnessie.nessie.relocated.protobuf.ByteString;
+import org.projectnessie.versioned.storage.common.config.StoreConfig;
 import org.projectnessie.versioned.storage.common.exceptions.ObjTooLargeException;
 import org.projectnessie.versioned.storage.common.objtypes.CommitObj;
 import org.projectnessie.versioned.storage.common.objtypes.Compression;
+import org.projectnessie.versioned.storage.common.objtypes.ContentValueObj;
 import org.projectnessie.versioned.storage.common.objtypes.IndexObj;
 import org.projectnessie.versioned.storage.common.objtypes.JsonObj;
 import org.projectnessie.versioned.storage.common.objtypes.UpdateableObj;
@@ -145,6 +149,62 @@ public class TestProtoSerialization {
     }
   }
 
+  @Test
+  public void deserializeWithoutCopying() throws Exception {
+    byte[] payload = new byte[64];
+    Arrays.fill(payload, (byte) 1);
+    ContentValueObj obj = contentValue(randomObjId(), 0L, "cid", 0, ByteString.copyFrom(payload));
+
+    byte[] serialized = serializeObj(obj, Integer.MAX_VALUE, Integer.MAX_VALUE, true);
+    ContentValueObj fromArray = (ContentValueObj) deserializeObj(obj.id(), 0L, serialized, null);
+    ContentValueObj fromBuffer =
+        (ContentValueObj) deserializeObj(obj.id(), 0L, ByteBuffer.wrap(serialized), null);
+    soft.assertThat(fromArray).isEqualTo(obj).isEqualTo(fromBuffer);
+
+    // The payload of the object deserialized from the array shares the array, the payload of the
+    // object deserialized from the buffer is a copy.
+    Arrays.fill(serialized, serialized.length - payload.length, serialized.length, (byte) 2);
+    soft.assertThat(fromArray.data().byteAt(0)).isEqualTo((byte) 2);
+    soft.assertThat(fromBuffer.data().byteAt(0)).isEqualTo((byte) 1);
+  }
+
+  @ParameterizedTest
+  @EnumSource(
+      value = Compression.class,
+      names = {"GZIP", "DEFLATE", "SNAPPY", "ZSTD"})
+  public void compressedPayloads(Compression compression) throws Exception {
+    StoreConfig config =
+        StoreConfig.Adjustable.empty()
+            .withObjCompression(Map.of("index", compression, "commit", compression));
+    ByteString large = ByteString.copyFrom(new byte[16 * 1024]);
+    ByteString small = ByteString.copyFrom(new byte[16]);
+
+    List<Obj> objs =
+        List.of(
+            index(randomObjId(), 0L, large),
+            index(randomObjId(), 0L, small),
+            CommitObj.commitBuilder()
+                .id(randomObjId())
+                .seq(1L)
+                .created(42L)
+                .message("msg")
+                .headers(EMPTY_COMMIT_HEADERS)
+                .incrementalIndex(large)
+                .build(),
+            contentValue(randomObjId(), 0L, "cid", 0, large));
+    for (Obj obj : objs) {
+      byte[] uncompressed = serializeObj(obj, Integer.MAX_VALUE, Integer.MAX_VALUE, true);
+      byte[] serialized = serializeObj(obj, Integer.MAX_VALUE, Integer.MAX_VALUE, true, config);
+      soft.assertThat(deserializeObj(obj.id(), 0L, serialized, null)).isEqualTo(obj);
+      if (config.compressionForObjType(obj.type()) != Compression.NONE
+          && uncompressed.length > config.objCompressionMinSize()) {
+        soft.assertThat(serialized.length).isLessThan(uncompressed.length / 10);
+      } else {
+        soft.assertThat(serialized).isEqualTo(uncompressed);
+      }
+    }
+  }
+
   @Test
   public void nullInputs() throws Exception {
     soft.assertThat(serializeReference(null)).isNull();
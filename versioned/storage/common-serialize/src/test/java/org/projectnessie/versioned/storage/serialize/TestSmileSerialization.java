@@ -0,0 +1,64 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.serialize;
+
+import static org.projectnessie.versioned.storage.common.persist.ObjId.randomObjId;
+import static org.projectnessie.versioned.storage.serialize.SmileSerialization.deserializeObj;
+import static org.projectnessie.versioned.storage.serialize.SmileSerialization.serializeObj;
+
+import java.util.concurrent.atomic.AtomicReference;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.projectnessie.versioned.storage.common.objtypes.Compression;
+import org.projectnessie.versioned.storage.commontests.objtypes.SimpleTestObj;
+
+@ExtendWith(SoftAssertionsExtension.class)
+public class TestSmileSerialization {
+  @InjectSoftAssertions protected SoftAssertions soft;
+
+  @ParameterizedTest
+  @EnumSource(
+      value = Compression.class,
+      names = {"GZIP", "DEFLATE", "SNAPPY", "ZSTD"})
+  public void compression(Compression compression) {
+    SimpleTestObj large =
+        SimpleTestObj.builder().id(randomObjId()).text("foo".repeat(4000)).build();
+    SimpleTestObj small = SimpleTestObj.builder().id(randomObjId()).text("foo").build();
+    AtomicReference<Compression> used = new AtomicReference<>();
+
+    byte[] serialized = serializeObj(large, compression, 1024, used::set);
+    soft.assertThat(used.get()).isSameAs(compression);
+    soft.assertThat(serialized.length).isLessThan(4000);
+    soft.assertThat(deserializeObj(large.id(), null, serialized, large.type(), 0L, used.get()))
+        .isEqualTo(large);
+
+    // Not larger than the minimum size
+    serialized = serializeObj(small, compression, 1024, used::set);
+    soft.assertThat(used.get()).isSameAs(Compression.NONE);
+    soft.assertThat(deserializeObj(small.id(), null, serialized, small.type(), 0L, used.get()))
+        .isEqualTo(small);
+
+    // Compression would make the serialized object larger
+    serialized = serializeObj(small, compression, 0, used::set);
+    soft.assertThat(used.get()).isSameAs(Compression.NONE);
+    soft.assertThat(deserializeObj(small.id(), null, serialized, small.type(), 0L, used.get()))
+        .isEqualTo(small);
+  }
+}
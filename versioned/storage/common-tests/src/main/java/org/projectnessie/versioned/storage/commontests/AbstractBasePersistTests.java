@@ -24,6 +24,7 @@ import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static java.util.Objects.requireNonNull;
 import static java.util.UUID.randomUUID;
+import static java.util.concurrent.TimeUnit.MINUTES;
 import static org.assertj.core.api.Assumptions.assumeThat;
 import static org.assertj.core.api.InstanceOfAssertFactories.LONG;
 import static org.assertj.core.api.InstanceOfAssertFactories.list;
@@ -36,6 +37,7 @@ import static org.projectnessie.versioned.storage.common.config.StoreConfig.CONF
 import static org.projectnessie.versioned.storage.common.indexes.StoreIndexElement.indexElement;
 import static org.projectnessie.versioned.storage.common.indexes.StoreIndexes.newStoreIndex;
 import static org.projectnessie.versioned.storage.common.indexes.StoreKey.key;
+import static org.projectnessie.versioned.storage.common.indexes.StoreKeyFilter.buildKeyFilter;
 import static org.projectnessie.versioned.storage.common.json.ObjIdHelper.contextualReader;
 import static org.projectnessie.versioned.storage.common.objtypes.CommitHeaders.EMPTY_COMMIT_HEADERS;
 import static org.projectnessie.versioned.storage.common.objtypes.CommitHeaders.newCommitHeaders;
@@ -72,6 +74,7 @@ import static org.projectnessie.versioned.storage.common.persist.Reference.refer
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Iterators;
 import com.google.common.collect.Lists;
 import java.time.Instant;
 import java.util.ArrayList;
@@ -82,6 +85,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.Function;
 import java.util.function.IntFunction;
@@ -518,7 +522,11 @@ public class AbstractBasePersistTests {
         indexSegments(
             asList(
                 indexStripe(key(nonAscii), key(nonAscii), randomObjId()),
-                indexStripe(key("moo", "woof"), key("zoo", "woof"), randomObjId()))),
+                indexStripe(
+                    key("moo", "woof"),
+                    key("zoo", "woof"),
+                    randomObjId(),
+                    buildKeyFilter(index).serialize()))),
         index(emptyIndex.serialize()),
         index(index.serialize()),
         // 10
@@ -542,7 +550,9 @@ public class AbstractBasePersistTests {
             .addSecondaryParents(objIdFromString("dcceadbeefcafeba"))
             .addSecondaryParents(objIdFromString("cc00000000000000"))
             .addReferenceIndexStripes(indexStripe(key("abc"), key("def"), randomObjId()))
-            .addReferenceIndexStripes(indexStripe(key("def"), key("ghi"), randomObjId()))
+            .addReferenceIndexStripes(
+                indexStripe(
+                    key("def"), key("ghi"), randomObjId(), buildKeyFilter(index).serialize()))
             .addReferenceIndexStripes(indexStripe(key("ghi"), key("jkl"), randomObjId()))
             .incrementalIndex(index.serialize())
             .commitType(CommitType.INTERNAL)
@@ -1037,6 +1047,82 @@ public class AbstractBasePersistTests {
         .containsExactly(obj1, obj2, obj3, obj4, obj5);
   }
 
+  @Test
+  public void asyncStoreAndFetch() throws Exception {
+    List<TagObj> objects =
+        IntStream.range(0, 123)
+            .mapToObj(i -> tag(randomObjId(), 42L, null, null, ByteString.copyFrom(new byte[42])))
+            .collect(Collectors.toList());
+    Obj[] objs = objects.toArray(new Obj[0]);
+    ObjId[] ids = objects.stream().map(Obj::id).toArray(ObjId[]::new);
+
+    soft.assertThat(persist.storeObjsAsync(objs).toCompletableFuture().get(1, MINUTES))
+        .hasSize(objects.size())
+        .containsOnly(true);
+    soft.assertThat(persist.storeObjsAsync(objs).toCompletableFuture().get(1, MINUTES))
+        .hasSize(objects.size())
+        .containsOnly(false);
+
+    soft.assertThat(
+            persist
+                .fetchTypedObjsAsync(ids, TAG, TagObj.class)
+                .toCompletableFuture()
+                .get(1, MINUTES))
+        .containsExactlyElementsOf(objects);
+    soft.assertThat(persist.fetchObjAsync(ids[0]).toCompletableFuture().get(1, MINUTES))
+        .isEqualTo(objects.get(0));
+
+    ObjId nonExisting = randomObjId();
+    ObjId[] withMissing = new ObjId[] {ids[1], null, nonExisting};
+    soft.assertThat(
+            persist
+                .fetchTypedObjsIfExistAsync(withMissing, null, Obj.class)
+                .toCompletableFuture()
+                .get(1, MINUTES))
+        .containsExactly(objects.get(1), null, null);
+    soft.assertThat(
+            persist
+                .fetchTypedObjsIfExistAsync(new ObjId[] {ids[2]}, COMMIT, CommitObj.class)
+                .toCompletableFuture()
+                .get(1, MINUTES))
+        .containsExactly((CommitObj) null);
+
+    soft.assertThat(persist.fetchObjAsync(nonExisting).toCompletableFuture())
+        .failsWithin(1, MINUTES)
+        .withThrowableOfType(ExecutionException.class)
+        .withCauseInstanceOf(ObjNotFoundException.class);
+    soft.assertThat(persist.fetchTypedObjsAsync(withMissing, null, Obj.class).toCompletableFuture())
+        .failsWithin(1, MINUTES)
+        .withThrowableOfType(ExecutionException.class)
+        .withCauseInstanceOf(ObjNotFoundException.class)
+        .withMessageContaining(nonExisting.toString());
+  }
+
+  @Test
+  public void asyncUpdateReference() throws Exception {
+    ObjId initialPointer = objIdFromString("0000");
+    ObjId pointer1 = objIdFromString("0001");
+
+    Reference create = reference("async-reference", initialPointer, false, 12345L, null);
+    persist.addReference(create);
+
+    Reference updated =
+        persist.updateReferencePointerAsync(create, pointer1).toCompletableFuture().get(1, MINUTES);
+    soft.assertThat(updated).isEqualTo(create.forNewPointer(pointer1, persist.config()));
+    soft.assertThat(persist.fetchReferenceForUpdate(create.name())).isEqualTo(updated);
+
+    soft.assertThat(persist.updateReferencePointerAsync(create, pointer1).toCompletableFuture())
+        .failsWithin(1, MINUTES)
+        .withThrowableOfType(ExecutionException.class)
+        .withCauseInstanceOf(RefConditionFailedException.class);
+
+    Reference notThere = reference("no-such-reference", initialPointer, false, 12345L, null);
+    soft.assertThat(persist.updateReferencePointerAsync(notThere, pointer1).toCompletableFuture())
+        .failsWithin(1, MINUTES)
+        .withThrowableOfType(ExecutionException.class)
+        .withCauseInstanceOf(RefNotFoundException.class);
+  }
+
   @Test
   public void fetchEmptyObjId() {
     soft.assertThatThrownBy(() -> persist.fetchObj(EMPTY_OBJ_ID))
@@ -1479,6 +1565,67 @@ public class AbstractBasePersistTests {
     }
   }
 
+  /**
+   * Verifies that the segments of {@link Persist#scanAllObjects(Set, int, int)} are disjoint and
+   * together return the same objects as {@link Persist#scanAllObjects(Set)}.
+   */
+  @Test
+  public void scanAllObjectsSegments(
+      @NessieStoreConfig(name = CONFIG_REPOSITORY_ID, value = "some-other") @NessiePersist
+          Persist otherRepo)
+      throws Exception {
+    Obj[] values =
+        IntStream.range(0, 100)
+            .mapToObj(i -> contentValue("content-id-" + i, i, copyFromUtf8("value-" + i)))
+            .toArray(Obj[]::new);
+    persist.storeObjs(values);
+    otherRepo.storeObjs(
+        new Obj[] {contentValue("other-content-id", 42, copyFromUtf8("other-value"))});
+    // Object IDs that are shorter or longer than 256 bits must be returned by exactly one segment
+    persist.storeObjs(
+        new Obj[] {
+          SimpleTestObj.builder().id(objIdFromString("ffff0001")).text("short").build(),
+          SimpleTestObj.builder()
+              .id(objIdFromString("0000" + "02".repeat(38)))
+              .text("long")
+              .build()
+        });
+
+    List<ObjId> all;
+    try (CloseableIterator<Obj> scan = persist.scanAllObjects(Set.of())) {
+      all = Lists.newArrayList(Iterators.transform(scan, Obj::id));
+    }
+    soft.assertThat(all).contains(stream(values).map(Obj::id).toArray(ObjId[]::new));
+
+    for (int totalSegments : new int[] {1, 2, 3, 7, 16}) {
+      List<ObjId> segments = new ArrayList<>();
+      for (int segment = 0; segment < totalSegments; segment++) {
+        try (CloseableIterator<Obj> scan =
+            persist.scanAllObjects(Set.of(), segment, totalSegments)) {
+          scan.forEachRemaining(o -> segments.add(o.id()));
+        }
+      }
+      soft.assertThat(segments)
+          .describedAs("%d segments", totalSegments)
+          .doesNotHaveDuplicates()
+          .containsExactlyInAnyOrderElementsOf(all);
+    }
+
+    List<ObjId> valueSegments = new ArrayList<>();
+    for (int segment = 0; segment < 4; segment++) {
+      try (CloseableIterator<Obj> scan = persist.scanAllObjects(Set.of(VALUE), segment, 4)) {
+        scan.forEachRemaining(o -> valueSegments.add(o.id()));
+      }
+    }
+    soft.assertThat(valueSegments)
+        .containsExactlyInAnyOrder(stream(values).map(Obj::id).toArray(ObjId[]::new));
+
+    soft.assertThatIllegalArgumentException()
+        .isThrownBy(() -> persist.scanAllObjects(Set.of(), 2, 2));
+    soft.assertThatIllegalArgumentException()
+        .isThrownBy(() -> persist.scanAllObjects(Set.of(), 0, 0));
+  }
+
   /**
    * Make sure that objects <em>inserted</em> with {@link Persist#upsertObj(Obj)} and {@link
    * Persist#upsertObjs(Obj[])} can be retrieved with {@link Persist#fetchObjs(ObjId[])} and {@link
@@ -45,6 +45,7 @@ import static org.projectnessie.versioned.storage.common.objtypes.CommitHeaders.
 import static org.projectnessie.versioned.storage.common.persist.ObjId.EMPTY_OBJ_ID;
 import static org.projectnessie.versioned.storage.common.persist.ObjId.objIdFromString;
 import static org.projectnessie.versioned.storage.common.persist.ObjId.randomObjId;
+import static org.projectnessie.versioned.storage.common.persist.Reference.reference;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -148,6 +149,34 @@ public class AbstractCommitLogicTests {
         .containsExactly(tuple(commitId1, STD_MESSAGE), null);
   }
 
+  @Test
+  public void headCommits() throws Exception {
+    CommitLogic commitLogic = commitLogic(persist);
+
+    ObjId commitId1 = requireNonNull(commitLogic.doCommit(stdCommit().build(), emptyList())).id();
+    ObjId commitId2 =
+        requireNonNull(commitLogic.doCommit(stdCommit().message("other").build(), emptyList()))
+            .id();
+
+    Reference ref1 = reference("refs/heads/one", commitId1, false, 0L, null);
+    Reference ref2 = reference("refs/heads/two", commitId2, false, 0L, null);
+    Reference ref3 = reference("refs/heads/three", commitId1, false, 0L, null);
+    Reference empty = reference("refs/heads/empty", EMPTY_OBJ_ID, false, 0L, null);
+
+    soft.assertThat(commitLogic.headCommits(emptyList())).isEmpty();
+    soft.assertThat(commitLogic.headCommits(asList(ref1, null, empty, ref2, ref3)))
+        .extracting(o -> o != null ? o.id() : null)
+        .containsExactly(commitId1, null, null, commitId2, commitId1);
+
+    ObjId nonExisting = randomObjId();
+    Reference missing = reference("refs/heads/missing", nonExisting, false, 0L, null);
+    soft.assertThatThrownBy(() -> commitLogic.headCommits(asList(ref1, missing)))
+        .isInstanceOf(ObjNotFoundException.class)
+        .asInstanceOf(type(ObjNotFoundException.class))
+        .extracting(ObjNotFoundException::objIds, list(ObjId.class))
+        .containsExactly(nonExisting);
+  }
+
   @Test
   public void commonAncestor() throws Exception {
     CommitLogic commitLogic = commitLogic(persist);
@@ -17,6 +17,7 @@ package org.projectnessie.versioned.storage.commontests;
 
 import static com.google.common.collect.Lists.newArrayList;
 import static java.util.Collections.emptyList;
+import static java.util.Collections.emptySet;
 import static java.util.Objects.requireNonNull;
 import static org.assertj.core.api.InstanceOfAssertFactories.list;
 import static org.assertj.core.api.InstanceOfAssertFactories.type;
@@ -26,6 +27,7 @@ import static org.projectnessie.versioned.storage.common.indexes.StoreIndexes.in
 import static org.projectnessie.versioned.storage.common.indexes.StoreIndexes.layeredIndex;
 import static org.projectnessie.versioned.storage.common.indexes.StoreIndexes.newStoreIndex;
 import static org.projectnessie.versioned.storage.common.indexes.StoreKey.key;
+import static org.projectnessie.versioned.storage.common.indexes.StoreKeyFilter.deserializeKeyFilter;
 import static org.projectnessie.versioned.storage.common.logic.Logics.commitLogic;
 import static org.projectnessie.versioned.storage.common.logic.Logics.indexesLogic;
 import static org.projectnessie.versioned.storage.common.objtypes.CommitHeaders.EMPTY_COMMIT_HEADERS;
@@ -36,10 +38,12 @@ import static org.projectnessie.versioned.storage.common.objtypes.CommitOp.Actio
 import static org.projectnessie.versioned.storage.common.objtypes.CommitOp.Action.REMOVE;
 import static org.projectnessie.versioned.storage.common.objtypes.CommitOp.COMMIT_OP_SERIALIZER;
 import static org.projectnessie.versioned.storage.common.objtypes.CommitOp.commitOp;
+import static org.projectnessie.versioned.storage.common.objtypes.StandardObjType.INDEX_SEGMENTS;
 import static org.projectnessie.versioned.storage.common.persist.ObjId.EMPTY_OBJ_ID;
 import static org.projectnessie.versioned.storage.common.persist.ObjId.randomObjId;
 import static org.projectnessie.versioned.storage.commontests.KeyIndexTestSet.basicIndexTestSet;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
@@ -55,11 +59,14 @@ import org.projectnessie.versioned.storage.common.exceptions.ObjTooLargeExceptio
 import org.projectnessie.versioned.storage.common.indexes.StoreIndex;
 import org.projectnessie.versioned.storage.common.indexes.StoreIndexElement;
 import org.projectnessie.versioned.storage.common.indexes.StoreKey;
+import org.projectnessie.versioned.storage.common.indexes.StoreKeyFilter;
 import org.projectnessie.versioned.storage.common.logic.CommitLogic;
 import org.projectnessie.versioned.storage.common.logic.IndexesLogic;
 import org.projectnessie.versioned.storage.common.logic.SuppliedCommitIndex;
 import org.projectnessie.versioned.storage.common.objtypes.CommitObj;
 import org.projectnessie.versioned.storage.common.objtypes.CommitOp;
+import org.projectnessie.versioned.storage.common.objtypes.IndexSegmentsObj;
+import org.projectnessie.versioned.storage.common.objtypes.IndexStripe;
 import org.projectnessie.versioned.storage.common.objtypes.StandardObjType;
 import org.projectnessie.versioned.storage.common.persist.ObjId;
 import org.projectnessie.versioned.storage.common.persist.Persist;
@@ -217,6 +224,37 @@ public class AbstractIndexesLogicTests {
         .containsExactlyElementsOf(striped.asKeyList());
   }
 
+  @Test
+  public void referenceIndexKeyFilters() throws Exception {
+    IndexesLogic indexesLogic = indexesLogic(persist);
+
+    KeyIndexTestSet<CommitOp> indexTestSet = basicIndexTestSet();
+    List<StoreIndex<CommitOp>> stripes = indexTestSet.keyIndex().divide(5);
+
+    ObjId referenceIndexId = indexesLogic.persistStripedIndex(indexFromStripes(stripes));
+
+    IndexSegmentsObj segments =
+        persist.fetchTypedObj(referenceIndexId, INDEX_SEGMENTS, IndexSegmentsObj.class);
+    soft.assertThat(segments.stripes()).hasSize(stripes.size());
+    for (int i = 0; i < stripes.size(); i++) {
+      StoreKeyFilter keyFilter = deserializeKeyFilter(segments.stripes().get(i).keyFilter());
+      soft.assertThat(keyFilter).describedAs("Segment #%d", i).isNotNull();
+      if (keyFilter != null) {
+        soft.assertThat(stripes.get(i).asKeyList())
+            .describedAs("Segment #%d", i)
+            .allMatch(keyFilter::mightContain);
+      }
+    }
+
+    // Stripes that are not modified keep their key filter without being loaded
+    StoreIndex<CommitOp> loadedIndex =
+        indexesLogic.buildReferenceIndexOnly(referenceIndexId, EMPTY_OBJ_ID);
+    loadedIndex.loadIfNecessary(emptySet());
+    List<IndexStripe> indexStripes = indexesLogic.persistIndexStripesFromIndex(loadedIndex);
+    soft.assertThat(loadedIndex.stripes()).noneMatch(StoreIndex::isLoaded);
+    soft.assertThat(indexStripes).containsExactlyElementsOf(segments.stripes());
+  }
+
   @Test
   public void buildIndexFromCommitWithReferenceIndex() throws Exception {
     IndexesLogic indexesLogic = indexesLogic(persist);
@@ -35,11 +35,13 @@ import static org.projectnessie.versioned.storage.common.indexes.StoreKey.key;
 import static org.projectnessie.versioned.storage.common.logic.CommitLogQuery.commitLogQuery;
 import static org.projectnessie.versioned.storage.common.logic.CreateCommit.Add.commitAdd;
 import static org.projectnessie.versioned.storage.common.logic.CreateCommit.newCommitBuilder;
+import static org.projectnessie.versioned.storage.common.logic.InternalRef.REF_REFS;
 import static org.projectnessie.versioned.storage.common.logic.InternalRef.REF_REPO;
 import static org.projectnessie.versioned.storage.common.logic.InternalRef.allInternalRefs;
 import static org.projectnessie.versioned.storage.common.logic.Logics.commitLogic;
 import static org.projectnessie.versioned.storage.common.logic.Logics.indexesLogic;
 import static org.projectnessie.versioned.storage.common.logic.Logics.referenceLogic;
+import static org.projectnessie.versioned.storage.common.logic.NewReference.newReference;
 import static org.projectnessie.versioned.storage.common.logic.PagingToken.emptyPagingToken;
 import static org.projectnessie.versioned.storage.common.logic.PagingToken.pagingToken;
 import static org.projectnessie.versioned.storage.common.logic.ReferencesQuery.referencesQuery;
@@ -78,7 +80,9 @@ import org.projectnessie.versioned.storage.common.exceptions.RefConditionFailedE
 import org.projectnessie.versioned.storage.common.exceptions.RefNotFoundException;
 import org.projectnessie.versioned.storage.common.exceptions.RetryTimeoutException;
 import org.projectnessie.versioned.storage.common.indexes.StoreIndexElement;
+import org.projectnessie.versioned.storage.common.logic.CreateReferenceResult;
 import org.projectnessie.versioned.storage.common.logic.InternalRef;
+import org.projectnessie.versioned.storage.common.logic.NewReference;
 import org.projectnessie.versioned.storage.common.logic.PagedResult;
 import org.projectnessie.versioned.storage.common.logic.PagingToken;
 import org.projectnessie.versioned.storage.common.logic.ReferenceLogic;
@@ -372,6 +376,54 @@ public abstract class AbstractReferenceLogicTests {
         .allMatch(c -> c.commitType() == CommitType.INTERNAL);
   }
 
+  @Test
+  public void createReferences() throws Exception {
+    ReferenceLogic refLogic = referenceLogic(persist);
+    ObjId initialPointer = randomObjId();
+    Reference existing = refLogic.createReference("refs/heads/existing", initialPointer, null);
+
+    List<NewReference> newReferences = new ArrayList<>();
+    for (int i = 0; i < 600; i++) {
+      newReferences.add(newReference("refs/heads/bulk-" + i, initialPointer, null));
+    }
+    newReferences.add(newReference(existing.name(), randomObjId(), null));
+    newReferences.add(newReference("refs/heads/bulk-42", randomObjId(), null));
+
+    ObjId refRefsHead = persist.fetchReference(REF_REFS.name()).pointer();
+    List<CreateReferenceResult> results = refLogic.createReferences(newReferences);
+    soft.assertThat(results).hasSize(newReferences.size());
+    for (int i = 0; i < 600; i++) {
+      soft.assertThat(results.get(i))
+          .extracting(CreateReferenceResult::name, CreateReferenceResult::created)
+          .containsExactly("refs/heads/bulk-" + i, true);
+      soft.assertThat(results.get(i).reference())
+          .extracting(Reference::pointer)
+          .isEqualTo(initialPointer);
+    }
+    soft.assertThat(results.get(600))
+        .isEqualTo(CreateReferenceResult.referenceAlreadyExists(existing.name(), existing));
+    soft.assertThat(results.get(601))
+        .extracting(CreateReferenceResult::created, r -> r.reference().pointer())
+        .containsExactly(false, initialPointer);
+
+    soft.assertThat(
+            refLogic.getReferences(
+                newReferences.stream().map(NewReference::name).collect(Collectors.toList())))
+        .doesNotContainNull()
+        .extracting(Reference::pointer)
+        .containsOnly(initialPointer);
+
+    // 600 new references are recorded using two commits in the references log
+    soft.assertThat(
+            newArrayList(
+                commitLogic(persist)
+                    .commitLog(commitLogQuery(persist.fetchReference(REF_REFS.name()).pointer()))))
+        .extracting(CommitObj::id)
+        .hasSizeGreaterThanOrEqualTo(3)
+        .element(2)
+        .isEqualTo(refRefsHead);
+  }
+
   @Test
   public void assign() throws Exception {
     ReferenceLogic refLogic = referenceLogic(persist);
@@ -121,6 +121,29 @@ public class RealisticKeyIndexImplBench {
     return deserialized.serialize();
   }
 
+  @Benchmark
+  public Object deserializeBulkAddSerialize(BenchmarkParam param) {
+    StoreIndex<CommitOp> deserialized = param.keyIndexTestSet.deserialize();
+    for (char c1 = 'a'; c1 <= 'z'; c1++) {
+      for (char c2 = 'a'; c2 <= 'z'; c2++) {
+        deserialized.add(indexElement(key(c1 + "x", c2 + "key"), commitOp(ADD, 1, randomObjId())));
+      }
+    }
+    return deserialized.serialize();
+  }
+
+  @Benchmark
+  public Object deserializeAddUnchangedSerialize(BenchmarkParam param) {
+    StoreIndex<CommitOp> deserialized = param.keyIndexTestSet.deserialize();
+    for (int i = 0; i < 26; i++) {
+      StoreIndexElement<CommitOp> el = deserialized.get(param.keyIndexTestSet.randomKey());
+      if (el != null) {
+        deserialized.add(indexElement(el.key(), el.content()));
+      }
+    }
+    return deserialized.serialize();
+  }
+
   @Benchmark
   public Object deserialize(BenchmarkParam param) {
     return param.keyIndexTestSet.deserialize();
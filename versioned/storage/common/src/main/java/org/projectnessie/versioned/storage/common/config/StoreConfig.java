@@ -21,9 +21,15 @@ import static java.util.concurrent.TimeUnit.SECONDS;
 import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
 import org.immutables.value.Value;
+import org.projectnessie.versioned.storage.common.objtypes.Compression;
+import org.projectnessie.versioned.storage.common.persist.ObjType;
+import org.projectnessie.versioned.storage.common.persist.ObjTypes;
+import org.projectnessie.versioned.storage.common.util.Compressions;
 
 public interface StoreConfig {
 
@@ -73,6 +79,17 @@ public interface StoreConfig {
 
   String CONFIG_REFERENCE_NEGATIVE_CACHE_TTL = "reference-cache-negative-ttl";
 
+  String CONFIG_GROUP_COMMITS = "group-commits";
+  boolean DEFAULT_GROUP_COMMITS = false;
+
+  String CONFIG_OBJ_COMPRESSION = "obj-compression";
+
+  String CONFIG_OBJ_COMPRESSION_MIN_SIZE = "obj-compression-min-size";
+  int DEFAULT_OBJ_COMPRESSION_MIN_SIZE = 1024;
+
+  String CONFIG_INDEX_STRIPE_CACHE_MB = "index-stripe-cache-mb";
+  int DEFAULT_INDEX_STRIPE_CACHE_MB = 32;
+
   /**
    * Whether namespace validation is enabled, changing this to false will break the Nessie
    * specification!
@@ -290,6 +307,97 @@ public interface StoreConfig {
    */
   Optional<Duration> referenceCacheNegativeTtl();
 
+  /**
+   * Enables grouping of concurrent commits to the same branch on a Nessie node. Commits that arrive
+   * while another commit to the same branch is in progress are applied as a chain of commits with a
+   * single update of the branch's HEAD, instead of competing for the branch's HEAD and retrying.
+   * Commits that conflict with a previous commit in the same group are rejected individually.
+   *
+   * <p>This is beneficial for "hot" branches that receive many concurrent commits.
+   */
+  @Value.Default
+  default boolean groupCommits() {
+    return DEFAULT_GROUP_COMMITS;
+  }
+
+  /**
+   * Compression codec per object type, keyed by the name of the object type, for example {@code
+   * index} or {@code commit}. Supported codecs are {@code none}, {@code gzip}, {@code deflate},
+   * {@code snappy} and {@code zstd}.
+   *
+   * <p>Compresses the serialized index of {@code index} objects, which are also used for the
+   * stripes of reference indexes, the incremental index of {@code commit} objects and the payload
+   * of custom object types, for example catalog snapshots. Payloads of custom object types without
+   * a configured codec are compressed using {@code gzip}, if those are larger than 8 kB.
+   *
+   * <p>Only backends that use the protobuf object serialization support this setting. The size
+   * limits for indexes apply to the uncompressed size. Unknown object types and unsupported codecs
+   * are rejected, see {@link #validateObjCompression(Map)}.
+   *
+   * <p>Note: Nessie versions that do not support this setting cannot read compressed objects, only
+   * enable compression after all Nessie instances have been upgraded.
+   */
+  Map<String, Compression> objCompression();
+
+  /**
+   * Payloads, which would be compressed according to {@link #objCompression()}, are only compressed
+   * if those are larger than this number of bytes.
+   */
+  @Value.Default
+  default int objCompressionMinSize() {
+    return DEFAULT_OBJ_COMPRESSION_MIN_SIZE;
+  }
+
+  /**
+   * Heap capacity in MB of the cache for loaded reference index stripes, shared by all repositories
+   * using the same capacity. Stripes are cached by their object ID and loaded lazily, only when
+   * those are needed. {@code 0} disables the cache.
+   */
+  @Value.Default
+  default int indexStripeCacheMb() {
+    return DEFAULT_INDEX_STRIPE_CACHE_MB;
+  }
+
+  /**
+   * Validates the given {@link #objCompression()} configuration, throws an {@link
+   * IllegalArgumentException} if it references an unknown object type or a codec that is not
+   * implemented.
+   */
+  static void validateObjCompression(Map<String, ? extends Compression> objCompression) {
+    for (Map.Entry<String, ? extends Compression> e : objCompression.entrySet()) {
+      String name = e.getKey();
+      if (ObjTypes.allObjTypes().stream()
+          .noneMatch(
+              t -> name.equalsIgnoreCase(t.name()) || name.equalsIgnoreCase(t.shortName()))) {
+        throw new IllegalArgumentException(
+            "Unknown object type '" + name + "' in " + CONFIG_OBJ_COMPRESSION);
+      }
+      if (!Compressions.isImplemented(e.getValue())) {
+        throw new IllegalArgumentException(
+            "Unsupported compression "
+                + e.getValue()
+                + " for object type '"
+                + name
+                + "' in "
+                + CONFIG_OBJ_COMPRESSION);
+      }
+    }
+  }
+
+  /** Returns the configured {@link #objCompression()} for the given object type. */
+  default Compression compressionForObjType(ObjType type) {
+    Map<String, Compression> compressions = objCompression();
+    if (!compressions.isEmpty()) {
+      for (Map.Entry<String, Compression> e : compressions.entrySet()) {
+        String name = e.getKey();
+        if (name.equalsIgnoreCase(type.name()) || name.equalsIgnoreCase(type.shortName())) {
+          return e.getValue();
+        }
+      }
+    }
+    return Compression.NONE;
+  }
+
   /**
    * Retrieves the current timestamp in microseconds since epoch, using the configured {@link
    * #clock()}.
@@ -382,9 +490,48 @@ public interface StoreConfig {
       if (v != null) {
         a = a.withReferenceCacheNegativeTtl(Duration.parse(v.trim()));
       }
+      v = configFunction.apply(CONFIG_GROUP_COMMITS);
+      if (v != null) {
+        a = a.withGroupCommits(Boolean.parseBoolean(v.trim()));
+      }
+      v = configFunction.apply(CONFIG_OBJ_COMPRESSION);
+      if (v != null) {
+        a = a.withObjCompression(parseObjCompression(v));
+      }
+      v = configFunction.apply(CONFIG_OBJ_COMPRESSION_MIN_SIZE);
+      if (v != null) {
+        a = a.withObjCompressionMinSize(Integer.parseInt(v.trim()));
+      }
+      v = configFunction.apply(CONFIG_INDEX_STRIPE_CACHE_MB);
+      if (v != null) {
+        a = a.withIndexStripeCacheMb(Integer.parseInt(v.trim()));
+      }
       return a;
     }
 
+    /**
+     * Parses the value of {@value #CONFIG_OBJ_COMPRESSION} in the form {@code
+     * type=codec[,type=codec...]}.
+     */
+    static Map<String, Compression> parseObjCompression(String value) {
+      Map<String, Compression> compressions = new HashMap<>();
+      for (String entry : value.split(",")) {
+        entry = entry.trim();
+        if (entry.isEmpty()) {
+          continue;
+        }
+        int idx = entry.indexOf('=');
+        if (idx <= 0) {
+          throw new IllegalArgumentException(
+              "Invalid " + CONFIG_OBJ_COMPRESSION + " entry '" + entry + "', expected type=codec");
+        }
+        compressions.put(
+            entry.substring(0, idx).trim(), Compression.fromValue(entry.substring(idx + 1).trim()));
+      }
+      validateObjCompression(compressions);
+      return compressions;
+    }
+
     /** See {@link StoreConfig#repositoryId()}. */
     Adjustable withRepositoryId(String repositoryId);
 
@@ -433,5 +580,17 @@ public interface StoreConfig {
 
     /** See {@link StoreConfig#referenceCacheNegativeTtl()}. */
     Adjustable withReferenceCacheNegativeTtl(Duration referencecacheNegativeTtl);
+
+    /** See {@link StoreConfig#groupCommits()}. */
+    Adjustable withGroupCommits(boolean groupCommits);
+
+    /** See {@link StoreConfig#objCompression()}. */
+    Adjustable withObjCompression(Map<String, ? extends Compression> objCompression);
+
+    /** See {@link StoreConfig#objCompressionMinSize()}. */
+    Adjustable withObjCompressionMinSize(int objCompressionMinSize);
+
+    /** See {@link StoreConfig#indexStripeCacheMb()}. */
+    Adjustable withIndexStripeCacheMb(int indexStripeCacheMb);
   }
 }
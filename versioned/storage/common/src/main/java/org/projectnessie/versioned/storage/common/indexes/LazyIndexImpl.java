@@ -34,10 +34,16 @@ final class LazyIndexImpl<V> implements StoreIndex<V> {
   private ObjId objId;
   private final StoreKey firstKey;
   private final StoreKey lastKey;
+  private final StoreKeyFilter keyFilter;
 
-  LazyIndexImpl(Supplier<StoreIndex<V>> supplier, StoreKey firstKey, StoreKey lastKey) {
+  LazyIndexImpl(
+      Supplier<StoreIndex<V>> supplier,
+      StoreKey firstKey,
+      StoreKey lastKey,
+      StoreKeyFilter keyFilter) {
     this.firstKey = firstKey;
     this.lastKey = lastKey;
+    this.keyFilter = keyFilter;
     this.loader =
         memoize(
             () -> {
@@ -72,6 +78,14 @@ final class LazyIndexImpl<V> implements StoreIndex<V> {
     return loaded().isModified();
   }
 
+  @Override
+  public StoreKeyFilter keyFilter() {
+    if (isModified()) {
+      return null;
+    }
+    return keyFilter;
+  }
+
   @Override
   public StoreIndex<V> loadIfNecessary(Set<StoreKey> keys) {
     return loaded().loadIfNecessary(keys);
@@ -129,8 +143,13 @@ final class LazyIndexImpl<V> implements StoreIndex<V> {
 
   @Override
   public boolean contains(@Nonnull StoreKey key) {
-    if (!loaded && (key.equals(firstKey) || key.equals(lastKey))) {
-      return true;
+    if (!loaded) {
+      if (key.equals(firstKey) || key.equals(lastKey)) {
+        return true;
+      }
+      if (definitelyNotContained(key)) {
+        return false;
+      }
     }
     return loaded().contains(key);
   }
@@ -138,9 +157,16 @@ final class LazyIndexImpl<V> implements StoreIndex<V> {
   @Override
   @Nullable
   public StoreIndexElement<V> get(@Nonnull StoreKey key) {
+    if (!loaded && definitelyNotContained(key)) {
+      return null;
+    }
     return loaded().get(key);
   }
 
+  private boolean definitelyNotContained(StoreKey key) {
+    return keyFilter != null && !keyFilter.mightContain(key);
+  }
+
   @Override
   @Nullable
   public StoreKey first() {
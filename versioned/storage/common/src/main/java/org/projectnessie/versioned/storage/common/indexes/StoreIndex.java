@@ -43,6 +43,15 @@ public interface StoreIndex<V> extends Iterable<StoreIndexElement<V>> {
     throw new UnsupportedOperationException();
   }
 
+  /**
+   * The filter over the keys in this index, if this instance represents a lazily loaded and not
+   * modified index stripe that has been persisted with a {@link StoreKeyFilter}.
+   */
+  @Nullable
+  default StoreKeyFilter keyFilter() {
+    return null;
+  }
+
   /**
    * Load the index, if this instance represents a lazily loaded index instance.
    *
@@ -39,6 +39,7 @@ import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.function.Function;
 import org.projectnessie.nessie.relocated.protobuf.ByteString;
 import org.projectnessie.versioned.storage.common.persist.ObjId;
@@ -96,8 +97,6 @@ import org.projectnessie.versioned.storage.common.persist.ObjId;
  *       the network traffic to the database is already compressed, so we do not save bandwidth - it
  *       might save one (or two) row reads of a bulk read. The savings do not feel worth the extra
  *       complexity.
- *   <li>Have another implementation that is similar to this one, but uses a {@link
- *       java.util.TreeMap} to build indexes, when there are many elements to add to the index
  *   <li>Cross check whether the left-truncation used in the serialized representation of this
  *       implementation is really legit in real life. <em>It still feels valid and legit and
  *       efficient.</em>
@@ -133,7 +132,15 @@ final class StoreIndexImpl<V> implements StoreIndex<V> {
   private final int originalSerializedSize;
 
   private int estimatedSerializedSizeDiff;
-  private final List<StoreIndexElement<V>> elements;
+  private List<StoreIndexElement<V>> elements;
+
+  /**
+   * Elements with keys that are not yet in {@link #elements} and would have to be inserted "in the
+   * middle" of {@link #elements}. Those are merged into {@link #elements} in a single pass, when
+   * the ordered list of all elements is needed, see {@link #elements()}.
+   */
+  private TreeMap<StoreKey, StoreIndexElement<V>> pendingInserts;
+
   private final ElementSerializer<V> serializer;
 
   /**
@@ -153,9 +160,9 @@ final class StoreIndexImpl<V> implements StoreIndex<V> {
   private boolean modified;
   private ObjId objId;
 
-  // NOTE: The implementation uses j.u.ArrayList to optimize for reads. Additions to this data
-  // structure are rather inefficient, when elements need to be added "in the middle" of the
-  // 'elements' j.u.ArrayList.
+  // NOTE: The implementation uses j.u.ArrayList to optimize for reads. Additions "in the middle"
+  // of the 'elements' j.u.ArrayList are collected in 'pendingInserts' and merged in a single pass,
+  // so adding many elements does not shift the array for each added element.
 
   StoreIndexImpl(ElementSerializer<V> serializer) {
     this(new ArrayList<>(), 2, serializer, false);
@@ -217,7 +224,7 @@ final class StoreIndexImpl<V> implements StoreIndex<V> {
 
   @Override
   public List<StoreIndex<V>> divide(int parts) {
-    List<StoreIndexElement<V>> elems = elements;
+    List<StoreIndexElement<V>> elems = elements();
     int size = elems.size();
     checkArgument(
         parts > 0 && parts <= size,
@@ -231,7 +238,7 @@ final class StoreIndexImpl<V> implements StoreIndex<V> {
     int index = 0;
     for (int i = 0; i < parts; i++) {
       int end = i < parts - 1 ? index + partSize : elems.size();
-      List<StoreIndexElement<V>> partElements = new ArrayList<>(elements.subList(index, end));
+      List<StoreIndexElement<V>> partElements = new ArrayList<>(elems.subList(index, end));
       StoreIndexImpl<V> part = new StoreIndexImpl<>(partElements, serializedMax, serializer, true);
       result.add(part);
       index = end;
@@ -246,12 +253,13 @@ final class StoreIndexImpl<V> implements StoreIndex<V> {
 
   @Override
   public int elementCount() {
-    return elements.size();
+    TreeMap<StoreKey, StoreIndexElement<V>> pending = pendingInserts;
+    return elements.size() + (pending != null ? pending.size() : 0);
   }
 
   @Override
   public void updateAll(Function<StoreIndexElement<V>, V> updater) {
-    List<StoreIndexElement<V>> e = elements;
+    List<StoreIndexElement<V>> e = elements();
     ElementSerializer<V> serializer = this.serializer;
     int size = e.size();
     for (int i = 0; i < size; i++) {
@@ -275,15 +283,32 @@ final class StoreIndexImpl<V> implements StoreIndex<V> {
 
   @Override
   public boolean add(@Nonnull StoreIndexElement<V> element) {
-    modified = true;
     List<StoreIndexElement<V>> e = elements;
+    TreeMap<StoreKey, StoreIndexElement<V>> pending = pendingInserts;
     ElementSerializer<V> serializer = this.serializer;
-    int idx = search(e, element);
     int elementSerializedSize = element.contentSerializedSize(serializer);
+
+    StoreIndexElement<V> pendingPrev = pending != null ? pending.get(element.key()) : null;
+    if (pendingPrev != null) {
+      // exact match, key already added
+      modified = true;
+      int prevSerializedSize = pendingPrev.contentSerializedSize(serializer);
+      estimatedSerializedSizeDiff += elementSerializedSize - prevSerializedSize;
+      pending.put(element.key(), element);
+      return false;
+    }
+
+    int idx = search(e, element);
     if (idx >= 0) {
       // exact match, key already in segment
       StoreIndexElement<V> prev = e.get(idx);
+      if (prev.content().equals(element.content())) {
+        // Unchanged content, keep the (possibly lazily deserialized) element and do not mark the
+        // index as modified, so an unchanged index does not need to be serialized again.
+        return false;
+      }
 
+      modified = true;
       int prevSerializedSize = prev.contentSerializedSize(serializer);
       estimatedSerializedSizeDiff += elementSerializedSize - prevSerializedSize;
 
@@ -291,23 +316,65 @@ final class StoreIndexImpl<V> implements StoreIndex<V> {
       return false;
     }
 
+    modified = true;
     estimatedSerializedSizeDiff += addElementDiff(element, elementSerializedSize);
 
     int insertionPoint = -idx - 1;
-    if (insertionPoint == e.size()) {
+    if (insertionPoint == e.size() && (pending == null || pending.isEmpty())) {
       e.add(element);
     } else {
-      e.add(insertionPoint, element);
+      if (pending == null) {
+        pendingInserts = pending = new TreeMap<>();
+      }
+      pending.put(element.key(), element);
     }
     return true;
   }
 
+  /**
+   * Returns all elements of this index in their natural order, merges {@link #pendingInserts} into
+   * {@link #elements}, if necessary.
+   */
+  private List<StoreIndexElement<V>> elements() {
+    TreeMap<StoreKey, StoreIndexElement<V>> pending = pendingInserts;
+    if (pending == null || pending.isEmpty()) {
+      return elements;
+    }
+
+    List<StoreIndexElement<V>> e = elements;
+    int size = e.size();
+    List<StoreIndexElement<V>> merged = new ArrayList<>(size + pending.size());
+    int from = 0;
+    for (StoreIndexElement<V> el : pending.values()) {
+      // The pending keys are not contained in 'elements', binary search always yields the
+      // insertion point.
+      int insertionPoint = from + (-search(e.subList(from, size), el) - 1);
+      merged.addAll(e.subList(from, insertionPoint));
+      merged.add(el);
+      from = insertionPoint;
+    }
+    merged.addAll(e.subList(from, size));
+
+    elements = merged;
+    pendingInserts = null;
+    return merged;
+  }
+
   private static <V> int addElementDiff(StoreIndexElement<V> element, int elementSerializedSize) {
     return serializedSize(element.key()) + ASSUMED_PER_ENTRY_OVERHEAD + elementSerializedSize;
   }
 
   @Override
   public boolean remove(@Nonnull StoreKey key) {
+    TreeMap<StoreKey, StoreIndexElement<V>> pending = pendingInserts;
+    if (pending != null) {
+      StoreIndexElement<V> removed = pending.remove(key);
+      if (removed != null) {
+        estimatedSerializedSizeDiff -= removeSizeDiff(removed);
+        return true;
+      }
+    }
+
     List<StoreIndexElement<V>> e = elements;
     int idx = search(e, key);
     if (idx < 0) {
@@ -329,12 +396,23 @@ final class StoreIndexImpl<V> implements StoreIndex<V> {
 
   @Override
   public boolean contains(@Nonnull StoreKey key) {
+    TreeMap<StoreKey, StoreIndexElement<V>> pending = pendingInserts;
+    if (pending != null && pending.containsKey(key)) {
+      return true;
+    }
     int idx = search(elements, key);
     return idx >= 0;
   }
 
   @Override
   public @Nullable StoreIndexElement<V> get(@Nonnull StoreKey key) {
+    TreeMap<StoreKey, StoreIndexElement<V>> pending = pendingInserts;
+    if (pending != null) {
+      StoreIndexElement<V> el = pending.get(key);
+      if (el != null) {
+        return el;
+      }
+    }
     List<StoreIndexElement<V>> e = elements;
     int idx = search(e, key);
     if (idx < 0) {
@@ -346,21 +424,21 @@ final class StoreIndexImpl<V> implements StoreIndex<V> {
   @Nullable
   @Override
   public StoreKey first() {
-    List<StoreIndexElement<V>> e = elements;
+    List<StoreIndexElement<V>> e = elements();
     return e.isEmpty() ? null : e.get(0).key();
   }
 
   @Nullable
   @Override
   public StoreKey last() {
-    List<StoreIndexElement<V>> e = elements;
+    List<StoreIndexElement<V>> e = elements();
     return e.isEmpty() ? null : e.get(e.size() - 1).key();
   }
 
   @Override
   public @Nonnull Iterator<StoreIndexElement<V>> iterator(
       @Nullable StoreKey begin, @Nullable StoreKey end, boolean prefetch) {
-    List<StoreIndexElement<V>> e = elements;
+    List<StoreIndexElement<V>> e = elements();
 
     if (begin == null && end == null) {
       return e.iterator();
@@ -413,13 +491,13 @@ final class StoreIndexImpl<V> implements StoreIndex<V> {
     }
     @SuppressWarnings("unchecked")
     StoreIndexImpl<V> that = (StoreIndexImpl<V>) o;
-    return elements.equals(that.elements);
+    return elements().equals(that.elements());
   }
 
   @Override
   @VisibleForTesting
   public int hashCode() {
-    return elements.hashCode();
+    return elements().hashCode();
   }
 
   @Override
@@ -436,12 +514,12 @@ final class StoreIndexImpl<V> implements StoreIndex<V> {
     return new AbstractList<>() {
       @Override
       public StoreKey get(int index) {
-        return elements.get(index).key();
+        return elements().get(index).key();
       }
 
       @Override
       public int size() {
-        return elements.size();
+        return elementCount();
       }
     };
   }
@@ -471,7 +549,7 @@ final class StoreIndexImpl<V> implements StoreIndex<V> {
       @SuppressWarnings("UnnecessaryLocalVariable")
       ElementSerializer<V> ser = serializer;
 
-      List<StoreIndexElement<V>> elements = this.elements;
+      List<StoreIndexElement<V>> elements = elements();
       boolean onlyLazy;
       StoreIndexElement<V> previous = null;
       for (StoreIndexElement<V> el : elements) {
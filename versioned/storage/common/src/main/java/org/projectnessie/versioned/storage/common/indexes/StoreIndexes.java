@@ -19,6 +19,7 @@ import static com.google.common.base.Preconditions.checkArgument;
 import static org.projectnessie.versioned.storage.common.indexes.IndexLoader.notLoading;
 
 import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
 import java.util.List;
 import java.util.function.Supplier;
 import org.projectnessie.nessie.relocated.protobuf.ByteString;
@@ -49,11 +50,25 @@ public final class StoreIndexes {
    */
   public static <V> StoreIndex<V> lazyStoreIndex(
       Supplier<StoreIndex<V>> supplier, StoreKey firstKey, StoreKey lastKey) {
-    return new LazyIndexImpl<>(supplier, firstKey, lastKey);
+    return new LazyIndexImpl<>(supplier, firstKey, lastKey, null);
+  }
+
+  /**
+   * Like {@link #lazyStoreIndex(Supplier, StoreKey, StoreKey)}, but answers lookups for keys that
+   * are not contained in the given key filter without calling the supplier.
+   *
+   * <p>Used to load a reference index stripe only when it might contain a looked up key.
+   */
+  public static <V> StoreIndex<V> lazyStoreIndex(
+      Supplier<StoreIndex<V>> supplier,
+      StoreKey firstKey,
+      StoreKey lastKey,
+      @Nullable StoreKeyFilter keyFilter) {
+    return new LazyIndexImpl<>(supplier, firstKey, lastKey, keyFilter);
   }
 
   public static <V> StoreIndex<V> lazyStoreIndex(Supplier<StoreIndex<V>> supplier) {
-    return new LazyIndexImpl<>(supplier, null, null);
+    return new LazyIndexImpl<>(supplier, null, null, null);
   }
 
   /**
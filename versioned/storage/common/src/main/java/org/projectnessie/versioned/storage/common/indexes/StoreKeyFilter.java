@@ -0,0 +1,165 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.common.indexes;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.projectnessie.nessie.relocated.protobuf.UnsafeByteOperations.unsafeWrap;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import org.projectnessie.nessie.relocated.protobuf.ByteString;
+
+/**
+ * Bloom filter over all keys of an index stripe.
+ *
+ * <p>The serialized filter is persisted alongside the reference to the index stripe, so lookups of
+ * keys that do not exist can be answered without fetching the index stripe.
+ *
+ * <p>The serialized form consists of a format byte, the number of hash functions and the bit set.
+ * Filters using an unknown format are ignored.
+ */
+public final class StoreKeyFilter {
+
+  /** Filter bits per key, resulting in a false positive rate of about 1%. */
+  static final int BITS_PER_KEY = 10;
+
+  /**
+   * Minimum filter bits per key for filters with a size limit, filters with a false positive rate
+   * above about 15% are not worth their size.
+   */
+  static final int MIN_BITS_PER_KEY = 4;
+
+  /** Maximum size of the bit set, trading a higher false positive rate for large stripes. */
+  static final int MAX_FILTER_BYTES = 2048;
+
+  static final int MAX_HASH_FUNCTIONS = 8;
+
+  private static final byte FORMAT_V1 = 1;
+  private static final int HEADER_BYTES = 2;
+
+  private static final HashFunction HASH = Hashing.murmur3_128();
+
+  private final ByteString serialized;
+  private final int numHashFunctions;
+  private final long numBits;
+
+  private StoreKeyFilter(ByteString serialized, int numHashFunctions) {
+    this.serialized = serialized;
+    this.numHashFunctions = numHashFunctions;
+    this.numBits = (serialized.size() - HEADER_BYTES) * 8L;
+  }
+
+  /** Builds a filter over the keys of all elements of the given, loaded index. */
+  public static StoreKeyFilter buildKeyFilter(@Nonnull StoreIndex<?> index) {
+    int numKeys = Math.max(index.elementCount(), 1);
+    int numBytes = (int) Math.min((numKeys * (long) BITS_PER_KEY + 7) / 8, MAX_FILTER_BYTES);
+    return buildKeyFilter(index, numKeys, numBytes);
+  }
+
+  /**
+   * Builds a filter over the keys of all elements of the given, loaded index, whose serialized size
+   * does not exceed {@code maxSerializedSize}. Returns {@code null}, if a filter within that size
+   * would have too many false positives.
+   */
+  @Nullable
+  public static StoreKeyFilter buildKeyFilter(@Nonnull StoreIndex<?> index, int maxSerializedSize) {
+    int numKeys = Math.max(index.elementCount(), 1);
+    long numBytes =
+        Math.min(
+            (numKeys * (long) BITS_PER_KEY + 7) / 8,
+            Math.min(MAX_FILTER_BYTES, maxSerializedSize - HEADER_BYTES));
+    if (numBytes * 8L < numKeys * (long) MIN_BITS_PER_KEY) {
+      return null;
+    }
+    return buildKeyFilter(index, numKeys, (int) numBytes);
+  }
+
+  private static StoreKeyFilter buildKeyFilter(StoreIndex<?> index, int numKeys, int numBytes) {
+    long numBits = numBytes * 8L;
+    long optimalHashFunctions = Math.round((double) numBits / numKeys * Math.log(2));
+    int numHashFunctions = (int) Math.max(1, Math.min(MAX_HASH_FUNCTIONS, optimalHashFunctions));
+
+    byte[] bytes = new byte[HEADER_BYTES + numBytes];
+    bytes[0] = FORMAT_V1;
+    bytes[1] = (byte) numHashFunctions;
+    for (StoreIndexElement<?> element : index) {
+      long[] hash = hash(element.key());
+      for (int i = 0; i < numHashFunctions; i++) {
+        long bit = bitIndex(hash, i, numBits);
+        bytes[HEADER_BYTES + (int) (bit >>> 3)] |= (byte) (1 << (bit & 7));
+      }
+    }
+
+    return new StoreKeyFilter(unsafeWrap(bytes), numHashFunctions);
+  }
+
+  /**
+   * Returns the filter from its serialized form, or {@code null}, if {@code serialized} is {@code
+   * null} or uses an unknown format.
+   */
+  @Nullable
+  public static StoreKeyFilter deserializeKeyFilter(@Nullable ByteString serialized) {
+    if (serialized == null
+        || serialized.size() <= HEADER_BYTES
+        || serialized.byteAt(0) != FORMAT_V1) {
+      return null;
+    }
+    int numHashFunctions = serialized.byteAt(1);
+    if (numHashFunctions < 1 || numHashFunctions > MAX_HASH_FUNCTIONS) {
+      return null;
+    }
+    return new StoreKeyFilter(serialized, numHashFunctions);
+  }
+
+  /**
+   * Returns {@code false}, if the index stripe definitely does not contain the given key, or {@code
+   * true}, if the index stripe might contain the key.
+   */
+  public boolean mightContain(@Nonnull StoreKey key) {
+    long[] hash = hash(key);
+    for (int i = 0; i < numHashFunctions; i++) {
+      long bit = bitIndex(hash, i, numBits);
+      if ((serialized.byteAt(HEADER_BYTES + (int) (bit >>> 3)) & (1 << (bit & 7))) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  public ByteString serialize() {
+    return serialized;
+  }
+
+  private static long[] hash(StoreKey key) {
+    ByteBuffer hash =
+        ByteBuffer.wrap(HASH.hashString(key.rawString(), UTF_8).asBytes())
+            .order(ByteOrder.LITTLE_ENDIAN);
+    return new long[] {hash.getLong(), hash.getLong()};
+  }
+
+  private static long bitIndex(long[] hash, int i, long numBits) {
+    return ((hash[0] + i * hash[1]) & Long.MAX_VALUE) % numBits;
+  }
+
+  @Override
+  public String toString() {
+    return "StoreKeyFilter{bits=" + numBits + ", hashFunctions=" + numHashFunctions + "}";
+  }
+}
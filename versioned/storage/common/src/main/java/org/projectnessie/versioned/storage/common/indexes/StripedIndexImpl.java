@@ -77,7 +77,11 @@ final class StripedIndexImpl<V> implements StoreIndex<V> {
         continue;
       }
       StoreIndex<V> index = stripes[idx];
-      if (!index.isLoaded()) {
+      if (!index.isLoaded() && indexesToLoad[idx] == null) {
+        StoreKeyFilter keyFilter = index.keyFilter();
+        if (keyFilter != null && !keyFilter.mightContain(key)) {
+          continue;
+        }
         indexesToLoad[idx] = index;
         cnt++;
       }
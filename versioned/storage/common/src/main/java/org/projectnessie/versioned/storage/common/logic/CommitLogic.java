@@ -39,6 +39,8 @@ import org.projectnessie.versioned.storage.common.objtypes.CommitType;
 import org.projectnessie.versioned.storage.common.objtypes.ContentValueObj;
 import org.projectnessie.versioned.storage.common.persist.Obj;
 import org.projectnessie.versioned.storage.common.persist.ObjId;
+import org.projectnessie.versioned.storage.common.persist.ObjType;
+import org.projectnessie.versioned.storage.common.persist.Persist;
 import org.projectnessie.versioned.storage.common.persist.Reference;
 import org.projectnessie.versioned.storage.common.persist.StoredObjResult;
 
@@ -227,6 +229,20 @@ public interface CommitLogic {
   @Nullable
   CommitObj headCommit(@Nonnull Reference reference) throws ObjNotFoundException;
 
+  /**
+   * Bulk variant of {@link #headCommit(Reference)}, fetches the HEAD commits of all given
+   * references using a single {@link Persist#fetchTypedObjsIfExist(ObjId[], ObjType, Class) bulk
+   * fetch}.
+   *
+   * @return array with the HEAD commits, the element at index {@code i} is the HEAD of the
+   *     reference at index {@code i} in {@code references}. Elements are {@code null} for
+   *     references pointing to {@link ObjId#EMPTY_OBJ_ID} and for {@code null} elements in {@code
+   *     references}.
+   * @throws ObjNotFoundException with the IDs of the HEAD commits that do not exist
+   */
+  @Nonnull
+  CommitObj[] headCommits(@Nonnull List<Reference> references) throws ObjNotFoundException;
+
   /**
    * Identifies all heads and fork-points.
    *
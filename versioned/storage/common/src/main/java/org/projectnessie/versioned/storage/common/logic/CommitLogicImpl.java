@@ -1084,6 +1084,44 @@ final class CommitLogicImpl implements CommitLogic {
     return fetchCommit(reference.pointer());
   }
 
+  @Override
+  @Nonnull
+  public CommitObj[] headCommits(@Nonnull List<Reference> references) throws ObjNotFoundException {
+    int num = references.size();
+    CommitObj[] heads = new CommitObj[num];
+
+    // Multiple references can point to the same commit, but the behavior of fetching the same ID
+    // multiple times in a single bulk fetch is undefined.
+    Map<ObjId, Integer> distinct = newHashMapWithExpectedSize(num);
+    List<ObjId> ids = new ArrayList<>(num);
+    for (Reference reference : references) {
+      if (reference != null) {
+        ObjId pointer = reference.pointer();
+        if (!EMPTY_OBJ_ID.equals(pointer) && !distinct.containsKey(pointer)) {
+          distinct.put(pointer, ids.size());
+          ids.add(pointer);
+        }
+      }
+    }
+
+    if (ids.isEmpty()) {
+      return heads;
+    }
+
+    CommitObj[] commits =
+        persist.fetchTypedObjs(ids.toArray(new ObjId[0]), COMMIT, CommitObj.class);
+    for (int i = 0; i < num; i++) {
+      Reference reference = references.get(i);
+      if (reference != null) {
+        Integer idx = distinct.get(reference.pointer());
+        if (idx != null) {
+          heads[i] = commits[idx];
+        }
+      }
+    }
+    return heads;
+  }
+
   @Override
   public HeadsAndForkPoints identifyAllHeadsAndForkPoints(
       int expectedCommitCount, Consumer<CommitObj> commitHandler) {
@@ -0,0 +1,50 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.common.logic;
+
+import jakarta.annotation.Nullable;
+import org.immutables.value.Value;
+import org.projectnessie.versioned.storage.common.persist.Reference;
+
+/**
+ * Outcome of creating one reference via {@link ReferenceLogic#createReferences(java.util.List)}.
+ */
+@Value.Immutable
+public interface CreateReferenceResult {
+  @Value.Parameter(order = 1)
+  String name();
+
+  /**
+   * The created reference, if {@link #created()} is {@code true}, otherwise the already existing
+   * reference, which might be {@code null}, see {@link
+   * org.projectnessie.versioned.storage.common.exceptions.RefAlreadyExistsException}.
+   */
+  @Value.Parameter(order = 2)
+  @Nullable
+  Reference reference();
+
+  /** Whether the reference has been created or whether it already existed. */
+  @Value.Parameter(order = 3)
+  boolean created();
+
+  static CreateReferenceResult referenceCreated(Reference created) {
+    return ImmutableCreateReferenceResult.of(created.name(), created, true);
+  }
+
+  static CreateReferenceResult referenceAlreadyExists(String name, @Nullable Reference existing) {
+    return ImmutableCreateReferenceResult.of(name, existing, false);
+  }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.common.logic;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.projectnessie.versioned.storage.common.config.StoreConfig;
+import org.projectnessie.versioned.storage.common.indexes.StoreIndex;
+import org.projectnessie.versioned.storage.common.indexes.StoreIndexElement;
+import org.projectnessie.versioned.storage.common.objtypes.CommitOp;
+import org.projectnessie.versioned.storage.common.persist.ObjId;
+
+/**
+ * Bounded cache of loaded reference index stripes, shared by all {@link IndexesLogicImpl} instances
+ * using the same capacity.
+ *
+ * <p>The stripes of a reference index are the same for many consecutive commits on a branch, only
+ * the (small) incremental index differs. Caching the deserialized stripes lets {@link
+ * IndexesLogicImpl#buildCompleteIndex} reuse the stripes that have already been loaded for other
+ * commits, while stripes are still only loaded when those are actually needed.
+ *
+ * <p>Stripes are keyed by the IDs of the index objects, which are derived from the index contents.
+ * This means that cached stripes never become stale and can be shared across repositories.
+ *
+ * <p>All keys and values of a stripe are materialized before the stripe is added to the cache, so
+ * concurrent reads do not mutate the cached stripe. Cached stripes must not be modified.
+ *
+ * <p>The capacity is configured via {@link StoreConfig#indexStripeCacheMb()}, {@code 0} disables
+ * the cache.
+ */
+final class IndexStripeCache {
+
+  /** Rough estimate of the additional heap used by a materialized key + value. */
+  private static final int ESTIMATED_HEAP_BYTES_PER_ELEMENT = 200;
+
+  private static final IndexStripeCache DISABLED = new IndexStripeCache(0L);
+
+  private static final Map<Long, IndexStripeCache> CACHES = new ConcurrentHashMap<>();
+
+  private final Cache<ObjId, StoreIndex<CommitOp>> cache;
+
+  @VisibleForTesting
+  IndexStripeCache(long capacityBytes) {
+    this.cache =
+        capacityBytes > 0L
+            ? CacheBuilder.newBuilder()
+                // A single segment, so the whole capacity is available to (large) stripes.
+                .concurrencyLevel(1)
+                .maximumWeight(capacityBytes)
+                .weigher(IndexStripeCache::weigh)
+                .build()
+            : null;
+  }
+
+  /** Returns the shared cache for the capacity configured in the given {@link StoreConfig}. */
+  static IndexStripeCache indexStripeCache(StoreConfig config) {
+    long capacityBytes = config.indexStripeCacheMb() * 1024L * 1024L;
+    if (capacityBytes <= 0L) {
+      return DISABLED;
+    }
+    return CACHES.computeIfAbsent(capacityBytes, IndexStripeCache::new);
+  }
+
+  boolean isEnabled() {
+    return cache != null;
+  }
+
+  /** Returns the cached stripe for the given index object ID or {@code null}. */
+  StoreIndex<CommitOp> getIfPresent(ObjId stripeId) {
+    Cache<ObjId, StoreIndex<CommitOp>> c = cache;
+    return c != null ? c.getIfPresent(stripeId) : null;
+  }
+
+  /**
+   * Materializes all keys and values of the given, just loaded stripe and adds it to the cache.
+   * Returns the given stripe.
+   */
+  StoreIndex<CommitOp> put(ObjId stripeId, StoreIndex<CommitOp> stripe) {
+    Cache<ObjId, StoreIndex<CommitOp>> c = cache;
+    if (c != null) {
+      // Concurrent loads of the same stripe are fine, the stripes are equal.
+      c.put(stripeId, materialize(stripe));
+    }
+    return stripe;
+  }
+
+  @VisibleForTesting
+  long size() {
+    return cache != null ? cache.size() : 0L;
+  }
+
+  private static StoreIndex<CommitOp> materialize(StoreIndex<CommitOp> stripe) {
+    for (Iterator<StoreIndexElement<CommitOp>> iter = stripe.iterator(null, null, true);
+        iter.hasNext(); ) {
+      StoreIndexElement<CommitOp> el = iter.next();
+      el.key();
+      el.content();
+    }
+    return stripe;
+  }
+
+  private static int weigh(ObjId stripeId, StoreIndex<CommitOp> stripe) {
+    long weight =
+        (long) stripe.estimatedSerializedSize()
+            + (long) stripe.elementCount() * ESTIMATED_HEAP_BYTES_PER_ELEMENT;
+    return (int) Math.min(weight, Integer.MAX_VALUE);
+  }
+}
@@ -24,8 +24,11 @@ import static org.projectnessie.versioned.storage.common.indexes.StoreIndexes.in
 import static org.projectnessie.versioned.storage.common.indexes.StoreIndexes.layeredIndex;
 import static org.projectnessie.versioned.storage.common.indexes.StoreIndexes.lazyStoreIndex;
 import static org.projectnessie.versioned.storage.common.indexes.StoreIndexes.newStoreIndex;
+import static org.projectnessie.versioned.storage.common.indexes.StoreKeyFilter.buildKeyFilter;
+import static org.projectnessie.versioned.storage.common.indexes.StoreKeyFilter.deserializeKeyFilter;
 import static org.projectnessie.versioned.storage.common.logic.CommitLogQuery.commitLogQuery;
 import static org.projectnessie.versioned.storage.common.logic.Logics.commitLogic;
+import static org.projectnessie.versioned.storage.common.logic.IndexStripeCache.indexStripeCache;
 import static org.projectnessie.versioned.storage.common.logic.SuppliedCommitIndex.suppliedCommitIndex;
 import static org.projectnessie.versioned.storage.common.objtypes.CommitObj.commitBuilder;
 import static org.projectnessie.versioned.storage.common.objtypes.CommitOp.Action.INCREMENTAL_ADD;
@@ -60,6 +63,7 @@ import org.projectnessie.versioned.storage.common.indexes.IndexLoader;
 import org.projectnessie.versioned.storage.common.indexes.StoreIndex;
 import org.projectnessie.versioned.storage.common.indexes.StoreIndexElement;
 import org.projectnessie.versioned.storage.common.indexes.StoreKey;
+import org.projectnessie.versioned.storage.common.indexes.StoreKeyFilter;
 import org.projectnessie.versioned.storage.common.objtypes.CommitObj;
 import org.projectnessie.versioned.storage.common.objtypes.CommitOp;
 import org.projectnessie.versioned.storage.common.objtypes.IndexObj;
@@ -75,6 +79,13 @@ import org.slf4j.LoggerFactory;
 
 final class IndexesLogicImpl implements IndexesLogic {
   private static final Logger LOGGER = LoggerFactory.getLogger(IndexesLogicImpl.class);
+
+  /**
+   * Maximum total size of the key filters of the reference index stripes that are embedded in a
+   * commit object. Commit objects are written for every commit and are cached, stripes of an
+   * external {@link IndexSegmentsObj} get full size key filters.
+   */
+  @VisibleForTesting static final int MAX_COMMIT_KEY_FILTERS_BYTES = 8 * 1024;
   private final Persist persist;
 
   IndexesLogicImpl(Persist persist) {
@@ -187,15 +198,19 @@ final class IndexesLogicImpl implements IndexesLogic {
 
     ObjId referenceIndexId = commit.referenceIndex();
     List<IndexStripe> commitStripes = commit.referenceIndexStripes();
+    // The (read-only) complete index may use the shared, cached reference index stripes.
+    IndexStripeCache cache = indexStripeCache(persist.config());
     if (!commitStripes.isEmpty()) {
       checkState(
           referenceIndexId == null,
           "Commit %s: must not have both pointer to a reference index and stripes",
           commit.id());
-      StoreIndex<CommitOp> referenceIndex = referenceIndexFromStripes(commitStripes, commit.id());
+      StoreIndex<CommitOp> referenceIndex =
+          referenceIndexFromStripes(commitStripes, commit.id(), cache);
       index = layeredIndex(referenceIndex, incremental);
     } else if (referenceIndexId != null) {
-      StoreIndex<CommitOp> referenceIndex = buildReferenceIndexOnly(referenceIndexId, commit.id());
+      StoreIndex<CommitOp> referenceIndex =
+          lazyStoreIndex(() -> loadReferenceIndex(referenceIndexId, commit.id(), cache));
       index = layeredIndex(referenceIndex, incremental);
     }
 
@@ -212,7 +227,7 @@ final class IndexesLogicImpl implements IndexesLogic {
           referenceIndexId == null,
           "Commit %s: must not have both pointer to a reference index and stripes",
           commit.id());
-      return referenceIndexFromStripes(commitStripes, commit.id());
+      return referenceIndexFromStripes(commitStripes, commit.id(), null);
     }
     if (referenceIndexId != null) {
       return buildReferenceIndexOnly(referenceIndexId, commit.id());
@@ -224,10 +239,21 @@ final class IndexesLogicImpl implements IndexesLogic {
   @Nonnull
   public StoreIndex<CommitOp> buildReferenceIndexOnly(
       @Nonnull ObjId indexId, @Nonnull ObjId commitId) {
-    return lazyStoreIndex(() -> loadReferenceIndex(indexId, commitId));
+    return lazyStoreIndex(() -> loadReferenceIndex(indexId, commitId, null));
   }
 
-  private StoreIndex<CommitOp> loadReferenceIndex(@Nonnull ObjId indexId, @Nonnull ObjId commitId) {
+  /**
+   * Loads the reference index with the given ID. Loaded index stripes are shared via the given
+   * {@code cache}, if not {@code null}, which must only be used for indexes that are not modified.
+   */
+  private StoreIndex<CommitOp> loadReferenceIndex(
+      @Nonnull ObjId indexId, @Nonnull ObjId commitId, @Nullable IndexStripeCache cache) {
+    if (cache != null) {
+      StoreIndex<CommitOp> cached = cache.getIfPresent(indexId);
+      if (cached != null) {
+        return cached;
+      }
+    }
     Obj keyIndex;
     try {
       keyIndex = persist.fetchObj(indexId);
@@ -241,9 +267,11 @@ final class IndexesLogicImpl implements IndexesLogic {
         case INDEX_SEGMENTS:
           IndexSegmentsObj split = (IndexSegmentsObj) keyIndex;
           List<IndexStripe> indexStripes = split.stripes();
-          return referenceIndexFromStripes(indexStripes, commitId);
+          return referenceIndexFromStripes(indexStripes, commitId, cache);
         case INDEX:
-          return deserializeIndex(((IndexObj) keyIndex).index()).setObjId(keyIndex.id());
+          StoreIndex<CommitOp> index =
+              deserializeIndex(((IndexObj) keyIndex).index()).setObjId(keyIndex.id());
+          return cache != null ? cache.put(indexId, index) : index;
         default:
           // fall through
       }
@@ -257,7 +285,14 @@ final class IndexesLogicImpl implements IndexesLogic {
     return deserializeStoreIndex(serialized, COMMIT_OP_SERIALIZER);
   }
 
-  private StoreIndex<CommitOp> loadIndexSegment(@Nonnull ObjId indexId) {
+  private StoreIndex<CommitOp> loadIndexSegment(
+      @Nonnull ObjId indexId, @Nullable IndexStripeCache cache) {
+    if (cache != null) {
+      StoreIndex<CommitOp> cached = cache.getIfPresent(indexId);
+      if (cached != null) {
+        return cached;
+      }
+    }
     IndexObj index;
     try {
       index = persist.fetchTypedObj(indexId, INDEX, IndexObj.class);
@@ -265,18 +300,42 @@ final class IndexesLogicImpl implements IndexesLogic {
       throw new IllegalStateException(
           format("Commit %s references a reference index, which does not exist", indexId));
     }
-    return deserializeIndex(index.index()).setObjId(indexId);
+    StoreIndex<CommitOp> segment = deserializeIndex(index.index()).setObjId(indexId);
+    return cache != null ? cache.put(indexId, segment) : segment;
   }
 
-  private StoreIndex<CommitOp>[] loadIndexSegments(@Nonnull ObjId[] indexes) {
+  private StoreIndex<CommitOp>[] loadIndexSegments(
+      @Nonnull ObjId[] indexes, @Nullable IndexStripeCache cache) {
+    @SuppressWarnings("unchecked")
+    StoreIndex<CommitOp>[] r = new StoreIndex[indexes.length];
+    ObjId[] toFetch = indexes;
+    if (cache != null) {
+      // Only fetch the index segments that are not cached
+      toFetch = new ObjId[indexes.length];
+      int fetchCount = 0;
+      for (int i = 0; i < indexes.length; i++) {
+        ObjId id = indexes[i];
+        if (id != null) {
+          StoreIndex<CommitOp> cached = cache.getIfPresent(id);
+          if (cached != null) {
+            r[i] = cached;
+          } else {
+            toFetch[i] = id;
+            fetchCount++;
+          }
+        }
+      }
+      if (fetchCount == 0) {
+        return r;
+      }
+    }
     try {
-      IndexObj[] objs = persist.fetchTypedObjs(indexes, INDEX, IndexObj.class);
-      @SuppressWarnings("unchecked")
-      StoreIndex<CommitOp>[] r = new StoreIndex[indexes.length];
+      IndexObj[] objs = persist.fetchTypedObjs(toFetch, INDEX, IndexObj.class);
       for (int i = 0; i < objs.length; i++) {
         IndexObj index = objs[i];
         if (index != null) {
-          r[i] = deserializeIndex(index.index()).setObjId(indexes[i]);
+          StoreIndex<CommitOp> segment = deserializeIndex(index.index()).setObjId(indexes[i]);
+          r[i] = cache != null ? cache.put(indexes[i], segment) : segment;
         }
       }
       return r;
@@ -286,7 +345,7 @@ final class IndexesLogicImpl implements IndexesLogic {
   }
 
   private StoreIndex<CommitOp> referenceIndexFromStripes(
-      List<IndexStripe> indexStripes, ObjId commitId) {
+      List<IndexStripe> indexStripes, ObjId commitId, @Nullable IndexStripeCache cache) {
     List<StoreIndex<CommitOp>> stripes = new ArrayList<>(indexStripes.size());
     List<StoreKey> firstLastKeys = new ArrayList<>(indexStripes.size() * 2);
 
@@ -306,13 +365,14 @@ final class IndexesLogicImpl implements IndexesLogic {
                           idx,
                           loaded.length,
                           commitId);
-                      l = loadIndexSegment(s.segment());
+                      l = loadIndexSegment(s.segment(), cache);
                       loaded[idx] = l;
                     }
                     return l;
                   },
                   s.firstKey(),
-                  s.lastKey())
+                  s.lastKey(),
+                  deserializeKeyFilter(s.keyFilter()))
               .setObjId(s.segment()));
       firstLastKeys.add(s.firstKey());
       firstLastKeys.add(s.lastKey());
@@ -339,7 +399,7 @@ final class IndexesLogicImpl implements IndexesLogic {
             }
           }
           LOGGER.debug("Fetching {} of {} index segments for commit {}", cnt, ids.length, commitId);
-          StoreIndex<CommitOp>[] indexes = loadIndexSegments(ids);
+          StoreIndex<CommitOp>[] indexes = loadIndexSegments(ids, cache);
           for (int i = 0; i < indexes.length; i++) {
             StoreIndex<CommitOp> idx = indexes[i];
             if (idx != null) {
@@ -371,7 +431,7 @@ final class IndexesLogicImpl implements IndexesLogic {
     }
 
     List<Obj> toStore = new ArrayList<>();
-    List<IndexStripe> indexStripes = buildIndexStripes(stripes, toStore);
+    List<IndexStripe> indexStripes = buildIndexStripes(stripes, toStore, Integer.MAX_VALUE);
 
     IndexSegmentsObj referenceIndex = indexSegments(indexStripes);
     toStore.add(referenceIndex);
@@ -387,13 +447,15 @@ final class IndexesLogicImpl implements IndexesLogic {
       throws ObjTooLargeException {
     List<StoreIndex<CommitOp>> stripes = stripedIndex.stripes();
     List<Obj> toStore = new ArrayList<>();
-    List<IndexStripe> indexStripes = buildIndexStripes(stripes, toStore);
+    // The stripes are embedded in the commit object, limit the total size of the key filters.
+    int maxKeyFilterSize = MAX_COMMIT_KEY_FILTERS_BYTES / Math.max(stripes.size(), 1);
+    List<IndexStripe> indexStripes = buildIndexStripes(stripes, toStore, maxKeyFilterSize);
     persist.storeObjs(toStore.toArray(new Obj[0]));
     return indexStripes;
   }
 
   private List<IndexStripe> buildIndexStripes(
-      List<StoreIndex<CommitOp>> stripes, List<Obj> toStore) {
+      List<StoreIndex<CommitOp>> stripes, List<Obj> toStore, int maxKeyFilterSize) {
     List<IndexStripe> indexStripes = new ArrayList<>(stripes.size());
     for (StoreIndex<CommitOp> indexSegment : stripes) {
       ObjId segId;
@@ -411,7 +473,18 @@ final class IndexesLogicImpl implements IndexesLogic {
       StoreKey last = indexSegment.last();
       checkState(first != null && last != null);
 
-      indexStripes.add(indexStripe(first, last, segId));
+      // Reuse the filter of a not loaded index segment, build the filter only for index segments
+      // that are in memory anyway.
+      StoreKeyFilter keyFilter = indexSegment.keyFilter();
+      if (keyFilter != null && keyFilter.serialize().size() > maxKeyFilterSize) {
+        keyFilter = null;
+      }
+      if (keyFilter == null && indexSegment.isLoaded()) {
+        keyFilter = buildKeyFilter(indexSegment, maxKeyFilterSize);
+      }
+
+      indexStripes.add(
+          indexStripe(first, last, segId, keyFilter != null ? keyFilter.serialize() : null));
     }
 
     return indexStripes;
@@ -68,6 +68,13 @@ public abstract class MergeBase {
 
   @Value.NonAttribute
   public ObjId identifyMergeBase() {
+    if (!respectMergeParents()) {
+      ObjId commonAncestor = identifyCommonAncestorViaTails();
+      if (commonAncestor != null) {
+        return commonAncestor;
+      }
+    }
+
     List<ShallowCommit> mergeBases = identifyAllMergeBases();
     if (mergeBases == null || mergeBases.isEmpty()) {
       throw noCommonAncestor();
@@ -92,6 +99,125 @@ public abstract class MergeBase {
     return findMergeBases(fromCommit, targetCommit);
   }
 
+  /**
+   * Identifies the common ancestor, considering only direct parents, using {@link CommitObj#seq()}
+   * as the "generation number" and {@link CommitObj#tail()}, which lists the nearest direct
+   * ancestors.
+   *
+   * <p>Since every commit has exactly one direct parent, the commits form a tree. The "newer"
+   * commit is moved to the {@code seq} of the other commit first, skipping up to {@code
+   * tail().size()} commits per load. Once both commits have the same {@code seq}, their tails are
+   * compared: when both ancestries meet, they stay equal, so a binary search over the (already
+   * loaded) tails yields the nearest common ancestor without loading the commits in between.
+   *
+   * <p>The walk is still linear in the distance to the common ancestor, but loads only about one
+   * commit per {@code tail().size()} commits instead of every commit.
+   *
+   * @return the ID of the common ancestor or {@code null}, if the {@code seq} values of the visited
+   *     commits are not consistent with the direct-parent relationship, in which case the caller
+   *     has to fall back to walking the commits one-by-one.
+   */
+  private ObjId identifyCommonAncestorViaTails() {
+    if (EMPTY_OBJ_ID.equals(targetCommitId()) || EMPTY_OBJ_ID.equals(fromCommitId())) {
+      return null;
+    }
+
+    CommitObj commitA = requireCommit(targetCommitId());
+    CommitObj commitB = requireCommit(fromCommitId());
+    while (true) {
+      if (commitA.id().equals(commitB.id())) {
+        return commitA.id();
+      }
+
+      long seqA = commitA.seq();
+      long seqB = commitB.seq();
+      if (seqA != seqB) {
+        if (seqA > seqB) {
+          commitA = directAncestor(commitA, seqA - seqB);
+        } else {
+          commitB = directAncestor(commitB, seqB - seqA);
+        }
+        if (commitA == null || commitB == null) {
+          return null;
+        }
+        continue;
+      }
+
+      List<ObjId> tailA = commitA.tail();
+      List<ObjId> tailB = commitB.tail();
+      int sizeA = tailSize(tailA);
+      int sizeB = tailSize(tailB);
+      if (sizeA == 0 && sizeB == 0) {
+        // Two different commits without a parent.
+        throw noCommonAncestor();
+      }
+      int size = Math.min(sizeA, sizeB);
+      if (size == 0) {
+        return null;
+      }
+
+      int last = size - 1;
+      if (!tailA.get(last).equals(tailB.get(last))) {
+        // Ancestries did not meet within the tails, continue with the last tail entries.
+        commitA = requireCommit(tailA.get(last));
+        commitB = requireCommit(tailB.get(last));
+        if (commitA.seq() != seqA - size || commitB.seq() != seqB - size) {
+          return null;
+        }
+        continue;
+      }
+
+      int low = 0;
+      int high = last;
+      while (low < high) {
+        int mid = (low + high) >>> 1;
+        if (tailA.get(mid).equals(tailB.get(mid))) {
+          high = mid;
+        } else {
+          low = mid + 1;
+        }
+      }
+      return tailA.get(low);
+    }
+  }
+
+  /**
+   * Returns the direct ancestor that is {@code distance} commits "behind" the given commit or
+   * {@code null}, if the {@code seq} of the ancestor does not match.
+   */
+  private CommitObj directAncestor(CommitObj commit, long distance) {
+    long expectedSeq = commit.seq() - distance;
+    while (distance > 0) {
+      int size = tailSize(commit.tail());
+      if (size == 0) {
+        return null;
+      }
+      int skip = (int) Math.min(distance, size);
+      commit = requireCommit(commit.tail().get(skip - 1));
+      distance -= skip;
+    }
+    return commit.seq() == expectedSeq ? commit : null;
+  }
+
+  /** Number of leading, non-{@link ObjId#EMPTY_OBJ_ID empty} commit IDs in the given tail. */
+  private static int tailSize(List<ObjId> tail) {
+    int size = tail.size();
+    for (int i = 0; i < size; i++) {
+      if (EMPTY_OBJ_ID.equals(tail.get(i))) {
+        return i;
+      }
+    }
+    return size;
+  }
+
+  private CommitObj requireCommit(ObjId id) {
+    CommitObj commit = loadCommit().apply(id);
+    if (commit == null) {
+      throw new NoSuchElementException("Commit '" + id + "' not found");
+    }
+    return commit;
+  }
+
   private List<ShallowCommit> findMergeBases(ShallowCommit commitA, ShallowCommit commitB) {
     if (commitB.id().equals(commitA.id())) {
       return newArrayList(commitA);
@@ -310,10 +436,7 @@ public abstract class MergeBase {
     return commits.computeIfAbsent(
         objId,
         id -> {
-          CommitObj commit = loadCommit().apply(id);
-          if (commit == null) {
-            throw new NoSuchElementException("Commit '" + id + "' not found");
-          }
+          CommitObj commit = requireCommit(id);
           ObjId[] parents;
           if (respectMergeParents()) {
             List<ObjId> secondary = commit.secondaryParents();
@@ -0,0 +1,38 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.common.logic;
+
+import jakarta.annotation.Nullable;
+import org.immutables.value.Value;
+import org.projectnessie.versioned.storage.common.persist.ObjId;
+
+/** A reference to be created via {@link ReferenceLogic#createReferences(java.util.List)}. */
+@Value.Immutable
+public interface NewReference {
+  @Value.Parameter(order = 1)
+  String name();
+
+  @Value.Parameter(order = 2)
+  ObjId pointer();
+
+  @Value.Parameter(order = 3)
+  @Nullable
+  ObjId extendedInfoObj();
+
+  static NewReference newReference(String name, ObjId pointer, @Nullable ObjId extendedInfoObj) {
+    return ImmutableNewReference.of(name, pointer, extendedInfoObj);
+  }
+}
@@ -86,6 +86,22 @@ public interface ReferenceLogic {
       @Nonnull String name, @Nonnull ObjId pointer, @Nullable ObjId extendedInfoObj)
       throws RefAlreadyExistsException, RetryTimeoutException;
 
+  /**
+   * Creates multiple references, like {@link #createReference(String, ObjId, ObjId)}, but records
+   * many new references using a single commit to the internal references log and a single update of
+   * its HEAD, instead of one commit per reference.
+   *
+   * <p>References that already exist are reported as {@linkplain CreateReferenceResult#created()
+   * not created}, all other failures are thrown.
+   *
+   * @param references references to create, a name that occurs multiple times is reported as
+   *     already existing for the second and following occurrences
+   * @return the outcome for each element of {@code references}, in the same order
+   */
+  @Nonnull
+  List<CreateReferenceResult> createReferences(@Nonnull List<NewReference> references)
+      throws RetryTimeoutException;
+
   /**
    * Like {@link #createReference(String, ObjId, ObjId)} allowing to specify the reference creation
    * timestamp, used in the special scenario when importing a reference.
@@ -30,6 +30,8 @@ import static org.projectnessie.versioned.storage.common.logic.CommitRetry.commi
 import static org.projectnessie.versioned.storage.common.logic.CreateCommit.Add.commitAdd;
 import static org.projectnessie.versioned.storage.common.logic.CreateCommit.Remove.commitRemove;
 import static org.projectnessie.versioned.storage.common.logic.CreateCommit.newCommitBuilder;
+import static org.projectnessie.versioned.storage.common.logic.CreateReferenceResult.referenceAlreadyExists;
+import static org.projectnessie.versioned.storage.common.logic.CreateReferenceResult.referenceCreated;
 import static org.projectnessie.versioned.storage.common.logic.InternalRef.REF_REFS;
 import static org.projectnessie.versioned.storage.common.logic.Logics.commitLogic;
 import static org.projectnessie.versioned.storage.common.logic.Logics.indexesLogic;
@@ -55,10 +57,12 @@ import jakarta.annotation.Nullable;
 import java.time.Instant;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -80,6 +84,7 @@ import org.projectnessie.versioned.storage.common.objtypes.CommitOp;
 import org.projectnessie.versioned.storage.common.objtypes.CommitOp.Action;
 import org.projectnessie.versioned.storage.common.objtypes.CommitType;
 import org.projectnessie.versioned.storage.common.objtypes.RefObj;
+import org.projectnessie.versioned.storage.common.persist.Obj;
 import org.projectnessie.versioned.storage.common.persist.ObjId;
 import org.projectnessie.versioned.storage.common.persist.Persist;
 import org.projectnessie.versioned.storage.common.persist.Reference;
@@ -182,6 +187,12 @@ final class ReferenceLogicImpl implements ReferenceLogic {
   private static final Logger LOGGER = LoggerFactory.getLogger(ReferenceLogicImpl.class);
   private static final String REF_REFS_ADVANCED = "ref-refs advanced";
 
+  /**
+   * Maximum number of references recorded by a single commit to {@link InternalRef#REF_REFS} by
+   * {@link #createReferences(List)}, keeps the size of the commit's incremental index bounded.
+   */
+  static final int CREATE_REFERENCES_PER_COMMIT = 500;
+
   private final Persist persist;
 
   ReferenceLogicImpl(Persist persist) {
@@ -341,6 +352,72 @@ final class ReferenceLogicImpl implements ReferenceLogic {
     return createReferenceInternal(name, pointer, extendedInfoObj, createdAtMicros);
   }
 
+  @Override
+  @Nonnull
+  public List<CreateReferenceResult> createReferences(@Nonnull List<NewReference> references)
+      throws RetryTimeoutException {
+    long refCreatedTimestamp = persist.config().currentTimeMicros();
+
+    List<Reference> toCreate = new ArrayList<>(references.size());
+    Set<String> names = new HashSet<>();
+    for (NewReference newReference : references) {
+      checkArgument(!isInternalReferenceName(newReference.name()));
+      if (names.add(newReference.name())) {
+        toCreate.add(
+            reference(
+                newReference.name(),
+                newReference.pointer(),
+                false,
+                refCreatedTimestamp,
+                newReference.extendedInfoObj()));
+      }
+    }
+
+    Set<String> added = new HashSet<>();
+    for (int i = 0; i < toCreate.size(); i += CREATE_REFERENCES_PER_COMMIT) {
+      added.addAll(
+          commitCreateReferences(
+              toCreate.subList(i, Math.min(i + CREATE_REFERENCES_PER_COMMIT, toCreate.size()))));
+    }
+
+    List<CreateReferenceResult> results = new ArrayList<>(references.size());
+    Iterator<Reference> createdIter = toCreate.iterator();
+    names.clear();
+    for (NewReference newReference : references) {
+      String name = newReference.name();
+      if (!names.add(name)) {
+        // Duplicate name in the same request
+        results.add(referenceAlreadyExists(name, persist.fetchReferenceForUpdate(name)));
+        continue;
+      }
+
+      Reference created = createdIter.next();
+      try {
+        if (added.contains(name)) {
+          try {
+            results.add(referenceCreated(persist.addReference(created)));
+          } catch (RefAlreadyExistsException e) {
+            // Reference recovery logic might have kicked in and added the reference.
+            if (!Objects.equals(created, e.reference())) {
+              throw e;
+            }
+            results.add(referenceCreated(created));
+          }
+        } else {
+          // The name is already present in the references log, let the single-reference logic
+          // deal with it, including the recovery of a previously failed create/delete.
+          results.add(
+              referenceCreated(
+                  createReferenceInternal(
+                      name, created.pointer(), created.extendedInfoObj(), refCreatedTimestamp)));
+        }
+      } catch (RefAlreadyExistsException e) {
+        results.add(referenceAlreadyExists(name, e.reference()));
+      }
+    }
+    return results;
+  }
+
   @Nonnull
   private Reference createReferenceInternal(
       @Nonnull String name,
@@ -579,6 +656,82 @@ final class ReferenceLogicImpl implements ReferenceLogic {
     }
   }
 
+  /**
+   * Records the given references in {@link InternalRef#REF_REFS} using a single commit, skipping
+   * the names that are already present.
+   *
+   * @return names of the references that have been added
+   */
+  private Set<String> commitCreateReferences(List<Reference> references)
+      throws RetryTimeoutException {
+    try {
+      return commitRetry(
+          persist,
+          (p, retryState) -> {
+            Reference refRefs = requireNonNull(p.fetchReferenceForUpdate(REF_REFS.name()));
+            CommitObj head;
+            try {
+              head = p.fetchTypedObj(refRefs.pointer(), COMMIT, CommitObj.class);
+            } catch (ObjNotFoundException e) {
+              throw new RuntimeException("Internal error getting reference creation log commit", e);
+            }
+            StoreIndex<CommitOp> index = indexesLogic(p).buildCompleteIndexOrEmpty(head);
+
+            Set<String> added = new HashSet<>();
+            List<Obj> refObjs = new ArrayList<>(references.size());
+            CreateCommit.Builder c = newCommitBuilder().parentCommitId(refRefs.pointer());
+            for (Reference reference : references) {
+              StoreKey k = key(reference.name());
+              StoreIndexElement<CommitOp> existing = index.get(k);
+              if (existing != null && existing.content().action().exists()) {
+                continue;
+              }
+              RefObj ref =
+                  ref(
+                      reference.name(),
+                      reference.pointer(),
+                      reference.createdAtMicros(),
+                      reference.extendedInfoObj());
+              refObjs.add(ref);
+              c.addAdds(commitAdd(k, 0, requireNonNull(ref.id()), null, null));
+              added.add(reference.name());
+            }
+            if (added.isEmpty()) {
+              return added;
+            }
+
+            try {
+              p.storeObjs(refObjs.toArray(new Obj[0]));
+            } catch (ObjTooLargeException e) {
+              throw new RuntimeException(e);
+            }
+
+            Instant now = persist.config().clock().instant();
+            c.message("Create " + added.size() + " references")
+                .headers(
+                    newCommitHeaders()
+                        .add("operation", "create")
+                        .add("count", Integer.toString(added.size()))
+                        .add("timestamp", now.toString())
+                        .add("timestamp.millis", Long.toString(now.toEpochMilli()))
+                        .build())
+                .commitType(CommitType.INTERNAL);
+
+            commitReferenceChange(p, refRefs, c.build());
+
+            return added;
+          });
+    } catch (CommitConflictException e) {
+      // Cannot happen, the names are checked against the index of the parent commit
+      throw new RuntimeException(
+          "An unexpected internal error happened while committing the creation of references", e);
+    } catch (CommitWrappedException e) {
+      throw new RuntimeException(
+          "An unexpected internal error happened while committing the creation of references",
+          e.getCause());
+    }
+  }
+
   @VisibleForTesting // needed to simulate recovery scenarios
   // Note: commitForReference is for testing, to test race conditions
   void commitDeleteReference(Reference reference, ObjId expectedRefRefsHead)
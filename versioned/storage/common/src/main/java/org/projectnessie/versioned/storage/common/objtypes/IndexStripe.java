@@ -15,8 +15,11 @@
  */
 package org.projectnessie.versioned.storage.common.objtypes;
 
+import jakarta.annotation.Nullable;
 import org.immutables.value.Value;
+import org.projectnessie.nessie.relocated.protobuf.ByteString;
 import org.projectnessie.versioned.storage.common.indexes.StoreKey;
+import org.projectnessie.versioned.storage.common.indexes.StoreKeyFilter;
 import org.projectnessie.versioned.storage.common.persist.Hashable;
 import org.projectnessie.versioned.storage.common.persist.ObjId;
 import org.projectnessie.versioned.storage.common.persist.ObjIdHasher;
@@ -33,8 +36,22 @@ public interface IndexStripe extends Hashable {
   @Value.Parameter(order = 3)
   ObjId segment();
 
+  /**
+   * Serialized {@link StoreKeyFilter} over the keys in the index stripe, {@code null} for index
+   * stripes that were persisted without a filter. Not part of the {@link #hash(ObjIdHasher) hash},
+   * because the filter is derived from the index stripe.
+   */
+  @Value.Parameter(order = 4)
+  @Nullable
+  ByteString keyFilter();
+
   static IndexStripe indexStripe(StoreKey firstKey, StoreKey lastKey, ObjId segment) {
-    return ImmutableIndexStripe.of(firstKey, lastKey, segment);
+    return ImmutableIndexStripe.of(firstKey, lastKey, segment, null);
+  }
+
+  static IndexStripe indexStripe(
+      StoreKey firstKey, StoreKey lastKey, ObjId segment, @Nullable ByteString keyFilter) {
+    return ImmutableIndexStripe.of(firstKey, lastKey, segment, keyFilter);
   }
 
   @Override
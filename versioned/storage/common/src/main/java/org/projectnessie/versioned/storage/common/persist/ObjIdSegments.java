@@ -0,0 +1,142 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.common.persist;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.collect.AbstractIterator;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+/**
+ * Partitions the {@link ObjId} space into segments for {@link Persist#scanAllObjects(java.util.Set,
+ * int, int)}, for backends that scan objects by ranges of their IDs.
+ *
+ * <p>Segment {@code n} of {@code totalSegments} contains all object IDs that are greater than or
+ * equal to {@link #lowerBound(int, int)} and less than {@link #upperBound(int, int)}, comparing the
+ * ID bytes lexicographically as unsigned values. The bounds are two bytes long, which is fine for
+ * hash based IDs, which are uniformly distributed.
+ */
+public final class ObjIdSegments {
+
+  /** The maximum number of segments. */
+  public static final int MAX_SEGMENTS = 1 << 16;
+
+  private ObjIdSegments() {}
+
+  public static void checkSegment(int segment, int totalSegments) {
+    checkArgument(
+        totalSegments >= 1 && totalSegments <= MAX_SEGMENTS,
+        "totalSegments must be between 1 and %s, but is %s",
+        MAX_SEGMENTS,
+        totalSegments);
+    checkArgument(
+        segment >= 0 && segment < totalSegments,
+        "segment must be between 0 and %s, but is %s",
+        totalSegments - 1,
+        segment);
+  }
+
+  /**
+   * Returns the inclusive lower bound of the given segment, or {@code null} for the first segment.
+   */
+  @Nullable
+  public static byte[] lowerBound(int segment, int totalSegments) {
+    checkSegment(segment, totalSegments);
+    return segment == 0 ? null : bound(segment, totalSegments);
+  }
+
+  /**
+   * Returns the exclusive upper bound of the given segment, or {@code null} for the last segment.
+   */
+  @Nullable
+  public static byte[] upperBound(int segment, int totalSegments) {
+    checkSegment(segment, totalSegments);
+    return segment == totalSegments - 1 ? null : bound(segment + 1, totalSegments);
+  }
+
+  /** Checks whether the given object ID belongs to the given segment. */
+  public static boolean inSegment(@Nonnull ObjId id, int segment, int totalSegments) {
+    byte[] lower = lowerBound(segment, totalSegments);
+    if (lower != null && compare(id, lower) < 0) {
+      return false;
+    }
+    byte[] upper = upperBound(segment, totalSegments);
+    return upper == null || compare(id, upper) < 0;
+  }
+
+  /**
+   * Returns an iterator over the objects from {@code all} that belong to the given segment, used by
+   * backends that cannot scan a segment natively.
+   */
+  @Nonnull
+  public static CloseableIterator<Obj> filterSegment(
+      @Nonnull CloseableIterator<Obj> all, int segment, int totalSegments) {
+    byte[] lower = lowerBound(segment, totalSegments);
+    byte[] upper = upperBound(segment, totalSegments);
+    return new SegmentFilteringIterator(all, lower, upper);
+  }
+
+  private static byte[] bound(int segment, int totalSegments) {
+    int prefix = (int) (((long) segment * MAX_SEGMENTS) / totalSegments);
+    return new byte[] {(byte) (prefix >> 8), (byte) prefix};
+  }
+
+  private static int compare(ObjId id, byte[] bound) {
+    int size = id.size();
+    for (int i = 0; i < bound.length; i++) {
+      if (i == size) {
+        return -1;
+      }
+      int c = Integer.compare(id.byteAt(i) & 0xff, bound[i] & 0xff);
+      if (c != 0) {
+        return c;
+      }
+    }
+    return Integer.compare(size, bound.length);
+  }
+
+  private static final class SegmentFilteringIterator extends AbstractIterator<Obj>
+      implements CloseableIterator<Obj> {
+    private final CloseableIterator<Obj> all;
+    private final byte[] lower;
+    private final byte[] upper;
+
+    SegmentFilteringIterator(CloseableIterator<Obj> all, byte[] lower, byte[] upper) {
+      this.all = all;
+      this.lower = lower;
+      this.upper = upper;
+    }
+
+    @Override
+    protected Obj computeNext() {
+      while (all.hasNext()) {
+        Obj obj = all.next();
+        ObjId id = obj.id();
+        if ((lower == null || compare(id, lower) >= 0)
+            && (upper == null || compare(id, upper) < 0)) {
+          return obj;
+        }
+      }
+      return endOfData();
+    }
+
+    @Override
+    public void close() {
+      all.close();
+    }
+  }
+}
@@ -21,6 +21,7 @@ import io.opentelemetry.instrumentation.annotations.WithSpan;
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 import java.util.Set;
+import java.util.concurrent.CompletionStage;
 import org.projectnessie.versioned.storage.common.config.StoreConfig;
 import org.projectnessie.versioned.storage.common.exceptions.ObjNotFoundException;
 import org.projectnessie.versioned.storage.common.exceptions.ObjTooLargeException;
@@ -305,6 +306,16 @@ public class ObservingPersist implements Persist {
     return delegate.scanAllObjects(returnedObjTypes);
   }
 
+  @WithSpan
+  @Override
+  @Counted(PREFIX)
+  @Timed(value = PREFIX, histogram = true)
+  @Nonnull
+  public CloseableIterator<Obj> scanAllObjects(
+      @Nonnull Set<ObjType> returnedObjTypes, int segment, int totalSegments) {
+    return delegate.scanAllObjects(returnedObjTypes, segment, totalSegments);
+  }
+
   @WithSpan
   @Override
   @Counted(PREFIX)
@@ -313,8 +324,71 @@ public class ObservingPersist implements Persist {
     delegate.erase();
   }
 
+  @WithSpan
+  @Override
+  @Counted(PREFIX)
+  @Timed(value = PREFIX, histogram = true)
+  @Nonnull
+  public CompletionStage<Obj> fetchObjAsync(@Nonnull ObjId id) {
+    return delegate.fetchObjAsync(id);
+  }
+
+  @WithSpan
+  @Override
+  @Counted(PREFIX)
+  @Timed(value = PREFIX, histogram = true)
+  @Nonnull
+  public <T extends Obj> CompletionStage<T> fetchTypedObjAsync(
+      @Nonnull ObjId id, ObjType type, @Nonnull Class<T> typeClass) {
+    return delegate.fetchTypedObjAsync(id, type, typeClass);
+  }
+
+  @WithSpan
+  @Override
+  @Counted(PREFIX)
+  @Timed(value = PREFIX, histogram = true)
+  @Nonnull
+  public <T extends Obj> CompletionStage<T[]> fetchTypedObjsAsync(
+      @Nonnull ObjId[] ids, ObjType type, @Nonnull Class<T> typeClass) {
+    return delegate.fetchTypedObjsAsync(ids, type, typeClass);
+  }
+
+  @WithSpan
+  @Override
+  @Counted(PREFIX)
+  @Timed(value = PREFIX, histogram = true)
+  @Nonnull
+  public <T extends Obj> CompletionStage<T[]> fetchTypedObjsIfExistAsync(
+      @Nonnull ObjId[] ids, ObjType type, @Nonnull Class<T> typeClass) {
+    return delegate.fetchTypedObjsIfExistAsync(ids, type, typeClass);
+  }
+
+  @WithSpan
+  @Override
+  @Counted(PREFIX)
+  @Timed(value = PREFIX, histogram = true)
+  @Nonnull
+  public CompletionStage<boolean[]> storeObjsAsync(@Nonnull Obj[] objs) {
+    return delegate.storeObjsAsync(objs);
+  }
+
+  @WithSpan
+  @Override
+  @Counted(PREFIX)
+  @Timed(value = PREFIX, histogram = true)
+  @Nonnull
+  public CompletionStage<Reference> updateReferencePointerAsync(
+      @Nonnull Reference reference, @Nonnull ObjId newPointer) {
+    return delegate.updateReferencePointerAsync(reference, newPointer);
+  }
+
   @Override
   public boolean isCaching() {
     return delegate.isCaching();
   }
+
+  @Override
+  public boolean supportsSegmentedScans() {
+    return delegate.supportsSegmentedScans();
+  }
 }
@@ -17,9 +17,9 @@ package org.projectnessie.versioned.storage.common.persist;
 
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import org.projectnessie.versioned.storage.common.config.StoreConfig;
 import org.projectnessie.versioned.storage.common.exceptions.ObjNotFoundException;
 import org.projectnessie.versioned.storage.common.exceptions.ObjTooLargeException;
@@ -269,23 +269,7 @@ public interface Persist {
   @Nonnull
   default <T extends Obj> T[] fetchTypedObjs(
       @Nonnull ObjId[] ids, ObjType type, @Nonnull Class<T> typeClass) throws ObjNotFoundException {
-    T[] r = fetchTypedObjsIfExist(ids, type, typeClass);
-
-    List<ObjId> notFound = null;
-    for (int i = 0; i < ids.length; i++) {
-      ObjId id = ids[i];
-      if (r[i] == null && id != null) {
-        if (notFound == null) {
-          notFound = new ArrayList<>();
-        }
-        notFound.add(id);
-      }
-    }
-    if (notFound != null) {
-      throw new ObjNotFoundException(notFound);
-    }
-
-    return r;
+    return PersistAsync.checkAllFound(ids, fetchTypedObjsIfExist(ids, type, typeClass));
   }
 
   /**
@@ -442,6 +426,43 @@ public interface Persist {
   @Nonnull
   CloseableIterator<Obj> scanAllObjects(@Nonnull Set<ObjType> returnedObjTypes);
 
+  /**
+   * Returns an iterator over the objects in one segment of the repository, so that maintenance
+   * operations can scan all objects using multiple iterators in parallel.
+   *
+   * <p>For the same {@code totalSegments}, every object is returned by exactly one segment, the
+   * union of all segments is the same as the result of {@link #scanAllObjects(Set)}. How objects
+   * are assigned to segments is backend specific.
+   *
+   * <p>The default implementation filters the result of {@link #scanAllObjects(Set)} using {@link
+   * ObjIdSegments}, which does not reduce the amount of data read from the database, but reads all
+   * objects once per segment. Backends override this function to scan only the requested segment
+   * and return {@code true} from {@link #supportsSegmentedScans()}. Callers should use a single
+   * segment if {@link #supportsSegmentedScans()} returns {@code false}.
+   *
+   * @param returnedObjTypes if empty, all object types are returned, otherwise only the given
+   *     object types will be returned
+   * @param segment the segment to scan, {@code 0 <= segment < totalSegments}
+   * @param totalSegments the total number of segments, at most {@link ObjIdSegments#MAX_SEGMENTS}
+   * @return iterator over the objects in the segment, must be closed
+   */
+  @Nonnull
+  default CloseableIterator<Obj> scanAllObjects(
+      @Nonnull Set<ObjType> returnedObjTypes, int segment, int totalSegments) {
+    ObjIdSegments.checkSegment(segment, totalSegments);
+    CloseableIterator<Obj> all = scanAllObjects(returnedObjTypes);
+    return totalSegments == 1 ? all : ObjIdSegments.filterSegment(all, segment, totalSegments);
+  }
+
+  /**
+   * Whether {@link #scanAllObjects(Set, int, int)} reads only the objects of the requested segment
+   * from the database. If {@code false}, every segment reads all objects, so scanning with more
+   * than one segment multiplies the work.
+   */
+  default boolean supportsSegmentedScans() {
+    return false;
+  }
+
   /**
    * Erases the whole repository.
    *
@@ -450,6 +471,101 @@ public interface Persist {
    */
   void erase();
 
+  // Asynchronous variants
+
+  /**
+   * Asynchronous variant of {@link #fetchObj(ObjId)}.
+   *
+   * <p>Exceptions of asynchronous functions may be wrapped in a {@link CompletionException}, use
+   * {@link PersistAsync#unwrapFailure(Throwable)} to get the actual exception.
+   *
+   * @return stage that completes with the object or fails with an {@link ObjNotFoundException}
+   */
+  @Nonnull
+  default CompletionStage<Obj> fetchObjAsync(@Nonnull ObjId id) {
+    return fetchTypedObjAsync(id, null, Obj.class);
+  }
+
+  /**
+   * Asynchronous variant of {@link #fetchTypedObj(ObjId, ObjType, Class)}.
+   *
+   * @return stage that completes with the object or fails with an {@link ObjNotFoundException}
+   */
+  @Nonnull
+  default <T extends Obj> CompletionStage<T> fetchTypedObjAsync(
+      @Nonnull ObjId id, ObjType type, @Nonnull Class<T> typeClass) {
+    return fetchTypedObjsIfExistAsync(new ObjId[] {id}, type, typeClass)
+        .thenApply(
+            r -> {
+              if (r[0] == null) {
+                throw new CompletionException(new ObjNotFoundException(id));
+              }
+              return r[0];
+            });
+  }
+
+  /**
+   * Asynchronous variant of {@link #fetchTypedObjs(ObjId[], ObjType, Class)}.
+   *
+   * @return stage that completes with the objects or fails with an {@link ObjNotFoundException}
+   */
+  @Nonnull
+  default <T extends Obj> CompletionStage<T[]> fetchTypedObjsAsync(
+      @Nonnull ObjId[] ids, ObjType type, @Nonnull Class<T> typeClass) {
+    return fetchTypedObjsIfExistAsync(ids, type, typeClass)
+        .thenApply(
+            r -> {
+              try {
+                return PersistAsync.checkAllFound(ids, r);
+              } catch (ObjNotFoundException e) {
+                throw new CompletionException(e);
+              }
+            });
+  }
+
+  /**
+   * Asynchronous variant of {@link #fetchTypedObjsIfExist(ObjId[], ObjType, Class)}.
+   *
+   * <p>Database specific implementations should override this function, if the database client
+   * provides a non-blocking API. The default implementation runs the synchronous function on a
+   * separate thread pool, see {@link PersistAsync#offload(java.util.concurrent.Callable)}.
+   */
+  @Nonnull
+  default <T extends Obj> CompletionStage<T[]> fetchTypedObjsIfExistAsync(
+      @Nonnull ObjId[] ids, ObjType type, @Nonnull Class<T> typeClass) {
+    return PersistAsync.offload(() -> fetchTypedObjsIfExist(ids, type, typeClass));
+  }
+
+  /**
+   * Asynchronous variant of {@link #storeObjs(Obj[])}.
+   *
+   * <p>The default implementation runs the synchronous function on a separate thread pool.
+   *
+   * @return stage that completes with the same result as {@link #storeObjs(Obj[])} or fails with
+   *     an {@link ObjTooLargeException}
+   */
+  @Nonnull
+  default CompletionStage<boolean[]> storeObjsAsync(@Nonnull Obj[] objs) {
+    return PersistAsync.offload(() -> storeObjs(objs));
+  }
+
+  /**
+   * Asynchronous variant of {@link #updateReferencePointer(Reference, ObjId)}.
+   *
+   * <p><em>Do not use this function from service implementations, use {@link ReferenceLogic}
+   * instead!</em>
+   *
+   * <p>The default implementation runs the synchronous function on a separate thread pool.
+   *
+   * @return stage that completes with the updated {@link Reference} or fails with a {@link
+   *     RefNotFoundException} or {@link RefConditionFailedException}
+   */
+  @Nonnull
+  default CompletionStage<Reference> updateReferencePointerAsync(
+      @Nonnull Reference reference, @Nonnull ObjId newPointer) {
+    return PersistAsync.offload(() -> updateReferencePointer(reference, newPointer));
+  }
+
   default boolean isCaching() {
     return false;
   }
@@ -0,0 +1,163 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.common.persist;
+
+import com.google.common.annotations.VisibleForTesting;
+import jakarta.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.projectnessie.versioned.storage.common.exceptions.ObjNotFoundException;
+
+/**
+ * Helper functionality for the asynchronous functions of {@link Persist}.
+ *
+ * <p>Database specific implementations that do not have a native asynchronous client use {@link
+ * #offload(Callable)} to run the synchronous variant on a dedicated thread pool, so that callers on
+ * event-loop threads are never blocked by database I/O.
+ *
+ * <p>The thread pool is bounded. The number of threads defaults to four times the number of
+ * available processors, at least {@value #MIN_OFFLOAD_THREADS}, and can be configured using the
+ * system property {@value #OFFLOAD_THREADS_PROPERTY}. Up to {@value #DEFAULT_OFFLOAD_QUEUE_SIZE}
+ * tasks, configurable using the system property {@value #OFFLOAD_QUEUE_SIZE_PROPERTY}, wait for a
+ * thread, further tasks are rejected.
+ */
+public final class PersistAsync {
+  static final String OFFLOAD_THREADS_PROPERTY = "nessie.persist.async.threads";
+  static final String OFFLOAD_QUEUE_SIZE_PROPERTY = "nessie.persist.async.queue-size";
+  static final int MIN_OFFLOAD_THREADS = 8;
+  static final int DEFAULT_OFFLOAD_QUEUE_SIZE = 10_000;
+
+  private PersistAsync() {}
+
+  /**
+   * Runs the given (blocking) {@code callable} on the shared offload thread pool. Exceptions thrown
+   * by the {@code callable}, including checked exceptions, complete the returned stage
+   * exceptionally, without wrapping. If the thread pool is saturated, the returned stage completes
+   * exceptionally with a {@link RejectedExecutionException}.
+   */
+  @Nonnull
+  public static <R> CompletionStage<R> offload(@Nonnull Callable<R> callable) {
+    return offload(OffloadExecutor.EXECUTOR, callable);
+  }
+
+  @VisibleForTesting
+  static <R> CompletionStage<R> offload(Executor executor, Callable<R> callable) {
+    CompletableFuture<R> future = new CompletableFuture<>();
+    try {
+      executor.execute(
+          () -> {
+            try {
+              future.complete(callable.call());
+            } catch (Throwable t) {
+              future.completeExceptionally(t);
+            }
+          });
+    } catch (RuntimeException e) {
+      future.completeExceptionally(e);
+    }
+    return future;
+  }
+
+  /** Returns the executor used by {@link #offload(Callable)}. */
+  @Nonnull
+  public static Executor offloadExecutor() {
+    return OffloadExecutor.EXECUTOR;
+  }
+
+  /**
+   * Returns {@code objs}, if all non-{@code null} elements in {@code ids} have a non-{@code null}
+   * counterpart in {@code objs}.
+   *
+   * @throws ObjNotFoundException with all IDs that have no corresponding object
+   */
+  @Nonnull
+  public static <T extends Obj> T[] checkAllFound(@Nonnull ObjId[] ids, @Nonnull T[] objs)
+      throws ObjNotFoundException {
+    List<ObjId> notFound = null;
+    for (int i = 0; i < ids.length; i++) {
+      ObjId id = ids[i];
+      if (objs[i] == null && id != null) {
+        if (notFound == null) {
+          notFound = new ArrayList<>();
+        }
+        notFound.add(id);
+      }
+    }
+    if (notFound != null) {
+      throw new ObjNotFoundException(notFound);
+    }
+    return objs;
+  }
+
+  /**
+   * Returns the "real" cause of an asynchronous failure, unwrapping {@link CompletionException}s
+   * and {@link ExecutionException}s.
+   */
+  @Nonnull
+  public static Throwable unwrapFailure(@Nonnull Throwable failure) {
+    while ((failure instanceof CompletionException || failure instanceof ExecutionException)
+        && failure.getCause() != null) {
+      failure = failure.getCause();
+    }
+    return failure;
+  }
+
+  @VisibleForTesting
+  static ExecutorService newOffloadExecutor(int threads, int queueSize) {
+    ThreadPoolExecutor executor =
+        new ThreadPoolExecutor(
+            threads,
+            threads,
+            60L,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(queueSize),
+            new ThreadFactory() {
+              private final AtomicInteger threadNum = new AtomicInteger();
+
+              @Override
+              public Thread newThread(@Nonnull Runnable r) {
+                Thread t = new Thread(r, "nessie-persist-async-" + threadNum.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+              }
+            });
+    // Do not keep idle threads around, if the asynchronous functions are rarely used.
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
+  private static final class OffloadExecutor {
+    static final ExecutorService EXECUTOR =
+        newOffloadExecutor(
+            Integer.getInteger(
+                OFFLOAD_THREADS_PROPERTY,
+                Math.max(MIN_OFFLOAD_THREADS, 4 * Runtime.getRuntime().availableProcessors())),
+            Integer.getInteger(OFFLOAD_QUEUE_SIZE_PROPERTY, DEFAULT_OFFLOAD_QUEUE_SIZE));
+  }
+}
@@ -21,19 +21,29 @@ import static org.junit.jupiter.params.provider.Arguments.arguments;
 import static org.projectnessie.versioned.storage.common.config.StoreConfig.CONFIG_ASSUMED_WALL_CLOCK_DRIFT_MICROS;
 import static org.projectnessie.versioned.storage.common.config.StoreConfig.CONFIG_COMMIT_RETRIES;
 import static org.projectnessie.versioned.storage.common.config.StoreConfig.CONFIG_COMMIT_TIMEOUT_MILLIS;
+import static org.projectnessie.versioned.storage.common.config.StoreConfig.CONFIG_INDEX_STRIPE_CACHE_MB;
 import static org.projectnessie.versioned.storage.common.config.StoreConfig.CONFIG_MAX_INCREMENTAL_INDEX_SIZE;
 import static org.projectnessie.versioned.storage.common.config.StoreConfig.CONFIG_MAX_REFERENCE_STRIPES_PER_COMMIT;
 import static org.projectnessie.versioned.storage.common.config.StoreConfig.CONFIG_MAX_SERIALIZED_INDEX_SIZE;
 import static org.projectnessie.versioned.storage.common.config.StoreConfig.CONFIG_NAMESPACE_VALIDATION;
+import static org.projectnessie.versioned.storage.common.config.StoreConfig.CONFIG_OBJ_COMPRESSION;
+import static org.projectnessie.versioned.storage.common.config.StoreConfig.CONFIG_OBJ_COMPRESSION_MIN_SIZE;
 import static org.projectnessie.versioned.storage.common.config.StoreConfig.CONFIG_PARENTS_PER_COMMIT;
 import static org.projectnessie.versioned.storage.common.config.StoreConfig.CONFIG_REPOSITORY_ID;
 import static org.projectnessie.versioned.storage.common.config.StoreConfig.CONFIG_RETRY_INITIAL_SLEEP_MILLIS_LOWER;
 import static org.projectnessie.versioned.storage.common.config.StoreConfig.CONFIG_RETRY_INITIAL_SLEEP_MILLIS_UPPER;
 import static org.projectnessie.versioned.storage.common.config.StoreConfig.CONFIG_RETRY_MAX_SLEEP_MILLIS;
+import static org.projectnessie.versioned.storage.common.objtypes.Compression.GZIP;
+import static org.projectnessie.versioned.storage.common.objtypes.Compression.NONE;
+import static org.projectnessie.versioned.storage.common.objtypes.Compression.ZSTD;
+import static org.projectnessie.versioned.storage.common.objtypes.StandardObjType.COMMIT;
+import static org.projectnessie.versioned.storage.common.objtypes.StandardObjType.INDEX;
+import static org.projectnessie.versioned.storage.common.objtypes.StandardObjType.VALUE;
 
 import java.time.Clock;
 import java.time.Instant;
 import java.time.ZoneId;
+import java.util.Map;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -45,6 +55,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.projectnessie.versioned.storage.common.config.StoreConfig.Adjustable;
 
 @ExtendWith(SoftAssertionsExtension.class)
@@ -121,6 +132,26 @@ public class TestStoreConfig {
                   boolean validateNamespaces = c.validateNamespaces();
                   return !validateNamespaces;
                 }),
+        arguments(
+            CONFIG_OBJ_COMPRESSION,
+            "index=zstd, COMMIT=G",
+            (Function<Adjustable, StoreConfig>)
+                e -> e.withObjCompression(Map.of("index", ZSTD, "COMMIT", GZIP)),
+            (Predicate<StoreConfig>)
+                c ->
+                    c.compressionForObjType(INDEX) == ZSTD
+                        && c.compressionForObjType(COMMIT) == GZIP
+                        && c.compressionForObjType(VALUE) == NONE),
+        arguments(
+            CONFIG_OBJ_COMPRESSION_MIN_SIZE,
+            "4096",
+            (Function<Adjustable, StoreConfig>) e -> e.withObjCompressionMinSize(4096),
+            (Predicate<StoreConfig>) c -> c.objCompressionMinSize() == 4096),
+        arguments(
+            CONFIG_INDEX_STRIPE_CACHE_MB,
+            "64",
+            (Function<Adjustable, StoreConfig>) e -> e.withIndexStripeCacheMb(64),
+            (Predicate<StoreConfig>) c -> c.indexStripeCacheMb() == 64),
         // default methods (current time in micros + hasher)
         arguments(
             "x",
@@ -130,6 +161,16 @@ public class TestStoreConfig {
                 c -> c.currentTimeMicros() == MILLISECONDS.toMicros(REFERENCE_TIME)));
   }
 
+  @ParameterizedTest
+  @ValueSource(strings = {"index=lz4", "foo=gzip", "index", "index=foo"})
+  public void invalidObjCompression(String value) {
+    soft.assertThatIllegalArgumentException()
+        .isThrownBy(
+            () ->
+                Adjustable.empty()
+                    .fromFunction(singletonMap(CONFIG_OBJ_COMPRESSION, value)::get));
+  }
+
   @ParameterizedTest
   @MethodSource("adjustable")
   public void adjustable(
@@ -31,6 +31,7 @@ import static org.projectnessie.versioned.storage.commontests.KeyIndexTestSet.ba
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import org.assertj.core.api.SoftAssertions;
 import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
@@ -180,6 +181,32 @@ public class TestLazyIndexImpl {
         .containsExactly(false, false, false);
   }
 
+  @Test
+  public void keyFilterDontLoad() {
+    StoreKeyFilter keyFilter = StoreKeyFilter.buildKeyFilter(commonIndex);
+    StoreKey existing = commonIndex.asKeyList().get(1);
+    StoreKey notExisting =
+        IntStream.range(0, 1000)
+            .mapToObj(i -> key("not", "existing", "key-" + i))
+            .filter(k -> !keyFilter.mightContain(k))
+            .findFirst()
+            .orElseThrow();
+
+    Checker checker = new Checker();
+    StoreIndex<CommitOp> lazyIndex =
+        lazyStoreIndex(checker, commonIndex.first(), commonIndex.last(), keyFilter);
+    soft.assertThat(lazyIndex.keyFilter()).isSameAs(keyFilter);
+
+    soft.assertThat(lazyIndex.contains(notExisting)).isFalse();
+    soft.assertThat(lazyIndex.get(notExisting)).isNull();
+    soft.assertThat(checker.called).hasValue(0);
+    soft.assertThat(lazyIndex.isLoaded()).isFalse();
+
+    soft.assertThat(lazyIndex.get(existing)).isNotNull();
+    soft.assertThat(checker.called).hasValue(1);
+    soft.assertThat(lazyIndex.keyFilter()).isSameAs(keyFilter);
+  }
+
   @Test
   public void firstLastKeyDoLoadIfNotSpecified() {
     StoreIndex<CommitOp> index = newStoreIndex(COMMIT_OP_SERIALIZER);
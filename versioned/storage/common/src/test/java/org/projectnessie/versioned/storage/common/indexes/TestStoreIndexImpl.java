@@ -38,6 +38,8 @@ import static org.projectnessie.versioned.storage.commontests.KeyIndexTestSet.ba
 
 import java.nio.ByteBuffer;
 import java.util.List;
+import java.util.Random;
+import java.util.TreeMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -291,6 +293,54 @@ public class TestStoreIndexImpl {
     soft.assertThat(segment.isModified()).isFalse();
   }
 
+  @Test
+  public void addUnchangedContent() {
+    ObjId id = randomObjId();
+    StoreIndex<ObjId> segment = newStoreIndex(OBJ_ID_SERIALIZER);
+    segment.add(indexElement(key("foo"), id));
+    ByteString serialized = segment.serialize();
+
+    segment = deserializeStoreIndex(serialized, OBJ_ID_SERIALIZER);
+    soft.assertThat(segment.add(indexElement(key("foo"), id))).isFalse();
+    soft.assertThat(segment.isModified()).isFalse();
+    soft.assertThat(segment.serialize()).isEqualTo(serialized);
+
+    segment.add(indexElement(key("foo"), randomObjId()));
+    soft.assertThat(segment.isModified()).isTrue();
+  }
+
+  @Test
+  public void addManyKeysOutOfOrder() {
+    StoreIndex<ObjId> segment = deserializeStoreIndex(refs20().serialize(), OBJ_ID_SERIALIZER);
+    TreeMap<StoreKey, ObjId> expected = new TreeMap<>();
+    segment.forEach(el -> expected.put(el.key(), el.content()));
+
+    Random random = new Random(42L);
+    for (int i = 0; i < 500; i++) {
+      StoreKey key = key(format("refs-%10d", random.nextInt(1000)));
+      ObjId id = randomObjId();
+      soft.assertThat(segment.add(indexElement(key, id))).isEqualTo(expected.put(key, id) == null);
+      if (i % 7 == 0) {
+        StoreKey remove = key(format("refs-%10d", random.nextInt(1000)));
+        soft.assertThat(segment.remove(remove)).isEqualTo(expected.remove(remove) != null);
+      }
+      StoreIndexElement<ObjId> el = segment.get(key);
+      soft.assertThat(el != null ? el.content() : null).isEqualTo(expected.get(key));
+      soft.assertThat(segment.contains(key)).isEqualTo(expected.containsKey(key));
+      soft.assertThat(segment.elementCount()).isEqualTo(expected.size());
+    }
+
+    soft.assertThat(segment.asKeyList()).containsExactlyElementsOf(expected.keySet());
+    soft.assertThat(segment.first()).isEqualTo(expected.firstKey());
+    soft.assertThat(segment.last()).isEqualTo(expected.lastKey());
+
+    StoreIndex<ObjId> reserialized = deserializeStoreIndex(segment.serialize(), OBJ_ID_SERIALIZER);
+    soft.assertThat(reserialized.asKeyList()).containsExactlyElementsOf(expected.keySet());
+    soft.assertThat(reserialized)
+        .extracting(StoreIndexElement::content)
+        .containsExactlyElementsOf(expected.values());
+  }
+
   @Test
   public void keyIndexSegment() {
     StoreIndex<ObjId> segment = newStoreIndex(OBJ_ID_SERIALIZER);
@@ -0,0 +1,118 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.common.indexes;
+
+import static org.projectnessie.nessie.relocated.protobuf.ByteString.copyFrom;
+import static org.projectnessie.versioned.storage.common.indexes.StoreIndexElement.indexElement;
+import static org.projectnessie.versioned.storage.common.indexes.StoreIndexes.newStoreIndex;
+import static org.projectnessie.versioned.storage.common.indexes.StoreKey.key;
+import static org.projectnessie.versioned.storage.common.indexes.StoreKeyFilter.MAX_FILTER_BYTES;
+import static org.projectnessie.versioned.storage.common.indexes.StoreKeyFilter.buildKeyFilter;
+import static org.projectnessie.versioned.storage.common.indexes.StoreKeyFilter.deserializeKeyFilter;
+import static org.projectnessie.versioned.storage.common.objtypes.CommitOp.Action.ADD;
+import static org.projectnessie.versioned.storage.common.objtypes.CommitOp.COMMIT_OP_SERIALIZER;
+import static org.projectnessie.versioned.storage.common.objtypes.CommitOp.commitOp;
+import static org.projectnessie.versioned.storage.common.persist.ObjId.randomObjId;
+
+import java.util.stream.IntStream;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.projectnessie.nessie.relocated.protobuf.ByteString;
+import org.projectnessie.versioned.storage.common.objtypes.CommitOp;
+
+@ExtendWith(SoftAssertionsExtension.class)
+public class TestStoreKeyFilter {
+  @InjectSoftAssertions SoftAssertions soft;
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 10, 100, 800})
+  public void filter(int numKeys) {
+    StoreIndex<CommitOp> index = index(numKeys);
+    StoreKeyFilter filter = buildKeyFilter(index);
+
+    soft.assertThat(index.asKeyList()).allMatch(filter::mightContain);
+
+    long falsePositives =
+        IntStream.range(0, 10_000)
+            .mapToObj(i -> key("other", "key-" + i))
+            .filter(filter::mightContain)
+            .count();
+    soft.assertThat(falsePositives).isLessThan(300L);
+  }
+
+  @Test
+  public void maxFilterSize() {
+    StoreIndex<CommitOp> index = index(10_000);
+    StoreKeyFilter filter = buildKeyFilter(index);
+
+    soft.assertThat(filter.serialize().size()).isLessThanOrEqualTo(MAX_FILTER_BYTES + 2);
+    soft.assertThat(index.asKeyList()).allMatch(filter::mightContain);
+  }
+
+  @Test
+  public void sizeLimit() {
+    StoreIndex<CommitOp> index = index(1_000);
+
+    StoreKeyFilter filter = buildKeyFilter(index, 802);
+    soft.assertThat(filter).isNotNull();
+    if (filter != null) {
+      soft.assertThat(filter.serialize().size()).isLessThanOrEqualTo(802);
+      soft.assertThat(index.asKeyList()).allMatch(filter::mightContain);
+    }
+
+    // Less than MIN_BITS_PER_KEY bits per key
+    soft.assertThat(buildKeyFilter(index, 400)).isNull();
+    soft.assertThat(buildKeyFilter(index, 0)).isNull();
+
+    soft.assertThat(buildKeyFilter(index, Integer.MAX_VALUE))
+        .extracting(StoreKeyFilter::serialize)
+        .isEqualTo(buildKeyFilter(index).serialize());
+  }
+
+  @Test
+  public void serialization() {
+    StoreIndex<CommitOp> index = index(100);
+    StoreKeyFilter filter = buildKeyFilter(index);
+
+    StoreKeyFilter deserialized = deserializeKeyFilter(filter.serialize());
+    soft.assertThat(deserialized).isNotNull();
+    soft.assertThat(deserialized.serialize()).isEqualTo(filter.serialize());
+    soft.assertThat(index.asKeyList()).allMatch(deserialized::mightContain);
+  }
+
+  @Test
+  public void unknownFormat() {
+    soft.assertThat(deserializeKeyFilter(null)).isNull();
+    soft.assertThat(deserializeKeyFilter(ByteString.EMPTY)).isNull();
+    soft.assertThat(deserializeKeyFilter(copyFrom(new byte[] {1, 3}))).isNull();
+    soft.assertThat(deserializeKeyFilter(copyFrom(new byte[] {2, 3, 0, 0}))).isNull();
+    soft.assertThat(deserializeKeyFilter(copyFrom(new byte[] {1, 0, 0, 0}))).isNull();
+    soft.assertThat(deserializeKeyFilter(copyFrom(new byte[] {1, 3, 0, 0}))).isNotNull();
+  }
+
+  private static StoreIndex<CommitOp> index(int numKeys) {
+    StoreIndex<CommitOp> index = newStoreIndex(COMMIT_OP_SERIALIZER);
+    for (int i = 0; i < numKeys; i++) {
+      index.add(indexElement(key("some", "table-" + i), commitOp(ADD, 1, randomObjId())));
+    }
+    return index;
+  }
+}
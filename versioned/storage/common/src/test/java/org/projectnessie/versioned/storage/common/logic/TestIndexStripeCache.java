@@ -0,0 +1,97 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.common.logic;
+
+import static org.projectnessie.versioned.storage.common.indexes.StoreIndexElement.indexElement;
+import static org.projectnessie.versioned.storage.common.indexes.StoreIndexes.deserializeStoreIndex;
+import static org.projectnessie.versioned.storage.common.indexes.StoreIndexes.newStoreIndex;
+import static org.projectnessie.versioned.storage.common.indexes.StoreKey.key;
+import static org.projectnessie.versioned.storage.common.logic.IndexStripeCache.indexStripeCache;
+import static org.projectnessie.versioned.storage.common.objtypes.CommitOp.Action.ADD;
+import static org.projectnessie.versioned.storage.common.objtypes.CommitOp.COMMIT_OP_SERIALIZER;
+import static org.projectnessie.versioned.storage.common.objtypes.CommitOp.commitOp;
+import static org.projectnessie.versioned.storage.common.persist.ObjId.randomObjId;
+import static org.projectnessie.versioned.storage.commontests.KeyIndexTestSet.basicIndexTestSet;
+
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.projectnessie.versioned.storage.common.config.StoreConfig;
+import org.projectnessie.versioned.storage.common.indexes.StoreIndex;
+import org.projectnessie.versioned.storage.common.objtypes.CommitOp;
+import org.projectnessie.versioned.storage.common.persist.ObjId;
+
+@ExtendWith(SoftAssertionsExtension.class)
+public class TestIndexStripeCache {
+  @InjectSoftAssertions protected SoftAssertions soft;
+
+  @Test
+  public void cached() {
+    IndexStripeCache cache = new IndexStripeCache(64L * 1024L * 1024L);
+    soft.assertThat(cache.isEnabled()).isTrue();
+
+    StoreIndex<CommitOp> reference = basicIndexTestSet().keyIndex();
+    StoreIndex<CommitOp> stripe =
+        deserializeStoreIndex(reference.serialize(), COMMIT_OP_SERIALIZER);
+
+    ObjId id = randomObjId();
+    soft.assertThat(cache.getIfPresent(id)).isNull();
+    soft.assertThat(cache.put(id, stripe)).isSameAs(stripe);
+    soft.assertThat(cache.getIfPresent(id)).isSameAs(stripe).containsExactlyElementsOf(reference);
+    soft.assertThat(stripe.isModified()).isFalse();
+    soft.assertThat(cache.getIfPresent(randomObjId())).isNull();
+    soft.assertThat(cache.size()).isEqualTo(1L);
+  }
+
+  @Test
+  public void disabled() {
+    IndexStripeCache cache = new IndexStripeCache(0L);
+    soft.assertThat(cache.isEnabled()).isFalse();
+
+    StoreIndex<CommitOp> stripe = basicIndexTestSet().keyIndex();
+    ObjId id = randomObjId();
+    soft.assertThat(cache.put(id, stripe)).isSameAs(stripe);
+    soft.assertThat(cache.getIfPresent(id)).isNull();
+    soft.assertThat(cache.size()).isEqualTo(0L);
+  }
+
+  @Test
+  public void largeStripeFits() {
+    // Weighs more than a quarter of the capacity, which would not fit into a segment of a cache
+    // with the default concurrency level.
+    long capacity = 4L * 1024L * 1024L;
+    StoreIndex<CommitOp> stripe = newStoreIndex(COMMIT_OP_SERIALIZER);
+    for (int i = 0; i < 10_000; i++) {
+      stripe.add(indexElement(key("key-" + (100_000 + i)), commitOp(ADD, 1, randomObjId())));
+    }
+
+    IndexStripeCache cache = new IndexStripeCache(capacity);
+    ObjId id = randomObjId();
+    cache.put(id, stripe);
+    soft.assertThat(cache.getIfPresent(id)).isSameAs(stripe);
+  }
+
+  @Test
+  public void sharedPerCapacity() {
+    StoreConfig.Adjustable config = StoreConfig.Adjustable.empty();
+    soft.assertThat(indexStripeCache(config))
+        .isSameAs(indexStripeCache(StoreConfig.Adjustable.empty()))
+        .isNotSameAs(indexStripeCache(config.withIndexStripeCacheMb(1)));
+    soft.assertThat(indexStripeCache(config.withIndexStripeCacheMb(0)).isEnabled()).isFalse();
+  }
+}
@@ -17,17 +17,26 @@ package org.projectnessie.versioned.storage.common.logic;
 
 import static java.util.Collections.emptyList;
 import static java.util.Objects.requireNonNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.spy;
 import static org.projectnessie.versioned.storage.common.indexes.StoreIndexElement.indexElement;
+import static org.projectnessie.versioned.storage.common.indexes.StoreIndexes.indexFromStripes;
 import static org.projectnessie.versioned.storage.common.indexes.StoreIndexes.newStoreIndex;
 import static org.projectnessie.versioned.storage.common.indexes.StoreKey.key;
+import static org.projectnessie.versioned.storage.common.indexes.StoreKeyFilter.deserializeKeyFilter;
 import static org.projectnessie.versioned.storage.common.logic.CreateCommit.Add.commitAdd;
 import static org.projectnessie.versioned.storage.common.logic.CreateCommit.newCommitBuilder;
+import static org.projectnessie.versioned.storage.common.logic.IndexesLogicImpl.MAX_COMMIT_KEY_FILTERS_BYTES;
 import static org.projectnessie.versioned.storage.common.logic.Logics.commitLogic;
 import static org.projectnessie.versioned.storage.common.objtypes.CommitHeaders.EMPTY_COMMIT_HEADERS;
 import static org.projectnessie.versioned.storage.common.objtypes.CommitObj.commitBuilder;
 import static org.projectnessie.versioned.storage.common.objtypes.CommitOp.Action.ADD;
 import static org.projectnessie.versioned.storage.common.objtypes.CommitOp.COMMIT_OP_SERIALIZER;
 import static org.projectnessie.versioned.storage.common.objtypes.CommitOp.commitOp;
+import static org.projectnessie.versioned.storage.common.objtypes.StandardObjType.INDEX;
+import static org.projectnessie.versioned.storage.common.objtypes.StandardObjType.INDEX_SEGMENTS;
 import static org.projectnessie.versioned.storage.common.persist.ObjId.EMPTY_OBJ_ID;
 import static org.projectnessie.versioned.storage.common.persist.ObjId.randomObjId;
 
@@ -35,22 +44,34 @@ import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Deque;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.assertj.core.api.InstanceOfAssertFactories;
 import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.projectnessie.nessie.relocated.protobuf.ByteString;
 import org.projectnessie.versioned.storage.common.exceptions.ObjNotFoundException;
 import org.projectnessie.versioned.storage.common.indexes.StoreIndex;
 import org.projectnessie.versioned.storage.common.indexes.StoreKey;
+import org.projectnessie.versioned.storage.common.indexes.StoreKeyFilter;
 import org.projectnessie.versioned.storage.common.objtypes.CommitObj;
 import org.projectnessie.versioned.storage.common.objtypes.CommitOp;
+import org.projectnessie.versioned.storage.common.objtypes.IndexObj;
+import org.projectnessie.versioned.storage.common.objtypes.IndexSegmentsObj;
+import org.projectnessie.versioned.storage.common.objtypes.IndexStripe;
 import org.projectnessie.versioned.storage.common.persist.ObjId;
+import org.projectnessie.versioned.storage.common.persist.Persist;
 import org.projectnessie.versioned.storage.commontests.AbstractIndexesLogicTests;
 import org.projectnessie.versioned.storage.testextension.PersistExtension;
 
@@ -188,6 +209,162 @@ public class TestIndexesLogicImpl extends AbstractIndexesLogicTests {
     tail.add(0, cid);
   }
 
+  @Test
+  public void completeIndexLoadsCachedStripesLazily() throws Exception {
+    // Use unique keys, so the stripes are not already in the shared stripe cache
+    String prefix = UUID.randomUUID().toString();
+    List<IndexStripe> indexStripes = persistTestStripes(prefix, 5, 20);
+
+    AtomicInteger fetchedStripes = new AtomicInteger();
+    IndexesLogicImpl indexesLogic = new IndexesLogicImpl(stripeCountingPersist(fetchedStripes));
+    CommitObj commit = commitWithStripes(indexStripes);
+
+    // A single key lookup only loads the stripe containing the key
+    StoreIndex<CommitOp> index = indexesLogic.buildCompleteIndex(commit, Optional.empty());
+    soft.assertThat(index.get(indexStripes.get(2).firstKey())).isNotNull();
+    soft.assertThat(fetchedStripes).hasValue(1);
+
+    // Another complete index over the same stripes uses the cached stripe
+    index = indexesLogic.buildCompleteIndex(commit, Optional.empty());
+    soft.assertThat(index.get(indexStripes.get(2).firstKey())).isNotNull();
+    soft.assertThat(fetchedStripes).hasValue(1);
+
+    soft.assertThat(index.get(indexStripes.get(4).firstKey())).isNotNull();
+    soft.assertThat(fetchedStripes).hasValue(2);
+
+    // Iterating over all keys loads all other stripes once
+    soft.assertThat(index.asKeyList()).hasSize(100);
+    soft.assertThat(fetchedStripes).hasValue(5);
+    soft.assertThat(indexesLogic.buildCompleteIndex(commit, Optional.empty()).asKeyList())
+        .hasSize(100);
+    soft.assertThat(fetchedStripes).hasValue(5);
+  }
+
+  @Test
+  public void completeIndexLookupMissLoadsNoStripe() throws Exception {
+    String prefix = UUID.randomUUID().toString();
+    List<IndexStripe> indexStripes = persistTestStripes(prefix, 5, 20);
+
+    AtomicInteger fetchedStripes = new AtomicInteger();
+    IndexesLogicImpl indexesLogic = new IndexesLogicImpl(stripeCountingPersist(fetchedStripes));
+    StoreIndex<CommitOp> index =
+        indexesLogic.buildCompleteIndex(commitWithStripes(indexStripes), Optional.empty());
+
+    // Keys within the key range of stripe #1, which are not contained in its key filter
+    StoreKeyFilter keyFilter =
+        requireNonNull(deserializeKeyFilter(indexStripes.get(1).keyFilter()));
+    List<StoreKey> missingKeys =
+        IntStream.range(0, 100)
+            .mapToObj(i -> key(prefix + "-11-1000-" + i))
+            .filter(k -> !keyFilter.mightContain(k))
+            .collect(Collectors.toList());
+    soft.assertThat(missingKeys).isNotEmpty();
+
+    index.loadIfNecessary(new HashSet<>(missingKeys));
+    for (StoreKey missingKey : missingKeys) {
+      soft.assertThat(index.get(missingKey)).isNull();
+      soft.assertThat(index.contains(missingKey)).isFalse();
+    }
+    soft.assertThat(fetchedStripes).hasValue(0);
+  }
+
+  @Test
+  public void commitKeyFiltersSizeLimit() throws Exception {
+    IndexesLogicImpl indexesLogic = new IndexesLogicImpl(persist);
+    String prefix = UUID.randomUUID().toString();
+
+    // Stripes embedded in a commit object
+    List<IndexStripe> few = persistTestStripes(prefix + "-few", 2, 500);
+    soft.assertThat(few).allMatch(s -> s.keyFilter() != null);
+    soft.assertThat(keyFiltersSize(few)).isLessThanOrEqualTo(MAX_COMMIT_KEY_FILTERS_BYTES);
+
+    List<IndexStripe> many = persistTestStripes(prefix + "-many", 40, 500);
+    soft.assertThat(keyFiltersSize(many)).isLessThanOrEqualTo(MAX_COMMIT_KEY_FILTERS_BYTES);
+
+    // Stripes of an external reference index get full size key filters
+    List<StoreIndex<CommitOp>> stripes = testStripes(prefix + "-external", 40, 500);
+    ObjId referenceIndexId = indexesLogic.persistStripedIndex(indexFromStripes(stripes));
+    IndexSegmentsObj segments =
+        persist.fetchTypedObj(referenceIndexId, INDEX_SEGMENTS, IndexSegmentsObj.class);
+    soft.assertThat(segments.stripes()).allMatch(s -> s.keyFilter() != null);
+    soft.assertThat(keyFiltersSize(segments.stripes()))
+        .isGreaterThan(MAX_COMMIT_KEY_FILTERS_BYTES);
+
+    // Filters of stripes from an external reference index exceed the limit for commit objects
+    StoreIndex<CommitOp> loaded =
+        indexesLogic.buildReferenceIndexOnly(referenceIndexId, EMPTY_OBJ_ID);
+    List<IndexStripe> embedded = indexesLogic.persistIndexStripesFromIndex(loaded);
+    soft.assertThat(embedded).hasSize(40);
+    soft.assertThat(keyFiltersSize(embedded)).isLessThanOrEqualTo(MAX_COMMIT_KEY_FILTERS_BYTES);
+  }
+
+  private static int keyFiltersSize(List<IndexStripe> stripes) {
+    return stripes.stream()
+        .map(IndexStripe::keyFilter)
+        .filter(Objects::nonNull)
+        .mapToInt(ByteString::size)
+        .sum();
+  }
+
+  private static List<StoreIndex<CommitOp>> testStripes(
+      String prefix, int numStripes, int keysPerStripe) {
+    List<StoreIndex<CommitOp>> stripes = new ArrayList<>();
+    for (int s = 0; s < numStripes; s++) {
+      StoreIndex<CommitOp> stripe = newStoreIndex(COMMIT_OP_SERIALIZER);
+      for (int i = 0; i < keysPerStripe; i++) {
+        StoreKey k = key(prefix + "-" + (10 + s) + "-" + (1000 + i));
+        stripe.add(indexElement(k, commitOp(ADD, 1, randomObjId())));
+      }
+      stripes.add(stripe);
+    }
+    return stripes;
+  }
+
+  /** Persists the stripes as they would be embedded in a commit object. */
+  private List<IndexStripe> persistTestStripes(String prefix, int numStripes, int keysPerStripe)
+      throws Exception {
+    return new IndexesLogicImpl(persist)
+        .persistIndexStripesFromIndex(
+            indexFromStripes(testStripes(prefix, numStripes, keysPerStripe)));
+  }
+
+  private static CommitObj commitWithStripes(List<IndexStripe> indexStripes) {
+    return commitBuilder()
+        .created(42L)
+        .seq(1L)
+        .id(randomObjId())
+        .addTail(EMPTY_OBJ_ID)
+        .message("msg")
+        .headers(EMPTY_COMMIT_HEADERS)
+        .incrementalIndex(newStoreIndex(COMMIT_OP_SERIALIZER).serialize())
+        .referenceIndexStripes(indexStripes)
+        .build();
+  }
+
+  /** Returns a {@link Persist} that counts the fetched reference index stripes. */
+  private Persist stripeCountingPersist(AtomicInteger fetchedStripes) throws Exception {
+    Persist countingPersist = spy(persist);
+    doAnswer(
+            invocation -> {
+              fetchedStripes.incrementAndGet();
+              return invocation.callRealMethod();
+            })
+        .when(countingPersist)
+        .fetchTypedObj(any(), eq(INDEX), eq(IndexObj.class));
+    doAnswer(
+            invocation -> {
+              for (ObjId id : invocation.<ObjId[]>getArgument(0)) {
+                if (id != null) {
+                  fetchedStripes.incrementAndGet();
+                }
+              }
+              return invocation.callRealMethod();
+            })
+        .when(countingPersist)
+        .fetchTypedObjsIfExist(any(), eq(INDEX), eq(IndexObj.class));
+    return countingPersist;
+  }
+
   private List<ObjId> fiveCompleteCommits(Map<StoreKey, ObjId> keyValue) throws Exception {
     CommitLogic commitLogic = commitLogic(persist);
 
@@ -381,6 +381,68 @@ public class TestMergeBase {
     soft.assertThat(repo.loaded).doesNotContain(repo.root);
   }
 
+  /**
+   * Common ancestor of long histories, where the commit tails allow skipping commits. <code><pre>
+   *       ----B1---...---B50
+   *      /
+   * ----F-----M1---...---M100
+   * </pre></code>
+   *
+   * <p>Common ancestor of {@code B50} and {@code M100} is {@code F}, which must be found without
+   * loading every commit.
+   */
+  @Test
+  void commonAncestorViaTails() {
+    CommitObj f = repo.add(repo.initialCommit("f"));
+    CommitObj main = f;
+    for (int i = 1; i <= 100; i++) {
+      main = repo.add(repo.buildCommitWithTail("m" + i, main));
+    }
+    CommitObj branch = f;
+    for (int i = 1; i <= 50; i++) {
+      branch = repo.add(repo.buildCommitWithTail("b" + i, branch));
+    }
+
+    for (boolean reverse : new boolean[] {false, true}) {
+      repo.loaded.clear();
+      soft.assertThat(
+              MergeBase.builder()
+                  .loadCommit(repo::loadCommit)
+                  .respectMergeParents(false)
+                  .targetCommitId(reverse ? branch.id() : main.id())
+                  .fromCommitId(reverse ? main.id() : branch.id())
+                  .build()
+                  .identifyMergeBase())
+          .isEqualTo(f.id());
+      soft.assertThat(repo.loaded).hasSizeLessThan(10).doesNotContain(repo.root);
+    }
+  }
+
+  /**
+   * Falls back to walking the commits, if {@link CommitObj#seq()} does not match the direct-parent
+   * relationship. <code><pre>
+   *       ----B (seq too high)
+   *      /
+   * ----A-----C
+   * </pre></code>
+   */
+  @Test
+  void commonAncestorInconsistentSeq() {
+    CommitObj a = repo.add(repo.initialCommit());
+    CommitObj b = repo.add(repo.buildCommit("b", a).seq(a.seq() + 5));
+    CommitObj c = repo.add(repo.buildCommit("c", a));
+
+    soft.assertThat(
+            MergeBase.builder()
+                .loadCommit(repo::loadCommit)
+                .respectMergeParents(false)
+                .targetCommitId(c.id())
+                .fromCommitId(b.id())
+                .build()
+                .identifyMergeBase())
+        .isEqualTo(a.id());
+  }
+
   @Test
   void shallowCommitFlags() {
     ShallowCommit commit = new ShallowCommit(randomObjId(), new ObjId[] {randomObjId()}, 1L);
@@ -419,6 +481,8 @@ public class TestMergeBase {
   }
 
   static class MockRepo {
+    static final int TAIL_SIZE = 20;
+
     final Map<ObjId, CommitObj> commits = new HashMap<>();
     final Set<CommitObj> loaded = new LinkedHashSet<>();
     final CommitObj root;
@@ -459,6 +523,15 @@ public class TestMergeBase {
       return buildCommit(name, testRoot);
     }
 
+    CommitObj.Builder buildCommitWithTail(String msg, CommitObj parent) {
+      CommitObj.Builder commit = buildCommit(msg, parent);
+      int amount = Math.min(TAIL_SIZE - 1, parent.tail().size());
+      for (int i = 0; i < amount; i++) {
+        commit.addTail(parent.tail().get(i));
+      }
+      return commit;
+    }
+
     CommitObj.Builder buildCommit(String msg, CommitObj parent) {
       CommitObj.Builder commit =
           commitBuilder()
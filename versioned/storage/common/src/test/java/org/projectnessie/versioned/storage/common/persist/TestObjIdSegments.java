@@ -0,0 +1,92 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.common.persist;
+
+import static org.projectnessie.versioned.storage.common.persist.ObjId.objIdFromByteArray;
+import static org.projectnessie.versioned.storage.common.persist.ObjId.randomObjId;
+import static org.projectnessie.versioned.storage.common.persist.ObjIdSegments.MAX_SEGMENTS;
+import static org.projectnessie.versioned.storage.common.persist.ObjIdSegments.inSegment;
+import static org.projectnessie.versioned.storage.common.persist.ObjIdSegments.lowerBound;
+import static org.projectnessie.versioned.storage.common.persist.ObjIdSegments.upperBound;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@ExtendWith(SoftAssertionsExtension.class)
+public class TestObjIdSegments {
+  @InjectSoftAssertions protected SoftAssertions soft;
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 2, 3, 7, 16, 1000, MAX_SEGMENTS})
+  public void boundsAreContiguous(int totalSegments) {
+    soft.assertThat(lowerBound(0, totalSegments)).isNull();
+    soft.assertThat(upperBound(totalSegments - 1, totalSegments)).isNull();
+    for (int segment = 1; segment < totalSegments; segment++) {
+      soft.assertThat(lowerBound(segment, totalSegments))
+          .hasSize(2)
+          .isEqualTo(upperBound(segment - 1, totalSegments));
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 2, 3, 7, 16, 1000})
+  public void everyIdInExactlyOneSegment(int totalSegments) {
+    List<ObjId> ids = new ArrayList<>();
+    IntStream.range(0, 200).mapToObj(i -> randomObjId()).forEach(ids::add);
+    Stream.of(
+            new byte[] {0},
+            new byte[] {(byte) 0xff},
+            new byte[] {(byte) 0x80, 0},
+            new byte[] {(byte) 0x80, 0, 1},
+            new byte[] {(byte) 0xff, (byte) 0xff, (byte) 0xff},
+            new byte[] {0x7f})
+        .map(ObjId::objIdFromByteArray)
+        .forEach(ids::add);
+
+    for (ObjId id : ids) {
+      soft.assertThat(
+              IntStream.range(0, totalSegments)
+                  .filter(segment -> inSegment(id, segment, totalSegments))
+                  .count())
+          .describedAs("%s", id)
+          .isEqualTo(1L);
+    }
+  }
+
+  @Test
+  public void segmentOfPrefix() {
+    soft.assertThat(inSegment(objIdFromByteArray(new byte[] {0x7f, (byte) 0xff}), 0, 2)).isTrue();
+    soft.assertThat(inSegment(objIdFromByteArray(new byte[] {(byte) 0x80}), 0, 2)).isTrue();
+    soft.assertThat(inSegment(objIdFromByteArray(new byte[] {(byte) 0x80, 0}), 1, 2)).isTrue();
+  }
+
+  @Test
+  public void illegalSegments() {
+    soft.assertThatIllegalArgumentException().isThrownBy(() -> lowerBound(0, 0));
+    soft.assertThatIllegalArgumentException().isThrownBy(() -> lowerBound(-1, 2));
+    soft.assertThatIllegalArgumentException().isThrownBy(() -> lowerBound(2, 2));
+    soft.assertThatIllegalArgumentException().isThrownBy(() -> lowerBound(0, MAX_SEGMENTS + 1));
+  }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.common.persist;
+
+import static java.util.concurrent.TimeUnit.MINUTES;
+
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(SoftAssertionsExtension.class)
+public class TestPersistAsync {
+  @InjectSoftAssertions protected SoftAssertions soft;
+
+  @Test
+  public void offload() {
+    soft.assertThat(PersistAsync.offload(() -> "foo").toCompletableFuture())
+        .succeedsWithin(1, MINUTES)
+        .isEqualTo("foo");
+
+    Exception checked = new Exception("checked");
+    soft.assertThat(
+            PersistAsync.offload(
+                    () -> {
+                      throw checked;
+                    })
+                .toCompletableFuture())
+        .failsWithin(1, MINUTES)
+        .withThrowableThat()
+        .havingCause()
+        .isSameAs(checked);
+  }
+
+  @Test
+  public void boundedOffloadExecutor() throws Exception {
+    ExecutorService executor = PersistAsync.newOffloadExecutor(1, 1);
+    try {
+      CountDownLatch running = new CountDownLatch(1);
+      CountDownLatch proceed = new CountDownLatch(1);
+
+      CompletionStage<String> first =
+          PersistAsync.offload(
+              executor,
+              () -> {
+                running.countDown();
+                proceed.await();
+                return "first";
+              });
+      running.await();
+      CompletionStage<String> queued = PersistAsync.offload(executor, () -> "queued");
+      CompletionStage<String> rejected = PersistAsync.offload(executor, () -> "rejected");
+
+      soft.assertThat(rejected.toCompletableFuture())
+          .isCompletedExceptionally()
+          .failsWithin(0, MINUTES)
+          .withThrowableThat()
+          .havingCause()
+          .isInstanceOf(RejectedExecutionException.class);
+
+      proceed.countDown();
+      soft.assertThat(first.toCompletableFuture()).succeedsWithin(1, MINUTES).isEqualTo("first");
+      soft.assertThat(queued.toCompletableFuture()).succeedsWithin(1, MINUTES).isEqualTo("queued");
+    } finally {
+      executor.shutdown();
+    }
+  }
+}
@@ -56,20 +56,27 @@ public class TestCompressions {
   @ParameterizedTest
   @EnumSource(
       value = Compression.class,
-      names = {"NONE", "SNAPPY", "DEFLATE", "GZIP"})
+      names = {"NONE", "SNAPPY", "DEFLATE", "GZIP", "ZSTD"})
   public void supportedCompression(Compression compression) {
     byte[] data = ("x".repeat(10)).getBytes(UTF_8);
     byte[] compressed = Compressions.compress(compression, data);
     byte[] uncompressed = Compressions.uncompress(compression, compressed);
     soft.assertThat(uncompressed).containsExactly(data);
+    soft.assertThat(Compressions.isImplemented(compression)).isTrue();
   }
 
   @ParameterizedTest
   @EnumSource(value = Compression.class)
   public void unsupportedCompression(Compression compression) {
     assumeThat(compression)
-        .isNotIn(Compression.NONE, Compression.SNAPPY, Compression.DEFLATE, Compression.GZIP);
+        .isNotIn(
+            Compression.NONE,
+            Compression.SNAPPY,
+            Compression.DEFLATE,
+            Compression.GZIP,
+            Compression.ZSTD);
     byte[] data = ("x".repeat(10)).getBytes(UTF_8);
+    soft.assertThat(Compressions.isImplemented(compression)).isFalse();
     soft.assertThatIllegalArgumentException()
         .isThrownBy(() -> Compressions.compress(compression, data))
         .withMessage("Compression %s not implemented", compression.name());
@@ -35,6 +35,7 @@ dependencies {
   implementation(platform(libs.awssdk.bom))
   implementation("software.amazon.awssdk:dynamodb")
   implementation("software.amazon.awssdk:apache-client")
+  implementation("software.amazon.awssdk:netty-nio-client")
 
   implementation(platform(libs.testcontainers.bom))
   implementation("org.testcontainers:testcontainers")
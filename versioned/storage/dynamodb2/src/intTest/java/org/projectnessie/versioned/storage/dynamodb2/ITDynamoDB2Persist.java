@@ -42,9 +42,30 @@ import org.projectnessie.versioned.storage.testextension.NessiePersist;
 import org.projectnessie.versioned.storage.testextension.PersistExtension;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 
+/**
+ * The test backends are configured with an asynchronous client, so the base tests exercise the
+ * native asynchronous functions of {@link DynamoDB2Persist}.
+ */
 @NessieBackend(DynamoDB2BackendTestFactory.class)
 public class ITDynamoDB2Persist extends AbstractPersistTests {
 
+  @Nested
+  @ExtendWith({PersistExtension.class, SoftAssertionsExtension.class})
+  public class AsyncClient {
+    @InjectSoftAssertions protected SoftAssertions soft;
+
+    @NessiePersist(initializeRepo = false)
+    protected BackendTestFactory factory;
+
+    @Test
+    void asyncClientConfigured() {
+      try (DynamoDB2Backend backend =
+          ((DynamoDB2BackendTestFactory) factory).createNewBackend()) {
+        soft.assertThat(backend.asyncClient()).isNotNull();
+      }
+    }
+  }
+
   @Nested
   @ExtendWith({PersistExtension.class, SoftAssertionsExtension.class})
   public class DynamoDbHardItemSizeLimits {
@@ -17,12 +17,20 @@ package org.projectnessie.versioned.storage.dynamodb2;
 
 import java.util.Optional;
 import org.immutables.value.Value;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 
 @Value.Immutable
 public interface DynamoDB2BackendConfig {
   DynamoDbClient client();
 
+  /**
+   * Optional asynchronous client, used by the asynchronous functions of {@link
+   * org.projectnessie.versioned.storage.common.persist.Persist}. If not present, those functions
+   * run the synchronous variants on a separate thread pool.
+   */
+  Optional<DynamoDbAsyncClient> asyncClient();
+
   Optional<String> tablePrefix();
 
   static ImmutableDynamoDB2BackendConfig.Builder builder() {
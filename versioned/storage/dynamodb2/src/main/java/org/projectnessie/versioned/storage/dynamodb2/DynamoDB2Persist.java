@@ -21,7 +21,9 @@ import static java.util.Collections.emptyListIterator;
 import static java.util.Collections.singleton;
 import static java.util.Collections.singletonMap;
 import static org.projectnessie.versioned.storage.common.persist.ObjId.objIdFromString;
+import static org.projectnessie.versioned.storage.common.persist.ObjIdSegments.checkSegment;
 import static org.projectnessie.versioned.storage.common.persist.ObjTypes.objTypeByName;
+import static org.projectnessie.versioned.storage.common.persist.PersistAsync.unwrapFailure;
 import static org.projectnessie.versioned.storage.common.persist.Reference.reference;
 import static org.projectnessie.versioned.storage.dynamodb2.DynamoDB2Backend.condition;
 import static org.projectnessie.versioned.storage.dynamodb2.DynamoDB2Backend.keyPrefix;
@@ -64,6 +66,9 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import java.util.stream.Collectors;
 import org.agrona.collections.Hashing;
 import org.agrona.collections.Object2IntHashMap;
@@ -87,6 +92,7 @@ import software.amazon.awssdk.core.exception.AbortedException;
 import software.amazon.awssdk.core.exception.ApiCallAttemptTimeoutException;
 import software.amazon.awssdk.core.exception.ApiCallTimeoutException;
 import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValueUpdate;
 import software.amazon.awssdk.services.dynamodb.model.BatchGetItemResponse;
@@ -185,6 +191,61 @@ public class DynamoDB2Persist implements Persist {
     }
   }
 
+  @Nonnull
+  @Override
+  public CompletionStage<Reference> updateReferencePointerAsync(
+      @Nonnull Reference reference, @Nonnull ObjId newPointer) {
+    DynamoDbAsyncClient asyncClient = backend.asyncClient();
+    if (asyncClient == null) {
+      return Persist.super.updateReferencePointerAsync(reference, newPointer);
+    }
+
+    Reference expected = reference.withDeleted(false);
+    Reference bumpedReference = expected.forNewPointer(newPointer, config);
+    String condition = referenceCondition(expected);
+    Map<String, AttributeValue> values = referenceConditionAttributes(expected);
+
+    return asyncClient
+        .putItem(
+            b ->
+                b.tableName(backend.tableRefs)
+                    .conditionExpression(condition)
+                    .expressionAttributeValues(values)
+                    .item(referenceAttributeValues(bumpedReference)))
+        .handle(
+            (response, failure) -> {
+              if (failure == null) {
+                return CompletableFuture.completedStage(bumpedReference);
+              }
+              failure = unwrapFailure(failure);
+              if (failure instanceof ConditionalCheckFailedException) {
+                // Do not block the SDK's thread that completes the request.
+                return fetchReferenceAsync(asyncClient, expected.name())
+                    .thenCompose(
+                        r ->
+                            CompletableFuture.<Reference>failedStage(
+                                r == null
+                                    ? new RefNotFoundException(expected.name())
+                                    : new RefConditionFailedException(r)));
+              }
+              return CompletableFuture.<Reference>failedStage(asyncFailure(failure));
+            })
+        .thenCompose(stage -> stage);
+  }
+
+  private CompletionStage<Reference> fetchReferenceAsync(
+      DynamoDbAsyncClient asyncClient, String name) {
+    return asyncClient
+        .getItem(b -> b.tableName(backend.tableRefs).key(referenceKeyMap(name)))
+        .handle(
+            (item, failure) -> {
+              if (failure != null) {
+                throw new CompletionException(asyncFailure(failure));
+              }
+              return referenceFromItem(name, item);
+            });
+  }
+
   @Override
   public void purgeReference(@Nonnull Reference reference)
       throws RefNotFoundException, RefConditionFailedException {
@@ -223,6 +284,11 @@ public class DynamoDB2Persist implements Persist {
     } catch (RuntimeException e) {
       throw unhandledException(e);
     }
+    return referenceFromItem(name, item);
+  }
+
+  @Nullable
+  private Reference referenceFromItem(String name, GetItemResponse item) {
     if (!item.hasItem()) {
       return null;
     }
@@ -421,6 +487,79 @@ public class DynamoDB2Persist implements Persist {
     }
   }
 
+  @Nonnull
+  @Override
+  public <T extends Obj> CompletionStage<T[]> fetchTypedObjsIfExistAsync(
+      @Nonnull ObjId[] ids, ObjType type, @Nonnull Class<T> typeClass) {
+    DynamoDbAsyncClient asyncClient = backend.asyncClient();
+    if (asyncClient == null) {
+      return Persist.super.fetchTypedObjsIfExistAsync(ids, type, typeClass);
+    }
+
+    @SuppressWarnings("unchecked")
+    T[] r = (T[]) Array.newInstance(typeClass, ids.length);
+
+    // Prepare all batches before submitting any request, the index-map is read concurrently by
+    // the SDK's threads.
+    Object2IntHashMap<ObjId> idToIndex =
+        new Object2IntHashMap<>(ids.length * 2, Hashing.DEFAULT_LOAD_FACTOR, -1);
+    List<List<Map<String, AttributeValue>>> batches = new ArrayList<>();
+    List<Map<String, AttributeValue>> keys = null;
+    for (int i = 0; i < ids.length; i++) {
+      ObjId id = ids[i];
+      if (id != null) {
+        if (keys == null || keys.size() == BATCH_GET_LIMIT) {
+          keys = new ArrayList<>(BATCH_GET_LIMIT);
+          batches.add(keys);
+        }
+        keys.add(objKeyMap(id));
+        idToIndex.put(id, i);
+      }
+    }
+
+    CompletableFuture<?>[] requests = new CompletableFuture<?>[batches.size()];
+    for (int i = 0; i < requests.length; i++) {
+      Map<String, KeysAndAttributes> requestItems =
+          singletonMap(
+              backend.tableObjs, KeysAndAttributes.builder().keys(batches.get(i)).build());
+      requests[i] =
+          asyncClient
+              .batchGetItem(b -> b.requestItems(requestItems))
+              .thenAccept(
+                  response ->
+                      response
+                          .responses()
+                          .get(backend.tableObjs)
+                          .forEach(
+                              item -> {
+                                T obj = itemToObj(item, type, typeClass);
+                                if (obj != null) {
+                                  int idx = idToIndex.getValue(obj.id());
+                                  if (idx != -1) {
+                                    r[idx] = obj;
+                                  }
+                                }
+                              }));
+    }
+
+    return CompletableFuture.allOf(requests)
+        .handle(
+            (x, failure) -> {
+              if (failure != null) {
+                throw new CompletionException(asyncFailure(failure));
+              }
+              return r;
+            });
+  }
+
+  private static Throwable asyncFailure(Throwable failure) {
+    failure = unwrapFailure(failure);
+    if (failure instanceof RuntimeException) {
+      return unhandledException((RuntimeException) failure);
+    }
+    return failure;
+  }
+
   @Nonnull
   @Override
   public boolean[] storeObjs(@Nonnull Obj[] objs) throws ObjTooLargeException {
@@ -650,7 +789,21 @@ public class DynamoDB2Persist implements Persist {
   @Nonnull
   @Override
   public CloseableIterator<Obj> scanAllObjects(@Nonnull Set<ObjType> returnedObjTypes) {
-    return new ScanAllObjectsIterator(returnedObjTypes);
+    return new ScanAllObjectsIterator(returnedObjTypes, 0, 1);
+  }
+
+  /** Uses the segments of a DynamoDB parallel scan. */
+  @Nonnull
+  @Override
+  public CloseableIterator<Obj> scanAllObjects(
+      @Nonnull Set<ObjType> returnedObjTypes, int segment, int totalSegments) {
+    checkSegment(segment, totalSegments);
+    return new ScanAllObjectsIterator(returnedObjTypes, segment, totalSegments);
+  }
+
+  @Override
+  public boolean supportsSegmentedScans() {
+    return true;
   }
 
   @Override
@@ -692,7 +845,7 @@ public class DynamoDB2Persist implements Persist {
         ignoreSoftSizeRestrictions ? Integer.MAX_VALUE : effectiveIncrementalIndexSizeLimit();
     int indexSizeLimit =
         ignoreSoftSizeRestrictions ? Integer.MAX_VALUE : effectiveIndexSegmentSizeLimit();
-    byte[] serialized = serializeObj(obj, incrementalIndexSizeLimit, indexSizeLimit, false);
+    byte[] serialized = serializeObj(obj, incrementalIndexSizeLimit, indexSizeLimit, false, config);
     item.put(COL_OBJ_VALUE, fromB(fromByteArray(serialized)));
     return item;
   }
@@ -789,7 +942,7 @@ public class DynamoDB2Persist implements Persist {
     private final Iterator<ScanResponse> iter;
     private Iterator<Map<String, AttributeValue>> pageIter = emptyListIterator();
 
-    public ScanAllObjectsIterator(Set<ObjType> returnedObjTypes) {
+    public ScanAllObjectsIterator(Set<ObjType> returnedObjTypes, int segment, int totalSegments) {
 
       Map<String, Condition> scanFilter = new HashMap<>();
       scanFilter.put(KEY_NAME, condition(BEGINS_WITH, fromS(keyPrefix)));
@@ -807,7 +960,13 @@ public class DynamoDB2Persist implements Persist {
         iter =
             backend
                 .client()
-                .scanPaginator(b -> b.tableName(backend.tableObjs).scanFilter(scanFilter))
+                .scanPaginator(
+                    b -> {
+                      b.tableName(backend.tableObjs).scanFilter(scanFilter);
+                      if (totalSegments > 1) {
+                        b.segment(segment).totalSegments(totalSegments);
+                      }
+                    })
                 .iterator();
       } catch (RuntimeException e) {
         throw unhandledException(e);
@@ -17,6 +17,8 @@ package org.projectnessie.versioned.storage.jdbc2;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static java.util.Arrays.stream;
+import static org.projectnessie.versioned.storage.common.persist.ObjIdSegments.lowerBound;
+import static org.projectnessie.versioned.storage.common.persist.ObjIdSegments.upperBound;
 import static org.projectnessie.versioned.storage.common.persist.ObjTypes.objTypeByName;
 import static org.projectnessie.versioned.storage.common.util.Closing.closeMultiple;
 import static org.projectnessie.versioned.storage.jdbc2.Jdbc2Serde.deserializeObjId;
@@ -30,8 +32,11 @@ import static org.projectnessie.versioned.storage.jdbc2.SqlConstants.DELETE_OBJ;
 import static org.projectnessie.versioned.storage.jdbc2.SqlConstants.DELETE_OBJ_CONDITIONAL;
 import static org.projectnessie.versioned.storage.jdbc2.SqlConstants.DELETE_OBJ_REFERENCED;
 import static org.projectnessie.versioned.storage.jdbc2.SqlConstants.DELETE_OBJ_REFERENCED_NULL;
+import static org.projectnessie.versioned.storage.jdbc2.SqlConstants.FETCH_BATCH_BUCKETS;
 import static org.projectnessie.versioned.storage.jdbc2.SqlConstants.FETCH_OBJ_TYPE;
 import static org.projectnessie.versioned.storage.jdbc2.SqlConstants.FIND_OBJS;
+import static org.projectnessie.versioned.storage.jdbc2.SqlConstants.FIND_OBJS_ANY;
+import static org.projectnessie.versioned.storage.jdbc2.SqlConstants.FIND_OBJS_ANY_TYPED;
 import static org.projectnessie.versioned.storage.jdbc2.SqlConstants.FIND_OBJS_TYPED;
 import static org.projectnessie.versioned.storage.jdbc2.SqlConstants.FIND_REFERENCES;
 import static org.projectnessie.versioned.storage.jdbc2.SqlConstants.MARK_REFERENCE_AS_DELETED;
@@ -41,6 +46,9 @@ import static org.projectnessie.versioned.storage.jdbc2.SqlConstants.REFS_CREATE
 import static org.projectnessie.versioned.storage.jdbc2.SqlConstants.REFS_EXTENDED_INFO_COND;
 import static org.projectnessie.versioned.storage.jdbc2.SqlConstants.SCAN_OBJS;
 import static org.projectnessie.versioned.storage.jdbc2.SqlConstants.SCAN_OBJS_ALL;
+import static org.projectnessie.versioned.storage.jdbc2.SqlConstants.SCAN_OBJS_LOWER_BOUND;
+import static org.projectnessie.versioned.storage.jdbc2.SqlConstants.SCAN_OBJS_TYPES;
+import static org.projectnessie.versioned.storage.jdbc2.SqlConstants.SCAN_OBJS_UPPER_BOUND;
 import static org.projectnessie.versioned.storage.jdbc2.SqlConstants.STORE_OBJ;
 import static org.projectnessie.versioned.storage.jdbc2.SqlConstants.UPDATE_OBJS_REFERENCED;
 import static org.projectnessie.versioned.storage.jdbc2.SqlConstants.UPDATE_REFERENCE_POINTER;
@@ -334,9 +342,14 @@ abstract class AbstractJdbc2Persist implements Persist {
     @SuppressWarnings("unchecked")
     T[] r = (T[]) Array.newInstance(typeClass, ids.length);
     List<ObjId> keys = new ArrayList<>();
+    boolean duplicates = false;
     for (int i = 0; i < ids.length; i++) {
       ObjId id = ids[i];
       if (id != null) {
+        if (idToIndex.getValue(id) != -1) {
+          duplicates = true;
+          continue;
+        }
         keys.add(id);
         idToIndex.put(id, i);
       }
@@ -346,35 +359,127 @@ abstract class AbstractJdbc2Persist implements Persist {
       return r;
     }
 
-    String sql = type == null ? FIND_OBJS : FIND_OBJS_TYPED;
-    sql = sqlSelectMultiple(sql, keys.size());
-
-    try (PreparedStatement ps = conn.prepareStatement(sql)) {
-      int idx = 1;
-      ps.setString(idx++, config.repositoryId());
-      for (ObjId key : keys) {
-        serializeObjId(ps, idx++, key, databaseSpecific);
+    try {
+      String objIdArrayType = databaseSpecific.objIdArrayType();
+      if (objIdArrayType != null) {
+        fetchObjsArray(conn, keys, type, objIdArrayType, idToIndex, r, typeClass);
+      } else {
+        fetchObjsBatched(conn, keys, type, idToIndex, r, typeClass);
+      }
+      if (duplicates) {
+        // Each object ID is fetched only once, fill the positions of duplicate object IDs
+        for (int i = 0; i < ids.length; i++) {
+          ObjId id = ids[i];
+          if (id != null && r[i] == null) {
+            r[i] = r[idToIndex.getValue(id)];
+          }
+        }
       }
+      return r;
+    } catch (SQLException e) {
+      throw unhandledSQLException(e);
+    }
+  }
+
+  /** Fetches all objects using a single statement, binding all object IDs as one array. */
+  private <T extends Obj> void fetchObjsArray(
+      Connection conn,
+      List<ObjId> keys,
+      ObjType type,
+      String objIdArrayType,
+      Object2IntHashMap<ObjId> idToIndex,
+      T[] r,
+      Class<T> typeClass)
+      throws SQLException {
+    byte[][] ids = new byte[keys.size()][];
+    for (int i = 0; i < ids.length; i++) {
+      ids[i] = keys.get(i).asByteArray();
+    }
+    java.sql.Array idArray = conn.createArrayOf(objIdArrayType, ids);
+    try (PreparedStatement ps =
+        conn.prepareStatement(type == null ? FIND_OBJS_ANY : FIND_OBJS_ANY_TYPED)) {
+      ps.setString(1, config.repositoryId());
+      ps.setArray(2, idArray);
       if (type != null) {
-        ps.setString(idx, type.shortName());
+        ps.setString(3, type.shortName());
       }
+      collectObjs(ps, idToIndex, r, typeClass);
+    } finally {
+      idArray.free();
+    }
+  }
 
-      try (ResultSet rs = ps.executeQuery()) {
-        while (rs.next()) {
-          Obj obj = deserializeObj(rs);
-          int i = idToIndex.getValue(obj.id());
-          if (i != -1) {
-            r[i] = typeClass.cast(obj);
+  /**
+   * Fetches the objects in batches of up to {@link SqlConstants#MAX_BATCH_SIZE} object IDs. Each
+   * batch is padded to one of the {@link SqlConstants#FETCH_BATCH_BUCKETS} by repeating its last
+   * object ID, so that only a few distinct statements are used, and the statement is reused for
+   * consecutive batches of the same size.
+   */
+  private <T extends Obj> void fetchObjsBatched(
+      Connection conn,
+      List<ObjId> keys,
+      ObjType type,
+      Object2IntHashMap<ObjId> idToIndex,
+      T[] r,
+      Class<T> typeClass)
+      throws SQLException {
+    String sql = type == null ? FIND_OBJS : FIND_OBJS_TYPED;
+    PreparedStatement ps = null;
+    int psBucket = 0;
+    try {
+      for (int offset = 0; offset < keys.size(); offset += MAX_BATCH_SIZE) {
+        int end = Math.min(keys.size(), offset + MAX_BATCH_SIZE);
+        int bucket = fetchBatchBucket(end - offset);
+        if (bucket != psBucket) {
+          if (ps != null) {
+            ps.close();
           }
+          ps = conn.prepareStatement(sqlSelectMultiple(sql, bucket));
+          psBucket = bucket;
         }
 
-        return r;
+        int idx = 1;
+        ps.setString(idx++, config.repositoryId());
+        for (int i = 0; i < bucket; i++) {
+          ObjId key = keys.get(Math.min(offset + i, end - 1));
+          serializeObjId(ps, idx++, key, databaseSpecific);
+        }
+        if (type != null) {
+          ps.setString(idx, type.shortName());
+        }
+        collectObjs(ps, idToIndex, r, typeClass);
+      }
+    } finally {
+      if (ps != null) {
+        ps.close();
+      }
+    }
+  }
+
+  private <T extends Obj> void collectObjs(
+      PreparedStatement ps, Object2IntHashMap<ObjId> idToIndex, T[] r, Class<T> typeClass)
+      throws SQLException {
+    try (ResultSet rs = ps.executeQuery()) {
+      while (rs.next()) {
+        Obj obj = deserializeObj(rs);
+        int i = idToIndex.getValue(obj.id());
+        if (i != -1) {
+          r[i] = typeClass.cast(obj);
+        }
       }
-    } catch (SQLException e) {
-      throw unhandledSQLException(e);
     }
   }
 
+  @VisibleForTesting
+  static int fetchBatchBucket(int count) {
+    for (int bucket : FETCH_BATCH_BUCKETS) {
+      if (count <= bucket) {
+        return bucket;
+      }
+    }
+    throw new IllegalArgumentException("Batch size " + count + " exceeds " + MAX_BATCH_SIZE);
+  }
+
   private Obj deserializeObj(ResultSet rs) throws SQLException {
     ObjId id = deserializeObjId(rs, COL_OBJ_ID);
     String versionToken = rs.getString(COL_OBJ_VERS);
@@ -536,7 +641,8 @@ abstract class AbstractJdbc2Persist implements Persist {
         } else {
           ps.setNull(4, Types.VARCHAR);
         }
-        byte[] serialized = serializeObj(obj, incrementalIndexSizeLimit, indexSizeLimit, false);
+        byte[] serialized =
+            serializeObj(obj, incrementalIndexSizeLimit, indexSizeLimit, false, config);
         ps.setBytes(5, serialized);
         if (obj.referenced() == -1L) {
           // -1 is a sentinel for AbstractBasePersistTests.deleteWithReferenced()
@@ -636,7 +742,16 @@ abstract class AbstractJdbc2Persist implements Persist {
   }
 
   protected CloseableIterator<Obj> scanAllObjects(Connection conn, Set<ObjType> returnedObjTypes) {
-    return new ScanAllObjectsIterator(conn, returnedObjTypes);
+    return new ScanAllObjectsIterator(conn, returnedObjTypes, null, null);
+  }
+
+  protected CloseableIterator<Obj> scanAllObjects(
+      Connection conn, Set<ObjType> returnedObjTypes, int segment, int totalSegments) {
+    return new ScanAllObjectsIterator(
+        conn,
+        returnedObjTypes,
+        lowerBound(segment, totalSegments),
+        upperBound(segment, totalSegments));
   }
 
   @VisibleForTesting
@@ -660,21 +775,42 @@ abstract class AbstractJdbc2Persist implements Persist {
     void accept(T t) throws SQLException;
   }
 
-  private static String scanSql(Set<ObjType> returnedObjTypes) {
+  private static String scanSql(
+      Set<ObjType> returnedObjTypes, byte[] lowerBound, byte[] upperBound) {
+    if (lowerBound == null && upperBound == null) {
+      if (returnedObjTypes.isEmpty()) {
+        return SCAN_OBJS_ALL;
+      }
+      return sqlSelectMultiple(SCAN_OBJS, returnedObjTypes.size());
+    }
+    StringBuilder sql = new StringBuilder(SCAN_OBJS_ALL);
+    if (lowerBound != null) {
+      sql.append(SCAN_OBJS_LOWER_BOUND);
+    }
+    if (upperBound != null) {
+      sql.append(SCAN_OBJS_UPPER_BOUND);
+    }
     if (returnedObjTypes.isEmpty()) {
-      return SCAN_OBJS_ALL;
+      return sql.toString();
     }
-    return sqlSelectMultiple(SCAN_OBJS, returnedObjTypes.size());
+    return sqlSelectMultiple(sql.append(SCAN_OBJS_TYPES).toString(), returnedObjTypes.size());
   }
 
   private class ScanAllObjectsIterator extends ResultSetIterator<Obj> {
-    ScanAllObjectsIterator(Connection conn, Set<ObjType> returnedObjTypes) {
+    ScanAllObjectsIterator(
+        Connection conn, Set<ObjType> returnedObjTypes, byte[] lowerBound, byte[] upperBound) {
       super(
           conn,
-          scanSql(returnedObjTypes),
+          scanSql(returnedObjTypes, lowerBound, upperBound),
           ps -> {
             int idx = 1;
             ps.setString(idx++, config.repositoryId());
+            if (lowerBound != null) {
+              ps.setBytes(idx++, lowerBound);
+            }
+            if (upperBound != null) {
+              ps.setBytes(idx++, upperBound);
+            }
             if (!returnedObjTypes.isEmpty()) {
               for (ObjType returnedObjType : returnedObjTypes) {
                 ps.setString(idx++, returnedObjType.shortName());
@@ -33,4 +33,11 @@ public interface DatabaseSpecific {
   String wrapInsert(String sql);
 
   String primaryKeyCol(String col, Jdbc2ColumnType columnType);
+
+  /**
+   * The SQL type name to create arrays of object IDs via {@link
+   * java.sql.Connection#createArrayOf(String, Object[])}, used to bind all object IDs of a query to
+   * a single {@code =ANY(?)} parameter, or {@code null} if the database does not support this.
+   */
+  String objIdArrayType();
 }
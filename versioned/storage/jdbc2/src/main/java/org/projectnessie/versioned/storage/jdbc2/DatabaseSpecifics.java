@@ -44,13 +44,13 @@ public final class DatabaseSpecifics {
   // choose a collation in which 'ref-    2' is sorted _after_ 'ref-   19', which is unexpected
   // and wrong for Nessie.
   public static final DatabaseSpecific POSTGRESQL_DATABASE_SPECIFIC =
-      new BasePostgresDatabaseSpecific("VARCHAR COLLATE ucs_basic", Types.BINARY);
+      new BasePostgresDatabaseSpecific("VARCHAR COLLATE ucs_basic", Types.BINARY, "bytea");
 
   public static final DatabaseSpecific COCKROACH_DATABASE_SPECIFIC =
-      new BasePostgresDatabaseSpecific("VARCHAR", Types.BINARY);
+      new BasePostgresDatabaseSpecific("VARCHAR", Types.BINARY, "bytea");
 
   public static final DatabaseSpecific H2_DATABASE_SPECIFIC =
-      new BasePostgresDatabaseSpecific("VARCHAR", Types.VARBINARY);
+      new BasePostgresDatabaseSpecific("VARCHAR", Types.VARBINARY, null);
 
   public static final DatabaseSpecific MARIADB_DATABASE_SPECIFIC = new MariaDBDatabaseSpecific();
 
@@ -109,8 +109,10 @@ public final class DatabaseSpecifics {
 
     private final Map<Jdbc2ColumnType, String> typeMap;
     private final Map<Jdbc2ColumnType, Integer> typeIdMap;
+    private final String objIdArrayType;
 
-    BasePostgresDatabaseSpecific(String varcharType, int objIdType) {
+    BasePostgresDatabaseSpecific(String varcharType, int objIdType, String objIdArrayType) {
+      this.objIdArrayType = objIdArrayType;
       typeMap = new EnumMap<>(Jdbc2ColumnType.class);
       typeIdMap = new EnumMap<>(Jdbc2ColumnType.class);
       typeMap.put(Jdbc2ColumnType.NAME, varcharType);
@@ -170,6 +172,11 @@ public final class DatabaseSpecifics {
     public String primaryKeyCol(String col, Jdbc2ColumnType columnType) {
       return col;
     }
+
+    @Override
+    public String objIdArrayType() {
+      return objIdArrayType;
+    }
   }
 
   static class MariaDBDatabaseSpecific implements DatabaseSpecific {
@@ -240,5 +247,10 @@ public final class DatabaseSpecifics {
           return col;
       }
     }
+
+    @Override
+    public String objIdArrayType() {
+      return null;
+    }
   }
 }
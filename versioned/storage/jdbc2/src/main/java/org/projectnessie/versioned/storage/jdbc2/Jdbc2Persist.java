@@ -241,4 +241,21 @@ class Jdbc2Persist extends AbstractJdbc2Persist {
       throw unhandledSQLException(e);
     }
   }
+
+  @Nonnull
+  @Override
+  public CloseableIterator<Obj> scanAllObjects(
+      @Nonnull Set<ObjType> returnedObjTypes, int segment, int totalSegments) {
+    try {
+      return super.scanAllObjects(
+          backend.borrowConnection(), returnedObjTypes, segment, totalSegments);
+    } catch (SQLException e) {
+      throw unhandledSQLException(e);
+    }
+  }
+
+  @Override
+  public boolean supportsSegmentedScans() {
+    return true;
+  }
 }
@@ -19,6 +19,12 @@ final class SqlConstants {
 
   static final int MAX_BATCH_SIZE = 50;
 
+  /**
+   * Number of object IDs bound to a {@link #FIND_OBJS} statement. Each batch is padded to the next
+   * bucket size, so that only a few distinct statements are prepared and cached by the driver.
+   */
+  static final int[] FETCH_BATCH_BUCKETS = {1, 5, 10, 25, MAX_BATCH_SIZE};
+
   static final String TABLE_REFS = "refs2";
   static final String TABLE_OBJS = "objs2";
 
@@ -228,10 +234,28 @@ final class SqlConstants {
 
   static final String FIND_OBJS_TYPED = FIND_OBJS + " AND " + COL_OBJ_TYPE + "=?";
 
+  static final String FIND_OBJS_ANY =
+      "SELECT "
+          + COLS_OBJS_ALL_NAMES
+          + " FROM "
+          + TABLE_OBJS
+          + " WHERE "
+          + COL_REPO_ID
+          + "=? AND "
+          + COL_OBJ_ID
+          + "=ANY(?)";
+  static final String FIND_OBJS_ANY_TYPED = FIND_OBJS_ANY + " AND " + COL_OBJ_TYPE + "=?";
+
   static final String SCAN_OBJS_ALL =
       "SELECT " + COLS_OBJS_ALL_NAMES + " FROM " + TABLE_OBJS + " WHERE " + COL_REPO_ID + "=?";
 
-  static final String SCAN_OBJS = SCAN_OBJS_ALL + " AND " + COL_OBJ_TYPE + " IN (?)";
+  static final String SCAN_OBJS_TYPES = " AND " + COL_OBJ_TYPE + " IN (?)";
+  static final String SCAN_OBJS = SCAN_OBJS_ALL + SCAN_OBJS_TYPES;
+
+  /** Restrictions to scan a segment of the {@code obj_id} range, see {@code ObjIdSegments}. */
+  static final String SCAN_OBJS_LOWER_BOUND = " AND " + COL_OBJ_ID + ">=?";
+
+  static final String SCAN_OBJS_UPPER_BOUND = " AND " + COL_OBJ_ID + "<?";
 
   private SqlConstants() {}
 }
@@ -0,0 +1,59 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.jdbc2;
+
+import static org.projectnessie.versioned.storage.jdbc2.AbstractJdbc2Persist.fetchBatchBucket;
+import static org.projectnessie.versioned.storage.jdbc2.SqlConstants.MAX_BATCH_SIZE;
+
+import java.util.stream.Stream;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+@ExtendWith(SoftAssertionsExtension.class)
+public class TestFetchBatchBucket {
+  @InjectSoftAssertions protected SoftAssertions soft;
+
+  @ParameterizedTest
+  @MethodSource
+  public void bucketBoundaries(int count, int expectedBucket) {
+    soft.assertThat(fetchBatchBucket(count)).isEqualTo(expectedBucket);
+  }
+
+  static Stream<Arguments> bucketBoundaries() {
+    return Stream.of(
+        Arguments.of(1, 1),
+        Arguments.of(2, 5),
+        Arguments.of(5, 5),
+        Arguments.of(6, 10),
+        Arguments.of(10, 10),
+        Arguments.of(11, 25),
+        Arguments.of(25, 25),
+        Arguments.of(26, MAX_BATCH_SIZE),
+        Arguments.of(MAX_BATCH_SIZE, MAX_BATCH_SIZE));
+  }
+
+  @Test
+  public void exceedsMaxBatchSize() {
+    soft.assertThatIllegalArgumentException()
+        .isThrownBy(() -> fetchBatchBucket(MAX_BATCH_SIZE + 1));
+  }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.jdbc2;
+
+import static org.projectnessie.nessie.relocated.protobuf.ByteString.copyFromUtf8;
+import static org.projectnessie.versioned.storage.common.objtypes.ContentValueObj.contentValue;
+import static org.projectnessie.versioned.storage.common.objtypes.StandardObjType.COMMIT;
+import static org.projectnessie.versioned.storage.common.objtypes.StandardObjType.VALUE;
+import static org.projectnessie.versioned.storage.common.persist.ObjId.randomObjId;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.projectnessie.versioned.storage.common.objtypes.ContentValueObj;
+import org.projectnessie.versioned.storage.common.persist.Obj;
+import org.projectnessie.versioned.storage.common.persist.ObjId;
+import org.projectnessie.versioned.storage.common.persist.Persist;
+import org.projectnessie.versioned.storage.testextension.NessiePersist;
+import org.projectnessie.versioned.storage.testextension.PersistExtension;
+
+/**
+ * Fetches different numbers of object IDs, covering the array binding and the padded batches of
+ * {@link AbstractJdbc2Persist}, including duplicate and missing object IDs.
+ */
+@ExtendWith({PersistExtension.class, SoftAssertionsExtension.class})
+public abstract class AbstractTestJdbc2FetchObjs {
+  @InjectSoftAssertions protected SoftAssertions soft;
+
+  @NessiePersist protected Persist persist;
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 6, 26, 51, 120})
+  public void fetchObjs(int numIds) throws Exception {
+    // Every 3rd ID does not exist, every 7th ID is a duplicate of the previous one
+    List<ObjId> ids = new ArrayList<>(numIds);
+    List<Obj> expected = new ArrayList<>(numIds);
+    List<Obj> toStore = new ArrayList<>();
+    for (int i = 0; i < numIds; i++) {
+      if (i % 7 == 6) {
+        ids.add(ids.get(i - 1));
+        expected.add(expected.get(i - 1));
+      } else if (i % 3 == 2) {
+        ids.add(randomObjId());
+        expected.add(null);
+      } else {
+        ContentValueObj obj = contentValue("cid-" + i, 42, copyFromUtf8("value-" + i));
+        toStore.add(obj);
+        ids.add(obj.id());
+        expected.add(obj);
+      }
+    }
+    persist.storeObjs(toStore.toArray(new Obj[0]));
+
+    ObjId[] idArray = ids.toArray(new ObjId[0]);
+    soft.assertThat(persist.fetchObjsIfExist(idArray)).containsExactlyElementsOf(expected);
+    soft.assertThat(persist.fetchTypedObjsIfExist(idArray, VALUE, ContentValueObj.class))
+        .containsExactlyElementsOf(expected);
+    soft.assertThat(persist.fetchTypedObjsIfExist(idArray, COMMIT, Obj.class))
+        .hasSize(numIds)
+        .containsOnlyNulls();
+  }
+}
@@ -20,12 +20,16 @@ import static com.mongodb.ErrorCategory.DUPLICATE_KEY;
 import static com.mongodb.client.model.Filters.and;
 import static com.mongodb.client.model.Filters.eq;
 import static com.mongodb.client.model.Filters.exists;
+import static com.mongodb.client.model.Filters.gte;
 import static com.mongodb.client.model.Filters.in;
+import static com.mongodb.client.model.Filters.lt;
 import static com.mongodb.client.model.Filters.not;
 import static com.mongodb.client.model.Updates.set;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singleton;
 import static java.util.stream.Collectors.toList;
+import static org.projectnessie.versioned.storage.common.persist.ObjIdSegments.lowerBound;
+import static org.projectnessie.versioned.storage.common.persist.ObjIdSegments.upperBound;
 import static org.projectnessie.versioned.storage.common.persist.ObjTypes.objTypeByName;
 import static org.projectnessie.versioned.storage.common.persist.Reference.reference;
 import static org.projectnessie.versioned.storage.mongodb2.MongoDB2Constants.COL_OBJ_ID;
@@ -98,12 +102,16 @@ import org.projectnessie.versioned.storage.common.objtypes.UpdateableObj;
 import org.projectnessie.versioned.storage.common.persist.CloseableIterator;
 import org.projectnessie.versioned.storage.common.persist.Obj;
 import org.projectnessie.versioned.storage.common.persist.ObjId;
+import org.projectnessie.versioned.storage.common.persist.ObjIdSegments;
 import org.projectnessie.versioned.storage.common.persist.ObjType;
 import org.projectnessie.versioned.storage.common.persist.Persist;
 import org.projectnessie.versioned.storage.common.persist.Reference;
 
 public class MongoDB2Persist implements Persist {
 
+  /** Length of the object IDs generated by Nessie, SHA-256 hashes. */
+  private static final int OBJ_ID_256_SIZE = 32;
+
   private final StoreConfig config;
   private final MongoDB2Backend backend;
 
@@ -744,7 +752,37 @@ public class MongoDB2Persist implements Persist {
   @Nonnull
   @Override
   public CloseableIterator<Obj> scanAllObjects(@Nonnull Set<ObjType> returnedObjTypes) {
-    return new ScanAllObjectsIterator(returnedObjTypes);
+    return new ScanAllObjectsIterator(returnedObjTypes, null, null);
+  }
+
+  /**
+   * Scans a range of the {@code _id} index using the ID ranges from {@link ObjIdSegments}. MongoDB
+   * compares the {@code _id} documents by the repository ID first and then by the object ID binary,
+   * which is ordered by its length before its bytes. The bounds are therefore padded to the length
+   * of 256-bit object IDs, object IDs of other lengths end up in the first or last segment.
+   */
+  @Nonnull
+  @Override
+  public CloseableIterator<Obj> scanAllObjects(
+      @Nonnull Set<ObjType> returnedObjTypes, int segment, int totalSegments) {
+    byte[] lower = lowerBound(segment, totalSegments);
+    byte[] upper = upperBound(segment, totalSegments);
+    return new ScanAllObjectsIterator(
+        returnedObjTypes,
+        lower != null ? idBoundDoc(lower) : null,
+        upper != null ? idBoundDoc(upper) : null);
+  }
+
+  @Override
+  public boolean supportsSegmentedScans() {
+    return true;
+  }
+
+  private Document idBoundDoc(byte[] bound) {
+    Document idDoc = new Document();
+    idDoc.put(COL_REPO, config.repositoryId());
+    idDoc.put(COL_OBJ_ID, new Binary(Arrays.copyOf(bound, OBJ_ID_256_SIZE)));
+    return idDoc;
   }
 
   @Override
@@ -796,7 +834,7 @@ public class MongoDB2Persist implements Persist {
         ignoreSoftSizeRestrictions ? Integer.MAX_VALUE : effectiveIncrementalIndexSizeLimit();
     int indexSizeLimit =
         ignoreSoftSizeRestrictions ? Integer.MAX_VALUE : effectiveIndexSegmentSizeLimit();
-    byte[] serialized = serializeObj(obj, incrementalIndexSizeLimit, indexSizeLimit, false);
+    byte[] serialized = serializeObj(obj, incrementalIndexSizeLimit, indexSizeLimit, false, config);
     doc.put(COL_OBJ_VALUE, new Binary(serialized));
     return doc;
   }
@@ -806,8 +844,20 @@ public class MongoDB2Persist implements Persist {
 
     private final MongoCursor<Document> result;
 
-    public ScanAllObjectsIterator(Set<ObjType> returnedObjTypes) {
+    /**
+     * @param lowerId inclusive lower bound of the {@code _id} range, {@code null} to start at the
+     *     first object of the repository
+     * @param upperId exclusive upper bound of the {@code _id} range, {@code null} to end at the
+     *     last object of the repository
+     */
+    ScanAllObjectsIterator(Set<ObjType> returnedObjTypes, Document lowerId, Document upperId) {
       Bson condition = eq(ID_REPO_PATH, config.repositoryId());
+      if (lowerId != null) {
+        condition = and(condition, gte(ID_PROPERTY_NAME, lowerId));
+      }
+      if (upperId != null) {
+        condition = and(condition, lt(ID_PROPERTY_NAME, upperId));
+      }
       if (!returnedObjTypes.isEmpty()) {
         List<String> objTypeShortNames =
             returnedObjTypes.stream().map(ObjType::shortName).collect(toList());
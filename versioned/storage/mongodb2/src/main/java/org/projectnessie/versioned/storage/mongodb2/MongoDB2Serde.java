@@ -36,6 +36,7 @@ public final class MongoDB2Serde {
   private static final String COL_STRIPES_FIRST_KEY = "f";
   private static final String COL_STRIPES_LAST_KEY = "l";
   private static final String COL_STRIPES_SEGMENT = "s";
+  private static final String COL_STRIPES_KEY_FILTER = "k";
 
   private MongoDB2Serde() {}
 
@@ -91,7 +92,8 @@ public final class MongoDB2Serde {
             indexStripe(
                 keyFromString(seg.getString(COL_STRIPES_FIRST_KEY)),
                 keyFromString(seg.getString(COL_STRIPES_LAST_KEY)),
-                binaryToObjId(seg.get(COL_STRIPES_SEGMENT, Binary.class))));
+                binaryToObjId(seg.get(COL_STRIPES_SEGMENT, Binary.class)),
+                binaryToBytes(seg.get(COL_STRIPES_KEY_FILTER, Binary.class))));
       }
     }
   }
@@ -104,6 +106,10 @@ public final class MongoDB2Serde {
       sv.put(COL_STRIPES_FIRST_KEY, stripe.firstKey().rawString());
       sv.put(COL_STRIPES_LAST_KEY, stripe.lastKey().rawString());
       sv.put(COL_STRIPES_SEGMENT, objIdToBinary(stripe.segment()));
+      ByteString keyFilter = stripe.keyFilter();
+      if (keyFilter != null) {
+        sv.put(COL_STRIPES_KEY_FILTER, bytesToBinary(keyFilter));
+      }
       stripesDocs.add(sv);
     }
     return stripesDocs;
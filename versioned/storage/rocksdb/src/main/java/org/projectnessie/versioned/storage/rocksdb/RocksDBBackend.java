@@ -27,24 +27,32 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import org.projectnessie.nessie.relocated.protobuf.ByteString;
-import org.projectnessie.versioned.storage.common.config.StoreConfig;
+import org.projectnessie.versioned.storage.common.exceptions.UnknownOperationResultException;
 import org.projectnessie.versioned.storage.common.persist.Backend;
 import org.projectnessie.versioned.storage.common.persist.PersistFactory;
+import org.rocksdb.BlockBasedTableConfig;
+import org.rocksdb.BloomFilter;
 import org.rocksdb.ColumnFamilyDescriptor;
 import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ColumnFamilyOptions;
+import org.rocksdb.CompressionType;
 import org.rocksdb.DBOptions;
+import org.rocksdb.LRUCache;
+import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
 import org.rocksdb.RocksIterator;
+import org.rocksdb.Status;
+import org.rocksdb.Transaction;
 import org.rocksdb.TransactionDB;
 import org.rocksdb.TransactionDBOptions;
+import org.rocksdb.WriteOptions;
 
 public final class RocksDBBackend implements Backend {
   public static final String CF_REFERENCES = "nessie_refs";
@@ -57,8 +65,11 @@ public final class RocksDBBackend implements Backend {
   private TransactionDB db;
   private ColumnFamilyHandle cfReferences;
   private ColumnFamilyHandle cfObjects;
+  private ReadOptions readOptions;
+  private WriteOptions writeOptions;
 
-  private final Map<String, RocksDBRepo> repositories = new ConcurrentHashMap<>();
+  /** Native option objects, which must be kept open as long as {@link #db} is open. */
+  private final List<AutoCloseable> nativeOptions = new ArrayList<>();
 
   public RocksDBBackend(RocksDBBackendConfig config) {
     RocksDB.loadLibrary();
@@ -81,17 +92,41 @@ public final class RocksDBBackend implements Backend {
     return cfObjects;
   }
 
+  ReadOptions readOptions() {
+    return readOptions;
+  }
+
+  /**
+   * Starts a new RocksDB transaction. Rows read via {@link Transaction#getForUpdate(ReadOptions,
+   * ColumnFamilyHandle, byte[], boolean)} are locked until the transaction is committed or closed,
+   * concurrent transactions wait for those locks, up to the configured {@link
+   * RocksDBBackendBaseConfig#lockTimeout() lock timeout}.
+   */
+  Transaction beginTransaction() {
+    return db.beginTransaction(writeOptions);
+  }
+
   @Override
   public synchronized void close() {
     if (db != null) {
       try {
-        closeMultiple(cfObjects, cfReferences, db);
+        List<AutoCloseable> closeables = new ArrayList<>();
+        closeables.add(cfObjects);
+        closeables.add(cfReferences);
+        closeables.add(db);
+        closeables.add(readOptions);
+        closeables.add(writeOptions);
+        closeables.addAll(nativeOptions);
+        closeMultiple(closeables);
       } catch (Exception e) {
         throw new RuntimeException(e);
       } finally {
         db = null;
         cfReferences = null;
         cfObjects = null;
+        readOptions = null;
+        writeOptions = null;
+        nativeOptions.clear();
       }
     }
   }
@@ -106,29 +141,35 @@ public final class RocksDBBackend implements Backend {
           "RocksDB cannot use databasePath %s.",
           dbPath);
 
-      List<byte[]> columnFamilies = new ArrayList<>();
-      columnFamilies.add(DEFAULT_COLUMN_FAMILY);
-      CF_ALL.stream().map(s -> s.getBytes(StandardCharsets.UTF_8)).forEach(columnFamilies::add);
-
-      List<ColumnFamilyDescriptor> columnFamilyDescriptors =
-          columnFamilies.stream()
-              .map(
-                  c ->
-                      new ColumnFamilyDescriptor(
-                          c, new ColumnFamilyOptions().optimizeUniversalStyleCompaction()))
-              .collect(Collectors.toList());
+      List<ColumnFamilyDescriptor> columnFamilyDescriptors = new ArrayList<>();
+      columnFamilyDescriptors.add(
+          new ColumnFamilyDescriptor(DEFAULT_COLUMN_FAMILY, columnFamilyOptions(Optional.empty())));
+      for (String cf : CF_ALL) {
+        Optional<RocksDBColumnFamilyConfig> cfConfig =
+            CF_OBJECTS.equals(cf) ? config.objectsColumnFamily() : config.referencesColumnFamily();
+        columnFamilyDescriptors.add(
+            new ColumnFamilyDescriptor(
+                cf.getBytes(StandardCharsets.UTF_8), columnFamilyOptions(cfConfig)));
+      }
 
       try (final DBOptions dbOptions =
-          new DBOptions().setCreateIfMissing(true).setCreateMissingColumnFamilies(true)) {
+              new DBOptions().setCreateIfMissing(true).setCreateMissingColumnFamilies(true);
+          final TransactionDBOptions txnDbOptions = new TransactionDBOptions()) {
+        config
+            .lockTimeout()
+            .ifPresent(timeout -> txnDbOptions.setTransactionLockTimeout(timeout.toMillis()));
+
         // TODO: Consider setting WAL limits.
         List<ColumnFamilyHandle> columnFamilyHandles = new ArrayList<>();
         db =
             TransactionDB.open(
                 dbOptions,
-                new TransactionDBOptions(),
+                txnDbOptions,
                 dbPath.toString(),
                 columnFamilyDescriptors,
                 columnFamilyHandles);
+        readOptions = new ReadOptions();
+        writeOptions = new WriteOptions();
 
         Map<String, ColumnFamilyHandle> columnFamilyHandleMap = new HashMap<>();
         for (int i = 0; i < CF_ALL.size(); i++) {
@@ -144,6 +185,55 @@ public final class RocksDBBackend implements Backend {
     }
   }
 
+  private ColumnFamilyOptions columnFamilyOptions(Optional<RocksDBColumnFamilyConfig> cfConfig) {
+    ColumnFamilyOptions options = new ColumnFamilyOptions().optimizeUniversalStyleCompaction();
+    nativeOptions.add(options);
+
+    if (cfConfig.isPresent()) {
+      RocksDBColumnFamilyConfig c = cfConfig.get();
+
+      BlockBasedTableConfig tableConfig = new BlockBasedTableConfig();
+      if (c.blockCacheSizeMb().isPresent()) {
+        LRUCache blockCache = new LRUCache(c.blockCacheSizeMb().getAsLong() * 1024L * 1024L);
+        nativeOptions.add(blockCache);
+        tableConfig.setBlockCache(blockCache);
+      }
+      if (c.bloomFilterBitsPerKey().isPresent()) {
+        BloomFilter bloomFilter = new BloomFilter(c.bloomFilterBitsPerKey().getAsDouble());
+        nativeOptions.add(bloomFilter);
+        tableConfig.setFilterPolicy(bloomFilter);
+      }
+      options.setTableFormatConfig(tableConfig);
+
+      c.compression().map(RocksDBBackend::compressionType).ifPresent(options::setCompressionType);
+    }
+
+    return options;
+  }
+
+  static CompressionType compressionType(String compression) {
+    switch (compression.toLowerCase(Locale.ROOT)) {
+      case "none":
+        return CompressionType.NO_COMPRESSION;
+      case "snappy":
+        return CompressionType.SNAPPY_COMPRESSION;
+      case "zlib":
+        return CompressionType.ZLIB_COMPRESSION;
+      case "bzip2":
+        return CompressionType.BZLIB2_COMPRESSION;
+      case "lz4":
+        return CompressionType.LZ4_COMPRESSION;
+      case "lz4hc":
+        return CompressionType.LZ4HC_COMPRESSION;
+      case "xpress":
+        return CompressionType.XPRESS_COMPRESSION;
+      case "zstd":
+        return CompressionType.ZSTD_COMPRESSION;
+      default:
+        throw new IllegalArgumentException("Unsupported RocksDB compression: " + compression);
+    }
+  }
+
   @Override
   public Optional<String> setupSchema() {
     initialize();
@@ -157,10 +247,6 @@ public final class RocksDBBackend implements Backend {
     return new RocksDBPersistFactory(this);
   }
 
-  RocksDBRepo repo(StoreConfig config) {
-    return repositories.computeIfAbsent(config.repositoryId(), r -> new RocksDBRepo());
-  }
-
   @Override
   public void eraseRepositories(Set<String> repositoryIds) {
     if (repositoryIds == null || repositoryIds.isEmpty()) {
@@ -199,8 +285,23 @@ public final class RocksDBBackend implements Backend {
             });
   }
 
+  /**
+   * Maps the given RocksDB exception. Transaction lock timeouts, deadlocks and busy conditions are
+   * mapped to {@link UnknownOperationResultException}, so that the operation is retried.
+   */
   static RuntimeException rocksDbException(RocksDBException e) {
-    throw new RuntimeException("Unhandled RocksDB exception", e);
+    Status status = e.getStatus();
+    if (status != null) {
+      switch (status.getCode()) {
+        case TimedOut:
+        case Busy:
+        case TryAgain:
+          return new UnknownOperationResultException("RocksDB transaction conflict", e);
+        default:
+          break;
+      }
+    }
+    return new RuntimeException("Unhandled RocksDB exception", e);
   }
 
   static ByteString keyPrefix(String repositoryId) {
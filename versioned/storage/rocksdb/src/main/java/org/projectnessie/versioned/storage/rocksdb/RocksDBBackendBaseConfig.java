@@ -16,8 +16,22 @@
 package org.projectnessie.versioned.storage.rocksdb;
 
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Optional;
 
 public interface RocksDBBackendBaseConfig {
   /** Sets RocksDB storage path. */
   Path databasePath();
+
+  /**
+   * Maximum time to wait for a row lock held by a concurrent transaction, defaults to the RocksDB
+   * default of 1 second.
+   */
+  Optional<Duration> lockTimeout();
+
+  /** Tuning options for the column family holding objects. */
+  Optional<RocksDBColumnFamilyConfig> objectsColumnFamily();
+
+  /** Tuning options for the column family holding references. */
+  Optional<RocksDBColumnFamilyConfig> referencesColumnFamily();
 }
@@ -0,0 +1,42 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.rocksdb;
+
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalLong;
+import org.immutables.value.Value;
+
+/** Tuning options for a RocksDB column family, RocksDB defaults apply to absent options. */
+@Value.Immutable
+public interface RocksDBColumnFamilyConfig {
+
+  /** Size of the column family's LRU block cache in MB. */
+  OptionalLong blockCacheSizeMb();
+
+  /** Enables a bloom filter for the column family with the given number of bits per key. */
+  OptionalDouble bloomFilterBitsPerKey();
+
+  /**
+   * Compression for the column family, one of {@code none}, {@code snappy}, {@code zlib}, {@code
+   * bzip2}, {@code lz4}, {@code lz4hc}, {@code xpress} or {@code zstd}.
+   */
+  Optional<String> compression();
+
+  static ImmutableRocksDBColumnFamilyConfig.Builder builder() {
+    return ImmutableRocksDBColumnFamilyConfig.builder();
+  }
+}
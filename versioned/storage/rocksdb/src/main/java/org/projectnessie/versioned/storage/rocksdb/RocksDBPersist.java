@@ -17,6 +17,8 @@ package org.projectnessie.versioned.storage.rocksdb;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static java.util.Collections.singleton;
+import static org.projectnessie.versioned.storage.common.persist.ObjIdSegments.lowerBound;
+import static org.projectnessie.versioned.storage.common.persist.ObjIdSegments.upperBound;
 import static org.projectnessie.versioned.storage.rocksdb.RocksDBBackend.keyPrefix;
 import static org.projectnessie.versioned.storage.rocksdb.RocksDBBackend.rocksDbException;
 import static org.projectnessie.versioned.storage.serialize.ProtoSerialization.deserializeObj;
@@ -32,7 +34,6 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
-import java.util.concurrent.locks.Lock;
 import java.util.function.Predicate;
 import org.projectnessie.nessie.relocated.protobuf.ByteString;
 import org.projectnessie.versioned.storage.common.config.StoreConfig;
@@ -45,25 +46,25 @@ import org.projectnessie.versioned.storage.common.objtypes.UpdateableObj;
 import org.projectnessie.versioned.storage.common.persist.CloseableIterator;
 import org.projectnessie.versioned.storage.common.persist.Obj;
 import org.projectnessie.versioned.storage.common.persist.ObjId;
+import org.projectnessie.versioned.storage.common.persist.ObjIdSegments;
 import org.projectnessie.versioned.storage.common.persist.ObjType;
 import org.projectnessie.versioned.storage.common.persist.Persist;
 import org.projectnessie.versioned.storage.common.persist.Reference;
 import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.RocksDBException;
 import org.rocksdb.RocksIterator;
+import org.rocksdb.Transaction;
 import org.rocksdb.TransactionDB;
 
 class RocksDBPersist implements Persist {
 
   private final RocksDBBackend backend;
-  private final RocksDBRepo repo;
   private final StoreConfig config;
 
   private final ByteString keyPrefix;
 
-  RocksDBPersist(RocksDBBackend backend, RocksDBRepo repo, StoreConfig config) {
+  RocksDBPersist(RocksDBBackend backend, StoreConfig config) {
     this.backend = backend;
-    this.repo = repo;
     this.config = config;
     this.keyPrefix = keyPrefix(config.repositoryId());
   }
@@ -149,25 +150,21 @@ class RocksDBPersist implements Persist {
   public Reference addReference(@Nonnull Reference reference) throws RefAlreadyExistsException {
     checkArgument(!reference.deleted(), "Deleted references must not be added");
 
-    Lock l = repo.referencesLock(reference.name());
-    try {
-      RocksDBBackend b = backend;
-      TransactionDB db = b.db();
-      ColumnFamilyHandle cf = b.refs();
-      byte[] key = dbKey(reference.name());
-
-      byte[] existing = db.get(cf, key);
+    RocksDBBackend b = backend;
+    ColumnFamilyHandle cf = b.refs();
+    byte[] key = dbKey(reference.name());
+    try (Transaction txn = b.beginTransaction()) {
+      byte[] existing = txn.getForUpdate(b.readOptions(), cf, key, true);
       if (existing != null) {
         throw new RefAlreadyExistsException(deserializeReference(existing));
       }
 
-      db.put(cf, key, serializeReference(reference));
+      txn.put(cf, key, serializeReference(reference));
+      txn.commit();
 
       return reference;
     } catch (RocksDBException e) {
       throw rocksDbException(e);
-    } finally {
-      l.unlock();
     }
   }
 
@@ -175,33 +172,25 @@ class RocksDBPersist implements Persist {
   @Nonnull
   public Reference markReferenceAsDeleted(@Nonnull Reference reference)
       throws RefNotFoundException, RefConditionFailedException {
-    Lock l = repo.referencesLock(reference.name());
-    try {
-      RocksDBBackend b = backend;
-      TransactionDB db = b.db();
-      ColumnFamilyHandle cf = b.refs();
-      byte[] key = dbKey(reference.name());
-
-      checkReference(reference, db, cf, key, false);
+    RocksDBBackend b = backend;
+    ColumnFamilyHandle cf = b.refs();
+    byte[] key = dbKey(reference.name());
+    try (Transaction txn = b.beginTransaction()) {
+      checkReference(reference, b, txn, key, false);
 
       Reference asDeleted = reference.withDeleted(true);
-      db.put(cf, key, serializeReference(asDeleted));
+      txn.put(cf, key, serializeReference(asDeleted));
+      txn.commit();
       return asDeleted;
     } catch (RocksDBException e) {
       throw rocksDbException(e);
-    } finally {
-      l.unlock();
     }
   }
 
   private static void checkReference(
-      Reference expected,
-      TransactionDB db,
-      ColumnFamilyHandle cf,
-      byte[] key,
-      boolean expectDeleted)
+      Reference expected, RocksDBBackend b, Transaction txn, byte[] key, boolean expectDeleted)
       throws RocksDBException, RefNotFoundException, RefConditionFailedException {
-    byte[] existing = db.get(cf, key);
+    byte[] existing = txn.getForUpdate(b.readOptions(), b.refs(), key, true);
     if (existing == null) {
       throw new RefNotFoundException(expected);
     }
@@ -215,20 +204,15 @@ class RocksDBPersist implements Persist {
   @Override
   public void purgeReference(@Nonnull Reference reference)
       throws RefNotFoundException, RefConditionFailedException {
-    Lock l = repo.referencesLock(reference.name());
-    try {
-      RocksDBBackend b = backend;
-      TransactionDB db = b.db();
-      ColumnFamilyHandle cf = b.refs();
-      byte[] key = dbKey(reference.name());
+    RocksDBBackend b = backend;
+    byte[] key = dbKey(reference.name());
+    try (Transaction txn = b.beginTransaction()) {
+      checkReference(reference.withDeleted(true), b, txn, key, true);
 
-      checkReference(reference.withDeleted(true), db, cf, key, true);
-
-      db.delete(cf, key);
+      txn.delete(b.refs(), key);
+      txn.commit();
     } catch (RocksDBException e) {
       throw rocksDbException(e);
-    } finally {
-      l.unlock();
     }
   }
 
@@ -236,23 +220,18 @@ class RocksDBPersist implements Persist {
   @Nonnull
   public Reference updateReferencePointer(@Nonnull Reference reference, @Nonnull ObjId newPointer)
       throws RefNotFoundException, RefConditionFailedException {
-    Lock l = repo.referencesLock(reference.name());
-    try {
-      RocksDBBackend b = backend;
-      TransactionDB db = b.db();
-      ColumnFamilyHandle cf = b.refs();
-      byte[] key = dbKey(reference.name());
-
-      checkReference(reference, db, cf, key, false);
+    RocksDBBackend b = backend;
+    byte[] key = dbKey(reference.name());
+    try (Transaction txn = b.beginTransaction()) {
+      checkReference(reference, b, txn, key, false);
 
       Reference updated = reference.forNewPointer(newPointer, config);
 
-      db.put(cf, key, serializeReference(updated));
+      txn.put(b.refs(), key, serializeReference(updated));
+      txn.commit();
       return updated;
     } catch (RocksDBException e) {
       throw rocksDbException(e);
-    } finally {
-      l.unlock();
     }
   }
 
@@ -333,59 +312,99 @@ class RocksDBPersist implements Persist {
       throws ObjTooLargeException {
     checkArgument(obj.id() != null, "Obj to store must have a non-null ID");
 
-    Lock l = repo.objLock(obj.id());
-    try {
-      RocksDBBackend b = backend;
-      TransactionDB db = b.db();
-      ColumnFamilyHandle cf = b.objs();
-      byte[] key = dbKey(obj.id());
-
-      long referenced = config.currentTimeMicros();
-      boolean r;
-
-      byte[] existing = db.get(cf, key);
-      if (existing != null) {
-        obj = deserializeObj(obj.id(), referenced, existing, null);
-        ignoreSoftSizeRestrictions = true;
-        r = false;
-      } else {
-        var objReferenced = obj.referenced();
-        // -1 is a sentinel for AbstractBasePersistTests.deleteWithReferenced()
-        obj = obj.withReferenced(objReferenced != -1L ? referenced : -1L);
-        r = true;
-      }
-
-      int incrementalIndexSizeLimit =
-          ignoreSoftSizeRestrictions ? Integer.MAX_VALUE : effectiveIncrementalIndexSizeLimit();
-      int indexSizeLimit =
-          ignoreSoftSizeRestrictions ? Integer.MAX_VALUE : effectiveIndexSegmentSizeLimit();
-      byte[] serialized = serializeObj(obj, incrementalIndexSizeLimit, indexSizeLimit, true);
-
-      db.put(cf, key, serialized);
+    RocksDBBackend b = backend;
+    byte[] key = dbKey(obj.id());
+    try (Transaction txn = b.beginTransaction()) {
+      byte[] existing = txn.getForUpdate(b.readOptions(), b.objs(), key, true);
+      boolean r = storeObjInTransaction(txn, key, existing, obj, ignoreSoftSizeRestrictions);
+      txn.commit();
       return r;
     } catch (RocksDBException e) {
       throw rocksDbException(e);
-    } finally {
-      l.unlock();
     }
   }
 
+  /**
+   * Stores all objects using a single RocksDB transaction. The row locks for all objects are
+   * acquired in the order of the database keys, so concurrent bulk-stores with overlapping object
+   * IDs cannot deadlock.
+   */
   @Override
   @Nonnull
   public boolean[] storeObjs(@Nonnull Obj[] objs) throws ObjTooLargeException {
     boolean[] r = new boolean[objs.length];
+
+    List<Integer> indexes = new ArrayList<>(objs.length);
+    byte[][] keys = new byte[objs.length][];
     for (int i = 0; i < objs.length; i++) {
       Obj o = objs[i];
       if (o != null) {
-        r[i] = storeObj(o, false);
+        checkArgument(o.id() != null, "Obj to store must have a non-null ID");
+        keys[i] = dbKey(o.id());
+        indexes.add(i);
+      }
+    }
+    if (indexes.isEmpty()) {
+      return r;
+    }
+    indexes.sort((i1, i2) -> Arrays.compareUnsigned(keys[i1], keys[i2]));
+
+    RocksDBBackend b = backend;
+    ColumnFamilyHandle cf = b.objs();
+    List<ColumnFamilyHandle> handles = new ArrayList<>(indexes.size());
+    List<byte[]> dbKeys = new ArrayList<>(indexes.size());
+    for (int i : indexes) {
+      handles.add(cf);
+      dbKeys.add(keys[i]);
+    }
+
+    try (Transaction txn = b.beginTransaction()) {
+      List<byte[]> existing = txn.multiGetForUpdateAsList(b.readOptions(), handles, dbKeys);
+      for (int ki = 0; ki < indexes.size(); ki++) {
+        int i = indexes.get(ki);
+        byte[] key = dbKeys.get(ki);
+        // Same object ID more than once in 'objs'
+        if (ki > 0 && Arrays.equals(key, dbKeys.get(ki - 1))) {
+          continue;
+        }
+        r[i] = storeObjInTransaction(txn, key, existing.get(ki), objs[i], false);
       }
+      txn.commit();
+      return r;
+    } catch (RocksDBException e) {
+      throw rocksDbException(e);
     }
+  }
+
+  private boolean storeObjInTransaction(
+      Transaction txn, byte[] key, byte[] existing, Obj obj, boolean ignoreSoftSizeRestrictions)
+      throws RocksDBException, ObjTooLargeException {
+    long referenced = config.currentTimeMicros();
+    boolean r;
+
+    if (existing != null) {
+      obj = deserializeObj(obj.id(), referenced, existing, null);
+      ignoreSoftSizeRestrictions = true;
+      r = false;
+    } else {
+      var objReferenced = obj.referenced();
+      // -1 is a sentinel for AbstractBasePersistTests.deleteWithReferenced()
+      obj = obj.withReferenced(objReferenced != -1L ? referenced : -1L);
+      r = true;
+    }
+
+    int incrementalIndexSizeLimit =
+        ignoreSoftSizeRestrictions ? Integer.MAX_VALUE : effectiveIncrementalIndexSizeLimit();
+    int indexSizeLimit =
+        ignoreSoftSizeRestrictions ? Integer.MAX_VALUE : effectiveIndexSegmentSizeLimit();
+    byte[] serialized = serializeObj(obj, incrementalIndexSizeLimit, indexSizeLimit, true, config);
+
+    txn.put(backend.objs(), key, serialized);
     return r;
   }
 
   @Override
   public void deleteObj(@Nonnull ObjId id) {
-    Lock l = repo.objLock(id);
     try {
       RocksDBBackend b = backend;
       TransactionDB db = b.db();
@@ -395,17 +414,22 @@ class RocksDBPersist implements Persist {
       db.delete(cf, key);
     } catch (RocksDBException e) {
       throw rocksDbException(e);
-    } finally {
-      l.unlock();
     }
   }
 
   @Override
   public void deleteObjs(@Nonnull ObjId[] ids) {
-    for (ObjId id : ids) {
-      if (id != null) {
-        deleteObj(id);
+    RocksDBBackend b = backend;
+    ColumnFamilyHandle cf = b.objs();
+    try (Transaction txn = b.beginTransaction()) {
+      for (ObjId id : ids) {
+        if (id != null) {
+          txn.delete(cf, dbKey(id));
+        }
       }
+      txn.commit();
+    } catch (RocksDBException e) {
+      throw rocksDbException(e);
     }
   }
 
@@ -414,48 +438,53 @@ class RocksDBPersist implements Persist {
     ObjId id = obj.id();
     checkArgument(id != null, "Obj to store must have a non-null ID");
 
-    Lock l = repo.objLock(obj.id());
     try {
       RocksDBBackend b = backend;
       TransactionDB db = b.db();
       ColumnFamilyHandle cf = b.objs();
       byte[] key = dbKey(id);
 
-      long referenced = config.currentTimeMicros();
-      obj = obj.withReferenced(referenced);
-
-      byte[] serialized =
-          serializeObj(
-              obj, effectiveIncrementalIndexSizeLimit(), effectiveIndexSegmentSizeLimit(), true);
-
-      db.put(cf, key, serialized);
+      db.put(cf, key, serializeForUpsert(obj));
     } catch (RocksDBException e) {
       throw rocksDbException(e);
-    } finally {
-      l.unlock();
     }
   }
 
   @Override
   public void upsertObjs(@Nonnull Obj[] objs) throws ObjTooLargeException {
-    for (Obj obj : objs) {
-      if (obj != null) {
-        upsertObj(obj);
+    RocksDBBackend b = backend;
+    ColumnFamilyHandle cf = b.objs();
+    try (Transaction txn = b.beginTransaction()) {
+      for (Obj obj : objs) {
+        if (obj != null) {
+          ObjId id = obj.id();
+          checkArgument(id != null, "Obj to store must have a non-null ID");
+          txn.put(cf, dbKey(id), serializeForUpsert(obj));
+        }
       }
+      txn.commit();
+    } catch (RocksDBException e) {
+      throw rocksDbException(e);
     }
   }
 
+  private byte[] serializeForUpsert(Obj obj) throws ObjTooLargeException {
+    long referenced = config.currentTimeMicros();
+    return serializeObj(
+        obj.withReferenced(referenced),
+        effectiveIncrementalIndexSizeLimit(),
+        effectiveIndexSegmentSizeLimit(),
+        true,
+        config);
+  }
+
   @Override
   public boolean deleteWithReferenced(@Nonnull Obj obj) {
     ObjId id = obj.id();
-    Lock l = repo.objLock(id);
-    try {
-      RocksDBBackend b = backend;
-      TransactionDB db = b.db();
-      ColumnFamilyHandle cf = b.objs();
-      byte[] key = dbKey(id);
-
-      byte[] bytes = db.get(cf, key);
+    RocksDBBackend b = backend;
+    byte[] key = dbKey(id);
+    try (Transaction txn = b.beginTransaction()) {
+      byte[] bytes = txn.getForUpdate(b.readOptions(), b.objs(), key, true);
       if (bytes == null) {
         return false;
       }
@@ -469,44 +498,30 @@ class RocksDBPersist implements Persist {
         return false;
       }
 
-      db.delete(cf, key);
+      txn.delete(b.objs(), key);
+      txn.commit();
       return true;
     } catch (RocksDBException e) {
       throw rocksDbException(e);
-    } finally {
-      l.unlock();
     }
   }
 
   @Override
   public boolean deleteConditional(@Nonnull UpdateableObj obj) {
     ObjId id = obj.id();
-    Lock l = repo.objLock(id);
-    try {
-      RocksDBBackend b = backend;
-      TransactionDB db = b.db();
-      ColumnFamilyHandle cf = b.objs();
-      byte[] key = dbKey(id);
-
-      byte[] bytes = db.get(cf, key);
-      if (bytes == null) {
-        return false;
-      }
-      Obj existing = deserializeObj(id, 0L, bytes, null);
-      if (!existing.type().equals(obj.type())) {
-        return false;
-      }
-      UpdateableObj ex = (UpdateableObj) existing;
-      if (!ex.versionToken().equals(obj.versionToken())) {
+    RocksDBBackend b = backend;
+    byte[] key = dbKey(id);
+    try (Transaction txn = b.beginTransaction()) {
+      byte[] bytes = txn.getForUpdate(b.readOptions(), b.objs(), key, true);
+      if (!versionTokenMatches(id, bytes, obj)) {
         return false;
       }
 
-      db.delete(cf, key);
+      txn.delete(b.objs(), key);
+      txn.commit();
       return true;
     } catch (RocksDBException e) {
       throw rocksDbException(e);
-    } finally {
-      l.unlock();
     }
   }
 
@@ -518,44 +533,34 @@ class RocksDBPersist implements Persist {
     checkArgument(expected.type().equals(newValue.type()));
     checkArgument(!expected.versionToken().equals(newValue.versionToken()));
 
-    Lock l = repo.objLock(id);
-    try {
-      RocksDBBackend b = backend;
-      TransactionDB db = b.db();
-      ColumnFamilyHandle cf = b.objs();
-      byte[] key = dbKey(id);
-
-      byte[] obj = db.get(cf, key);
-      if (obj == null) {
-        return false;
-      }
-      Obj existing = deserializeObj(id, 0L, obj, null);
-      if (!existing.type().equals(expected.type())) {
-        return false;
-      }
-      UpdateableObj ex = (UpdateableObj) existing;
-      if (!ex.versionToken().equals(expected.versionToken())) {
+    RocksDBBackend b = backend;
+    byte[] key = dbKey(id);
+    try (Transaction txn = b.beginTransaction()) {
+      byte[] bytes = txn.getForUpdate(b.readOptions(), b.objs(), key, true);
+      if (!versionTokenMatches(id, bytes, expected)) {
         return false;
       }
 
-      long referenced = config.currentTimeMicros();
-      byte[] serialized =
-          serializeObj(
-              newValue.withReferenced(referenced),
-              effectiveIncrementalIndexSizeLimit(),
-              effectiveIndexSegmentSizeLimit(),
-              true);
-
-      db.put(cf, key, serialized);
-
+      txn.put(b.objs(), key, serializeForUpsert(newValue));
+      txn.commit();
       return true;
     } catch (RocksDBException e) {
       throw rocksDbException(e);
-    } finally {
-      l.unlock();
     }
   }
 
+  private static boolean versionTokenMatches(ObjId id, byte[] bytes, UpdateableObj expected) {
+    if (bytes == null) {
+      return false;
+    }
+    Obj existing = deserializeObj(id, 0L, bytes, null);
+    if (!existing.type().equals(expected.type())) {
+      return false;
+    }
+    UpdateableObj ex = (UpdateableObj) existing;
+    return ex.versionToken().equals(expected.versionToken());
+  }
+
   @Override
   public void erase() {
     backend.eraseRepositories(singleton(config().repositoryId()));
@@ -565,7 +570,29 @@ class RocksDBPersist implements Persist {
   @Override
   public CloseableIterator<Obj> scanAllObjects(@Nonnull Set<ObjType> returnedObjTypes) {
     return new ScanAllObjectsIterator(
-        returnedObjTypes.isEmpty() ? x -> true : returnedObjTypes::contains);
+        returnedObjTypes.isEmpty() ? x -> true : returnedObjTypes::contains, false, null, null);
+  }
+
+  /**
+   * Scans only the key range of the given segment using the ID ranges from {@link ObjIdSegments}.
+   * RocksDB orders keys by their unsigned bytes, the repository prefix followed by the object ID.
+   */
+  @Nonnull
+  @Override
+  public CloseableIterator<Obj> scanAllObjects(
+      @Nonnull Set<ObjType> returnedObjTypes, int segment, int totalSegments) {
+    byte[] lower = lowerBound(segment, totalSegments);
+    byte[] upper = upperBound(segment, totalSegments);
+    return new ScanAllObjectsIterator(
+        returnedObjTypes.isEmpty() ? x -> true : returnedObjTypes::contains,
+        true,
+        lower != null ? dbKey(ByteString.copyFrom(lower)) : keyPrefix.toByteArray(),
+        upper != null ? dbKey(ByteString.copyFrom(upper)) : null);
+  }
+
+  @Override
+  public boolean supportsSegmentedScans() {
+    return true;
   }
 
   private class ScanAllObjectsIterator extends AbstractIterator<Obj>
@@ -576,17 +603,30 @@ class RocksDBPersist implements Persist {
     private final TransactionDB db;
     private final ColumnFamilyHandle cf;
     private final RocksIterator iter;
+    private final boolean keyRange;
+    private final byte[] upperKey;
     private boolean first = true;
     private byte[] lastKey;
 
-    ScanAllObjectsIterator(Predicate<ObjType> filter) {
+    /**
+     * @param keyRange whether to only scan the keys from {@code lowerKey} (inclusive) to {@code
+     *     upperKey} (exclusive, {@code null} for the end of the repository's keys)
+     */
+    ScanAllObjectsIterator(
+        Predicate<ObjType> filter, boolean keyRange, byte[] lowerKey, byte[] upperKey) {
       this.filter = filter;
+      this.keyRange = keyRange;
+      this.upperKey = upperKey;
 
       RocksDBBackend b = backend;
       db = b.db();
       cf = b.objs();
       iter = db.newIterator(b.objs());
-      iter.seekToFirst();
+      if (keyRange) {
+        iter.seek(lowerKey);
+      } else {
+        iter.seekToFirst();
+      }
     }
 
     @Override
@@ -611,8 +651,15 @@ class RocksDBPersist implements Persist {
 
         ByteString key = ByteString.copyFrom(k);
         if (!key.startsWith(keyPrefix)) {
+          if (keyRange) {
+            // All keys of the repository are contiguous, reached the end of the repository's keys.
+            return endOfData();
+          }
           continue;
         }
+        if (upperKey != null && Arrays.compareUnsigned(k, upperKey) >= 0) {
+          return endOfData();
+        }
 
         byte[] obj;
         try {
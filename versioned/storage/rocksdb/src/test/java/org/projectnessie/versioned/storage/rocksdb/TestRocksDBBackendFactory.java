@@ -16,23 +16,39 @@
 package org.projectnessie.versioned.storage.rocksdb;
 
 import static org.projectnessie.versioned.storage.common.logic.Logics.repositoryLogic;
+import static org.projectnessie.versioned.storage.common.objtypes.ContentValueObj.contentValue;
+import static org.projectnessie.versioned.storage.common.persist.ObjId.randomObjId;
+import static org.projectnessie.versioned.storage.common.persist.Reference.reference;
+import static org.projectnessie.versioned.storage.rocksdb.RocksDBBackend.keyPrefix;
 
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
 import org.assertj.core.api.SoftAssertions;
 import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
 import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.io.TempDir;
+import org.projectnessie.nessie.relocated.protobuf.ByteString;
 import org.projectnessie.versioned.storage.common.config.StoreConfig;
+import org.projectnessie.versioned.storage.common.exceptions.UnknownOperationResultException;
 import org.projectnessie.versioned.storage.common.logic.RepositoryDescription;
 import org.projectnessie.versioned.storage.common.logic.RepositoryLogic;
+import org.projectnessie.versioned.storage.common.objtypes.ContentValueObj;
 import org.projectnessie.versioned.storage.common.persist.Backend;
 import org.projectnessie.versioned.storage.common.persist.BackendFactory;
+import org.projectnessie.versioned.storage.common.persist.Obj;
+import org.projectnessie.versioned.storage.common.persist.ObjId;
 import org.projectnessie.versioned.storage.common.persist.Persist;
 import org.projectnessie.versioned.storage.common.persist.PersistFactory;
 import org.projectnessie.versioned.storage.common.persist.PersistLoader;
+import org.projectnessie.versioned.storage.common.persist.Reference;
 import org.projectnessie.versioned.storage.rocksdbtests.RocksDBBackendTestFactory;
+import org.rocksdb.CompressionType;
+import org.rocksdb.RocksDBException;
+import org.rocksdb.Status;
+import org.rocksdb.Transaction;
 
 @ExtendWith(SoftAssertionsExtension.class)
 public class TestRocksDBBackendFactory {
@@ -78,6 +94,114 @@ public class TestRocksDBBackendFactory {
     }
   }
 
+  @Test
+  public void columnFamilyTuning() throws Exception {
+    BackendFactory<RocksDBBackendConfig> factory =
+        PersistLoader.findFactoryByName(RocksDBBackendFactory.NAME);
+
+    RocksDBBackendConfig config =
+        RocksDBBackendConfig.builder()
+            .databasePath(rocksDir)
+            .lockTimeout(Duration.ofSeconds(5))
+            .objectsColumnFamily(
+                RocksDBColumnFamilyConfig.builder()
+                    .blockCacheSizeMb(8)
+                    .bloomFilterBitsPerKey(10d)
+                    .compression("none")
+                    .build())
+            .referencesColumnFamily(
+                RocksDBColumnFamilyConfig.builder().bloomFilterBitsPerKey(10d).build())
+            .build();
+
+    ContentValueObj obj1 = contentValue("cid1", 1, ByteString.copyFromUtf8("one"));
+    ContentValueObj obj2 = contentValue("cid2", 1, ByteString.copyFromUtf8("two"));
+
+    try (Backend backend = factory.buildBackend(config)) {
+      backend.setupSchema();
+      Persist persist = backend.createFactory().newPersist(StoreConfig.Adjustable.empty());
+
+      soft.assertThat(persist.storeObjs(new Obj[] {obj1, null, obj2, obj1}))
+          .containsExactly(true, false, true, false);
+      soft.assertThat(persist.storeObjs(new Obj[] {obj2})).containsExactly(false);
+    }
+
+    try (Backend backend = factory.buildBackend(config)) {
+      backend.setupSchema();
+      Persist persist = backend.createFactory().newPersist(StoreConfig.Adjustable.empty());
+
+      soft.assertThat(persist.fetchObjsIfExist(new ObjId[] {obj1.id(), obj2.id()}))
+          .extracting(Obj::id)
+          .containsExactly(obj1.id(), obj2.id());
+    }
+  }
+
+  @Test
+  public void lockTimeout() throws Exception {
+    BackendFactory<RocksDBBackendConfig> factory =
+        PersistLoader.findFactoryByName(RocksDBBackendFactory.NAME);
+
+    RocksDBBackendConfig config =
+        RocksDBBackendConfig.builder()
+            .databasePath(rocksDir)
+            .lockTimeout(Duration.ofMillis(50))
+            .build();
+
+    try (Backend backend = factory.buildBackend(config)) {
+      backend.setupSchema();
+      RocksDBBackend rocksDBBackend = (RocksDBBackend) backend;
+      Persist persist = backend.createFactory().newPersist(StoreConfig.Adjustable.empty());
+
+      Reference ref = persist.addReference(reference("main", randomObjId(), false, 0L, null));
+      byte[] key =
+          keyPrefix(persist.config().repositoryId())
+              .concat(ByteString.copyFromUtf8(ref.name()))
+              .toByteArray();
+
+      // A concurrent transaction holds the lock on the reference until the lock timeout
+      try (Transaction txn = rocksDBBackend.beginTransaction()) {
+        txn.getForUpdate(rocksDBBackend.readOptions(), rocksDBBackend.refs(), key, true);
+
+        soft.assertThatThrownBy(() -> persist.updateReferencePointer(ref, randomObjId()))
+            .isInstanceOf(UnknownOperationResultException.class)
+            .cause()
+            .isInstanceOf(RocksDBException.class);
+
+        txn.rollback();
+      }
+
+      soft.assertThat(persist.updateReferencePointer(ref, randomObjId())).isNotNull();
+    }
+  }
+
+  @Test
+  public void exceptionMapping() {
+    for (Status.Code code : List.of(Status.Code.TimedOut, Status.Code.Busy, Status.Code.TryAgain)) {
+      soft.assertThat(
+              RocksDBBackend.rocksDbException(
+                  new RocksDBException("retry", new Status(code, Status.SubCode.None, null))))
+          .describedAs("%s", code)
+          .isInstanceOf(UnknownOperationResultException.class);
+    }
+    soft.assertThat(
+            RocksDBBackend.rocksDbException(
+                new RocksDBException(
+                    "fail", new Status(Status.Code.IOError, Status.SubCode.None, null))))
+        .isNotInstanceOf(UnknownOperationResultException.class);
+    soft.assertThat(RocksDBBackend.rocksDbException(new RocksDBException("no status")))
+        .isNotInstanceOf(UnknownOperationResultException.class);
+  }
+
+  @Test
+  public void compressionType() {
+    soft.assertThat(RocksDBBackend.compressionType("LZ4"))
+        .isSameAs(CompressionType.LZ4_COMPRESSION);
+    soft.assertThat(RocksDBBackend.compressionType("zstd"))
+        .isSameAs(CompressionType.ZSTD_COMPRESSION);
+    soft.assertThatIllegalArgumentException()
+        .isThrownBy(() -> RocksDBBackend.compressionType("foo"))
+        .withMessage("Unsupported RocksDB compression: foo");
+  }
+
   @Test
   public void testFactory() throws Exception {
     RocksDBBackendTestFactory testFactory = new RocksDBBackendTestFactory();
@@ -162,12 +162,32 @@ class CommitImpl extends BaseCommitHelper {
           ReferenceConflictException,
           RetryException,
           ObjTooLargeException {
-    CreateCommit.Builder commit = newCommitBuilder().parentCommitId(headId());
-    List<Obj> objectsToStore = new ArrayList<>(operations.size() + 1);
-
     CommitRetryState commitRetryState =
         retryState.map(x -> (CommitRetryState) x).orElseGet(CommitRetryState::new);
 
+    CommitObj newHead = storeCommit(commitRetryState, metadata, operations, validator);
+
+    bumpReferencePointer(newHead.id(), Optional.of(commitRetryState));
+
+    return commitResult(newHead, commitRetryState, addedContents);
+  }
+
+  /**
+   * Builds and persists the commit object for the given operations on top of the current HEAD, but
+   * does not update the reference.
+   */
+  CommitObj storeCommit(
+      @Nonnull CommitRetryState commitRetryState,
+      @Nonnull CommitMeta metadata,
+      @Nonnull List<Operation> operations,
+      @Nonnull CommitValidator validator)
+      throws ReferenceNotFoundException,
+          ReferenceConflictException,
+          RetryException,
+          ObjTooLargeException {
+    CreateCommit.Builder commit = newCommitBuilder().parentCommitId(headId());
+    List<Obj> objectsToStore = new ArrayList<>(operations.size() + 1);
+
     // toStore holds the IDs of all (non-CommitObj) objects to be stored via
     // `CommitLogic.storeCommit()`. If `storeCommit()` succeeds, we can add those IDs to
     // `CommitRetryState.storedContents` to not store those objects during a retry.
@@ -197,10 +217,9 @@ class CommitImpl extends BaseCommitHelper {
 
     fromCommitMeta(metadata, commit);
 
-    CommitObj newHead;
     try {
       CreateCommit createCommit = commit.build();
-      newHead = commitLogic.buildCommitObj(createCommit);
+      CommitObj newHead = commitLogic.buildCommitObj(createCommit);
 
       // If 'commitRetryState.storedContents' already contains the commit-ID, __we__ already
       // successfully persisted that commit. This can happen, if the `Persist` implementation raised
@@ -217,21 +236,31 @@ class CommitImpl extends BaseCommitHelper {
           "Hash collision detected, a commit with the same parent commit, commit message, "
               + "headers/commit-metadata and operations already exists");
 
-      bumpReferencePointer(newHead.id(), Optional.of(commitRetryState));
+      return newHead;
+    } catch (CommitConflictException e) {
+      throw referenceConflictException(e);
+    } catch (ObjNotFoundException e) {
+      throw referenceNotFound(e);
+    } catch (UnknownOperationResultException e) {
+      throw new RetryException(Optional.of(commitRetryState));
+    }
+  }
 
-      commitRetryState.generatedContentIds.forEach(addedContents);
+  /** Builds the result for a commit, after the reference has been updated. */
+  CommitResult commitResult(
+      @Nonnull CommitObj newHead,
+      @Nonnull CommitRetryState commitRetryState,
+      @Nonnull BiConsumer<ContentKey, String> addedContents)
+      throws ReferenceNotFoundException {
+    commitRetryState.generatedContentIds.forEach(addedContents);
 
+    try {
       return ImmutableCommitResult.builder()
           .commit(contentMapping.commitObjToCommit(true, newHead))
           .targetBranch((BranchName) RefMapping.referenceToNamedRef(reference))
           .build();
-
-    } catch (CommitConflictException e) {
-      throw referenceConflictException(e);
     } catch (ObjNotFoundException e) {
       throw referenceNotFound(e);
-    } catch (UnknownOperationResultException e) {
-      throw new RetryException(Optional.of(commitRetryState));
     }
   }
 
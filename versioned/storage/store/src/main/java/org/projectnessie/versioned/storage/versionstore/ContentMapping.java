@@ -31,6 +31,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionStage;
 import java.util.stream.Collectors;
 import org.projectnessie.model.CommitMeta;
 import org.projectnessie.model.Content;
@@ -106,21 +107,51 @@ public final class ContentMapping {
     return r;
   }
 
+  /**
+   * Asynchronous variant of {@link #fetchContents(StoreIndex, Collection)}. The given index is only
+   * accessed by the calling thread, fetching and deserializing the content objects happens
+   * asynchronously. The returned stage fails with an {@link ObjNotFoundException}, possibly
+   * wrapped, if a content object does not exist.
+   */
+  @Nonnull
+  public CompletionStage<Map<ContentKey, Content>> fetchContentsAsync(
+      @Nonnull StoreIndex<CommitOp> index, @Nonnull Collection<ContentKey> keys) {
+
+    // Eagerly bulk-(pre)fetch the requested keys
+    index.loadIfNecessary(
+        keys.stream().map(TypeMapping::keyToStoreKey).collect(Collectors.toSet()));
+
+    Map<ObjId, List<ContentKey>> idsToKeys = valueObjIdsToKeys(index, keys);
+    ObjId[] ids = idsToKeys.keySet().toArray(new ObjId[0]);
+    return persist
+        .fetchTypedObjsAsync(ids, null, Obj.class)
+        .thenApply(objs -> objsToContents(idsToKeys, objs));
+  }
+
   private Map<ContentKey, Content> fetchContentsDuplicateObjIds(
       StoreIndex<CommitOp> index, Collection<ContentKey> keys) throws ObjNotFoundException {
+    Map<ObjId, List<ContentKey>> idsToKeys = valueObjIdsToKeys(index, keys);
+    ObjId[] ids = idsToKeys.keySet().toArray(new ObjId[0]);
+    Obj[] objs = persist.fetchObjs(ids);
+    return objsToContents(idsToKeys, objs);
+  }
+
+  private static Map<ObjId, List<ContentKey>> valueObjIdsToKeys(
+      StoreIndex<CommitOp> index, Collection<ContentKey> keys) {
     Map<ObjId, List<ContentKey>> idsToKeys = newHashMapWithExpectedSize(keys.size());
     for (ContentKey key : keys) {
       ObjId valueObjId = valueObjIdByKey(key, index);
       if (valueObjId != null) {
-        idsToKeys.computeIfAbsent(valueObjId, x -> new ArrayList<>()).add(key);
+        idsToKeys.computeIfAbsent(valueObjId, x -> new ArrayList<>(1)).add(key);
       }
     }
+    return idsToKeys;
+  }
 
-    ObjId[] ids = idsToKeys.keySet().toArray(new ObjId[0]);
-    Obj[] objs = persist.fetchObjs(ids);
-    Map<ContentKey, Content> r = newHashMapWithExpectedSize(ids.length);
-    for (int i = 0; i < ids.length; i++) {
-      Obj obj = objs[i];
+  private static Map<ContentKey, Content> objsToContents(
+      Map<ObjId, List<ContentKey>> idsToKeys, Obj[] objs) {
+    Map<ContentKey, Content> r = newHashMapWithExpectedSize(objs.length);
+    for (Obj obj : objs) {
       if (obj instanceof ContentValueObj) {
         ContentValueObj contentValue = (ContentValueObj) obj;
         Content content = valueToContent(contentValue);
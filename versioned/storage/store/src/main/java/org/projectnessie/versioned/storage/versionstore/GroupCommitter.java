@@ -0,0 +1,245 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.versionstore;
+
+import static org.projectnessie.versioned.storage.common.logic.Logics.commitLogic;
+import static org.projectnessie.versioned.storage.versionstore.BaseCommitHelper.committingOperation;
+import static org.projectnessie.versioned.storage.versionstore.RefMapping.referenceNotFound;
+
+import com.google.common.annotations.VisibleForTesting;
+import jakarta.annotation.Nonnull;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import org.projectnessie.model.CommitMeta;
+import org.projectnessie.model.ContentKey;
+import org.projectnessie.model.Operation;
+import org.projectnessie.versioned.BranchName;
+import org.projectnessie.versioned.CommitResult;
+import org.projectnessie.versioned.Hash;
+import org.projectnessie.versioned.ReferenceConflictException;
+import org.projectnessie.versioned.ReferenceNotFoundException;
+import org.projectnessie.versioned.VersionStore.CommitValidator;
+import org.projectnessie.versioned.storage.common.exceptions.ObjNotFoundException;
+import org.projectnessie.versioned.storage.common.exceptions.ObjTooLargeException;
+import org.projectnessie.versioned.storage.common.logic.CommitRetry.RetryException;
+import org.projectnessie.versioned.storage.common.objtypes.CommitObj;
+import org.projectnessie.versioned.storage.common.persist.Persist;
+import org.projectnessie.versioned.storage.common.persist.Reference;
+import org.projectnessie.versioned.storage.versionstore.CommitImpl.CommitRetryState;
+
+/**
+ * Groups concurrent commits to the same branch, see {@link
+ * org.projectnessie.versioned.storage.common.config.StoreConfig#groupCommits()}.
+ *
+ * <p>Commits to a branch are serialized via a per-branch (fair) lock. The first commit that finds
+ * no open group for the branch resolves the branch's HEAD, opens a new group and becomes the
+ * group's leader. Each following commit is built on top of the previous commit in the same group,
+ * so conflicts against the commits in the group are detected like conflicts against the HEAD of the
+ * branch and reject only the conflicting commit. Commits are built and validated by the calling
+ * threads.
+ *
+ * <p>After its own commit has been built, the leader acquires the branch lock again, which lets all
+ * commits that were already waiting join the group, closes the group and updates the branch's HEAD
+ * to the last commit in the group with a single reference-pointer update. If that update fails, for
+ * example because the branch has been updated by another Nessie node, all commits of the group are
+ * retried using the regular, non-grouped commit path.
+ */
+final class GroupCommitter {
+
+  private final Map<String, BranchCommits> branches = new ConcurrentHashMap<>();
+
+  CommitResult commit(
+      @Nonnull Persist persist,
+      @Nonnull BranchName branch,
+      @Nonnull Optional<Hash> referenceHash,
+      @Nonnull CommitMeta metadata,
+      @Nonnull List<Operation> operations,
+      @Nonnull CommitValidator validator,
+      @Nonnull BiConsumer<ContentKey, String> addedContents)
+      throws ReferenceNotFoundException, ReferenceConflictException {
+    CommitRetryState commitRetryState = new CommitRetryState();
+
+    BranchCommits branchCommits = acquire(branch.getName());
+    CommitImpl committer;
+    CommitObj newHead;
+    CommitGroup group;
+    try {
+      try {
+        branchCommits.lock.lock();
+        try {
+          group = branchCommits.open;
+          Reference reference;
+          CommitObj head;
+          if (group == null) {
+            reference = new RefMapping(persist).resolveNamedRefForUpdate(branch);
+            head = commitLogic(persist).headCommit(reference);
+          } else {
+            reference = group.leader.reference;
+            head = group.tip;
+          }
+
+          committer = new CommitImpl(branch, referenceHash, persist, reference, head);
+          newHead = committer.storeCommit(commitRetryState, metadata, operations, validator);
+
+          if (group == null) {
+            group = new CommitGroup(committer);
+            branchCommits.open = group;
+          }
+          group.tip = newHead;
+        } finally {
+          branchCommits.lock.unlock();
+        }
+
+        if (group.leader == committer) {
+          branchCommits.lock.lock();
+          try {
+            branchCommits.open = null;
+            group.updateReference();
+          } finally {
+            branchCommits.lock.unlock();
+          }
+        }
+      } finally {
+        release(branch.getName());
+      }
+    } catch (ObjNotFoundException e) {
+      throw referenceNotFound(e);
+    } catch (ObjTooLargeException e) {
+      throw new RuntimeException(e);
+    } catch (RetryException e) {
+      return commitNonGrouped(
+          persist,
+          branch,
+          referenceHash,
+          metadata,
+          operations,
+          validator,
+          addedContents,
+          commitRetryState);
+    }
+
+    boolean applied;
+    try {
+      applied = group.applied.join();
+    } catch (CompletionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      throw new RuntimeException(cause);
+    }
+
+    if (!applied) {
+      return commitNonGrouped(
+          persist,
+          branch,
+          referenceHash,
+          metadata,
+          operations,
+          validator,
+          addedContents,
+          commitRetryState);
+    }
+
+    return committer.commitResult(newHead, commitRetryState, addedContents);
+  }
+
+  private static CommitResult commitNonGrouped(
+      Persist persist,
+      BranchName branch,
+      Optional<Hash> referenceHash,
+      CommitMeta metadata,
+      List<Operation> operations,
+      CommitValidator validator,
+      BiConsumer<ContentKey, String> addedContents,
+      CommitRetryState commitRetryState)
+      throws ReferenceNotFoundException, ReferenceConflictException {
+    // Reuse the state of the grouped attempt, so already generated content IDs and already
+    // persisted content values are reused.
+    return committingOperation(
+        "commit",
+        branch,
+        referenceHash,
+        persist,
+        CommitImpl::new,
+        (commitImpl, retryState) ->
+            commitImpl.commit(
+                retryState.isPresent() ? retryState : Optional.of(commitRetryState),
+                metadata,
+                operations,
+                validator,
+                addedContents));
+  }
+
+  private BranchCommits acquire(String branchName) {
+    return branches.compute(
+        branchName,
+        (k, v) -> {
+          if (v == null) {
+            v = new BranchCommits();
+          }
+          v.users++;
+          return v;
+        });
+  }
+
+  private void release(String branchName) {
+    branches.computeIfPresent(branchName, (k, v) -> --v.users == 0 ? null : v);
+  }
+
+  @VisibleForTesting
+  int waitingCommits(String branchName) {
+    BranchCommits branchCommits = branches.get(branchName);
+    return branchCommits != null ? branchCommits.lock.getQueueLength() : 0;
+  }
+
+  private static final class BranchCommits {
+    final ReentrantLock lock = new ReentrantLock(true);
+    // guarded by 'lock'
+    CommitGroup open;
+    // guarded by the 'branches' map
+    int users;
+  }
+
+  private static final class CommitGroup {
+    final CommitImpl leader;
+    final CompletableFuture<Boolean> applied = new CompletableFuture<>();
+    // guarded by the branch lock
+    CommitObj tip;
+
+    CommitGroup(CommitImpl leader) {
+      this.leader = leader;
+    }
+
+    void updateReference() {
+      try {
+        leader.bumpReferencePointer(tip.id(), Optional.empty());
+        applied.complete(true);
+      } catch (RetryException e) {
+        applied.complete(false);
+      } catch (RuntimeException | Error e) {
+        applied.completeExceptionally(e);
+        throw e;
+      }
+    }
+  }
+}
@@ -17,6 +17,7 @@ package org.projectnessie.versioned.storage.versionstore;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.collect.Maps.newHashMapWithExpectedSize;
+import static java.util.Collections.emptyIterator;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singleton;
 import static java.util.Objects.requireNonNull;
@@ -32,12 +33,14 @@ import static org.projectnessie.versioned.storage.common.logic.Logics.consistenc
 import static org.projectnessie.versioned.storage.common.logic.Logics.indexesLogic;
 import static org.projectnessie.versioned.storage.common.logic.Logics.referenceLogic;
 import static org.projectnessie.versioned.storage.common.logic.Logics.repositoryLogic;
+import static org.projectnessie.versioned.storage.common.logic.NewReference.newReference;
 import static org.projectnessie.versioned.storage.common.logic.PagingToken.fromString;
 import static org.projectnessie.versioned.storage.common.logic.PagingToken.pagingToken;
 import static org.projectnessie.versioned.storage.common.logic.ReferencesQuery.referencesQuery;
 import static org.projectnessie.versioned.storage.common.objtypes.CommitOp.COMMIT_OP_SERIALIZER;
 import static org.projectnessie.versioned.storage.common.objtypes.StandardObjType.COMMIT;
 import static org.projectnessie.versioned.storage.common.persist.ObjId.EMPTY_OBJ_ID;
+import static org.projectnessie.versioned.storage.common.persist.PersistAsync.unwrapFailure;
 import static org.projectnessie.versioned.storage.common.persist.Reference.reference;
 import static org.projectnessie.versioned.storage.versionstore.BaseCommitHelper.committingOperation;
 import static org.projectnessie.versioned.storage.versionstore.BaseCommitHelper.dryRunCommitterSupplier;
@@ -62,10 +65,15 @@ import static org.projectnessie.versioned.storage.versionstore.TypeMapping.store
 import static org.projectnessie.versioned.storage.versionstore.TypeMapping.toCommitMeta;
 import static org.projectnessie.versioned.store.DefaultStoreWorker.contentTypeForPayload;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.AbstractIterator;
 import jakarta.annotation.Nonnull;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -74,6 +82,10 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
@@ -94,6 +106,7 @@ import org.projectnessie.versioned.BranchName;
 import org.projectnessie.versioned.Commit;
 import org.projectnessie.versioned.CommitResult;
 import org.projectnessie.versioned.ContentResult;
+import org.projectnessie.versioned.CreateReferenceOutcome;
 import org.projectnessie.versioned.DetachedRef;
 import org.projectnessie.versioned.Diff;
 import org.projectnessie.versioned.GetNamedRefsParams;
@@ -137,9 +150,11 @@ import org.projectnessie.versioned.storage.common.indexes.StoreIndexElement;
 import org.projectnessie.versioned.storage.common.indexes.StoreKey;
 import org.projectnessie.versioned.storage.common.logic.CommitLogic;
 import org.projectnessie.versioned.storage.common.logic.ConsistencyLogic;
+import org.projectnessie.versioned.storage.common.logic.CreateReferenceResult;
 import org.projectnessie.versioned.storage.common.logic.DiffEntry;
 import org.projectnessie.versioned.storage.common.logic.DiffPagedResult;
 import org.projectnessie.versioned.storage.common.logic.IndexesLogic;
+import org.projectnessie.versioned.storage.common.logic.NewReference;
 import org.projectnessie.versioned.storage.common.logic.PagedResult;
 import org.projectnessie.versioned.storage.common.logic.PagingToken;
 import org.projectnessie.versioned.storage.common.logic.ReferenceLogic;
@@ -154,7 +169,13 @@ import org.projectnessie.versioned.storage.versionstore.BaseCommitHelper.Committ
 public class VersionStoreImpl implements VersionStore {
 
   public static final int GET_KEYS_CONTENT_BATCH_SIZE = 50;
+
+  /** Maximum number of content batches fetched concurrently by {@code getKeys}. */
+  public static final int GET_KEYS_CONTENT_PREFETCH_BATCHES = 4;
+
+  public static final int GET_NAMED_REFS_HEADS_BATCH_SIZE = 50;
   private final Persist persist;
+  private final GroupCommitter groupCommitter = new GroupCommitter();
 
   @SuppressWarnings("unused")
   public VersionStoreImpl() {
@@ -165,6 +186,11 @@ public class VersionStoreImpl implements VersionStore {
     this.persist = persist;
   }
 
+  @VisibleForTesting
+  GroupCommitter groupCommitter() {
+    return groupCommitter;
+  }
+
   @Nonnull
   @Override
   public RepositoryInformation getRepositoryInformation() {
@@ -249,6 +275,80 @@ public class VersionStoreImpl implements VersionStore {
     }
   }
 
+  @Override
+  public List<CreateReferenceOutcome> createReferences(Map<NamedRef, Optional<Hash>> refs) {
+    ReferenceLogic referenceLogic = referenceLogic(persist);
+    List<NamedRef> namedRefs = new ArrayList<>(refs.keySet());
+
+    // A tag with the same name as a branch being created (or a branch with the same name as a tag
+    // being created) must not exist.
+    List<Reference> conflicting =
+        referenceLogic.getReferencesForUpdate(
+            namedRefs.stream()
+                .map(r -> r instanceof TagName ? asBranchName(r.getName()) : asTagName(r.getName()))
+                .collect(Collectors.toList()));
+
+    CreateReferenceOutcome[] outcomes = new CreateReferenceOutcome[namedRefs.size()];
+    List<NewReference> newReferences = new ArrayList<>(namedRefs.size());
+    List<Integer> newReferenceIndexes = new ArrayList<>(namedRefs.size());
+    Map<ObjId, Boolean> commitTargets = new HashMap<>();
+    for (int i = 0; i < namedRefs.size(); i++) {
+      NamedRef namedRef = namedRefs.get(i);
+      try {
+        ObjId objId = EMPTY_OBJ_ID;
+        Optional<Hash> targetHash = refs.get(namedRef);
+        if (targetHash.isPresent()) {
+          Hash hash = targetHash.get();
+          objId = hashToObjId(hash);
+          if (!hash.equals(NO_ANCESTOR) && !isCommit(objId, commitTargets)) {
+            throw RefMapping.hashNotFound(hash);
+          }
+        }
+        if (conflicting.get(i) != null) {
+          throw referenceAlreadyExists(namedRef);
+        }
+        newReferences.add(newReference(namedRefToRefName(namedRef), objId, null));
+        newReferenceIndexes.add(i);
+      } catch (ReferenceNotFoundException | ReferenceAlreadyExistsException e) {
+        outcomes[i] = CreateReferenceOutcome.failed(namedRef, e);
+      }
+    }
+
+    List<CreateReferenceResult> results;
+    try {
+      results = referenceLogic.createReferences(newReferences);
+    } catch (RetryTimeoutException e) {
+      throw new RuntimeException(e);
+    }
+    for (int n = 0; n < results.size(); n++) {
+      int i = newReferenceIndexes.get(n);
+      NamedRef namedRef = namedRefs.get(i);
+      CreateReferenceResult result = results.get(n);
+      outcomes[i] =
+          result.created()
+              ? CreateReferenceOutcome.created(
+                  ImmutableReferenceCreatedResult.builder()
+                      .namedRef(namedRef)
+                      .hash(objIdToHash(requireNonNull(result.reference()).pointer()))
+                      .build())
+              : CreateReferenceOutcome.failed(namedRef, referenceAlreadyExists(namedRef));
+    }
+    return Arrays.asList(outcomes);
+  }
+
+  private boolean isCommit(ObjId objId, Map<ObjId, Boolean> commitTargets) {
+    Boolean isCommit = commitTargets.get(objId);
+    if (isCommit == null) {
+      try {
+        isCommit = persist.fetchObjType(objId) == COMMIT;
+      } catch (ObjNotFoundException e) {
+        isCommit = false;
+      }
+      commitTargets.put(objId, isCommit);
+    }
+    return isCommit;
+  }
+
   @Override
   public ReferenceAssignedResult assign(NamedRef namedRef, Hash expectedHash, Hash targetHash)
       throws ReferenceNotFoundException, ReferenceConflictException {
@@ -537,12 +637,13 @@ public class VersionStoreImpl implements VersionStore {
     CommitLogic commitLogic = commitLogic(persist);
 
     return new FilteringPaginationIterator<>(
-        result,
-        reference -> {
+        new ReferenceWithHeadIterator(result, commitLogic),
+        referenceWithHead -> {
+          Reference reference = referenceWithHead.reference;
           try {
             NamedRef namedRef = referenceToNamedRef(reference);
-            CommitObj head = commitLogic(persist).headCommit(reference);
-            return buildReferenceInfo(params, baseRefHead, commitLogic, namedRef, head);
+            return buildReferenceInfo(
+                params, baseRefHead, commitLogic, namedRef, referenceWithHead.head);
           } catch (ObjNotFoundException e) {
             throw new RuntimeException("Could not resolve reference " + reference, e);
           }
@@ -550,8 +651,8 @@ public class VersionStoreImpl implements VersionStore {
 
       @Override
       protected String computeTokenForCurrent() {
-        Reference c = current();
-        return c != null ? tokenFor(c.name()) : null;
+        ReferenceWithHead c = current();
+        return c != null ? tokenFor(c.reference.name()) : null;
       }
 
       @Override
@@ -565,6 +666,60 @@ public class VersionStoreImpl implements VersionStore {
     };
   }
 
+  static final class ReferenceWithHead {
+    final Reference reference;
+    final CommitObj head;
+
+    ReferenceWithHead(Reference reference, CommitObj head) {
+      this.reference = reference;
+      this.head = head;
+    }
+  }
+
+  /**
+   * Groups the references returned by the given iterator into batches of {@link
+   * #GET_NAMED_REFS_HEADS_BATCH_SIZE} and fetches the HEAD commits of each batch at once, instead
+   * of fetching the HEAD commit of each reference individually.
+   */
+  static final class ReferenceWithHeadIterator extends AbstractIterator<ReferenceWithHead> {
+    private final Iterator<Reference> references;
+    private final CommitLogic commitLogic;
+    private final List<Reference> batch = new ArrayList<>(GET_NAMED_REFS_HEADS_BATCH_SIZE);
+    private Iterator<ReferenceWithHead> current = emptyIterator();
+
+    ReferenceWithHeadIterator(Iterator<Reference> references, CommitLogic commitLogic) {
+      this.references = references;
+      this.commitLogic = commitLogic;
+    }
+
+    @Override
+    protected ReferenceWithHead computeNext() {
+      if (!current.hasNext()) {
+        while (batch.size() < GET_NAMED_REFS_HEADS_BATCH_SIZE && references.hasNext()) {
+          batch.add(references.next());
+        }
+        if (batch.isEmpty()) {
+          return endOfData();
+        }
+
+        CommitObj[] heads;
+        try {
+          heads = commitLogic.headCommits(batch);
+        } catch (ObjNotFoundException e) {
+          throw new RuntimeException("Could not resolve references " + batch, e);
+        }
+
+        List<ReferenceWithHead> resolved = new ArrayList<>(batch.size());
+        for (int i = 0; i < heads.length; i++) {
+          resolved.add(new ReferenceWithHead(batch.get(i), heads[i]));
+        }
+        batch.clear();
+        current = resolved.iterator();
+      }
+      return current.next();
+    }
+  }
+
   private ReferenceInfo<CommitMeta> buildReferenceInfo(
       GetNamedRefsParams params,
       Optional<CommitObj> baseRefHead,
@@ -772,12 +927,15 @@ public class VersionStoreImpl implements VersionStore {
         };
 
     // "Fetch content" iterator - same as the "base" iterator when not fetching the content,
-    // fetches contents in batches if 'withContent == true'.
+    // fetches contents in batches if 'withContent == true'. Up to
+    // GET_KEYS_CONTENT_PREFETCH_BATCHES batches are fetched concurrently, the number of batches
+    // fetched ahead grows with each consumed batch, so that callers that only consume the first
+    // few entries do not trigger unnecessary fetches.
     Iterator<ContentKeyWithCommitOp> fetchContent =
         withContent
             ? new AbstractIterator<>() {
-              final List<ContentKeyWithCommitOp> batch =
-                  new ArrayList<>(GET_KEYS_CONTENT_BATCH_SIZE);
+              final Deque<ContentBatch> inFlight = new ArrayDeque<>();
+              int prefetchBatches;
 
               Iterator<ContentKeyWithCommitOp> current;
 
@@ -789,30 +947,29 @@ public class VersionStoreImpl implements VersionStore {
                   return c.next();
                 }
 
-                for (int i = 0; i < GET_KEYS_CONTENT_BATCH_SIZE; i++) {
-                  if (!keyAndOp.hasNext()) {
+                if (prefetchBatches < GET_KEYS_CONTENT_PREFETCH_BATCHES) {
+                  prefetchBatches++;
+                }
+                while (inFlight.size() < prefetchBatches) {
+                  List<ContentKeyWithCommitOp> batch = new ArrayList<>(GET_KEYS_CONTENT_BATCH_SIZE);
+                  for (int i = 0; i < GET_KEYS_CONTENT_BATCH_SIZE; i++) {
+                    if (!keyAndOp.hasNext()) {
+                      break;
+                    }
+                    batch.add(keyAndOp.next());
+                  }
+                  if (batch.isEmpty()) {
                     break;
                   }
-                  batch.add(keyAndOp.next());
+                  inFlight.addLast(new ContentBatch(batch, contentMapping, index));
                 }
 
-                if (batch.isEmpty()) {
+                ContentBatch next = inFlight.pollFirst();
+                if (next == null) {
                   current = null;
                   return endOfData();
                 }
-
-                try {
-                  Map<ContentKey, Content> contents =
-                      contentMapping.fetchContents(
-                          index, batch.stream().map(op -> op.key).collect(Collectors.toList()));
-                  for (ContentKeyWithCommitOp op : batch) {
-                    op.content = contents.get(op.key);
-                  }
-                } catch (ObjNotFoundException e) {
-                  throw new RuntimeException("Could not fetch or map content", e);
-                }
-                current = new ArrayList<>(batch).iterator();
-                batch.clear();
+                current = next.await().iterator();
                 return current.next();
               }
             }
@@ -877,6 +1034,61 @@ public class VersionStoreImpl implements VersionStore {
     };
   }
 
+  /**
+   * A batch of keys from {@code getKeys}, whose contents are being fetched asynchronously.
+   *
+   * <p>If the asynchronous fetch is rejected, because the thread pool used to offload synchronous
+   * database calls is saturated, the contents are fetched on the iterating thread instead of
+   * failing the whole listing.
+   */
+  static final class ContentBatch {
+    final List<ContentKeyWithCommitOp> ops;
+    final List<ContentKey> keys;
+    final ContentMapping contentMapping;
+    final StoreIndex<CommitOp> index;
+    final CompletionStage<Map<ContentKey, Content>> contents;
+
+    ContentBatch(
+        List<ContentKeyWithCommitOp> ops,
+        ContentMapping contentMapping,
+        StoreIndex<CommitOp> index) {
+      this.ops = ops;
+      this.keys = ops.stream().map(op -> op.key).collect(Collectors.toList());
+      this.contentMapping = contentMapping;
+      this.index = index;
+      this.contents = contentMapping.fetchContentsAsync(index, keys);
+    }
+
+    /** Waits for the contents of this batch and returns the keys with their contents. */
+    List<ContentKeyWithCommitOp> await() {
+      Map<ContentKey, Content> fetched;
+      try {
+        fetched = contents.toCompletableFuture().join();
+      } catch (CompletionException | CancellationException e) {
+        Throwable cause = unwrapFailure(e);
+        if (cause instanceof RejectedExecutionException) {
+          fetched = fetchOnCallingThread();
+        } else if (cause instanceof RuntimeException) {
+          throw (RuntimeException) cause;
+        } else {
+          throw new RuntimeException("Could not fetch or map content", cause);
+        }
+      }
+      for (ContentKeyWithCommitOp op : ops) {
+        op.content = fetched.get(op.key);
+      }
+      return ops;
+    }
+
+    private Map<ContentKey, Content> fetchOnCallingThread() {
+      try {
+        return contentMapping.fetchContents(index, keys);
+      } catch (ObjNotFoundException e) {
+        throw new RuntimeException("Could not fetch or map content", e);
+      }
+    }
+  }
+
   static final class ContentKeyWithCommitOp {
     final StoreKey storeKey;
     final ContentKey key;
@@ -1021,6 +1233,11 @@ public class VersionStoreImpl implements VersionStore {
       @Nonnull CommitValidator validator,
       @Nonnull BiConsumer<ContentKey, String> addedContents)
       throws ReferenceNotFoundException, ReferenceConflictException {
+    if (persist.config().groupCommits()) {
+      return groupCommitter.commit(
+          persist, branch, referenceHash, metadata, operations, validator, addedContents);
+    }
+
     return committingOperation(
         "commit",
         branch,
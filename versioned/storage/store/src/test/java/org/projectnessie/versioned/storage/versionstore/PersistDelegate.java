@@ -220,6 +220,18 @@ public class PersistDelegate implements Persist {
     return delegate.scanAllObjects(returnedObjTypes);
   }
 
+  @Override
+  @Nonnull
+  public CloseableIterator<Obj> scanAllObjects(
+      @Nonnull Set<ObjType> returnedObjTypes, int segment, int totalSegments) {
+    return delegate.scanAllObjects(returnedObjTypes, segment, totalSegments);
+  }
+
+  @Override
+  public boolean supportsSegmentedScans() {
+    return delegate.supportsSegmentedScans();
+  }
+
   @Override
   public void erase() {
     delegate.erase();
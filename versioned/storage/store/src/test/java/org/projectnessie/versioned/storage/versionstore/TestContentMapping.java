@@ -31,9 +31,13 @@ import static org.projectnessie.versioned.storage.versionstore.TypeMapping.keyTo
 import static org.projectnessie.versioned.storage.versionstore.TypeMapping.objIdToHash;
 import static org.projectnessie.versioned.store.DefaultStoreWorker.payloadForContent;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -58,6 +62,7 @@ import org.projectnessie.model.Operation.Put;
 import org.projectnessie.model.UDF;
 import org.projectnessie.versioned.Commit;
 import org.projectnessie.versioned.ImmutableCommit;
+import org.projectnessie.versioned.storage.common.exceptions.ObjNotFoundException;
 import org.projectnessie.versioned.storage.common.indexes.StoreIndex;
 import org.projectnessie.versioned.storage.common.objtypes.CommitObj;
 import org.projectnessie.versioned.storage.common.objtypes.CommitOp;
@@ -141,10 +146,46 @@ public class TestContentMapping {
     StoreIndex<CommitOp> index = newStoreIndex(COMMIT_OP_SERIALIZER);
     dupKeys.forEach(k -> index.add(indexElement(keyToStoreKey(k), commitOp(Action.ADD, 1, id))));
 
+    Map<ContentKey, Content> expected =
+        dupKeys.stream().collect(Collectors.toMap(Function.identity(), e -> content));
     Map<ContentKey, Content> contents = contentMapping.fetchContents(index, dupKeys);
-    soft.assertThat(contents)
-        .containsAllEntriesOf(
-            dupKeys.stream().collect(Collectors.toMap(Function.identity(), e -> content)));
+    soft.assertThat(contents).containsAllEntriesOf(expected);
+    soft.assertThat(contentMapping.fetchContentsAsync(index, dupKeys))
+        .succeedsWithin(Duration.ofSeconds(30))
+        .isEqualTo(expected);
+  }
+
+  @Test
+  public void fetchContentsAsync() throws Exception {
+    ContentMapping contentMapping = new ContentMapping(persist);
+
+    StoreIndex<CommitOp> index = newStoreIndex(COMMIT_OP_SERIALIZER);
+    Map<ContentKey, Content> expected = new HashMap<>();
+    for (int i = 0; i < 10; i++) {
+      ContentKey key = ContentKey.of("table" + i);
+      Content content = IcebergTable.of("/dev/null", i, 43, 44, 45, UUID.randomUUID().toString());
+      ContentValueObj value = contentMapping.buildContent(content, payloadForContent(content));
+      persist.storeObj(value);
+      index.add(indexElement(keyToStoreKey(key), commitOp(Action.ADD, 1, value.id())));
+      expected.put(key, content);
+    }
+    ContentKey removed = ContentKey.of("removed");
+    index.add(indexElement(keyToStoreKey(removed), commitOp(Action.REMOVE, 1, randomObjId())));
+
+    List<ContentKey> keys = new ArrayList<>(expected.keySet());
+    keys.add(removed);
+    keys.add(ContentKey.of("not-in-index"));
+    soft.assertThat(contentMapping.fetchContentsAsync(index, keys))
+        .succeedsWithin(Duration.ofSeconds(30))
+        .isEqualTo(expected)
+        .isEqualTo(contentMapping.fetchContents(index, keys));
+
+    ContentKey missing = ContentKey.of("missing");
+    index.add(indexElement(keyToStoreKey(missing), commitOp(Action.ADD, 1, randomObjId())));
+    soft.assertThat(contentMapping.fetchContentsAsync(index, List.of(missing)))
+        .failsWithin(Duration.ofSeconds(30))
+        .withThrowableOfType(ExecutionException.class)
+        .withRootCauseInstanceOf(ObjNotFoundException.class);
   }
 
   @Test
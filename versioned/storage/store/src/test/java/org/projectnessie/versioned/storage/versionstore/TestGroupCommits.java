@@ -0,0 +1,147 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.versionstore;
+
+import static java.util.Collections.singletonList;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.projectnessie.model.CommitMeta.fromMessage;
+import static org.projectnessie.versioned.storage.common.config.StoreConfig.CONFIG_GROUP_COMMITS;
+
+import jakarta.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.projectnessie.model.ContentKey;
+import org.projectnessie.model.IcebergTable;
+import org.projectnessie.model.Operation.Put;
+import org.projectnessie.versioned.BranchName;
+import org.projectnessie.versioned.CommitResult;
+import org.projectnessie.versioned.Hash;
+import org.projectnessie.versioned.ReferenceConflictException;
+import org.projectnessie.versioned.VersionStore;
+import org.projectnessie.versioned.storage.common.exceptions.RefConditionFailedException;
+import org.projectnessie.versioned.storage.common.exceptions.RefNotFoundException;
+import org.projectnessie.versioned.storage.common.persist.ObjId;
+import org.projectnessie.versioned.storage.common.persist.Persist;
+import org.projectnessie.versioned.storage.common.persist.Reference;
+import org.projectnessie.versioned.storage.testextension.NessiePersist;
+import org.projectnessie.versioned.storage.testextension.NessieStoreConfig;
+import org.projectnessie.versioned.storage.testextension.PersistExtension;
+
+@ExtendWith({PersistExtension.class, SoftAssertionsExtension.class})
+public class TestGroupCommits {
+  @InjectSoftAssertions protected SoftAssertions soft;
+
+  @NessiePersist
+  @NessieStoreConfig(name = CONFIG_GROUP_COMMITS, value = "true")
+  protected static Persist persist;
+
+  @Test
+  public void concurrentCommits() throws Exception {
+    int numCommits = 10;
+
+    BranchName branch = BranchName.of("concurrentCommits");
+    Hash initial = new VersionStoreImpl(persist).create(branch, Optional.empty()).getHash();
+
+    CountDownLatch firstUpdateEntered = new CountDownLatch(1);
+    CountDownLatch firstUpdateContinue = new CountDownLatch(1);
+    AtomicInteger referenceUpdates = new AtomicInteger();
+    Persist tested =
+        new PersistDelegate(persist) {
+          @Nonnull
+          @Override
+          public Reference updateReferencePointer(
+              @Nonnull Reference reference, @Nonnull ObjId newPointer)
+              throws RefNotFoundException, RefConditionFailedException {
+            if (referenceUpdates.incrementAndGet() == 1) {
+              firstUpdateEntered.countDown();
+              try {
+                firstUpdateContinue.await(30, SECONDS);
+              } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+              }
+            }
+            return super.updateReferencePointer(reference, newPointer);
+          }
+        };
+    VersionStoreImpl store = new VersionStoreImpl(tested);
+
+    ExecutorService executor = Executors.newFixedThreadPool(numCommits + 1);
+    try {
+      List<Future<CommitResult>> commits = new ArrayList<>();
+      commits.add(executor.submit(() -> commit(store, branch, initial, "first")));
+      soft.assertThat(firstUpdateEntered.await(30, SECONDS)).isTrue();
+
+      // The following commits wait for the first commit to finish and form a single group.
+      for (int i = 0; i < numCommits; i++) {
+        String key = "key-" + i;
+        commits.add(executor.submit(() -> commit(store, branch, initial, key)));
+      }
+      GroupCommitter groupCommitter = store.groupCommitter();
+      for (int i = 0; i < 300; i++) {
+        if (groupCommitter.waitingCommits(branch.getName()) == numCommits) {
+          break;
+        }
+        Thread.sleep(100);
+      }
+      firstUpdateContinue.countDown();
+
+      for (Future<CommitResult> commit : commits) {
+        soft.assertThat(commit.get(30, SECONDS).getCommitHash()).isNotNull();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    soft.assertThat(referenceUpdates).hasValue(2);
+    soft.assertThat(store.getCommits(branch, false)).toIterable().hasSize(numCommits + 1);
+  }
+
+  @Test
+  public void conflictingCommitsInGroup() throws Exception {
+    BranchName branch = BranchName.of("conflictingCommitsInGroup");
+    VersionStoreImpl store = new VersionStoreImpl(persist);
+    Hash initial = store.create(branch, Optional.empty()).getHash();
+
+    commit(store, branch, initial, "key");
+
+    // Same key, based on the initial (now outdated) commit
+    soft.assertThatThrownBy(() -> commit(store, branch, initial, "key"))
+        .isInstanceOf(ReferenceConflictException.class);
+
+    // Different key, based on the initial commit, no conflict
+    soft.assertThat(commit(store, branch, initial, "other-key").getCommitHash()).isNotNull();
+  }
+
+  private static CommitResult commit(
+      VersionStore store, BranchName branch, Hash expected, String key) throws Exception {
+    return store.commit(
+        branch,
+        Optional.of(expected),
+        fromMessage("commit " + key),
+        singletonList(Put.of(ContentKey.of(key), IcebergTable.of("meta", 42, 43, 44, 45))));
+  }
+}
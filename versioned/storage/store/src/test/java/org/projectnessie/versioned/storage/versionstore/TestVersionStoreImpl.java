@@ -17,18 +17,26 @@ package org.projectnessie.versioned.storage.versionstore;
 
 import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 import static org.projectnessie.model.CommitMeta.fromMessage;
 import static org.projectnessie.versioned.storage.common.config.StoreConfig.CONFIG_COMMIT_RETRIES;
+import static org.projectnessie.versioned.VersionStore.KeyRestrictions.NO_KEY_RESTRICTIONS;
 import static org.projectnessie.versioned.storage.common.config.StoreConfig.CONFIG_COMMIT_TIMEOUT_MILLIS;
 
 import jakarta.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
 import java.util.stream.Stream;
 import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.groups.Tuple;
 import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -36,19 +44,23 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.projectnessie.model.ContentKey;
 import org.projectnessie.model.IcebergTable;
+import org.projectnessie.model.Operation;
 import org.projectnessie.model.Operation.Put;
 import org.projectnessie.versioned.BranchName;
 import org.projectnessie.versioned.Hash;
+import org.projectnessie.versioned.KeyEntry;
 import org.projectnessie.versioned.ReferenceConflictException;
 import org.projectnessie.versioned.ReferenceNotFoundException;
 import org.projectnessie.versioned.ReferenceRetryFailureException;
 import org.projectnessie.versioned.VersionStore;
+import org.projectnessie.versioned.paging.PaginationIterator;
 import org.projectnessie.versioned.storage.common.exceptions.ObjTooLargeException;
 import org.projectnessie.versioned.storage.common.exceptions.RefConditionFailedException;
 import org.projectnessie.versioned.storage.common.exceptions.RefNotFoundException;
 import org.projectnessie.versioned.storage.common.exceptions.UnknownOperationResultException;
 import org.projectnessie.versioned.storage.common.persist.Obj;
 import org.projectnessie.versioned.storage.common.persist.ObjId;
+import org.projectnessie.versioned.storage.common.persist.ObjType;
 import org.projectnessie.versioned.storage.common.persist.Persist;
 import org.projectnessie.versioned.storage.common.persist.Reference;
 import org.projectnessie.versioned.storage.commontests.AbstractVersionStoreTests;
@@ -166,6 +178,51 @@ public class TestVersionStoreImpl extends AbstractVersionStoreTests {
         singletonList(Put.of(ContentKey.of("some-key"), IcebergTable.of("meta", 42, 43, 44, 45))));
   }
 
+  @Test
+  public void getKeysWithContentSaturatedOffloadPool() throws Exception {
+    VersionStore store = new VersionStoreImpl(persist);
+
+    BranchName branch = BranchName.of("branch1");
+    Hash branch1 = store.create(branch, Optional.empty()).getHash();
+
+    int numKeys = 3 * VersionStoreImpl.GET_KEYS_CONTENT_BATCH_SIZE + 1;
+    List<Operation> puts = new ArrayList<>(numKeys);
+    List<Tuple> expected = new ArrayList<>(numKeys);
+    for (int i = 0; i < numKeys; i++) {
+      ContentKey key = ContentKey.of("key-" + i);
+      puts.add(Put.of(key, IcebergTable.of("meta-" + i, 42, 43, 44, 45)));
+      expected.add(tuple(key, "meta-" + i));
+    }
+    store.commit(branch, Optional.of(branch1), fromMessage("commit"), puts);
+
+    // Behave like PersistAsync.offload() with a saturated thread pool
+    AtomicInteger rejected = new AtomicInteger();
+    Persist saturated =
+        new PersistDelegate(persist) {
+          @Nonnull
+          @Override
+          public <T extends Obj> CompletionStage<T[]> fetchTypedObjsIfExistAsync(
+              @Nonnull ObjId[] ids, ObjType type, @Nonnull Class<T> typeClass) {
+            rejected.incrementAndGet();
+            return CompletableFuture.failedFuture(new RejectedExecutionException("saturated"));
+          }
+        };
+
+    VersionStore storeTested = new VersionStoreImpl(saturated);
+    List<KeyEntry> entries = new ArrayList<>();
+    try (PaginationIterator<KeyEntry> keys =
+        storeTested.getKeys(branch, null, true, NO_KEY_RESTRICTIONS)) {
+      keys.forEachRemaining(entries::add);
+    }
+
+    soft.assertThat(rejected).hasPositiveValue();
+    soft.assertThat(entries)
+        .extracting(
+            e -> e.getKey().contentKey(),
+            e -> ((IcebergTable) e.getContent()).getMetadataLocation())
+        .containsExactlyInAnyOrderElementsOf(expected);
+  }
+
   @ParameterizedTest
   @MethodSource
   public void commitWithDatabaseTimeout(
@@ -22,7 +22,9 @@ import static org.projectnessie.versioned.GetNamedRefsParams.RetrieveOptions.BAS
 import static org.projectnessie.versioned.GetNamedRefsParams.RetrieveOptions.OMIT;
 
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -34,6 +36,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.projectnessie.model.CommitMeta;
 import org.projectnessie.versioned.BranchName;
+import org.projectnessie.versioned.CreateReferenceOutcome;
 import org.projectnessie.versioned.GetNamedRefsParams;
 import org.projectnessie.versioned.Hash;
 import org.projectnessie.versioned.NamedRef;
@@ -121,6 +124,52 @@ public abstract class AbstractReferences extends AbstractNestedVersionStore {
         .isInstanceOf(ReferenceNotFoundException.class);
   }
 
+  /*
+   * Test:
+   * - Create multiple branches and tags at once
+   * - check that existing references, conflicting branch/tag names and non-existing target hashes
+   *   are reported per reference
+   */
+  @Test
+  public void createReferences() throws Exception {
+    BranchName branch = BranchName.of("foo");
+    store().create(branch, Optional.empty());
+    Hash commitHash = commit("Some Commit").toBranch(branch);
+
+    BranchName notFound = BranchName.of("bulk-not-found");
+    Map<NamedRef, Optional<Hash>> refs = new LinkedHashMap<>();
+    refs.put(BranchName.of("bulk-branch"), Optional.of(commitHash));
+    refs.put(TagName.of("bulk-tag"), Optional.of(commitHash));
+    refs.put(BranchName.of("bulk-empty"), Optional.empty());
+    refs.put(branch, Optional.of(commitHash));
+    refs.put(TagName.of("foo"), Optional.of(commitHash));
+    refs.put(notFound, Optional.of(Hash.of("1234123412341234")));
+
+    List<CreateReferenceOutcome> outcomes = store().createReferences(refs);
+    soft.assertThat(outcomes)
+        .extracting(CreateReferenceOutcome::getNamedRef)
+        .containsExactlyElementsOf(refs.keySet());
+    soft.assertThat(outcomes.subList(0, 3)).allMatch(o -> o.getCreated().isPresent());
+    soft.assertThat(outcomes.get(0).getCreated())
+        .get()
+        .extracting(ReferenceCreatedResult::getHash)
+        .isEqualTo(commitHash);
+    soft.assertThat(outcomes.get(3).getFailure())
+        .get()
+        .isInstanceOf(ReferenceAlreadyExistsException.class);
+    soft.assertThat(outcomes.get(4).getFailure())
+        .get()
+        .isInstanceOf(ReferenceAlreadyExistsException.class);
+    soft.assertThat(outcomes.get(5).getFailure())
+        .get()
+        .isInstanceOf(ReferenceNotFoundException.class);
+
+    soft.assertThat(store().hashOnReference(TagName.of("bulk-tag"), Optional.empty(), emptyList()))
+        .isEqualTo(commitHash);
+    soft.assertThatThrownBy(() -> store().hashOnReference(notFound, Optional.empty(), emptyList()))
+        .isInstanceOf(ReferenceNotFoundException.class);
+  }
+
   /*
    * Test:
    * - Create a branch with no hash assigned to it